@@ -177,6 +177,13 @@ public interface SettingsManager {
      */
     Map<String, String> getDefaultPlaceholders();
 
+    /**
+     * The time results of placeholders are cached for each player, in milliseconds.
+     * If 0, results of placeholders are not cached.
+     * Config-path: placeholders-cache-time
+     */
+    long getPlaceholdersCacheTime();
+
     /**
      * Whether confirmation menu should be opened before banning a player from an island or not.
      * Config-path: ban-confirm
@@ -459,6 +466,12 @@ public interface SettingsManager {
      */
     BlockValuesManager.SyncWorthStatus getSyncWorth();
 
+    /**
+     * The interval between refreshes of synced worth values, in ticks.
+     * Config-path: sync-worth-interval
+     */
+    long getSyncWorthInterval();
+
     /**
      * Whether island-worth can be negative or not.
      * Config-path: negative-worth
@@ -613,6 +626,14 @@ public interface SettingsManager {
      */
     BigInteger getBlockCountsSaveThreshold();
 
+    /**
+     * The time players that are offline and not related to any island are kept in memory after they were
+     * last accessed, in minutes.
+     * If 0, players are always kept in memory.
+     * Config-path: idle-players-expiration-time
+     */
+    long getIdlePlayersExpirationTime();
+
     interface Database {
 
         /**
@@ -627,6 +648,21 @@ public interface SettingsManager {
          */
         boolean isBackup();
 
+        /**
+         * The interval between backups of the datastore folder, in minutes.
+         * If 0, backups are only created on startup.
+         * Config-path: database.backup-interval
+         */
+        long getBackupInterval();
+
+        /**
+         * The amount of backup files to keep.
+         * Older backup files are deleted when new ones are created.
+         * If 0, all backup files are kept.
+         * Config-path: database.backup-retention
+         */
+        int getBackupRetention();
+
         /**
          * The address used to connect to the database.
          * Used for MySQL only.
@@ -697,6 +733,32 @@ public interface SettingsManager {
          */
         long getMaxLifetime();
 
+        /**
+         * The amount of threads that are used to execute database queries.
+         * Used for MySQL only.
+         * Config-path: database.threads
+         */
+        int getThreads();
+
+        /**
+         * The interval between flushes of queued database writes, in ticks.
+         * If 0, writes are executed directly without being queued.
+         * Config-path: database.write-behind.interval
+         */
+        long getWriteBehindInterval();
+
+        /**
+         * The amount of queued database writes that will cause a flush before the interval passes.
+         * Config-path: database.write-behind.max-pending
+         */
+        int getWriteBehindMaxPending();
+
+        /**
+         * The amount of threads that are used to read tables from the database on startup.
+         * Config-path: database.load-threads
+         */
+        int getLoadThreads();
+
     }
 
     interface DefaultValues {
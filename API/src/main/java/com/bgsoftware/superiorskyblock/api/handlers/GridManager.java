@@ -193,6 +193,18 @@ public interface GridManager extends IDatabaseBridgeHolder {
     @Nullable
     Island getIslandAt(@Nullable Location location);
 
+    /**
+     * Get an island at an exact position in the world.
+     * Unlike {@link #getIslandAt(Location)}, this method does not require creating a location object.
+     *
+     * @param world  The world to check.
+     * @param blockX The x-coordinate of the block to check.
+     * @param blockZ The z-coordinate of the block to check.
+     * @return The island at that position. May be null.
+     */
+    @Nullable
+    Island getIslandAt(World world, int blockX, int blockZ);
+
     /**
      * Get an island from a chunk.
      *
@@ -95,7 +95,9 @@ public interface StackedBlocksManager extends IDatabaseBridgeHolder {
     Map<Location, Integer> getStackedBlocks(World world, int chunkX, int chunkZ);
 
     /**
-     * Get all the stacked blocks on the server.
+     * Get all the stacked blocks in the loaded chunks of the server.
+     * Stacked blocks of unloaded chunks are not kept in memory, and can be retrieved using
+     * {@link #getStackedBlocks(World, int, int)}.
      */
     Map<Location, Integer> getStackedBlocks();
 
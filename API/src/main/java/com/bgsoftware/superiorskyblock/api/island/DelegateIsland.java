@@ -809,6 +809,11 @@ public class DelegateIsland implements Island {
         this.handle.handleBlockBreak(key, amount, save);
     }
 
+    @Override
+    public void handleBlocksBreak(Map<Key, Integer> blocks) {
+        this.handle.handleBlocksBreak(blocks);
+    }
+
     @Override
     public void handleBlockBreak(Key key, BigInteger amount, boolean save) {
         this.handle.handleBlockBreak(key, amount, save);
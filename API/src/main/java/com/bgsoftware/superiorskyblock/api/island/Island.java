@@ -1095,6 +1095,13 @@ public interface Island extends Comparable<Island>, IMissionsHolder, IPersistent
      */
     void handleBlockBreak(Key key, BigInteger amount, boolean save);
 
+    /**
+     * Handle breaks of many blocks in one time.
+     *
+     * @param blocks All the blocks to break.
+     */
+    void handleBlocksBreak(Map<Key, Integer> blocks);
+
     /**
      * Check whether a chunk has blocks inside it.
      *
@@ -3,6 +3,7 @@ package com.bgsoftware.superiorskyblock.api.island.container;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.SortingType;
 import org.bukkit.Location;
+import org.bukkit.World;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -61,6 +62,12 @@ public class DelegateIslandsContainer implements IslandsContainer {
         return this.handle.getIslandAt(location);
     }
 
+    @Nullable
+    @Override
+    public Island getIslandAt(World world, int blockX, int blockZ) {
+        return this.handle.getIslandAt(world, blockX, blockZ);
+    }
+
     @Override
     @Deprecated
     public void transferIsland(UUID oldLeader, UUID newLeader) {
@@ -5,6 +5,7 @@ import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.SortingType;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import org.bukkit.Location;
+import org.bukkit.World;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -76,6 +77,18 @@ public interface IslandsContainer {
     @Nullable
     Island getIslandAt(Location location);
 
+    /**
+     * Get an island at a position in a world.
+     *
+     * @param world  The world to get island in.
+     * @param blockX The x-coordinate of the position.
+     * @param blockZ The z-coordinate of the position.
+     */
+    @Nullable
+    default Island getIslandAt(World world, int blockX, int blockZ) {
+        return getIslandAt(new Location(world, blockX, 0, blockZ));
+    }
+
     /**
      * Transfer an island from a player to another one.
      * Warning: If you don't know what you're doing, do not use this method.
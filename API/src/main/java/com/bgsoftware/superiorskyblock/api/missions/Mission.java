@@ -8,9 +8,11 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import javax.annotation.Nullable;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +27,8 @@ public abstract class Mission<V> {
     private final List<String> requiredMissions = new LinkedList<>();
     private final List<String> requiredChecks = new LinkedList<>();
     private final Map<SuperiorPlayer, V> missionData = new ConcurrentHashMap<>();
+    private final Set<SuperiorPlayer> changedData = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Set<SuperiorPlayer>> savedData = new ThreadLocal<>();
 
     private String name = null;
     private MissionCategory missionCategory = null;
@@ -200,6 +204,37 @@ public abstract class Mission<V> {
         // Should be overridden by missions.
     }
 
+    /**
+     * Save the progress of the players whose data was changed since the last time it was saved.
+     * The progress is saved by {@link #saveProgress(ConfigurationSection)}, which only sees the changed data.
+     *
+     * @param section The mission's section in the config.
+     * @return The players whose data was changed, including players that do not have data anymore.
+     */
+    public Set<SuperiorPlayer> saveChangedProgress(ConfigurationSection section) {
+        Set<SuperiorPlayer> changedData = new HashSet<>(this.changedData);
+        this.changedData.removeAll(changedData);
+
+        if (!changedData.isEmpty()) {
+            savedData.set(changedData);
+            try {
+                saveProgress(section);
+            } finally {
+                savedData.remove();
+            }
+        }
+
+        return changedData;
+    }
+
+    /**
+     * Mark the data of all players as saved.
+     * Should be called after the progress of the mission was loaded.
+     */
+    public void clearChangedData() {
+        this.changedData.clear();
+    }
+
     /**
      * A function that is called when a player is completing the mission.
      *
@@ -223,6 +258,7 @@ public abstract class Mission<V> {
         Preconditions.checkNotNull(superiorPlayer, "superiorPlayer parameter cannot be null.");
         SuperiorPlayer dataKey = getDataKey(superiorPlayer);
         if (dataKey != null) {
+            changedData.add(dataKey);
             V data = missionData.remove(dataKey);
             if (data != null && clearMethod != null)
                 clearMethod.accept(data);
@@ -239,8 +275,11 @@ public abstract class Mission<V> {
         Preconditions.checkNotNull(oldPlayer, "oldPlayer parameter cannot be null.");
         Preconditions.checkNotNull(newPlayer, "newPlayer parameter cannot be null.");
         V data = missionData.remove(oldPlayer);
-        if (data != null)
+        if (data != null) {
             missionData.put(newPlayer, data);
+            changedData.add(oldPlayer);
+            changedData.add(newPlayer);
+        }
     }
 
     /**
@@ -264,8 +303,10 @@ public abstract class Mission<V> {
         Preconditions.checkNotNull(superiorPlayer, "superiorPlayer parameter cannot be null.");
         Preconditions.checkNotNull(value, "value parameter cannot be null.");
         SuperiorPlayer dataKey = getDataKey(superiorPlayer);
-        if (dataKey != null)
+        if (dataKey != null) {
             missionData.put(dataKey, value);
+            changedData.add(dataKey);
+        }
     }
 
     /**
@@ -284,6 +325,9 @@ public abstract class Mission<V> {
         if (dataKey == null)
             return null;
 
+        // The data is usually retrieved by this method in order to change it.
+        changedData.add(dataKey);
+
         return missionData.computeIfAbsent(dataKey, createFunction);
     }
 
@@ -304,11 +348,38 @@ public abstract class Mission<V> {
         return missionData.get(dataKey);
     }
 
+    /**
+     * Mark the data of a player as changed, so it is saved by {@link #saveChangedProgress(ConfigurationSection)}.
+     * Data that is inserted, retrieved by {@link #getOrCreate(SuperiorPlayer, Function)}, cleared or transferred
+     * is marked automatically.
+     *
+     * @param superiorPlayer The player to mark its data.
+     */
+    protected void markDataChanged(SuperiorPlayer superiorPlayer) {
+        Preconditions.checkNotNull(superiorPlayer, "superiorPlayer parameter cannot be null.");
+        SuperiorPlayer dataKey = getDataKey(superiorPlayer);
+        if (dataKey != null)
+            changedData.add(dataKey);
+    }
+
     /**
      * Get the entry set of the data map.
+     * While the changed progress is saved, only the entries of the changed data are returned.
      */
     protected Set<Map.Entry<SuperiorPlayer, V>> entrySet() {
-        return missionData.entrySet();
+        Set<SuperiorPlayer> savedData = this.savedData.get();
+
+        if (savedData == null)
+            return missionData.entrySet();
+
+        Set<Map.Entry<SuperiorPlayer, V>> entrySet = new HashSet<>();
+        for (SuperiorPlayer superiorPlayer : savedData) {
+            V data = missionData.get(superiorPlayer);
+            if (data != null)
+                entrySet.add(new AbstractMap.SimpleImmutableEntry<>(superiorPlayer, data));
+        }
+
+        return entrySet;
     }
 
     /**
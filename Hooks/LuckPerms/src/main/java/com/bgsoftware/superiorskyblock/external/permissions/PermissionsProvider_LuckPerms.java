@@ -1,9 +1,12 @@
 package com.bgsoftware.superiorskyblock.external.permissions;
 
-import com.bgsoftware.superiorskyblock.api.hooks.PermissionsProvider;
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.player.SSuperiorPlayer;
 import net.luckperms.api.LuckPerms;
 import net.luckperms.api.cacheddata.CachedDataManager;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
 import net.luckperms.api.model.user.User;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -11,10 +14,17 @@ import org.bukkit.entity.Player;
 import java.util.Locale;
 
 @SuppressWarnings("unused")
-public class PermissionsProvider_LuckPerms implements PermissionsProvider {
+public class PermissionsProvider_LuckPerms implements PermissionsProvider_NotifyChanges {
 
     private static LuckPerms luckPerms = null;
 
+    private final SuperiorSkyblockPlugin plugin;
+
+    public PermissionsProvider_LuckPerms(SuperiorSkyblockPlugin plugin) {
+        this.plugin = plugin;
+        luckPerms.getEventBus().subscribe(plugin, UserDataRecalculateEvent.class, this::onUserDataRecalculate);
+    }
+
     public static boolean isCompatible() {
         try {
             CachedDataManager.class.getMethod("getPermissionData");
@@ -34,4 +44,10 @@ public class PermissionsProvider_LuckPerms implements PermissionsProvider {
                 .getOrDefault(permission.toLowerCase(Locale.ENGLISH), false);
     }
 
+    private void onUserDataRecalculate(UserDataRecalculateEvent event) {
+        SuperiorPlayer superiorPlayer = plugin.getPlayers().getSuperiorPlayer(event.getUser().getUniqueId(), false);
+        if (superiorPlayer instanceof SSuperiorPlayer)
+            ((SSuperiorPlayer) superiorPlayer).invalidatePermissions();
+    }
+
 }
@@ -314,14 +314,22 @@ public class NMSChunksImpl implements NMSChunks {
         return blockEntities;
     }
 
-    private static CalculatedChunk calculateChunk(ChunkPosition chunkPosition, LevelChunkSection[] chunkSections) {
+    private CalculatedChunk calculateChunk(ChunkPosition chunkPosition, LevelChunkSection[] chunkSections) {
         KeyMap<Integer> blockCounts = KeyMapImpl.createHashMap();
         Set<Location> spawnersLocations = new HashSet<>();
 
         for (LevelChunkSection levelChunkSection : chunkSections) {
             if (levelChunkSection != null && !levelChunkSection.isEmpty()) {
+                Set<BlockState> locationBasedStates = countSectionStates(levelChunkSection.getStates(), blockCounts);
+
+                if (locationBasedStates.isEmpty())
+                    continue;
+
                 if (hasStatesIterator) {
                     levelChunkSection.getStates().forEachLocation((blockState, locationKey) -> {
+                        if (!locationBasedStates.contains(blockState))
+                            return;
+
                         int x = locationKey & 0xF;
                         int y = (locationKey >> 8) & 0xF;
                         int z = (locationKey >> 4) & 0xF;
@@ -329,8 +337,9 @@ public class NMSChunksImpl implements NMSChunks {
                     });
                 } else for (BlockPos blockPos : BlockPos.betweenClosed(0, 0, 0, 15, 15, 15)) {
                     BlockState blockState = levelChunkSection.getBlockState(blockPos.getX(), blockPos.getY(), blockPos.getZ());
-                    calculateChunkInternal(blockState, blockPos.getX(), blockPos.getY(), blockPos.getZ(), chunkPosition,
-                            levelChunkSection, blockCounts, spawnersLocations);
+                    if (locationBasedStates.contains(blockState))
+                        calculateChunkInternal(blockState, blockPos.getX(), blockPos.getY(), blockPos.getZ(), chunkPosition,
+                                levelChunkSection, blockCounts, spawnersLocations);
                 }
             }
         }
@@ -338,6 +347,30 @@ public class NMSChunksImpl implements NMSChunks {
         return new CalculatedChunk(chunkPosition, blockCounts, spawnersLocations);
     }
 
+    private Set<BlockState> countSectionStates(PalettedContainer<BlockState> statesContainer, KeyMap<Integer> blockCounts) {
+        Set<BlockState> locationBasedStates = new HashSet<>();
+
+        statesContainer.count((blockState, amount) -> {
+            Block block = blockState.getBlock();
+
+            if (block == Blocks.AIR)
+                return;
+
+            Material type = CraftMagicNumbers.getMaterial(block);
+            Key blockKey = KeyImpl.of(type.name(), "0");
+
+            if (type == Material.SPAWNER || plugin.getBlockValues().hasCustomKeyParser(blockKey)) {
+                locationBasedStates.add(blockState);
+                return;
+            }
+
+            int blockAmount = NMSUtils.isDoubleBlock(block, blockState) ? amount * 2 : amount;
+            blockCounts.put(blockKey, blockCounts.getOrDefault(blockKey, 0) + blockAmount);
+        });
+
+        return locationBasedStates;
+    }
+
     private static void calculateChunkInternal(BlockState blockState, int x, int y, int z, ChunkPosition chunkPosition,
                                                LevelChunkSection levelChunkSection, KeyMap<Integer> blockCounts,
                                                Set<Location> spawnersLocations) {
@@ -39,7 +39,6 @@ import net.minecraft.world.level.chunk.UpgradeData;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.ticks.ProtoChunkTicks;
 import org.bukkit.Chunk;
-import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.craftbukkit.v1_18_R2.CraftChunk;
 import org.bukkit.craftbukkit.v1_18_R2.block.CraftBlock;
@@ -76,72 +75,50 @@ public class WorldEditSessionImpl implements WorldEditSession {
     private final Set<ChunkPos> lightenChunks = isStarLightInterface ? new HashSet<>() : Collections.emptySet();
     private final ServerLevel serverLevel;
 
+    private long lastChunkKey;
+    @Nullable
+    private ChunkData lastChunkData;
+
     public WorldEditSessionImpl(ServerLevel serverLevel) {
         this.serverLevel = serverLevel;
     }
 
     @Override
-    public void setBlock(Location location, int combinedId, @Nullable CompoundTag statesTag,
+    public void setBlock(int x, int y, int z, int combinedId, @Nullable CompoundTag statesTag,
                          @Nullable CompoundTag blockEntityData) {
-        BlockPos blockPos = new BlockPos(location.getBlockX(), location.getBlockY(), location.getBlockZ());
-
-        if (!isValidPosition(blockPos))
+        if (!isValidPosition(x, y, z))
             return;
 
         BlockState blockState = Block.stateById(combinedId);
 
-        if (statesTag != null) {
-            for (Map.Entry<String, Tag<?>> entry : statesTag.entrySet()) {
-                try {
-                    // noinspection rawtypes
-                    Property property = PropertiesMapper.getProperty(entry.getKey());
-                    if (property != null) {
-                        if (entry.getValue() instanceof ByteTag) {
-                            // noinspection unchecked
-                            blockState = blockState.setValue(property, ((ByteTag) entry.getValue()).getValue() == 1);
-                        } else if (entry.getValue() instanceof IntArrayTag) {
-                            int[] data = ((IntArrayTag) entry.getValue()).getValue();
-                            // noinspection unchecked
-                            blockState = blockState.setValue(property, data[0]);
-                        } else if (entry.getValue() instanceof StringTag) {
-                            String data = ((StringTag) entry.getValue()).getValue();
-                            // noinspection unchecked
-                            blockState = blockState.setValue(property, Enum.valueOf(property.getValueClass(), data));
-                        }
-                    }
-                } catch (Exception ignored) {
-                }
-            }
-        }
+        if (statesTag != null)
+            blockState = applyBlockStates(blockState, statesTag);
 
         if ((blockState.getMaterial().isLiquid() && plugin.getSettings().isLiquidUpdate()) ||
                 blockState.getBlock() instanceof BedBlock) {
-            blocksToUpdate.add(new Pair<>(blockPos, blockState));
+            blocksToUpdate.add(new Pair<>(new BlockPos(x, y, z), blockState));
             return;
         }
 
-        ChunkPos chunkPos = new ChunkPos(blockPos);
-
         if (blockEntityData != null)
-            blockEntities.add(new Pair<>(blockPos, blockEntityData));
+            blockEntities.add(new Pair<>(new BlockPos(x, y, z), blockEntityData));
 
-        ChunkData chunkData = this.chunks.computeIfAbsent(chunkPos.toLong(), ChunkData::new);
+        ChunkData chunkData = getChunkData(x >> 4, z >> 4);
 
         if (plugin.getSettings().isLightsUpdate() && !isStarLightInterface && blockState.getLightEmission() > 0)
-            chunkData.lights.add(blockPos);
+            chunkData.lights.add(new BlockPos(x, y, z));
 
-        LevelChunkSection levelChunkSection = chunkData.chunkSections[serverLevel.getSectionIndex(blockPos.getY())];
+        LevelChunkSection levelChunkSection = chunkData.chunkSections[serverLevel.getSectionIndex(y)];
 
-        int blockX = blockPos.getX() & 15;
-        int blockY = blockPos.getY();
-        int blockZ = blockPos.getZ() & 15;
+        int blockX = x & 15;
+        int blockZ = z & 15;
 
-        levelChunkSection.setBlockState(blockX, blockY & 15, blockZ, blockState, false);
+        levelChunkSection.setBlockState(blockX, y & 15, blockZ, blockState, false);
 
-        chunkData.heightmaps.get(Heightmap.Types.MOTION_BLOCKING).update(blockX, blockY, blockZ, blockState);
-        chunkData.heightmaps.get(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES).update(blockX, blockY, blockZ, blockState);
-        chunkData.heightmaps.get(Heightmap.Types.OCEAN_FLOOR).update(blockX, blockY, blockZ, blockState);
-        chunkData.heightmaps.get(Heightmap.Types.WORLD_SURFACE).update(blockX, blockY, blockZ, blockState);
+        chunkData.motionBlocking.update(blockX, y, blockZ, blockState);
+        chunkData.motionBlockingNoLeaves.update(blockX, y, blockZ, blockState);
+        chunkData.oceanFloor.update(blockX, y, blockZ, blockState);
+        chunkData.worldSurface.update(blockX, y, blockZ, blockState);
     }
 
     @Override
@@ -160,6 +137,9 @@ public class WorldEditSessionImpl implements WorldEditSession {
 
         ChunkData chunkData = this.chunks.remove(chunkPos.toLong());
 
+        if (chunkData == this.lastChunkData)
+            this.lastChunkData = null;
+
         if (chunkData == null)
             return;
 
@@ -226,15 +206,55 @@ public class WorldEditSessionImpl implements WorldEditSession {
         }
     }
 
-    private boolean isValidPosition(BlockPos blockPos) {
-        return blockPos.getX() >= -30000000 && blockPos.getZ() >= -30000000 &&
-                blockPos.getX() < 30000000 && blockPos.getZ() < 30000000 &&
-                blockPos.getY() >= serverLevel.getMinBuildHeight() && blockPos.getY() < serverLevel.getMaxBuildHeight();
+    public static BlockState applyBlockStates(BlockState blockState, CompoundTag statesTag) {
+        for (Map.Entry<String, Tag<?>> entry : statesTag.entrySet()) {
+            try {
+                // noinspection rawtypes
+                Property property = PropertiesMapper.getProperty(entry.getKey());
+                if (property != null) {
+                    if (entry.getValue() instanceof ByteTag) {
+                        // noinspection unchecked
+                        blockState = blockState.setValue(property, ((ByteTag) entry.getValue()).getValue() == 1);
+                    } else if (entry.getValue() instanceof IntArrayTag) {
+                        int[] data = ((IntArrayTag) entry.getValue()).getValue();
+                        // noinspection unchecked
+                        blockState = blockState.setValue(property, data[0]);
+                    } else if (entry.getValue() instanceof StringTag) {
+                        String data = ((StringTag) entry.getValue()).getValue();
+                        // noinspection unchecked
+                        blockState = blockState.setValue(property, Enum.valueOf(property.getValueClass(), data));
+                    }
+                }
+            } catch (Exception ignored) {
+            }
+        }
+
+        return blockState;
+    }
+
+    private ChunkData getChunkData(int chunkX, int chunkZ) {
+        long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+
+        if (this.lastChunkData == null || this.lastChunkKey != chunkKey) {
+            this.lastChunkData = this.chunks.computeIfAbsent(chunkKey, ChunkData::new);
+            this.lastChunkKey = chunkKey;
+        }
+
+        return this.lastChunkData;
+    }
+
+    private boolean isValidPosition(int x, int y, int z) {
+        return x >= -30000000 && z >= -30000000 && x < 30000000 && z < 30000000 &&
+                y >= serverLevel.getMinBuildHeight() && y < serverLevel.getMaxBuildHeight();
     }
 
     private class ChunkData {
         private final LevelChunkSection[] chunkSections = new LevelChunkSection[serverLevel.getSectionsCount()];
         private final Map<Heightmap.Types, Heightmap> heightmaps = new EnumMap<>(Heightmap.Types.class);
+        private final Heightmap motionBlocking;
+        private final Heightmap motionBlockingNoLeaves;
+        private final Heightmap oceanFloor;
+        private final Heightmap worldSurface;
         private final List<BlockPos> lights = new LinkedList<>();
 
         public ChunkData(long chunkKey) {
@@ -248,6 +268,10 @@ public class WorldEditSessionImpl implements WorldEditSession {
                     new ProtoChunkTicks<>(), new ProtoChunkTicks<>(), serverLevel, biomesRegistry, null);
 
             createHeightmaps(tempChunk);
+            this.motionBlocking = this.heightmaps.get(Heightmap.Types.MOTION_BLOCKING);
+            this.motionBlockingNoLeaves = this.heightmaps.get(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES);
+            this.oceanFloor = this.heightmaps.get(Heightmap.Types.OCEAN_FLOOR);
+            this.worldSurface = this.heightmaps.get(Heightmap.Types.WORLD_SURFACE);
             runCustomWorldGenerator(tempChunk);
         }
 
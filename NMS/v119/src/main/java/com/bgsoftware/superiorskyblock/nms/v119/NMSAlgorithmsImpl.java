@@ -10,6 +10,8 @@ import com.bgsoftware.superiorskyblock.nms.v119.menu.MenuBrewingStandBlockEntity
 import com.bgsoftware.superiorskyblock.nms.v119.menu.MenuDispenserBlockEntity;
 import com.bgsoftware.superiorskyblock.nms.v119.menu.MenuFurnaceBlockEntity;
 import com.bgsoftware.superiorskyblock.nms.v119.menu.MenuHopperBlockEntity;
+import com.bgsoftware.superiorskyblock.nms.v119.world.WorldEditSessionImpl;
+import com.bgsoftware.superiorskyblock.tag.CompoundTag;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
 import net.minecraft.network.chat.Component;
@@ -100,6 +102,11 @@ public class NMSAlgorithmsImpl implements NMSAlgorithms {
         return blockState == null ? -1 : Block.getId(blockState);
     }
 
+    @Override
+    public int applyBlockStates(int combinedId, CompoundTag statesTag) {
+        return Block.getId(WorldEditSessionImpl.applyBlockStates(Block.stateById(combinedId), statesTag));
+    }
+
     @Override
     public int compareMaterials(Material o1, Material o2) {
         int firstMaterial = o1.isBlock() ? Block.getId(CraftMagicNumbers.getBlock(o1).defaultBlockState()) : o1.ordinal();
@@ -261,7 +261,7 @@ public class NMSChunksImpl implements NMSChunks {
     @Override
     public CompletableFuture<List<CalculatedChunk>> calculateChunks(List<ChunkPosition> chunkPositions,
                                                                     Map<ChunkPosition, CalculatedChunk> unloadedChunksCache) {
-        List<CalculatedChunk> allCalculatedChunks = new LinkedList<>();
+        List<CalculatedChunk> allCalculatedChunks = Collections.synchronizedList(new LinkedList<>());
         List<ChunkPos> chunksCoords = new LinkedList<>();
 
         Iterator<ChunkPosition> chunkPositionsIterator = chunkPositions.iterator();
@@ -283,6 +283,22 @@ public class NMSChunksImpl implements NMSChunks {
 
         ServerLevel serverLevel = ((CraftWorld) chunkPositions.get(0).getWorld()).getHandle();
 
+        // Codecs are created once for all the chunks, and are shared between the chunk workers.
+        Registry<Biome> biomesRegistry = serverLevel.registryAccess().registryOrThrow(Registry.BIOME_REGISTRY);
+
+        Codec<PalettedContainer<BlockState>> blocksCodec = PalettedContainer.codecRW(
+                Block.BLOCK_STATE_REGISTRY,
+                BlockState.CODEC,
+                PalettedContainer.Strategy.SECTION_STATES,
+                Blocks.AIR.defaultBlockState()
+        );
+        Codec<PalettedContainer<Holder<Biome>>> biomesCodec = PalettedContainer.codecRW(
+                biomesRegistry.asHolderIdMap(),
+                biomesRegistry.holderByNameCodec(),
+                PalettedContainer.Strategy.SECTION_BIOMES,
+                biomesRegistry.getHolderOrThrow(Biomes.PLAINS)
+        );
+
         NMSUtils.runActionOnChunks(serverLevel, chunksCoords, false, () -> {
             completableFuture.complete(allCalculatedChunks);
         }, chunk -> {
@@ -290,21 +306,6 @@ public class NMSChunksImpl implements NMSChunks {
             ChunkPosition chunkPosition = ChunkPosition.of(((LevelChunk) chunk).level.getWorld(), chunkPos.x, chunkPos.z);
             allCalculatedChunks.add(calculateChunk(chunkPosition, chunk.getSections()));
         }, unloadedChunkCompound -> {
-            Registry<Biome> biomesRegistry = serverLevel.registryAccess().registryOrThrow(Registry.BIOME_REGISTRY);
-
-            Codec<PalettedContainer<BlockState>> blocksCodec = PalettedContainer.codecRW(
-                    Block.BLOCK_STATE_REGISTRY,
-                    BlockState.CODEC,
-                    PalettedContainer.Strategy.SECTION_STATES,
-                    Blocks.AIR.defaultBlockState()
-            );
-            Codec<PalettedContainer<Holder<Biome>>> biomesCodec = PalettedContainer.codecRW(
-                    biomesRegistry.asHolderIdMap(),
-                    biomesRegistry.holderByNameCodec(),
-                    PalettedContainer.Strategy.SECTION_BIOMES,
-                    biomesRegistry.getHolderOrThrow(Biomes.PLAINS)
-            );
-
             LevelChunkSection[] chunkSections = new LevelChunkSection[serverLevel.getSectionsCount()];
 
             ListTag sectionsList = unloadedChunkCompound.getSections();
@@ -348,7 +349,7 @@ public class NMSChunksImpl implements NMSChunks {
             CalculatedChunk calculatedChunk = calculateChunk(chunkPosition, chunkSections);
             allCalculatedChunks.add(calculatedChunk);
             unloadedChunksCache.put(chunkPosition, calculatedChunk);
-        });
+        }, true);
 
         return completableFuture;
     }
@@ -420,14 +421,22 @@ public class NMSChunksImpl implements NMSChunks {
         return blockEntities;
     }
 
-    private static CalculatedChunk calculateChunk(ChunkPosition chunkPosition, LevelChunkSection[] chunkSections) {
+    private CalculatedChunk calculateChunk(ChunkPosition chunkPosition, LevelChunkSection[] chunkSections) {
         KeyMap<Integer> blockCounts = KeyMapImpl.createHashMap();
         Set<Location> spawnersLocations = new HashSet<>();
 
         for (LevelChunkSection levelChunkSection : chunkSections) {
             if (levelChunkSection != null && !levelChunkSection.hasOnlyAir()) {
+                Set<BlockState> locationBasedStates = countSectionStates(levelChunkSection.getStates(), blockCounts);
+
+                if (locationBasedStates.isEmpty())
+                    continue;
+
                 if (hasStatesIterator) {
                     levelChunkSection.getStates().forEachLocation((blockState, locationKey) -> {
+                        if (!locationBasedStates.contains(blockState))
+                            return;
+
                         int x = locationKey & 0xF;
                         int y = (locationKey >> 8) & 0xF;
                         int z = (locationKey >> 4) & 0xF;
@@ -435,8 +444,9 @@ public class NMSChunksImpl implements NMSChunks {
                     });
                 } else for (BlockPos blockPos : BlockPos.betweenClosed(0, 0, 0, 15, 15, 15)) {
                     BlockState blockState = levelChunkSection.getBlockState(blockPos.getX(), blockPos.getY(), blockPos.getZ());
-                    calculateChunkInternal(blockState, blockPos.getX(), blockPos.getY(), blockPos.getZ(), chunkPosition,
-                            levelChunkSection, blockCounts, spawnersLocations);
+                    if (locationBasedStates.contains(blockState))
+                        calculateChunkInternal(blockState, blockPos.getX(), blockPos.getY(), blockPos.getZ(), chunkPosition,
+                                levelChunkSection, blockCounts, spawnersLocations);
                 }
             }
         }
@@ -444,6 +454,30 @@ public class NMSChunksImpl implements NMSChunks {
         return new CalculatedChunk(chunkPosition, blockCounts, spawnersLocations);
     }
 
+    private Set<BlockState> countSectionStates(PalettedContainer<BlockState> statesContainer, KeyMap<Integer> blockCounts) {
+        Set<BlockState> locationBasedStates = new HashSet<>();
+
+        statesContainer.count((blockState, amount) -> {
+            Block block = blockState.getBlock();
+
+            if (block == Blocks.AIR)
+                return;
+
+            Material type = CraftMagicNumbers.getMaterial(block);
+            Key blockKey = KeyImpl.of(type.name(), "0");
+
+            if (type == Material.SPAWNER || plugin.getBlockValues().hasCustomKeyParser(blockKey)) {
+                locationBasedStates.add(blockState);
+                return;
+            }
+
+            int blockAmount = NMSUtils.isDoubleBlock(block, blockState) ? amount * 2 : amount;
+            blockCounts.put(blockKey, blockCounts.getOrDefault(blockKey, 0) + blockAmount);
+        });
+
+        return locationBasedStates;
+    }
+
     private static void calculateChunkInternal(BlockState blockState, int x, int y, int z, ChunkPosition chunkPosition,
                                                LevelChunkSection levelChunkSection, KeyMap<Integer> blockCounts,
                                                Set<Location> spawnersLocations) {
@@ -70,6 +70,13 @@ public class NMSUtils {
     public static void runActionOnChunks(ServerLevel serverLevel, Collection<ChunkPos> chunksCoords,
                                          boolean saveChunks, Runnable onFinish, Consumer<ChunkAccess> chunkConsumer,
                                          Consumer<UnloadedChunkCompound> unloadedChunkConsumer) {
+        runActionOnChunks(serverLevel, chunksCoords, saveChunks, onFinish, chunkConsumer, unloadedChunkConsumer, false);
+    }
+
+    public static void runActionOnChunks(ServerLevel serverLevel, Collection<ChunkPos> chunksCoords,
+                                         boolean saveChunks, Runnable onFinish, Consumer<ChunkAccess> chunkConsumer,
+                                         Consumer<UnloadedChunkCompound> unloadedChunkConsumer,
+                                         boolean parallelUnloadedChunks) {
         List<ChunkPos> unloadedChunks = new LinkedList<>();
         List<ChunkAccess> loadedChunks = new LinkedList<>();
 
@@ -95,7 +102,8 @@ public class NMSUtils {
             runActionOnLoadedChunks(loadedChunks, chunkConsumer);
 
         if (hasUnloadedChunks) {
-            runActionOnUnloadedChunks(serverLevel, unloadedChunks, saveChunks, unloadedChunkConsumer, onFinish);
+            runActionOnUnloadedChunks(serverLevel, unloadedChunks, saveChunks, unloadedChunkConsumer, onFinish,
+                    parallelUnloadedChunks);
         } else if (onFinish != null) {
             onFinish.run();
         }
@@ -109,16 +117,18 @@ public class NMSUtils {
                                                  Collection<ChunkPos> chunks,
                                                  boolean saveChunks,
                                                  Consumer<UnloadedChunkCompound> chunkConsumer,
-                                                 Runnable onFinish) {
+                                                 Runnable onFinish,
+                                                 boolean parallel) {
         ChunkMap chunkMap = serverLevel.getChunkSource().chunkMap;
 
         CompletableFuture<Void> pendingTask = new CompletableFuture<>();
         PENDING_CHUNK_ACTIONS.add(pendingTask);
 
         BukkitExecutor.createTask().runAsync(v -> {
-            List<Pair<ChunkPos, net.minecraft.nbt.CompoundTag>> chunkCompounds = new LinkedList<>();
+            List<Pair<ChunkPos, net.minecraft.nbt.CompoundTag>> chunkCompounds =
+                    Collections.synchronizedList(new LinkedList<>());
 
-            chunks.forEach(chunkCoords -> {
+            Consumer<ChunkPos> chunkAction = chunkCoords -> {
                 try {
                     net.minecraft.nbt.CompoundTag chunkCompound = chunkMap.read(chunkCoords).join().orElse(null);
 
@@ -137,7 +147,15 @@ public class NMSUtils {
                 } catch (Exception error) {
                     Log.error(error, "An unexpected error occurred while interacting with unloaded chunk ", chunkCoords, ":");
                 }
-            });
+            };
+
+            if (parallel) {
+                // Chunks are read, upgraded and passed to the consumer by the chunk workers.
+                // The consumer is called for each chunk as soon as it is ready.
+                BukkitExecutor.parallelChunks(chunks, chunkAction);
+            } else {
+                chunks.forEach(chunkAction);
+            }
 
             return chunkCompounds;
         }).runSync(chunkCompounds -> {
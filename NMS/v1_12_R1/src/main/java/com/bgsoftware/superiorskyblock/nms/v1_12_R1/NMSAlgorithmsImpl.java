@@ -5,6 +5,7 @@ import com.bgsoftware.superiorskyblock.api.key.Key;
 import com.bgsoftware.superiorskyblock.core.key.KeyImpl;
 import com.bgsoftware.superiorskyblock.nms.NMSAlgorithms;
 import com.bgsoftware.superiorskyblock.nms.v1_12_R1.algorithms.GlowEnchantment;
+import com.bgsoftware.superiorskyblock.tag.CompoundTag;
 import net.minecraft.server.v1_12_R1.Block;
 import net.minecraft.server.v1_12_R1.BlockPosition;
 import net.minecraft.server.v1_12_R1.IBlockData;
@@ -62,6 +63,12 @@ public class NMSAlgorithmsImpl implements NMSAlgorithms {
         return material.getId() + (data << 12);
     }
 
+    @Override
+    public int applyBlockStates(int combinedId, CompoundTag statesTag) {
+        // Block states are already part of the combined id in legacy versions.
+        return combinedId;
+    }
+
     @Override
     public int compareMaterials(Material o1, Material o2) {
         return Integer.compare(o1.ordinal(), o2.ordinal());
@@ -37,7 +37,6 @@ import net.minecraft.server.v1_16_R3.ProtoChunkTickList;
 import net.minecraft.server.v1_16_R3.RegionLimitedWorldAccess;
 import net.minecraft.server.v1_16_R3.TileEntity;
 import net.minecraft.server.v1_16_R3.WorldServer;
-import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.craftbukkit.v1_16_R3.CraftChunk;
 import org.bukkit.craftbukkit.v1_16_R3.block.CraftBlock;
@@ -77,72 +76,50 @@ public class WorldEditSessionImpl implements WorldEditSession {
     private final Set<ChunkCoordIntPair> lightenChunks = isStarLightInterface ? new HashSet<>() : Collections.emptySet();
     private final WorldServer worldServer;
 
+    private long lastChunkKey;
+    @Nullable
+    private ChunkData lastChunkData;
+
     public WorldEditSessionImpl(WorldServer worldServer) {
         this.worldServer = worldServer;
     }
 
     @Override
-    public void setBlock(Location location, int combinedId, @Nullable CompoundTag statesTag,
+    public void setBlock(int x, int y, int z, int combinedId, @Nullable CompoundTag statesTag,
                          @Nullable CompoundTag blockEntityData) {
-        BlockPosition blockPosition = new BlockPosition(location.getBlockX(), location.getBlockY(), location.getBlockZ());
-
-        if (!isValidPosition(blockPosition))
+        if (!isValidPosition(x, y, z))
             return;
 
         IBlockData blockData = Block.getByCombinedId(combinedId);
 
-        if (statesTag != null) {
-            for (Map.Entry<String, Tag<?>> entry : statesTag.entrySet()) {
-                try {
-                    // noinspection rawtypes
-                    IBlockState blockState = BlockStatesMapper.getBlockState(entry.getKey());
-                    if (blockState != null) {
-                        if (entry.getValue() instanceof ByteTag) {
-                            // noinspection unchecked
-                            blockData = blockData.set(blockState, ((ByteTag) entry.getValue()).getValue() == 1);
-                        } else if (entry.getValue() instanceof IntArrayTag) {
-                            int[] data = ((IntArrayTag) entry.getValue()).getValue();
-                            // noinspection unchecked
-                            blockData = blockData.set(blockState, data[0]);
-                        } else if (entry.getValue() instanceof StringTag) {
-                            String data = ((StringTag) entry.getValue()).getValue();
-                            // noinspection unchecked
-                            blockData = blockData.set(blockState, Enum.valueOf(blockState.getType(), data));
-                        }
-                    }
-                } catch (Exception ignored) {
-                }
-            }
-        }
+        if (statesTag != null)
+            blockData = applyBlockStates(blockData, statesTag);
 
         if ((blockData.getMaterial().isLiquid() && plugin.getSettings().isLiquidUpdate()) ||
                 blockData.getBlock() instanceof BlockBed) {
-            blocksToUpdate.add(new Pair<>(blockPosition, blockData));
+            blocksToUpdate.add(new Pair<>(new BlockPosition(x, y, z), blockData));
             return;
         }
 
-        ChunkCoordIntPair chunkCoord = new ChunkCoordIntPair(blockPosition);
-
         if (blockEntityData != null)
-            blockEntities.add(new Pair<>(blockPosition, blockEntityData));
+            blockEntities.add(new Pair<>(new BlockPosition(x, y, z), blockEntityData));
 
-        ChunkData chunkData = this.chunks.computeIfAbsent(chunkCoord.pair(), ChunkData::new);
+        ChunkData chunkData = getChunkData(x >> 4, z >> 4);
 
         if (plugin.getSettings().isLightsUpdate() && !isStarLightInterface && blockData.f() > 0)
-            chunkData.lights.add(blockPosition);
+            chunkData.lights.add(new BlockPosition(x, y, z));
 
-        ChunkSection chunkSection = chunkData.chunkSections[blockPosition.getY() >> 4];
+        ChunkSection chunkSection = chunkData.chunkSections[y >> 4];
 
-        int blockX = blockPosition.getX() & 15;
-        int blockY = blockPosition.getY();
-        int blockZ = blockPosition.getZ() & 15;
+        int blockX = x & 15;
+        int blockZ = z & 15;
 
-        chunkSection.setType(blockX, blockY & 15, blockZ, blockData, false);
+        chunkSection.setType(blockX, y & 15, blockZ, blockData, false);
 
-        chunkData.heightmaps.get(HeightMap.Type.MOTION_BLOCKING).a(blockX, blockY, blockZ, blockData);
-        chunkData.heightmaps.get(HeightMap.Type.MOTION_BLOCKING_NO_LEAVES).a(blockX, blockY, blockZ, blockData);
-        chunkData.heightmaps.get(HeightMap.Type.OCEAN_FLOOR).a(blockX, blockY, blockZ, blockData);
-        chunkData.heightmaps.get(HeightMap.Type.WORLD_SURFACE).a(blockX, blockY, blockZ, blockData);
+        chunkData.motionBlocking.a(blockX, y, blockZ, blockData);
+        chunkData.motionBlockingNoLeaves.a(blockX, y, blockZ, blockData);
+        chunkData.oceanFloor.a(blockX, y, blockZ, blockData);
+        chunkData.worldSurface.a(blockX, y, blockZ, blockData);
     }
 
     @Override
@@ -161,6 +138,9 @@ public class WorldEditSessionImpl implements WorldEditSession {
 
         ChunkData chunkData = this.chunks.remove(chunkCoord.pair());
 
+        if (chunkData == this.lastChunkData)
+            this.lastChunkData = null;
+
         if (chunkData == null)
             return;
 
@@ -225,15 +205,55 @@ public class WorldEditSessionImpl implements WorldEditSession {
         }
     }
 
-    private boolean isValidPosition(BlockPosition blockPosition) {
-        return blockPosition.getX() >= -30000000 && blockPosition.getZ() >= -30000000 &&
-                blockPosition.getX() < 30000000 && blockPosition.getZ() < 30000000 &&
-                blockPosition.getY() >= 0 && blockPosition.getY() < worldServer.getHeight();
+    public static IBlockData applyBlockStates(IBlockData blockData, CompoundTag statesTag) {
+        for (Map.Entry<String, Tag<?>> entry : statesTag.entrySet()) {
+            try {
+                // noinspection rawtypes
+                IBlockState blockState = BlockStatesMapper.getBlockState(entry.getKey());
+                if (blockState != null) {
+                    if (entry.getValue() instanceof ByteTag) {
+                        // noinspection unchecked
+                        blockData = blockData.set(blockState, ((ByteTag) entry.getValue()).getValue() == 1);
+                    } else if (entry.getValue() instanceof IntArrayTag) {
+                        int[] data = ((IntArrayTag) entry.getValue()).getValue();
+                        // noinspection unchecked
+                        blockData = blockData.set(blockState, data[0]);
+                    } else if (entry.getValue() instanceof StringTag) {
+                        String data = ((StringTag) entry.getValue()).getValue();
+                        // noinspection unchecked
+                        blockData = blockData.set(blockState, Enum.valueOf(blockState.getType(), data));
+                    }
+                }
+            } catch (Exception ignored) {
+            }
+        }
+
+        return blockData;
+    }
+
+    private ChunkData getChunkData(int chunkX, int chunkZ) {
+        long chunkKey = ChunkCoordIntPair.pair(chunkX, chunkZ);
+
+        if (this.lastChunkData == null || this.lastChunkKey != chunkKey) {
+            this.lastChunkData = this.chunks.computeIfAbsent(chunkKey, ChunkData::new);
+            this.lastChunkKey = chunkKey;
+        }
+
+        return this.lastChunkData;
+    }
+
+    private boolean isValidPosition(int x, int y, int z) {
+        return x >= -30000000 && z >= -30000000 && x < 30000000 && z < 30000000 &&
+                y >= 0 && y < worldServer.getHeight();
     }
 
     private class ChunkData {
         private final ChunkSection[] chunkSections = new ChunkSection[16];
         private final Map<HeightMap.Type, HeightMap> heightmaps = new EnumMap<>(HeightMap.Type.class);
+        private final HeightMap motionBlocking;
+        private final HeightMap motionBlockingNoLeaves;
+        private final HeightMap oceanFloor;
+        private final HeightMap worldSurface;
         private final List<BlockPosition> lights = new LinkedList<>();
 
 
@@ -258,6 +278,10 @@ public class WorldEditSessionImpl implements WorldEditSession {
             }
 
             createHeightmaps(tempChunk);
+            this.motionBlocking = this.heightmaps.get(HeightMap.Type.MOTION_BLOCKING);
+            this.motionBlockingNoLeaves = this.heightmaps.get(HeightMap.Type.MOTION_BLOCKING_NO_LEAVES);
+            this.oceanFloor = this.heightmaps.get(HeightMap.Type.OCEAN_FLOOR);
+            this.worldSurface = this.heightmaps.get(HeightMap.Type.WORLD_SURFACE);
             runCustomWorldGenerator(tempChunk);
         }
 
@@ -24,7 +24,6 @@ import net.minecraft.server.v1_8_R3.NBTTagCompound;
 import net.minecraft.server.v1_8_R3.PacketPlayOutMapChunk;
 import net.minecraft.server.v1_8_R3.TileEntity;
 import net.minecraft.server.v1_8_R3.WorldServer;
-import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.craftbukkit.v1_8_R3.CraftChunk;
 import org.bukkit.craftbukkit.v1_8_R3.block.CraftBlock;
@@ -48,44 +47,39 @@ public class WorldEditSessionImpl implements WorldEditSession {
     private final List<BlockPosition> lights = new LinkedList<>();
     private final WorldServer worldServer;
 
+    private long lastChunkKey;
+    @Nullable
+    private ChunkData lastChunkData;
+
     public WorldEditSessionImpl(WorldServer worldServer) {
         this.worldServer = worldServer;
     }
 
     @Override
-    public void setBlock(Location location, int combinedId, @Nullable CompoundTag statesTag,
+    public void setBlock(int x, int y, int z, int combinedId, @Nullable CompoundTag statesTag,
                          @Nullable CompoundTag blockEntityData) {
-        BlockPosition blockPosition = new BlockPosition(location.getBlockX(), location.getBlockY(), location.getBlockZ());
-
-        if (!isValidPosition(blockPosition))
+        if (!isValidPosition(x, y, z))
             return;
 
         IBlockData blockData = Block.getByCombinedId(combinedId);
         Block block = blockData.getBlock();
 
         if ((block.getMaterial().isLiquid() && plugin.getSettings().isLiquidUpdate()) || block instanceof BlockBed) {
-            blocksToUpdate.add(new Pair<>(blockPosition, blockData));
+            blocksToUpdate.add(new Pair<>(new BlockPosition(x, y, z), blockData));
             return;
         }
 
-        int chunkX = blockPosition.getX() >> 4;
-        int chunkZ = blockPosition.getZ() >> 4;
-
         if (blockEntityData != null)
-            blockEntities.add(new Pair<>(blockPosition, blockEntityData));
+            blockEntities.add(new Pair<>(new BlockPosition(x, y, z), blockEntityData));
 
         if (plugin.getSettings().isLightsUpdate() && block.r() > 0)
-            lights.add(blockPosition);
+            lights.add(new BlockPosition(x, y, z));
 
-        ChunkData chunkData = this.chunks.computeIfAbsent(ChunkCoordIntPair.a(chunkX, chunkZ), ChunkData::new);
+        ChunkData chunkData = getChunkData(x >> 4, z >> 4);
 
-        ChunkSection chunkSection = chunkData.chunkSections[blockPosition.getY() >> 4];
+        ChunkSection chunkSection = chunkData.chunkSections[y >> 4];
 
-        int blockX = blockPosition.getX() & 15;
-        int blockY = blockPosition.getY();
-        int blockZ = blockPosition.getZ() & 15;
-
-        chunkSection.setType(blockX, blockY & 15, blockZ, blockData);
+        chunkSection.setType(x & 15, y & 15, z & 15, blockData);
     }
 
     @Override
@@ -156,10 +150,20 @@ public class WorldEditSessionImpl implements WorldEditSession {
         }
     }
 
-    private boolean isValidPosition(BlockPosition blockPosition) {
-        return blockPosition.getX() >= -30000000 && blockPosition.getZ() >= -30000000 &&
-                blockPosition.getX() < 30000000 && blockPosition.getZ() < 30000000 &&
-                blockPosition.getY() >= 0 && blockPosition.getY() < worldServer.getHeight();
+    private ChunkData getChunkData(int chunkX, int chunkZ) {
+        long chunkKey = ChunkCoordIntPair.a(chunkX, chunkZ);
+
+        if (this.lastChunkData == null || this.lastChunkKey != chunkKey) {
+            this.lastChunkData = this.chunks.computeIfAbsent(chunkKey, ChunkData::new);
+            this.lastChunkKey = chunkKey;
+        }
+
+        return this.lastChunkData;
+    }
+
+    private boolean isValidPosition(int x, int y, int z) {
+        return x >= -30000000 && z >= -30000000 && x < 30000000 && z < 30000000 &&
+                y >= 0 && y < worldServer.getHeight();
     }
 
     private class ChunkData {
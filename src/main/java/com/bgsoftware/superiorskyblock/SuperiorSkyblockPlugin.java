@@ -18,6 +18,7 @@ import com.bgsoftware.superiorskyblock.config.SettingsManagerImpl;
 import com.bgsoftware.superiorskyblock.core.ServerVersion;
 import com.bgsoftware.superiorskyblock.core.Singleton;
 import com.bgsoftware.superiorskyblock.core.database.DataManager;
+import com.bgsoftware.superiorskyblock.core.database.sql.WriteBehindQueue;
 import com.bgsoftware.superiorskyblock.core.engine.EnginesFactory;
 import com.bgsoftware.superiorskyblock.core.engine.NashornEngineDownloader;
 import com.bgsoftware.superiorskyblock.core.errors.ManagerLoadException;
@@ -366,6 +367,10 @@ public class SuperiorSkyblockPlugin extends JavaPlugin implements SuperiorSkyblo
             if (nmsChunks != null)
                 nmsChunks.shutdown();
 
+            // Pending database writes are flushed before the database threads are shut down.
+            Log.info("Flushing pending database writes");
+            WriteBehindQueue.stop();
+
             Log.info("Shutting down executor");
             BukkitExecutor.close();
 
@@ -503,10 +508,29 @@ public class SuperiorSkyblockPlugin extends JavaPlugin implements SuperiorSkyblo
     }
 
     private boolean checkScriptEngine() {
-        return testScriptEngine() || (NashornEngineDownloader.downloadEngine(this) && testScriptEngine());
+        if (!testScriptEngine(scriptEngine))
+            return NashornEngineDownloader.downloadEngine(this) && testScriptEngine(scriptEngine);
+
+        // The native engine evaluates simple expressions by itself, therefore the nashorn engine that other
+        // scripts are delegated to is checked separately. The native engine still works without it.
+        if (scriptEngine != EnginesFactory.createDefaultEngine() || testScriptEngine(EnginesFactory.createNashornEngine()))
+            return true;
+
+        if (NashornEngineDownloader.downloadEngine(this)) {
+            // The downloaded engine may replace the script engine of the plugin.
+            if (scriptEngine != EnginesFactory.createDefaultEngine())
+                return testScriptEngine(scriptEngine);
+
+            if (testScriptEngine(EnginesFactory.createNashornEngine()))
+                return true;
+        }
+
+        Log.warn("Nashorn engine is not available, scripts that cannot be evaluated natively will fail.");
+
+        return true;
     }
 
-    private boolean testScriptEngine() {
+    private static boolean testScriptEngine(IScriptEngine scriptEngine) {
         try {
             scriptEngine.eval("1+1");
             return true;
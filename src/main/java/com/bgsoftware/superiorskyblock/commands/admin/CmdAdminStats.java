@@ -1,6 +1,7 @@
 package com.bgsoftware.superiorskyblock.commands.admin;
 
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.core.database.sql.WriteBehindQueue;
 import com.bgsoftware.superiorskyblock.core.messages.Message;
 import com.bgsoftware.superiorskyblock.commands.ISuperiorCommand;
 import org.bukkit.ChatColor;
@@ -49,7 +50,11 @@ public class CmdAdminStats implements ISuperiorCommand {
     @Override
     public void execute(SuperiorSkyblockPlugin plugin, CommandSender sender, String[] args) {
         sender.sendMessage("" + ChatColor.YELLOW + ChatColor.BOLD + "SuperiorSkyblock" + ChatColor.GRAY +
-                " Stats:\n" + " - Islands: " + plugin.getGrid().getSize() + "\n");
+                " Stats:\n" + " - Islands: " + plugin.getGrid().getSize() + "\n" +
+                " - Pending Database Writes: " + WriteBehindQueue.getPendingStatements() + "\n" +
+                " - Merged Database Writes: " + WriteBehindQueue.getCoalescedStatements() + "\n" +
+                " - Database Flush Time: " + WriteBehindQueue.getLastFlushTime() + "ms (average " +
+                WriteBehindQueue.getAverageFlushTime() + "ms)\n");
     }
 
     @Override
@@ -51,6 +51,8 @@ public class SettingsContainer {
 
     public final String databaseType;
     public final boolean databaseBackup;
+    public final long databaseBackupInterval;
+    public final int databaseBackupRetention;
     public final String databaseMySQLAddress;
     public final int databaseMySQLPort;
     public final String databaseMySQLDBName;
@@ -61,6 +63,10 @@ public class SettingsContainer {
     public final boolean databaseMySQLPublicKeyRetrieval;
     public final long databaseMySQLWaitTimeout;
     public final long databaseMySQLMaxLifetime;
+    public final int databaseMySQLThreads;
+    public final long databaseWriteBehindInterval;
+    public final int databaseWriteBehindMaxPending;
+    public final int databaseLoadThreads;
     public final int maxIslandSize;
     public final String islandCommand;
     public final int defaultIslandSize;
@@ -133,6 +139,7 @@ public class SettingsContainer {
     public final int disbandCount;
     public final boolean islandTopIncludeLeader;
     public final Map<String, String> defaultPlaceholders;
+    public final long placeholdersCacheTime;
     public final boolean banConfirm;
     public final boolean disbandConfirm;
     public final boolean kickConfirm;
@@ -186,6 +193,7 @@ public class SettingsContainer {
     public final String defaultBorderColor;
     public final boolean obsidianToLava;
     public final BlockValuesManagerImpl.SyncWorthStatus syncWorth;
+    public final long syncWorthInterval;
     public final boolean negativeWorth;
     public final boolean negativeLevel;
     public final List<String> disabledEvents;
@@ -213,10 +221,13 @@ public class SettingsContainer {
     public final boolean deleteUnsafeWarps;
     public final List<RespawnAction> playerRespawnActions;
     public final BigInteger blockCountsSaveThreshold;
+    public final long idlePlayersExpirationTime;
 
     public SettingsContainer(SuperiorSkyblockPlugin plugin, YamlConfiguration config) throws ManagerLoadException {
         databaseType = config.getString("database.type").toUpperCase(Locale.ENGLISH);
         databaseBackup = config.getBoolean("database.backup");
+        databaseBackupInterval = config.getLong("database.backup-interval", 0);
+        databaseBackupRetention = config.getInt("database.backup-retention", 0);
         databaseMySQLAddress = config.getString("database.address");
         databaseMySQLPort = config.getInt("database.port");
         databaseMySQLDBName = config.getString("database.db-name");
@@ -227,6 +238,10 @@ public class SettingsContainer {
         databaseMySQLPublicKeyRetrieval = config.getBoolean("database.allowPublicKeyRetrieval");
         databaseMySQLWaitTimeout = config.getLong("database.waitTimeout");
         databaseMySQLMaxLifetime = config.getLong("database.maxLifetime");
+        databaseMySQLThreads = config.getInt("database.threads");
+        databaseWriteBehindInterval = config.getLong("database.write-behind.interval");
+        databaseWriteBehindMaxPending = config.getInt("database.write-behind.max-pending");
+        databaseLoadThreads = Math.max(1, config.getInt("database.load-threads", 4));
 
         calcInterval = config.getLong("calc-interval", 6000);
         islandCommand = config.getString("island-command", "island,is,islands");
@@ -374,6 +389,7 @@ public class SettingsContainer {
                 line -> line.split(":")[0].replace("superior_", "").toLowerCase(Locale.ENGLISH),
                 line -> line.split(":")[1]
         ));
+        placeholdersCacheTime = config.getLong("placeholders-cache-time", 0);
         banConfirm = config.getBoolean("ban-confirm");
         disbandConfirm = config.getBoolean("disband-confirm");
         kickConfirm = config.getBoolean("kick-confirm");
@@ -488,6 +504,7 @@ public class SettingsContainer {
         defaultBorderColor = config.getString("default-border-color", "BLUE");
         obsidianToLava = config.getBoolean("obsidian-to-lava", false);
         syncWorth = BlockValuesManagerImpl.SyncWorthStatus.of(config.getString("sync-worth", "NONE"));
+        syncWorthInterval = config.getLong("sync-worth-interval", 6000);
         negativeWorth = config.getBoolean("negative-worth", true);
         negativeLevel = config.getBoolean("negative-level", true);
         disabledEvents = config.getStringList("disabled-events")
@@ -547,6 +564,7 @@ public class SettingsContainer {
             }
         });
         blockCountsSaveThreshold = BigInteger.valueOf(config.getInt("block-counts-save-threshold", 100));
+        idlePlayersExpirationTime = config.getLong("idle-players-expiration-time", 30);
     }
 
     private List<String> loadInteractables(SuperiorSkyblockPlugin plugin) {
@@ -221,6 +221,11 @@ public class SettingsManagerImpl extends Manager implements SettingsManager {
         return this.container.defaultPlaceholders;
     }
 
+    @Override
+    public long getPlaceholdersCacheTime() {
+        return this.container.placeholdersCacheTime;
+    }
+
     @Override
     public boolean isBanConfirm() {
         return this.container.banConfirm;
@@ -446,6 +451,11 @@ public class SettingsManagerImpl extends Manager implements SettingsManager {
         return this.container.syncWorth;
     }
 
+    @Override
+    public long getSyncWorthInterval() {
+        return this.container.syncWorthInterval;
+    }
+
     @Override
     public boolean isNegativeWorth() {
         return this.container.negativeWorth;
@@ -571,6 +581,11 @@ public class SettingsManagerImpl extends Manager implements SettingsManager {
         return this.container.blockCountsSaveThreshold;
     }
 
+    @Override
+    public long getIdlePlayersExpirationTime() {
+        return this.container.idlePlayersExpirationTime;
+    }
+
     public void updateValue(String path, Object value) throws IOException {
         File file = new File(plugin.getDataFolder(), "config.yml");
 
@@ -21,6 +21,16 @@ public class DatabaseSection implements SettingsManager.Database {
         return this.container.databaseBackup;
     }
 
+    @Override
+    public long getBackupInterval() {
+        return this.container.databaseBackupInterval;
+    }
+
+    @Override
+    public int getBackupRetention() {
+        return this.container.databaseBackupRetention;
+    }
+
     @Override
     public String getAddress() {
         return this.container.databaseMySQLAddress;
@@ -70,4 +80,24 @@ public class DatabaseSection implements SettingsManager.Database {
     public long getMaxLifetime() {
         return this.container.databaseMySQLMaxLifetime;
     }
+
+    @Override
+    public int getThreads() {
+        return this.container.databaseMySQLThreads;
+    }
+
+    @Override
+    public long getWriteBehindInterval() {
+        return this.container.databaseWriteBehindInterval;
+    }
+
+    @Override
+    public int getWriteBehindMaxPending() {
+        return this.container.databaseWriteBehindMaxPending;
+    }
+
+    @Override
+    public int getLoadThreads() {
+        return this.container.databaseLoadThreads;
+    }
 }
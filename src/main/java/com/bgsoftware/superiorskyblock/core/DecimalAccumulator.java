@@ -0,0 +1,109 @@
+package com.bgsoftware.superiorskyblock.core;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Thread-safe decimal sum that is kept as a fixed-point long value.
+ * The scale of the sum is the largest scale of the values that were added to it, same as BigDecimal#add.
+ * When the sum cannot be represented by a long, it is promoted to a BigDecimal until it fits again.
+ */
+public class DecimalAccumulator {
+
+    private static final int MAX_SCALE = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; ++i)
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+
+    private long unscaledValue = 0;
+    private int scale = 0;
+    private BigDecimal bigValue = null;
+    private BigDecimal cachedValue = BigDecimal.ZERO;
+
+    public synchronized BigDecimal get() {
+        if (cachedValue == null)
+            cachedValue = bigValue != null ? bigValue : BigDecimal.valueOf(unscaledValue, scale);
+
+        return cachedValue;
+    }
+
+    public synchronized void set(BigDecimal value) {
+        this.unscaledValue = 0;
+        this.scale = 0;
+        this.bigValue = null;
+        this.cachedValue = null;
+
+        if (!addFixedPoint(value, 1))
+            setBigValue(value);
+    }
+
+    /**
+     * Add value * amount to the sum.
+     */
+    public synchronized void add(BigDecimal value, BigInteger amount) {
+        if (value.signum() == 0 || amount.signum() == 0)
+            return;
+
+        this.cachedValue = null;
+
+        if (bigValue == null && amount.bitLength() < Long.SIZE && addFixedPoint(value, amount.longValue()))
+            return;
+
+        setBigValue(get().add(value.multiply(new BigDecimal(amount))));
+    }
+
+    /**
+     * Subtract value * amount from the sum.
+     */
+    public void subtract(BigDecimal value, BigInteger amount) {
+        add(value, amount.negate());
+    }
+
+    private boolean addFixedPoint(BigDecimal value, long amount) {
+        int valueScale = value.scale();
+
+        if (valueScale < 0 || valueScale > MAX_SCALE || value.precision() > MAX_SCALE)
+            return false;
+
+        long valueUnscaled = valueScale == 0 ? value.longValue() : value.unscaledValue().longValue();
+
+        try {
+            long newUnscaledValue = this.unscaledValue;
+            int newScale = this.scale;
+
+            if (valueScale > newScale) {
+                newUnscaledValue = Math.multiplyExact(newUnscaledValue, POWERS_OF_TEN[valueScale - newScale]);
+                newScale = valueScale;
+            } else if (valueScale < newScale) {
+                valueUnscaled = Math.multiplyExact(valueUnscaled, POWERS_OF_TEN[newScale - valueScale]);
+            }
+
+            this.unscaledValue = Math.addExact(newUnscaledValue, Math.multiplyExact(valueUnscaled, amount));
+            this.scale = newScale;
+
+            return true;
+        } catch (ArithmeticException error) {
+            return false;
+        }
+    }
+
+    private void setBigValue(BigDecimal value) {
+        BigInteger unscaled = value.unscaledValue();
+
+        // Going back to the fixed-point value when the sum fits in a long again.
+        if (value.scale() >= 0 && value.scale() <= MAX_SCALE && unscaled.bitLength() < Long.SIZE) {
+            this.unscaledValue = unscaled.longValue();
+            this.scale = value.scale();
+            this.bigValue = null;
+        } else {
+            this.bigValue = value;
+        }
+
+        this.cachedValue = null;
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.bgsoftware.superiorskyblock.core.collections;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A map of primitive long keys, implemented with open addressing and linear probing.
+ * Lookups do not box the keys and do not allocate any objects.
+ * Null values are not supported, as null is used to mark empty slots.
+ * This class is not thread-safe.
+ */
+public class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int size = 0;
+    private int resizeThreshold;
+
+    public LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongObjectMap(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, initialCapacity) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Nullable
+    public V get(long key) {
+        int mask = this.keys.length - 1;
+        for (int index = hash(key) & mask; this.values[index] != null; index = (index + 1) & mask) {
+            if (this.keys[index] == key)
+                return (V) this.values[index];
+        }
+        return null;
+    }
+
+    @Nullable
+    public V put(long key, V value) {
+        Preconditions.checkNotNull(value, "Cannot set values as nulls.");
+
+        int mask = this.keys.length - 1;
+        int index = hash(key) & mask;
+
+        for (; this.values[index] != null; index = (index + 1) & mask) {
+            if (this.keys[index] == key) {
+                V oldValue = (V) this.values[index];
+                this.values[index] = value;
+                return oldValue;
+            }
+        }
+
+        this.keys[index] = key;
+        this.values[index] = value;
+
+        if (++this.size > this.resizeThreshold)
+            rehash(this.keys.length << 1);
+
+        return null;
+    }
+
+    /**
+     * Remove the key from the map only if it is currently mapped to the given value.
+     *
+     * @param key   The key to remove.
+     * @param value The value the key should be mapped to.
+     * @return Whether the key was removed.
+     */
+    public boolean remove(long key, Object value) {
+        int mask = this.keys.length - 1;
+
+        for (int index = hash(key) & mask; this.values[index] != null; index = (index + 1) & mask) {
+            if (this.keys[index] == key) {
+                if (!this.values[index].equals(value))
+                    return false;
+
+                removeAt(index);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public void forEach(Consumer<V> consumer) {
+        for (Object value : this.values) {
+            if (value != null)
+                consumer.accept((V) value);
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    private void removeAt(int index) {
+        int mask = this.keys.length - 1;
+
+        this.values[index] = null;
+        --this.size;
+
+        // Shifting back the entries that follow the removed one, so lookups don't stop at the empty slot.
+        int emptyIndex = index;
+        for (int curr = (index + 1) & mask; this.values[curr] != null; curr = (curr + 1) & mask) {
+            int wantedIndex = hash(this.keys[curr]) & mask;
+            if (((curr - wantedIndex) & mask) >= ((curr - emptyIndex) & mask)) {
+                this.keys[emptyIndex] = this.keys[curr];
+                this.values[emptyIndex] = this.values[curr];
+                this.values[curr] = null;
+                emptyIndex = curr;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+
+        allocate(newCapacity);
+
+        int mask = newCapacity - 1;
+
+        for (int i = 0; i < oldValues.length; ++i) {
+            if (oldValues[i] != null) {
+                int index = hash(oldKeys[i]) & mask;
+                while (this.values[index] != null)
+                    index = (index + 1) & mask;
+                this.keys[index] = oldKeys[i];
+                this.values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long key) {
+        // Mixing the bits of the key, as packed coordinates have most of their entropy in the low bits of each half.
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.bgsoftware.superiorskyblock.core.collections;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A sorted set that supports finding the rank of an element and the element at a rank in logarithmic time.
+ * The set is implemented as a treap with subtree sizes, and keeps track of the node of each element.
+ * Therefore, elements can be removed and re-positioned even if the values they are compared by have changed
+ * since they were inserted.
+ * This class is not thread-safe.
+ */
+public class RankedSet<E> {
+
+    private final Map<E, Node<E>> nodes = new HashMap<>();
+    private final Comparator<? super E> comparator;
+
+    private Node<E> root;
+
+    public RankedSet(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return this.nodes.size();
+    }
+
+    public boolean isEmpty() {
+        return this.nodes.isEmpty();
+    }
+
+    public boolean contains(E element) {
+        return this.nodes.containsKey(element);
+    }
+
+    /**
+     * Add an element to the set.
+     * If the element already exists in the set, it is re-positioned according to its current values.
+     *
+     * @param element The element to add.
+     */
+    public void add(E element) {
+        Node<E> node = this.nodes.get(element);
+
+        if (node == null) {
+            node = new Node<>(element);
+            this.nodes.put(element, node);
+        } else {
+            removeNode(node);
+        }
+
+        insertNode(node);
+    }
+
+    public boolean remove(E element) {
+        Node<E> node = this.nodes.remove(element);
+
+        if (node == null)
+            return false;
+
+        removeNode(node);
+
+        return true;
+    }
+
+    public void clear() {
+        this.nodes.clear();
+        this.root = null;
+    }
+
+    /**
+     * Get the element at a specific rank.
+     *
+     * @param index The rank of the element, starting from 0.
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+
+        Node<E> curr = this.root;
+
+        while (curr != null) {
+            int leftSize = sizeOf(curr.left);
+            if (index < leftSize) {
+                curr = curr.left;
+            } else if (index == leftSize) {
+                return curr.element;
+            } else {
+                index -= leftSize + 1;
+                curr = curr.right;
+            }
+        }
+
+        throw new IllegalStateException("Ranked set is corrupted.");
+    }
+
+    /**
+     * Get the rank of an element, or -1 if the element is not inside the set.
+     *
+     * @param element The element to check.
+     */
+    public int indexOf(E element) {
+        Node<E> node = this.nodes.get(element);
+
+        if (node == null)
+            return -1;
+
+        int index = sizeOf(node.left);
+
+        for (Node<E> curr = node; curr.parent != null; curr = curr.parent) {
+            if (curr == curr.parent.right)
+                index += sizeOf(curr.parent.left) + 1;
+        }
+
+        return index;
+    }
+
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size());
+        Deque<Node<E>> stack = new ArrayDeque<>();
+        Node<E> curr = this.root;
+
+        while (curr != null || !stack.isEmpty()) {
+            while (curr != null) {
+                stack.push(curr);
+                curr = curr.left;
+            }
+
+            curr = stack.pop();
+            list.add(curr.element);
+            curr = curr.right;
+        }
+
+        return list;
+    }
+
+    private void insertNode(Node<E> node) {
+        if (this.root == null) {
+            this.root = node;
+            return;
+        }
+
+        Node<E> curr = this.root;
+
+        while (true) {
+            ++curr.size;
+            if (comparator.compare(node.element, curr.element) < 0) {
+                if (curr.left == null) {
+                    curr.left = node;
+                    break;
+                }
+                curr = curr.left;
+            } else {
+                if (curr.right == null) {
+                    curr.right = node;
+                    break;
+                }
+                curr = curr.right;
+            }
+        }
+
+        node.parent = curr;
+
+        while (node.parent != null && node.priority > node.parent.priority)
+            rotateUp(node);
+    }
+
+    private void removeNode(Node<E> node) {
+        // Rotating the node down until it has one child at most.
+        while (node.left != null && node.right != null)
+            rotateUp(node.left.priority > node.right.priority ? node.left : node.right);
+
+        Node<E> child = node.left != null ? node.left : node.right;
+        Node<E> parent = node.parent;
+
+        if (child != null)
+            child.parent = parent;
+
+        replaceChild(parent, node, child);
+
+        for (Node<E> curr = parent; curr != null; curr = curr.parent)
+            --curr.size;
+
+        node.left = node.right = node.parent = null;
+        node.size = 1;
+    }
+
+    private void rotateUp(Node<E> node) {
+        Node<E> parent = node.parent;
+        Node<E> grandParent = parent.parent;
+
+        if (node == parent.left) {
+            parent.left = node.right;
+            if (node.right != null)
+                node.right.parent = parent;
+            node.right = parent;
+        } else {
+            parent.right = node.left;
+            if (node.left != null)
+                node.left.parent = parent;
+            node.left = parent;
+        }
+
+        parent.parent = node;
+        node.parent = grandParent;
+
+        replaceChild(grandParent, parent, node);
+
+        parent.size = 1 + sizeOf(parent.left) + sizeOf(parent.right);
+        node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+    }
+
+    private void replaceChild(Node<E> parent, Node<E> oldChild, Node<E> newChild) {
+        if (parent == null) {
+            this.root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static class Node<E> {
+
+        private final E element;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node<E> left;
+        private Node<E> right;
+        private Node<E> parent;
+
+        Node(E element) {
+            this.element = element;
+        }
+
+    }
+
+}
@@ -2,10 +2,15 @@ package com.bgsoftware.superiorskyblock.core.database;
 
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.data.DatabaseBridge;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseBridgeMode;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseFilter;
 import com.bgsoftware.superiorskyblock.api.handlers.GridManager;
 import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.api.objects.Pair;
+import com.bgsoftware.superiorskyblock.api.player.container.PlayersContainer;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.Manager;
+import com.bgsoftware.superiorskyblock.core.Mutable;
 import com.bgsoftware.superiorskyblock.core.database.bridge.GridDatabaseBridge;
 import com.bgsoftware.superiorskyblock.core.database.bridge.PlayersDatabaseBridge;
 import com.bgsoftware.superiorskyblock.core.database.cache.DatabaseCache;
@@ -21,15 +26,24 @@ import com.bgsoftware.superiorskyblock.core.serialization.Serializers;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.island.builder.IslandBuilderImpl;
 import com.bgsoftware.superiorskyblock.island.role.SPlayerRole;
+import com.bgsoftware.superiorskyblock.player.SSuperiorPlayer;
+import com.bgsoftware.superiorskyblock.player.builder.SuperiorPlayerBuilderImpl;
+import com.bgsoftware.superiorskyblock.player.container.DefaultPlayersContainer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.math.BigDecimal;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @SuppressWarnings("WeakerAccess")
@@ -52,14 +66,27 @@ public class DataManager extends Manager {
 
         runState(DatabaseLoader.State.PRE_LOAD_DATA);
 
+        List<DatabaseLoadPipeline.TableStatistics> tablesStatistics = new LinkedList<>();
+
         if (plugin.getEventsBus().callPluginLoadDataEvent(plugin)) {
-            loadPlayers();
-            loadIslands();
+            ExecutorService loadExecutor = Executors.newFixedThreadPool(plugin.getSettings().getDatabase().getLoadThreads(),
+                    new ThreadFactoryBuilder().setNameFormat("SuperiorSkyblock Loading Thread #%d").build());
+            try {
+                tablesStatistics.addAll(loadPlayers(loadExecutor));
+                tablesStatistics.addAll(loadIslands(loadExecutor));
+            } finally {
+                loadExecutor.shutdownNow();
+            }
             loadGrid();
         }
 
         runState(DatabaseLoader.State.POST_LOAD_DATA);
 
+        if (!tablesStatistics.isEmpty()) {
+            Log.info("Loaded tables:");
+            tablesStatistics.forEach(tableStatistics -> Log.info(" - ", tableStatistics));
+        }
+
         /*
          *  Because of a bug caused leaders to be guests, I am looping through all the players and trying to fix it here.
          */
@@ -107,10 +134,15 @@ public class DataManager extends Manager {
         addDatabaseLoader(new SQLDatabaseLoader(plugin));
     }
 
-    private void loadPlayers() {
+    private List<DatabaseLoadPipeline.TableStatistics> loadPlayers(ExecutorService loadExecutor) {
         Log.info("Starting to load players...");
 
-        DatabaseBridge playersLoader = PlayersDatabaseBridge.getGlobalPlayersBridge();
+        PlayersContainer playersContainer = plugin.getPlayers().getPlayersContainer();
+        if (playersContainer instanceof DefaultPlayersContainer)
+            ((DefaultPlayersContainer) playersContainer).setLoader(this::loadPlayer);
+
+        DatabaseLoadPipeline playersLoader = new DatabaseLoadPipeline(plugin,
+                PlayersDatabaseBridge.getGlobalPlayersBridge(), loadExecutor);
 
         DatabaseCache<SuperiorPlayer.Builder> databaseCache = new DatabaseCache<>();
         AtomicInteger playersCount = new AtomicInteger();
@@ -120,40 +152,110 @@ public class DataManager extends Manager {
         PlayersDeserializer.deserializePlayerSettings(playersLoader, databaseCache);
         PlayersDeserializer.deserializePersistentDataContainer(playersLoader, databaseCache);
 
-        playersLoader.loadAllObjects("players", resultSetRaw -> {
-            DatabaseResult databaseResult = new DatabaseResult(resultSetRaw);
-
-            Optional<UUID> uuid = databaseResult.getUUID("uuid");
-            if (!uuid.isPresent()) {
-                Log.warn("Cannot load player with null uuid, skipping...");
-                return;
+        playersLoader.loadFinalObjects("players", resultSetRaw -> {
+            SuperiorPlayer superiorPlayer = deserializePlayer(resultSetRaw, databaseCache);
+            if (superiorPlayer != null) {
+                playersContainer.addPlayer(superiorPlayer);
+                playersCount.incrementAndGet();
             }
+        });
 
-            if (uuid.get().equals(CONSOLE_UUID)) {
-                Log.warn("Cannot load player with uuid 0 (it is reserved to CONSOLE), skipping...");
-                return;
-            }
+        List<DatabaseLoadPipeline.TableStatistics> tablesStatistics = playersLoader.complete();
 
-            plugin.getPlayers().getPlayersContainer().addPlayer(databaseCache.computeIfAbsentInfo(uuid.get(), SuperiorPlayer::newBuilder)
-                    .setUniqueId(uuid.get())
-                    .setName(databaseResult.getString("last_used_name").orElse("null"))
-                    .setDisbands(databaseResult.getInt("disbands").orElse(0))
-                    .setTextureValue(databaseResult.getString("last_used_skin").orElse(""))
-                    .setLastTimeUpdated(databaseResult.getLong("last_time_updated").orElse(System.currentTimeMillis() / 1000))
-                    .build());
+        long endTime = System.currentTimeMillis();
+
+        Log.info("Finished loading " + playersCount.get() + " players (Took " + (endTime - startTime) + "ms)");
+
+        return tablesStatistics;
+    }
+
+    private Pair<SuperiorPlayer, CompletableFuture<Void>> loadPlayer(UUID uuid, String name) {
+        SuperiorPlayerBuilderImpl builder = new SuperiorPlayerBuilderImpl();
+        builder.uuid = uuid;
+        builder.name = name;
+
+        SSuperiorPlayer loadingPlayer = new SSuperiorPlayer(builder);
+        loadingPlayer.getDatabaseBridge().setDatabaseBridgeMode(DatabaseBridgeMode.IDLE);
 
-            playersCount.incrementAndGet();
+        CompletableFuture<Void> dataLoad = new CompletableFuture<>();
+
+        BukkitExecutor.data(uuid.toString(), () -> {
+            SuperiorPlayerBuilderImpl loadedData = null;
+
+            try {
+                loadedData = loadPlayerData(uuid);
+            } catch (Throwable error) {
+                Log.entering("ENTER", uuid);
+                Log.error(error, "An unexpected error occurred while loading player from database:");
+            }
+
+            SuperiorPlayerBuilderImpl playerData = loadedData;
+            BukkitExecutor.ensureMain(() -> {
+                // Players that failed to load are not saved, so their data in the database is not overridden.
+                if (playerData != null)
+                    loadingPlayer.loadData(playerData);
+                dataLoad.complete(null);
+            });
         });
 
-        long endTime = System.currentTimeMillis();
+        return new Pair<>(plugin.getFactory().createPlayer(loadingPlayer), dataLoad);
+    }
 
-        Log.info("Finished loading " + playersCount.get() + " players (Took " + (endTime - startTime) + "ms)");
+    @Nullable
+    private static SuperiorPlayerBuilderImpl loadPlayerData(UUID uuid) {
+        DatabaseBridge playersBridge = PlayersDatabaseBridge.getGlobalPlayersBridge();
+        DatabaseCache<SuperiorPlayer.Builder> databaseCache = new DatabaseCache<>();
+
+        PlayersDeserializer.deserializeMissions(playersBridge, uuid, databaseCache);
+        PlayersDeserializer.deserializePlayerSettings(playersBridge, uuid, databaseCache);
+        PlayersDeserializer.deserializePersistentDataContainer(playersBridge, uuid, databaseCache);
+
+        Mutable<SuperiorPlayer.Builder> builder = new Mutable<>(null);
+
+        playersBridge.loadObject("players", DatabaseFilter.fromFilter("uuid", uuid.toString()), resultSetRaw ->
+                builder.setValue(deserializePlayerData(resultSetRaw, databaseCache)));
+
+        return (SuperiorPlayerBuilderImpl) builder.getValue();
+    }
+
+    @Nullable
+    private static SuperiorPlayer deserializePlayer(Map<String, Object> resultSetRaw, DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
+        SuperiorPlayer.Builder builder = deserializePlayerData(resultSetRaw, databaseCache);
+        return builder == null ? null : builder.setUniqueId(builder.getUniqueId()).build();
+    }
+
+    @Nullable
+    private static SuperiorPlayer.Builder deserializePlayerData(Map<String, Object> resultSetRaw, DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
+        DatabaseResult databaseResult = new DatabaseResult(resultSetRaw);
+
+        Optional<UUID> uuid = databaseResult.getUUID("uuid");
+        if (!uuid.isPresent()) {
+            Log.warn("Cannot load player with null uuid, skipping...");
+            return null;
+        }
+
+        if (uuid.get().equals(CONSOLE_UUID)) {
+            Log.warn("Cannot load player with uuid 0 (it is reserved to CONSOLE), skipping...");
+            return null;
+        }
+
+        SuperiorPlayer.Builder builder = databaseCache.computeIfAbsentInfo(uuid.get(), SuperiorPlayer::newBuilder)
+                .setName(databaseResult.getString("last_used_name").orElse("null"))
+                .setDisbands(databaseResult.getInt("disbands").orElse(0))
+                .setTextureValue(databaseResult.getString("last_used_skin").orElse(""))
+                .setLastTimeUpdated(databaseResult.getLong("last_time_updated").orElse(System.currentTimeMillis() / 1000));
+
+        // The uuid is not set through the builder, as players that are loaded again already exist.
+        ((SuperiorPlayerBuilderImpl) builder).uuid = uuid.get();
+
+        return builder;
     }
 
-    private void loadIslands() {
+    private List<DatabaseLoadPipeline.TableStatistics> loadIslands(ExecutorService loadExecutor) {
         Log.info("Starting to load islands...");
 
-        DatabaseBridge islandsLoader = plugin.getFactory().createDatabaseBridge((Island) null);
+        DatabaseLoadPipeline islandsLoader = new DatabaseLoadPipeline(plugin,
+                plugin.getFactory().createDatabaseBridge((Island) null), loadExecutor);
 
         DatabaseCache<Island.Builder> databaseCache = new DatabaseCache<>();
         AtomicInteger islandsCount = new AtomicInteger();
@@ -183,7 +285,7 @@ public class DataManager extends Manager {
         IslandsDeserializer.deserializeBankTransactions(islandsLoader, databaseCache);
         IslandsDeserializer.deserializePersistentDataContainer(islandsLoader, databaseCache);
 
-        islandsLoader.loadAllObjects("islands", resultSetRaw -> {
+        islandsLoader.loadFinalObjects("islands", resultSetRaw -> {
             DatabaseResult databaseResult = new DatabaseResult(resultSetRaw);
 
             Optional<UUID> uuid = databaseResult.getUUID("uuid");
@@ -241,9 +343,13 @@ public class DataManager extends Manager {
             islandsCount.incrementAndGet();
         });
 
+        List<DatabaseLoadPipeline.TableStatistics> tablesStatistics = islandsLoader.complete();
+
         long endTime = System.currentTimeMillis();
 
         Log.info("Finished loading " + islandsCount.get() + " islands (Took " + (endTime - startTime) + "ms)");
+
+        return tablesStatistics;
     }
 
 
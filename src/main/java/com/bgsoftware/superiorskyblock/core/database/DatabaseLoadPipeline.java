@@ -0,0 +1,270 @@
+package com.bgsoftware.superiorskyblock.core.database;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseBridge;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseBridgeMode;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseFilter;
+import com.bgsoftware.superiorskyblock.api.objects.Pair;
+import com.bgsoftware.superiorskyblock.core.database.sql.ResultSetMapBridge;
+import com.bgsoftware.superiorskyblock.core.database.sql.SQLHelper;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nullable;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Loads the tables of a database bridge in parallel.
+ * Every table is read on a worker thread with its own connection, and its rows are copied and queued.
+ * The queued rows are handed to the consumers of their tables on the thread that completes the pipeline,
+ * so consumers are never called concurrently and don't need to be thread-safe.
+ * Rows of the final table are handed only after all the other tables are done, so the final table
+ * can build objects out of the data of the other tables.
+ */
+public class DatabaseLoadPipeline implements DatabaseBridge {
+
+    private static final int MAX_PENDING_ROWS = 8192;
+
+    private final SuperiorSkyblockPlugin plugin;
+    private final DatabaseBridge databaseBridge;
+    private final Executor executor;
+    private final BlockingQueue<TableRow> pendingRows = new LinkedBlockingQueue<>(MAX_PENDING_ROWS);
+    private final List<TableLoad> tables = new LinkedList<>();
+
+    @Nullable
+    private TableLoad finalTable;
+
+    public DatabaseLoadPipeline(SuperiorSkyblockPlugin plugin, DatabaseBridge databaseBridge, Executor executor) {
+        this.plugin = plugin;
+        this.databaseBridge = databaseBridge;
+        this.executor = executor;
+    }
+
+    @Override
+    public void loadAllObjects(String table, Consumer<Map<String, Object>> resultConsumer) {
+        TableLoad tableLoad = new TableLoad(table, resultConsumer, false);
+        this.tables.add(tableLoad);
+        this.executor.execute(() -> readTable(tableLoad));
+    }
+
+    /**
+     * Load the final table of the pipeline.
+     * Its rows are handed to the consumer only after all the other tables of the pipeline are loaded.
+     *
+     * @param table          The table to load.
+     * @param resultConsumer The consumer of the rows.
+     */
+    public void loadFinalObjects(String table, Consumer<Map<String, Object>> resultConsumer) {
+        Preconditions.checkState(this.finalTable == null, "The pipeline already has a final table.");
+        TableLoad tableLoad = new TableLoad(table, resultConsumer, true);
+        this.finalTable = tableLoad;
+        this.tables.add(tableLoad);
+        this.executor.execute(() -> readTable(tableLoad));
+    }
+
+    /**
+     * Hand all the rows of the tables to their consumers, and wait for all the tables to be loaded.
+     *
+     * @return The statistics of the loaded tables.
+     */
+    public List<TableStatistics> complete() {
+        int pendingTables = this.tables.size();
+
+        while (pendingTables > 0) {
+            TableRow tableRow = takePendingRow();
+            if (tableRow.row == null) {
+                --pendingTables;
+            } else {
+                applyRow(tableRow.table, tableRow.row);
+            }
+        }
+
+        if (this.finalTable != null) {
+            for (Map<String, Object> row : this.finalTable.deferredRows)
+                applyRow(this.finalTable, row);
+            this.finalTable.deferredRows.clear();
+        }
+
+        List<TableStatistics> statistics = new ArrayList<>(this.tables.size());
+        this.tables.forEach(tableLoad -> statistics.add(new TableStatistics(tableLoad)));
+        return statistics;
+    }
+
+    @Override
+    public void batchOperations(boolean batchOperations) {
+        this.databaseBridge.batchOperations(batchOperations);
+    }
+
+    @Override
+    public void updateObject(String table, @Nullable DatabaseFilter filter, Pair<String, Object>... columns) {
+        this.databaseBridge.updateObject(table, filter, columns);
+    }
+
+    @Override
+    public void insertObject(String table, Pair<String, Object>... columns) {
+        this.databaseBridge.insertObject(table, columns);
+    }
+
+    @Override
+    public void deleteObject(String table, @Nullable DatabaseFilter filter) {
+        this.databaseBridge.deleteObject(table, filter);
+    }
+
+    @Override
+    public void loadObject(String table, @Nullable DatabaseFilter filter, Consumer<Map<String, Object>> resultConsumer) {
+        this.databaseBridge.loadObject(table, filter, resultConsumer);
+    }
+
+    @Override
+    public void setDatabaseBridgeMode(DatabaseBridgeMode databaseBridgeMode) {
+        this.databaseBridge.setDatabaseBridgeMode(databaseBridgeMode);
+    }
+
+    @Override
+    public DatabaseBridgeMode getDatabaseBridgeMode() {
+        return this.databaseBridge.getDatabaseBridgeMode();
+    }
+
+    private void readTable(TableLoad tableLoad) {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            SQLHelper.runWithReadConnection(plugin, () -> this.databaseBridge.loadAllObjects(tableLoad.name, row -> {
+                Map<String, Object> rowCopy = copyRow(row);
+                if (tableLoad.deferred) {
+                    tableLoad.deferredRows.add(rowCopy);
+                } else {
+                    putPendingRow(new TableRow(tableLoad, rowCopy));
+                }
+            }));
+        } catch (Throwable error) {
+            Log.error(error, "An unexpected error occurred while loading table ", tableLoad.name, ":");
+        } finally {
+            tableLoad.readTime = System.currentTimeMillis() - startTime;
+            // Marking the end of the table.
+            putPendingRow(new TableRow(tableLoad, null));
+        }
+    }
+
+    private void putPendingRow(TableRow tableRow) {
+        boolean interrupted = false;
+
+        while (true) {
+            try {
+                this.pendingRows.put(tableRow);
+                break;
+            } catch (InterruptedException error) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    private TableRow takePendingRow() {
+        boolean interrupted = false;
+
+        try {
+            while (true) {
+                try {
+                    return this.pendingRows.take();
+                } catch (InterruptedException error) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void applyRow(TableLoad tableLoad, Map<String, Object> row) {
+        long startTime = System.nanoTime();
+
+        try {
+            tableLoad.resultConsumer.accept(row);
+        } catch (Exception error) {
+            Log.entering("ENTER", tableLoad.name);
+            Log.error(error, "An unexpected error occurred while loading data from database:");
+        }
+
+        tableLoad.applyTime += System.nanoTime() - startTime;
+        ++tableLoad.rowsCount;
+    }
+
+    private static Map<String, Object> copyRow(Map<String, Object> row) {
+        if (!(row instanceof ResultSetMapBridge))
+            return new HashMap<>(row);
+
+        try {
+            return ((ResultSetMapBridge) row).copy();
+        } catch (SQLException error) {
+            throw new RuntimeException(error);
+        }
+    }
+
+    public static class TableStatistics {
+
+        private final String table;
+        private final int rowsCount;
+        private final long readTime;
+        private final long applyTime;
+
+        private TableStatistics(TableLoad tableLoad) {
+            this.table = tableLoad.name;
+            this.rowsCount = tableLoad.rowsCount;
+            this.readTime = tableLoad.readTime;
+            this.applyTime = TimeUnit.NANOSECONDS.toMillis(tableLoad.applyTime);
+        }
+
+        @Override
+        public String toString() {
+            return table + ": " + rowsCount + " rows (Read in " + readTime + "ms, processed in " + applyTime + "ms)";
+        }
+
+    }
+
+    private static class TableLoad {
+
+        private final String name;
+        private final Consumer<Map<String, Object>> resultConsumer;
+        private final boolean deferred;
+        private final List<Map<String, Object>> deferredRows = new ArrayList<>();
+
+        private volatile long readTime;
+        private long applyTime;
+        private int rowsCount;
+
+        TableLoad(String name, Consumer<Map<String, Object>> resultConsumer, boolean deferred) {
+            this.name = name;
+            this.resultConsumer = resultConsumer;
+            this.deferred = deferred;
+        }
+
+    }
+
+    private static class TableRow {
+
+        private final TableLoad table;
+        @Nullable
+        private final Map<String, Object> row;
+
+        TableRow(TableLoad table, @Nullable Map<String, Object> row) {
+            this.table = table;
+            this.row = row;
+        }
+
+    }
+
+}
@@ -36,18 +36,28 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 @SuppressWarnings("unchecked")
 public class IslandsDatabaseBridge {
 
     private static final Map<UUID, Map<FutureSave, Set<Object>>> SAVE_METHODS_TO_BE_EXECUTED = new ConcurrentHashMap<>();
+    private static final List<Consumer<Island>> CHANGE_LISTENERS = new CopyOnWriteArrayList<>();
 
     private IslandsDatabaseBridge() {
     }
 
+    /**
+     * Register a listener that is called when data of an island is changed.
+     * The listener is called from the thread the change was made in.
+     */
+    public static void registerChangeListener(Consumer<Island> changeListener) {
+        CHANGE_LISTENERS.add(changeListener);
+    }
+
     public static void addMember(Island island, SuperiorPlayer superiorPlayer, long addTime) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_members",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_members",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("player", superiorPlayer.getUniqueId().toString()),
                 new Pair<>("role", superiorPlayer.getPlayerRole().getId()),
@@ -56,20 +66,20 @@ public class IslandsDatabaseBridge {
     }
 
     public static void removeMember(Island island, SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_members",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_members",
                 createFilter("island", island, new Pair<>("player", superiorPlayer.getUniqueId().toString()))
         ));
     }
 
     public static void saveMemberRole(Island island, SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_members",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_members",
                 createFilter("island", island, new Pair<>("player", superiorPlayer.getUniqueId().toString())),
                 new Pair<>("role", superiorPlayer.getPlayerRole().getId())
         ));
     }
 
     public static void addBannedPlayer(Island island, SuperiorPlayer superiorPlayer, UUID banner, long banTime) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_bans",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_bans",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("player", superiorPlayer.getUniqueId().toString()),
                 new Pair<>("banned_by", banner.toString()),
@@ -78,13 +88,13 @@ public class IslandsDatabaseBridge {
     }
 
     public static void removeBannedPlayer(Island island, SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_bans",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_bans",
                 createFilter("island", island, new Pair<>("player", superiorPlayer.getUniqueId().toString()))
         ));
     }
 
     public static void saveCoopLimit(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_settings",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_settings",
                 createFilter("island", island),
                 new Pair<>("coops_limit", island.getCoopLimit())
         ));
@@ -92,11 +102,11 @@ public class IslandsDatabaseBridge {
 
     public static void saveIslandHome(Island island, World.Environment environment, Location location) {
         if (location == null) {
-            runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_homes",
+            runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_homes",
                     createFilter("island", island, new Pair<>("environment", environment.name()))
             ));
         } else {
-            runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_homes",
+            runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_homes",
                     new Pair<>("island", island.getUniqueId().toString()),
                     new Pair<>("environment", environment.name()),
                     new Pair<>("location", Serializers.LOCATION_SERIALIZER.serialize(location))
@@ -105,7 +115,7 @@ public class IslandsDatabaseBridge {
     }
 
     public static void saveVisitorLocation(Island island, World.Environment environment, Location location) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_visitor_homes",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_visitor_homes",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("environment", environment.name()),
                 new Pair<>("location", Serializers.LOCATION_SERIALIZER.serialize(location))
@@ -113,13 +123,13 @@ public class IslandsDatabaseBridge {
     }
 
     public static void removeVisitorLocation(Island island, World.Environment environment) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_visitor_homes",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_visitor_homes",
                 createFilter("island", island, new Pair<>("environment", environment.name()))
         ));
     }
 
     public static void saveUnlockedWorlds(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("unlocked_worlds", island.getUnlockedWorldsFlag())
         ));
@@ -127,7 +137,7 @@ public class IslandsDatabaseBridge {
 
     public static void savePlayerPermission(Island island, SuperiorPlayer superiorPlayer, IslandPrivilege privilege,
                                             boolean status) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_player_permissions",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_player_permissions",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("player", superiorPlayer.getUniqueId().toString()),
                 new Pair<>("permission", privilege.getName()),
@@ -136,13 +146,13 @@ public class IslandsDatabaseBridge {
     }
 
     public static void clearPlayerPermission(Island island, SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_player_permissions",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_player_permissions",
                 createFilter("island", island, new Pair<>("player", superiorPlayer.getUniqueId().toString()))
         ));
     }
 
     public static void saveRolePermission(Island island, PlayerRole playerRole, IslandPrivilege privilege) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_role_permissions",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_role_permissions",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("role", playerRole.getId()),
                 new Pair<>("permission", privilege.getName())
@@ -150,89 +160,89 @@ public class IslandsDatabaseBridge {
     }
 
     public static void clearRolePermissions(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_role_permissions",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_role_permissions",
                 createFilter("island", island)));
     }
 
     public static void saveName(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("name", island.getName())
         ));
     }
 
     public static void saveDescription(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("description", island.getDescription())
         ));
     }
 
     public static void saveSize(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_settings",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_settings",
                 createFilter("island", island),
                 new Pair<>("size", island.getIslandSize())
         ));
     }
 
     public static void saveDiscord(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("discord", island.getDiscord())
         ));
     }
 
     public static void savePaypal(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("paypal", island.getPaypal())
         ));
     }
 
     public static void saveLockedStatus(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("locked", island.isLocked())
         ));
     }
 
     public static void saveIgnoredStatus(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("ignored", island.isIgnored())
         ));
     }
 
     public static void saveLastTimeUpdate(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("last_time_updated", island.getLastTimeUpdate())
         ));
     }
 
     public static void saveBankLimit(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_settings",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_settings",
                 createFilter("island", island),
                 new Pair<>("bank_limit", island.getBankLimit() + "")
         ));
     }
 
     public static void saveBonusWorth(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("worth_bonus", island.getBonusWorth() + "")
         ));
     }
 
     public static void saveBonusLevel(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("levels_bonus", island.getBonusLevel() + "")
         ));
     }
 
     public static void saveUpgrade(Island island, Upgrade upgrade, int level) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_upgrades",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_upgrades",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("upgrade", upgrade.getName()),
                 new Pair<>("level", level)
@@ -240,28 +250,28 @@ public class IslandsDatabaseBridge {
     }
 
     public static void saveCropGrowth(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_settings",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_settings",
                 createFilter("island", island),
                 new Pair<>("crop_growth_multiplier", island.getCropGrowthMultiplier())
         ));
     }
 
     public static void saveSpawnerRates(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_settings",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_settings",
                 createFilter("island", island),
                 new Pair<>("spawner_rates_multiplier", island.getSpawnerRatesMultiplier())
         ));
     }
 
     public static void saveMobDrops(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_settings",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_settings",
                 createFilter("island", island),
                 new Pair<>("mob_drops_multiplier", island.getMobDropsMultiplier())
         ));
     }
 
     public static void saveBlockLimit(Island island, Key block, int limit) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_block_limits",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_block_limits",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("block", block.toString()),
                 new Pair<>("limit", limit)
@@ -269,18 +279,18 @@ public class IslandsDatabaseBridge {
     }
 
     public static void clearBlockLimits(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_block_limits",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_block_limits",
                 createFilter("island", island)));
     }
 
     public static void removeBlockLimit(Island island, Key block) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_block_limits",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_block_limits",
                 createFilter("island", island, new Pair<>("block", block.toString()))
         ));
     }
 
     public static void saveEntityLimit(Island island, Key entityType, int limit) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_entity_limits",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_entity_limits",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("entity", entityType.toString()),
                 new Pair<>("limit", limit)
@@ -288,26 +298,26 @@ public class IslandsDatabaseBridge {
     }
 
     public static void clearEntityLimits(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_entity_limits",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_entity_limits",
                 createFilter("island", island)));
     }
 
     public static void saveTeamLimit(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_settings",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_settings",
                 createFilter("island", island),
                 new Pair<>("members_limit", island.getTeamLimit())
         ));
     }
 
     public static void saveWarpsLimit(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_settings",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_settings",
                 createFilter("island", island),
                 new Pair<>("warps_limit", island.getWarpsLimit())
         ));
     }
 
     public static void saveIslandEffect(Island island, PotionEffectType potionEffectType, int level) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_effects",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_effects",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("effect_type", potionEffectType.getName()),
                 new Pair<>("level", level)
@@ -315,18 +325,18 @@ public class IslandsDatabaseBridge {
     }
 
     public static void removeIslandEffect(Island island, PotionEffectType potionEffectType) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_effects",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_effects",
                 createFilter("island", island, new Pair<>("effect_type", potionEffectType.getName()))
         ));
     }
 
     public static void clearIslandEffects(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_effects",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_effects",
                 createFilter("island", island)));
     }
 
     public static void saveRoleLimit(Island island, PlayerRole playerRole, int limit) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_role_limits",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_role_limits",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("role", playerRole.getId()),
                 new Pair<>("limit", limit)
@@ -334,7 +344,7 @@ public class IslandsDatabaseBridge {
     }
 
     public static void removeRoleLimit(Island island, PlayerRole playerRole) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_role_limits",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_role_limits",
                 createFilter("island", island, new Pair<>("role", playerRole.getId()))
         ));
     }
@@ -342,7 +352,7 @@ public class IslandsDatabaseBridge {
     public static void saveWarp(Island island, IslandWarp islandWarp) {
         WarpCategory category = islandWarp.getCategory();
         ItemStack icon = islandWarp.getRawIcon();
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_warps",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_warps",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("name", islandWarp.getName()),
                 new Pair<>("category", category == null ? "" : category.getName()),
@@ -353,21 +363,21 @@ public class IslandsDatabaseBridge {
     }
 
     public static void updateWarpName(Island island, IslandWarp islandWarp, String oldName) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_warps",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_warps",
                 createFilter("island", island, new Pair<>("name", oldName)),
                 new Pair<>("name", islandWarp.getName())
         ));
     }
 
     public static void updateWarpLocation(Island island, IslandWarp islandWarp) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_warps",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_warps",
                 createFilter("island", island, new Pair<>("name", islandWarp.getName())),
                 new Pair<>("location", Serializers.LOCATION_SERIALIZER.serialize(islandWarp.getLocation()))
         ));
     }
 
     public static void updateWarpPrivateStatus(Island island, IslandWarp islandWarp) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_warps",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_warps",
                 createFilter("island", island, new Pair<>("name", islandWarp.getName())),
                 new Pair<>("private", islandWarp.hasPrivateFlag())
         ));
@@ -375,20 +385,20 @@ public class IslandsDatabaseBridge {
 
     public static void updateWarpIcon(Island island, IslandWarp islandWarp) {
         ItemStack icon = islandWarp.getRawIcon();
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_warps",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_warps",
                 createFilter("island", island, new Pair<>("name", islandWarp.getName())),
                 new Pair<>("icon", Serializers.ITEM_STACK_SERIALIZER.serialize(icon))
         ));
     }
 
     public static void removeWarp(Island island, IslandWarp islandWarp) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_warps",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_warps",
                 createFilter("island", island, new Pair<>("name", islandWarp.getName()))
         ));
     }
 
     public static void saveRating(Island island, SuperiorPlayer superiorPlayer, Rating rating, long rateTime) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_ratings",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_ratings",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("player", superiorPlayer.getUniqueId().toString()),
                 new Pair<>("rating", rating.getValue()),
@@ -397,19 +407,19 @@ public class IslandsDatabaseBridge {
     }
 
     public static void removeRating(Island island, SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_ratings",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_ratings",
                 createFilter("island", island, new Pair<>("player", superiorPlayer.getUniqueId().toString()))
         ));
     }
 
     public static void clearRatings(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_ratings",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_ratings",
                 createFilter("island", island)
         ));
     }
 
     public static void saveMission(Island island, Mission<?> mission, int finishCount) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_missions",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_missions",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("name", mission.getName().toLowerCase(Locale.ENGLISH)),
                 new Pair<>("finish_count", finishCount)
@@ -417,13 +427,13 @@ public class IslandsDatabaseBridge {
     }
 
     public static void removeMission(Island island, Mission<?> mission) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_missions",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_missions",
                 createFilter("island", island, new Pair<>("name", mission.getName()))
         ));
     }
 
     public static void saveIslandFlag(Island island, IslandFlag islandFlag, int status) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_flags",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_flags",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("name", islandFlag.getName()),
                 new Pair<>("status", status)
@@ -431,13 +441,13 @@ public class IslandsDatabaseBridge {
     }
 
     public static void removeIslandFlag(Island island, IslandFlag islandFlag) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_flags",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_flags",
                 createFilter("island", island, new Pair<>("name", islandFlag.getName()))
         ));
     }
 
     public static void saveGeneratorRate(Island island, World.Environment environment, Key blockKey, int rate) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_generators",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_generators",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("environment", environment.name()),
                 new Pair<>("block", blockKey.toString()),
@@ -446,7 +456,7 @@ public class IslandsDatabaseBridge {
     }
 
     public static void removeGeneratorRate(Island island, World.Environment environment, Key blockKey) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_generators",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_generators",
                 createFilter("island", island,
                         new Pair<>("environment", environment.name()),
                         new Pair<>("block", blockKey.toString()))
@@ -454,34 +464,34 @@ public class IslandsDatabaseBridge {
     }
 
     public static void clearGeneratorRates(Island island, World.Environment environment) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_generators",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_generators",
                 createFilter("island", island, new Pair<>("environment", environment.name()))
         ));
     }
 
     public static void saveGeneratedSchematics(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("generated_schematics", island.getGeneratedSchematicsFlag())
         ));
     }
 
     public static void saveDirtyChunks(DirtyChunksContainer dirtyChunksContainer) {
-        runOperationIfRunning(dirtyChunksContainer.getIsland().getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(dirtyChunksContainer.getIsland(), databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", dirtyChunksContainer.getIsland()),
                 new Pair<>("dirty_chunks", IslandsSerializer.serializeDirtyChunkPositions(dirtyChunksContainer.getDirtyChunks()))
         ));
     }
 
     public static void saveBlockCounts(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("block_counts", IslandsSerializer.serializeBlockCounts(island.getBlockCountsAsBigInteger()))
         ));
     }
 
     public static void saveIslandChest(Island island, IslandChest islandChest) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_chests",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_chests",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("index", islandChest.getIndex()),
                 new Pair<>("contents", Serializers.INVENTORY_SERIALIZER.serialize(islandChest.getContents()))
@@ -489,14 +499,14 @@ public class IslandsDatabaseBridge {
     }
 
     public static void saveLastInterestTime(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_banks",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_banks",
                 createFilter("island", island),
                 new Pair<>("last_interest_time", island.getLastInterestTime() * 1000)
         ));
     }
 
     public static void saveVisitor(Island island, SuperiorPlayer visitor, long visitTime) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_visitors",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_visitors",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("player", visitor.getUniqueId().toString()),
                 new Pair<>("visit_time", visitTime)
@@ -504,7 +514,7 @@ public class IslandsDatabaseBridge {
     }
 
     public static void saveWarpCategory(Island island, WarpCategory warpCategory) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_warp_categories",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_warp_categories",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("name", warpCategory.getName()),
                 new Pair<>("slot", warpCategory.getSlot()),
@@ -514,55 +524,55 @@ public class IslandsDatabaseBridge {
 
     public static void updateWarpCategory(Island island, IslandWarp islandWarp, String oldCategoryName) {
         WarpCategory category = islandWarp.getCategory();
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_warps",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_warps",
                 createFilter("island", island, new Pair<>("category", oldCategoryName)),
                 new Pair<>("category", category == null ? "" : category.getName())
         ));
     }
 
     public static void updateWarpCategoryName(Island island, WarpCategory warpCategory, String oldName) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_warp_categories",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_warp_categories",
                 createFilter("island", island, new Pair<>("name", oldName)),
                 new Pair<>("name", warpCategory.getName())
         ));
     }
 
     public static void updateWarpCategorySlot(Island island, WarpCategory warpCategory) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_warp_categories",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_warp_categories",
                 createFilter("island", island, new Pair<>("name", warpCategory.getName())),
                 new Pair<>("slot", warpCategory.getSlot())
         ));
     }
 
     public static void updateWarpCategoryIcon(Island island, WarpCategory warpCategory) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_warp_categories",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_warp_categories",
                 createFilter("island", island, new Pair<>("name", warpCategory.getName())),
                 new Pair<>("icon", Serializers.ITEM_STACK_SERIALIZER.serialize(warpCategory.getRawIcon()))
         ));
     }
 
     public static void removeWarpCategory(Island island, WarpCategory warpCategory) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("islands_warp_categories",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.deleteObject("islands_warp_categories",
                 createFilter("island", island, new Pair<>("name", warpCategory.getName()))
         ));
     }
 
     public static void saveIslandLeader(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands",
                 createFilter("uuid", island),
                 new Pair<>("owner", island.getOwner().getUniqueId().toString())
         ));
     }
 
     public static void saveBankBalance(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("islands_banks",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.updateObject("islands_banks",
                 createFilter("island", island),
                 new Pair<>("balance", island.getIslandBank().getBalance() + "")
         ));
     }
 
     public static void saveBankTransaction(Island island, BankTransaction bankTransaction) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("bank_transactions",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("bank_transactions",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("player", bankTransaction.getPlayer() == null ? "" : bankTransaction.getPlayer().toString()),
                 new Pair<>("bank_action", bankTransaction.getAction().name()),
@@ -574,19 +584,19 @@ public class IslandsDatabaseBridge {
     }
 
     public static void savePersistentDataContainer(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("islands_custom_data",
+        runOperationIfRunning(island, databaseBridge -> databaseBridge.insertObject("islands_custom_data",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("data", island.getPersistentDataContainer().serialize())
         ));
     }
 
     public static void removePersistentDataContainer(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge ->
+        runOperationIfRunning(island, databaseBridge ->
                 databaseBridge.deleteObject("players_custom_data", createFilter("island", island)));
     }
 
     public static void insertIsland(Island island, List<ChunkPosition> dirtyChunks) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> {
+        runOperationIfRunning(island, databaseBridge -> {
             databaseBridge.insertObject("islands",
                     new Pair<>("uuid", island.getUniqueId().toString()),
                     new Pair<>("owner", island.getOwner().getUniqueId().toString()),
@@ -629,7 +639,7 @@ public class IslandsDatabaseBridge {
     }
 
     public static void deleteIsland(Island island) {
-        runOperationIfRunning(island.getDatabaseBridge(), databaseBridge -> {
+        runOperationIfRunning(island, databaseBridge -> {
             DatabaseFilter islandFilter = createFilter("island", island);
             databaseBridge.deleteObject("islands", createFilter("uuid", island));
             databaseBridge.deleteObject("islands_banks", islandFilter);
@@ -661,6 +671,7 @@ public class IslandsDatabaseBridge {
         SAVE_METHODS_TO_BE_EXECUTED.computeIfAbsent(island.getUniqueId(), u -> new EnumMap<>(FutureSave.class))
                 .computeIfAbsent(FutureSave.ISLAND_CHESTS, e -> new HashSet<>())
                 .add(islandChest);
+        notifyChangeListeners(island);
     }
 
     public static void markBlockCountsToBeSaved(Island island) {
@@ -668,6 +679,7 @@ public class IslandsDatabaseBridge {
                 .computeIfAbsent(FutureSave.BLOCK_COUNTS, e -> new HashSet<>());
         if (varsForBlockCounts.isEmpty())
             varsForBlockCounts.add(new Object());
+        notifyChangeListeners(island);
     }
 
     public static void markPersistentDataContainerToBeSaved(Island island) {
@@ -675,6 +687,7 @@ public class IslandsDatabaseBridge {
                 .computeIfAbsent(FutureSave.PERSISTENT_DATA, e -> new HashSet<>());
         if (varsForPersistentData.isEmpty())
             varsForPersistentData.add(new Object());
+        notifyChangeListeners(island);
     }
 
     public static boolean isModified(Island island) {
@@ -741,9 +754,17 @@ public class IslandsDatabaseBridge {
         return DatabaseFilter.fromFilters(filters);
     }
 
-    private static void runOperationIfRunning(DatabaseBridge databaseBridge, Consumer<DatabaseBridge> databaseBridgeConsumer) {
-        if (databaseBridge.getDatabaseBridgeMode() == DatabaseBridgeMode.SAVE_DATA)
+    private static void runOperationIfRunning(Island island, Consumer<DatabaseBridge> databaseBridgeConsumer) {
+        DatabaseBridge databaseBridge = island.getDatabaseBridge();
+        if (databaseBridge.getDatabaseBridgeMode() == DatabaseBridgeMode.SAVE_DATA) {
             databaseBridgeConsumer.accept(databaseBridge);
+            notifyChangeListeners(island);
+        }
+    }
+
+    private static void notifyChangeListeners(Island island) {
+        for (Consumer<Island> changeListener : CHANGE_LISTENERS)
+            changeListener.accept(island);
     }
 
     public enum FutureSave {
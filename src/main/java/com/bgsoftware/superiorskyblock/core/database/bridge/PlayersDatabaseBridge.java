@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 @SuppressWarnings("unchecked")
@@ -26,6 +27,7 @@ public class PlayersDatabaseBridge {
 
     private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
     private static final Map<UUID, Map<FutureSave, Set<Object>>> SAVE_METHODS_TO_BE_EXECUTED = new ConcurrentHashMap<>();
+    private static final List<Consumer<SuperiorPlayer>> CHANGE_LISTENERS = new CopyOnWriteArrayList<>();
     private static final LazyReference<DatabaseBridge> GLOBAL_PLAYERS_BRIDGE = new LazyReference<DatabaseBridge>() {
         @Override
         protected DatabaseBridge create() {
@@ -38,19 +40,27 @@ public class PlayersDatabaseBridge {
     private PlayersDatabaseBridge() {
     }
 
+    /**
+     * Register a listener that is called when data of a player is changed.
+     * The listener is called from the thread the change was made in.
+     */
+    public static void registerChangeListener(Consumer<SuperiorPlayer> changeListener) {
+        CHANGE_LISTENERS.add(changeListener);
+    }
+
     public static DatabaseBridge getGlobalPlayersBridge() {
         return GLOBAL_PLAYERS_BRIDGE.get();
     }
 
     public static void saveTextureValue(SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("players",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.updateObject("players",
                 createFilter("uuid", superiorPlayer),
                 new Pair<>("last_used_skin", superiorPlayer.getTextureValue())
         ));
     }
 
     public static void savePlayerName(SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("players",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.updateObject("players",
                 createFilter("uuid", superiorPlayer),
                 new Pair<>("last_used_name", superiorPlayer.getName())
         ));
@@ -58,56 +68,56 @@ public class PlayersDatabaseBridge {
 
     public static void saveUserLocale(SuperiorPlayer superiorPlayer) {
         Locale userLocale = superiorPlayer.getUserLocale();
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("players_settings",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.updateObject("players_settings",
                 createFilter("player", superiorPlayer),
                 new Pair<>("language", userLocale.getLanguage() + "-" + userLocale.getCountry())
         ));
     }
 
     public static void saveToggledBorder(SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("players_settings",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.updateObject("players_settings",
                 createFilter("player", superiorPlayer),
                 new Pair<>("toggled_border", superiorPlayer.hasWorldBorderEnabled())
         ));
     }
 
     public static void saveDisbands(SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("players",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.updateObject("players",
                 createFilter("uuid", superiorPlayer),
                 new Pair<>("disbands", superiorPlayer.getDisbands())
         ));
     }
 
     public static void saveToggledPanel(SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("players_settings",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.updateObject("players_settings",
                 createFilter("player", superiorPlayer),
                 new Pair<>("toggled_panel", superiorPlayer.hasToggledPanel())
         ));
     }
 
     public static void saveIslandFly(SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("players_settings",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.updateObject("players_settings",
                 createFilter("player", superiorPlayer),
                 new Pair<>("island_fly", superiorPlayer.hasIslandFlyEnabled())
         ));
     }
 
     public static void saveBorderColor(SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("players_settings",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.updateObject("players_settings",
                 createFilter("player", superiorPlayer),
                 new Pair<>("border_color", superiorPlayer.getBorderColor().name())
         ));
     }
 
     public static void saveLastTimeStatus(SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.updateObject("players",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.updateObject("players",
                 createFilter("uuid", superiorPlayer),
                 new Pair<>("last_time_updated", superiorPlayer.getLastTimeStatus())
         ));
     }
 
     public static void saveMission(SuperiorPlayer superiorPlayer, Mission<?> mission, int finishCount) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("players_missions",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.insertObject("players_missions",
                 new Pair<>("player", superiorPlayer.getUniqueId().toString()),
                 new Pair<>("name", mission.getName().toLowerCase(Locale.ENGLISH)),
                 new Pair<>("finish_count", finishCount)
@@ -115,25 +125,25 @@ public class PlayersDatabaseBridge {
     }
 
     public static void removeMission(SuperiorPlayer superiorPlayer, Mission<?> mission) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("players_missions",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.deleteObject("players_missions",
                 createFilter("player", superiorPlayer, new Pair<>("name", mission.getName().toLowerCase(Locale.ENGLISH)))
         ));
     }
 
     public static void savePersistentDataContainer(SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("players_custom_data",
+        runOperationIfRunning(superiorPlayer, databaseBridge -> databaseBridge.insertObject("players_custom_data",
                 new Pair<>("player", superiorPlayer.getUniqueId().toString()),
                 new Pair<>("data", superiorPlayer.getPersistentDataContainer().serialize())
         ));
     }
 
     public static void removePersistentDataContainer(SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge ->
+        runOperationIfRunning(superiorPlayer, databaseBridge ->
                 databaseBridge.deleteObject("players_custom_data", createFilter("player", superiorPlayer)));
     }
 
     public static void insertPlayer(SuperiorPlayer superiorPlayer) {
-        runOperationIfRunning(superiorPlayer.getDatabaseBridge(), databaseBridge -> {
+        runOperationIfRunning(superiorPlayer, databaseBridge -> {
             Locale userLocale = superiorPlayer.getUserLocale();
 
             databaseBridge.insertObject("players",
@@ -156,7 +166,7 @@ public class PlayersDatabaseBridge {
     }
 
     public static void replacePlayer(SuperiorPlayer originalPlayer, SuperiorPlayer newPlayer) {
-        DatabaseBridge playersReplacer = getGlobalPlayersBridge();
+        DatabaseBridge playersReplacer = createPlayersReplacer(originalPlayer);
 
         Pair<String, Object> uuidColumn = new Pair<>("uuid", newPlayer.getUniqueId().toString());
         DatabaseFilter uuidFilter = createFilter("uuid", originalPlayer);
@@ -180,7 +190,7 @@ public class PlayersDatabaseBridge {
     }
 
     public static void deletePlayer(SuperiorPlayer superiorPlayer) {
-        DatabaseBridge playersReplacer = getGlobalPlayersBridge();
+        DatabaseBridge playersReplacer = createPlayersReplacer(superiorPlayer);
 
         DatabaseFilter uuidFilter = createFilter("uuid", superiorPlayer);
         DatabaseFilter playerFilter = createFilter("player", superiorPlayer);
@@ -200,11 +210,21 @@ public class PlayersDatabaseBridge {
         playersReplacer.deleteObject("players_missions", playerFilter);
     }
 
+    private static DatabaseBridge createPlayersReplacer(SuperiorPlayer superiorPlayer) {
+        // The data of the player is spread between tables of islands and players.
+        // All the operations on it are done by the bridge of the player, so they are executed in order
+        // by the same database thread.
+        DatabaseBridge databaseBridge = plugin.getFactory().createDatabaseBridge(superiorPlayer);
+        databaseBridge.setDatabaseBridgeMode(DatabaseBridgeMode.SAVE_DATA);
+        return databaseBridge;
+    }
+
     public static void markPersistentDataContainerToBeSaved(SuperiorPlayer superiorPlayer) {
         Set<Object> varsForPersistentData = SAVE_METHODS_TO_BE_EXECUTED.computeIfAbsent(superiorPlayer.getUniqueId(), u -> new EnumMap<>(FutureSave.class))
                 .computeIfAbsent(FutureSave.PERSISTENT_DATA, e -> new HashSet<>());
         if (varsForPersistentData.isEmpty())
             varsForPersistentData.add(new Object());
+        notifyChangeListeners(superiorPlayer);
     }
 
     public static boolean isModified(SuperiorPlayer superiorPlayer) {
@@ -261,9 +281,17 @@ public class PlayersDatabaseBridge {
         return DatabaseFilter.fromFilters(filters);
     }
 
-    private static void runOperationIfRunning(DatabaseBridge databaseBridge, Consumer<DatabaseBridge> databaseBridgeConsumer) {
-        if (databaseBridge.getDatabaseBridgeMode() == DatabaseBridgeMode.SAVE_DATA)
+    private static void runOperationIfRunning(SuperiorPlayer superiorPlayer, Consumer<DatabaseBridge> databaseBridgeConsumer) {
+        DatabaseBridge databaseBridge = superiorPlayer.getDatabaseBridge();
+        if (databaseBridge.getDatabaseBridgeMode() == DatabaseBridgeMode.SAVE_DATA) {
             databaseBridgeConsumer.accept(databaseBridge);
+            notifyChangeListeners(superiorPlayer);
+        }
+    }
+
+    private static void notifyChangeListeners(SuperiorPlayer superiorPlayer) {
+        for (Consumer<SuperiorPlayer> changeListener : CHANGE_LISTENERS)
+            changeListener.accept(superiorPlayer);
     }
 
     public enum FutureSave {
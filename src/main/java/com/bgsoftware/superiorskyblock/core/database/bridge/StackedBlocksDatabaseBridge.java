@@ -5,17 +5,22 @@ import com.bgsoftware.superiorskyblock.api.data.DatabaseBridgeMode;
 import com.bgsoftware.superiorskyblock.api.data.DatabaseFilter;
 import com.bgsoftware.superiorskyblock.api.handlers.StackedBlocksManager;
 import com.bgsoftware.superiorskyblock.api.objects.Pair;
+import com.bgsoftware.superiorskyblock.core.LazyWorldLocation;
 import com.bgsoftware.superiorskyblock.core.serialization.Serializers;
 import com.bgsoftware.superiorskyblock.core.stackedblocks.StackedBlock;
+import org.bukkit.Location;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.function.Consumer;
 
 @SuppressWarnings("unchecked")
 public class StackedBlocksDatabaseBridge {
 
     public static void saveStackedBlock(StackedBlocksManager stackedBlocks, StackedBlock stackedBlock) {
+        // The chunk must be the first column, so the insert is ordered with the loading of the chunk.
         runOperationIfRunning(stackedBlocks.getDatabaseBridge(), databaseBridge -> databaseBridge.insertObject("stacked_blocks",
+                new Pair<>("chunk", getChunkKey(stackedBlock.getLocation())),
                 new Pair<>("location", Serializers.LOCATION_SPACED_SERIALIZER.serialize(stackedBlock.getLocation())),
                 new Pair<>("amount", stackedBlock.getAmount()),
                 new Pair<>("block_type", stackedBlock.getBlockKey().toString())
@@ -24,13 +29,31 @@ public class StackedBlocksDatabaseBridge {
 
     public static void deleteStackedBlock(StackedBlocksManager stackedBlocks, StackedBlock stackedBlock) {
         runOperationIfRunning(stackedBlocks.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("stacked_blocks",
-                createFilter(new Pair<>("location", Serializers.LOCATION_SPACED_SERIALIZER.serialize(stackedBlock.getLocation())))
+                createFilter(
+                        new Pair<>("chunk", getChunkKey(stackedBlock.getLocation())),
+                        new Pair<>("location", Serializers.LOCATION_SPACED_SERIALIZER.serialize(stackedBlock.getLocation()))
+                )
         ));
     }
 
-    public static void deleteStackedBlocks(StackedBlocksManager stackedBlocks) {
-        runOperationIfRunning(stackedBlocks.getDatabaseBridge(), databaseBridge ->
-                databaseBridge.deleteObject("stacked_blocks", null));
+    public static void deleteStackedBlocks(StackedBlocksManager stackedBlocks, String chunkKey) {
+        runOperationIfRunning(stackedBlocks.getDatabaseBridge(), databaseBridge -> databaseBridge.deleteObject("stacked_blocks",
+                createFilter(new Pair<>("chunk", chunkKey))
+        ));
+    }
+
+    public static void loadStackedBlocks(StackedBlocksManager stackedBlocks, String chunkKey,
+                                         Consumer<Map<String, Object>> resultConsumer) {
+        stackedBlocks.getDatabaseBridge().loadObject("stacked_blocks",
+                createFilter(new Pair<>("chunk", chunkKey)), resultConsumer);
+    }
+
+    public static String getChunkKey(Location location) {
+        return getChunkKey(LazyWorldLocation.getWorldName(location), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    public static String getChunkKey(String worldName, int chunkX, int chunkZ) {
+        return worldName + "," + chunkX + "," + chunkZ;
     }
 
     private static DatabaseFilter createFilter(Pair<String, Object>... others) {
@@ -1,14 +1,14 @@
 package com.bgsoftware.superiorskyblock.core.database.cache;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 public class DatabaseCache<V> {
 
-    private final Map<UUID, V> cache = new HashMap<>();
+    private final Map<UUID, V> cache = new ConcurrentHashMap<>();
 
     public DatabaseCache() {
 
@@ -2,21 +2,36 @@ package com.bgsoftware.superiorskyblock.core.database.loader.backup;
 
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.core.database.loader.DatabaseLoader;
-import com.bgsoftware.superiorskyblock.core.errors.ManagerLoadException;
+import com.bgsoftware.superiorskyblock.core.database.sql.SQLHelper;
+import com.bgsoftware.superiorskyblock.core.database.sql.session.QueryResult;
+import com.bgsoftware.superiorskyblock.core.database.sql.session.SQLSession;
+import com.bgsoftware.superiorskyblock.core.database.sql.session.impl.SQLiteSession;
 import com.bgsoftware.superiorskyblock.core.io.ZipFiles;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 
 import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
-
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Creates backups of the datastore folder in the background.
+ * The SQLite database is copied with the online backup API of SQLite, which results in a consistent
+ * snapshot of the database even while it is used. The snapshot then replaces the database files
+ * in the backup zip.
+ */
 public class BackupDatabase implements DatabaseLoader {
 
     private static final SimpleDateFormat BACKUP_FILE_NAME_DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
     private static final int MAX_BACKUP_FILES_PER_DAY = 1000;
+    private static final String DATABASE_FILE_NAME = "database.db";
 
+    private final AtomicBoolean backupRunning = new AtomicBoolean(false);
     private final SuperiorSkyblockPlugin plugin;
 
     public BackupDatabase(SuperiorSkyblockPlugin plugin) {
@@ -24,10 +39,29 @@ public class BackupDatabase implements DatabaseLoader {
     }
 
     @Override
-    public void setState(State state) throws ManagerLoadException {
+    public void setState(State state) {
         if (state != State.PRE_LOAD_DATA || !plugin.getSettings().getDatabase().isBackup())
             return;
 
+        BukkitExecutor.async(this::createBackup);
+
+        long backupInterval = plugin.getSettings().getDatabase().getBackupInterval();
+        if (backupInterval > 0)
+            BukkitExecutor.asyncTimer(this::createBackup, backupInterval * 60 * 20);
+    }
+
+    private void createBackup() {
+        if (!backupRunning.compareAndSet(false, true))
+            return;
+
+        try {
+            createBackupInternal();
+        } finally {
+            backupRunning.set(false);
+        }
+    }
+
+    private void createBackupInternal() {
         File datastoreFolder = new File(plugin.getDataFolder(), "datastore");
 
         if (!datastoreFolder.exists())
@@ -37,23 +71,84 @@ public class BackupDatabase implements DatabaseLoader {
 
         File backupFile = getBackupFile(currentTime, 1);
 
-        if (backupFile == null)
-            throw new ManagerLoadException("Could not create a backup file as file already exists", ManagerLoadException.ErrorLevel.SERVER_SHUTDOWN);
+        if (backupFile == null) {
+            Log.warn("Could not create a backup file as file already exists");
+            return;
+        }
 
         Log.info("Creating a backup file...");
 
         backupFile.getParentFile().mkdirs();
 
+        File databaseSnapshot = new File(backupFile.getParentFile(), backupFile.getName() + ".db");
+
         try {
-            ZipFiles.zipFolder(datastoreFolder, backupFile);
-        } catch (IOException error) {
+            boolean hasSnapshot = createDatabaseSnapshot(databaseSnapshot);
+
+            ZipFiles.zipFolder(datastoreFolder, backupFile, file -> {
+                if (!hasSnapshot || !file.getParentFile().equals(datastoreFolder) ||
+                        !file.getName().startsWith(DATABASE_FILE_NAME))
+                    return file;
+
+                // The journal files of the database are already part of the snapshot.
+                return file.getName().equals(DATABASE_FILE_NAME) ? databaseSnapshot : null;
+            });
+        } catch (Throwable error) {
             backupFile.delete();
-            throw new ManagerLoadException(error, ManagerLoadException.ErrorLevel.SERVER_SHUTDOWN);
+            Log.error(error, "An unexpected error occurred while creating a backup file:");
+            return;
+        } finally {
+            databaseSnapshot.delete();
         }
 
+        deleteOldBackups(backupFile.getParentFile());
+
         Log.info("Backup done!");
     }
 
+    private boolean createDatabaseSnapshot(File snapshotFile) throws Throwable {
+        if (!SQLHelper.isReady() || SQLHelper.isRemoteSession())
+            return false;
+
+        SQLSession session = SQLHelper.createSession(plugin, false);
+
+        if (!(session instanceof SQLiteSession) || !session.createConnection())
+            return false;
+
+        Throwable[] backupError = new Throwable[1];
+
+        try {
+            ((SQLiteSession) session).backup(snapshotFile, new QueryResult<Void>()
+                    .onFail(error -> backupError[0] = error));
+        } finally {
+            session.closeConnection();
+        }
+
+        if (backupError[0] != null)
+            throw backupError[0];
+
+        return true;
+    }
+
+    private void deleteOldBackups(File backupFolder) {
+        int backupRetention = plugin.getSettings().getDatabase().getBackupRetention();
+
+        if (backupRetention <= 0)
+            return;
+
+        File[] backupFiles = backupFolder.listFiles((folder, fileName) -> fileName.endsWith(".zip"));
+
+        if (backupFiles == null || backupFiles.length <= backupRetention)
+            return;
+
+        Arrays.sort(backupFiles, Comparator.comparingLong(File::lastModified));
+
+        for (int i = 0; i < backupFiles.length - backupRetention; ++i) {
+            if (!backupFiles[i].delete())
+                Log.warn("Could not delete old backup file ", backupFiles[i].getName());
+        }
+    }
+
     @Nullable
     private File getBackupFile(String time, int attempt) {
         File file = new File(plugin.getDataFolder(), String.format("backup/%s%s.zip", time,
@@ -3,12 +3,21 @@ package com.bgsoftware.superiorskyblock.core.database.loader.sql;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.core.database.bridge.GridDatabaseBridge;
+import com.bgsoftware.superiorskyblock.core.database.bridge.StackedBlocksDatabaseBridge;
 import com.bgsoftware.superiorskyblock.core.database.loader.MachineStateDatabaseLoader;
 import com.bgsoftware.superiorskyblock.core.database.sql.SQLHelper;
+import com.bgsoftware.superiorskyblock.core.database.sql.StatementHolder;
+import com.bgsoftware.superiorskyblock.core.database.sql.WriteBehindQueue;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.QueryResult;
 import com.bgsoftware.superiorskyblock.core.errors.ManagerLoadException;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.serialization.Serializers;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import org.bukkit.Location;
 
 import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class SQLDatabaseLoader extends MachineStateDatabaseLoader {
 
@@ -30,6 +39,10 @@ public class SQLDatabaseLoader extends MachineStateDatabaseLoader {
                     ManagerLoadException.ErrorLevel.SERVER_SHUTDOWN);
         }
 
+        // SQLite supports only one writer at a time, so only remote databases can use multiple threads.
+        if (SQLHelper.isRemoteSession())
+            BukkitExecutor.setDatabaseThreads(plugin.getSettings().getDatabase().getThreads());
+
         createIslandsTable();
         createPlayersTable();
         createGridTable();
@@ -101,20 +114,29 @@ public class SQLDatabaseLoader extends MachineStateDatabaseLoader {
 
         SQLHelper.createIndex("players_missions_index", "players_missions",
                 "player", "name");
+
+        SQLHelper.createIndex("stacked_blocks_chunk_index", "stacked_blocks", false,
+                "chunk");
     }
 
     @Override
     protected void handlePreLoadData() {
-        SQLHelper.setJournalMode("MEMORY", QueryResult.EMPTY_QUERY_RESULT);
+        updateStackedBlocksChunks();
+
+        // Write-ahead logging keeps the database consistent on crashes, and lets backups and
+        // parallel loading read the database while it is written to.
+        if (!SQLHelper.isRemoteSession())
+            SQLHelper.setJournalMode("WAL", QueryResult.EMPTY_QUERY_RESULT);
     }
 
     @Override
     protected void handlePostLoadData() {
-        SQLHelper.setJournalMode("DELETE", QueryResult.EMPTY_QUERY_RESULT);
+        WriteBehindQueue.start(plugin);
     }
 
     @Override
     protected void handleShutdown() {
+        WriteBehindQueue.stop();
         SQLHelper.close();
     }
 
@@ -368,13 +390,42 @@ public class SQLDatabaseLoader extends MachineStateDatabaseLoader {
         SQLHelper.createTable("stacked_blocks",
                 new Pair<>("location", "LONG_UNIQUE_TEXT PRIMARY KEY"),
                 new Pair<>("block_type", "TEXT"),
-                new Pair<>("amount", "INTEGER")
+                new Pair<>("amount", "INTEGER"),
+                new Pair<>("chunk", "LONG_UNIQUE_TEXT")
         );
         // Before v1.8.1.363, location column of stacked_blocks was limited to 30 chars.
         // In order to make sure all tables keep the large number, we modify the column to 255-chars long
         // each time the plugin attempts to create the table.
         // https://github.com/BG-Software-LLC/SuperiorSkyblock2/issues/730
         SQLHelper.modifyColumnType("stacked_blocks", "location", "LONG_UNIQUE_TEXT");
+        // Before the chunk column was added, stacked blocks were always loaded all together.
+        // Existing rows are assigned to their chunks before data is loaded.
+        SQLHelper.addColumn("stacked_blocks", "chunk", "LONG_UNIQUE_TEXT");
+    }
+
+    private void updateStackedBlocksChunks() {
+        // Stacked blocks that were saved before the chunk column was added, or that were converted from
+        // older databases, are assigned to their chunks. The chunk column is indexed, so finding these rows
+        // does not scan the table.
+        Map<String, String> missingChunkKeys = new LinkedHashMap<>();
+
+        SQLHelper.select("stacked_blocks", " WHERE chunk IS NULL", new QueryResult<ResultSet>().onSuccess(resultSet -> {
+            while (resultSet.next()) {
+                String serializedLocation = resultSet.getString("location");
+                Location location = Serializers.LOCATION_SPACED_SERIALIZER.deserialize(serializedLocation);
+                if (location != null)
+                    missingChunkKeys.put(serializedLocation, StackedBlocksDatabaseBridge.getChunkKey(location));
+            }
+        }).onFail(QueryResult.PRINT_ERROR));
+
+        if (missingChunkKeys.isEmpty())
+            return;
+
+        Log.info("Updating chunks of ", missingChunkKeys.size(), " stacked blocks...");
+
+        StatementHolder updateQuery = new StatementHolder("UPDATE {prefix}stacked_blocks SET chunk=? WHERE location=?;");
+        missingChunkKeys.forEach((location, chunkKey) -> updateQuery.setObject(chunkKey).setObject(location).addBatch());
+        updateQuery.executeBatch(false);
     }
 
 }
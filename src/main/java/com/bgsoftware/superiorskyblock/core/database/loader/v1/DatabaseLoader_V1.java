@@ -312,7 +312,7 @@ public class DatabaseLoader_V1 extends MachineStateDatabaseLoader {
     private void saveStackedBlocks() {
         Log.info("[Database-Converter] Converting stacked blocks...");
 
-        StatementHolder insertQuery = new StatementHolder("REPLACE INTO {prefix}stacked_blocks VALUES(?,?,?)");
+        StatementHolder insertQuery = new StatementHolder("REPLACE INTO {prefix}stacked_blocks (location,block_type,amount) VALUES(?,?,?)");
 
         for (StackedBlockAttributes stackedBlockAttributes : loadedBlocks) {
             insertQuery
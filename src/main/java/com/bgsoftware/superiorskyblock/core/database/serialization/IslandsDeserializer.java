@@ -32,11 +32,14 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Optional;
@@ -284,6 +287,9 @@ public class IslandsDeserializer {
         if (Text.isBlank(dirtyChunks))
             return;
 
+        if (dirtyChunks.charAt(0) == '{' && streamDirtyChunks(builder, dirtyChunks))
+            return;
+
         try {
             JsonObject dirtyChunksObject = gson.fromJson(dirtyChunks, JsonObject.class);
             dirtyChunksObject.entrySet().forEach(dirtyChunkEntry -> {
@@ -330,6 +336,9 @@ public class IslandsDeserializer {
         if (Text.isBlank(blocks))
             return;
 
+        if (blocks.charAt(0) == '[' && streamBlockCounts(builder, blocks))
+            return;
+
         JsonArray blockCounts;
 
         try {
@@ -346,6 +355,81 @@ public class IslandsDeserializer {
         });
     }
 
+    /**
+     * Decode block counts in the format of {@link IslandsSerializer#serializeBlockCounts} directly
+     * into the builder, without building json objects for them.
+     *
+     * @return Whether the block counts were decoded.
+     * If false, they should be decoded again using the old formats.
+     */
+    private static boolean streamBlockCounts(Island.Builder builder, String blocks) {
+        try (JsonReader reader = new JsonReader(new StringReader(blocks))) {
+            reader.beginArray();
+
+            while (reader.hasNext()) {
+                String block = null;
+                String amount = null;
+
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "id":
+                            block = reader.nextString();
+                            break;
+                        case "amount":
+                            amount = reader.nextString();
+                            break;
+                        default:
+                            reader.skipValue();
+                            break;
+                    }
+                }
+                reader.endObject();
+
+                if (block != null && amount != null)
+                    builder.setBlockCount(KeyImpl.of(block), new BigInteger(amount));
+            }
+
+            reader.endArray();
+
+            return true;
+        } catch (IOException | IllegalStateException | NumberFormatException error) {
+            return false;
+        }
+    }
+
+    /**
+     * Decode dirty chunks in the format of {@link IslandsSerializer#serializeDirtyChunks} directly
+     * into the builder, without building json objects for them.
+     *
+     * @return Whether the dirty chunks were decoded.
+     * If false, they should be decoded again using the old formats.
+     */
+    private static boolean streamDirtyChunks(Island.Builder builder, String dirtyChunks) {
+        try (JsonReader reader = new JsonReader(new StringReader(dirtyChunks))) {
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                String worldName = reader.nextName();
+
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    String chunkPosition = reader.nextString();
+                    int separator = chunkPosition.indexOf(',');
+                    builder.setDirtyChunk(worldName, Integer.parseInt(chunkPosition.substring(0, separator)),
+                            Integer.parseInt(chunkPosition.substring(separator + 1)));
+                }
+                reader.endArray();
+            }
+
+            reader.endObject();
+
+            return true;
+        } catch (IOException | IllegalStateException | IndexOutOfBoundsException | NumberFormatException error) {
+            return false;
+        }
+    }
+
     public static void deserializeBlockLimits(DatabaseBridge databaseBridge, DatabaseCache<Island.Builder> databaseCache) {
         databaseBridge.loadAllObjects("islands_block_limits", blockLimitRow -> {
             DatabaseResult blockLimits = new DatabaseResult(blockLimitRow);
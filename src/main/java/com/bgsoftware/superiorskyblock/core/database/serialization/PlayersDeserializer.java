@@ -2,6 +2,7 @@ package com.bgsoftware.superiorskyblock.core.database.serialization;
 
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.data.DatabaseBridge;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseFilter;
 import com.bgsoftware.superiorskyblock.api.enums.BorderColor;
 import com.bgsoftware.superiorskyblock.api.missions.Mission;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
@@ -10,6 +11,7 @@ import com.bgsoftware.superiorskyblock.core.database.cache.DatabaseCache;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.player.PlayerLocales;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,79 +24,109 @@ public class PlayersDeserializer {
     }
 
     public static void deserializeMissions(DatabaseBridge databaseBridge, DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
-        databaseBridge.loadAllObjects("players_missions", missionsRow -> {
-            DatabaseResult missions = new DatabaseResult(missionsRow);
+        databaseBridge.loadAllObjects("players_missions", missionsRow -> deserializeMission(missionsRow, databaseCache));
+    }
+
+    public static void deserializeMissions(DatabaseBridge databaseBridge, UUID playerUUID,
+                                           DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
+        databaseBridge.loadObject("players_missions", createFilter(playerUUID),
+                missionsRow -> deserializeMission(missionsRow, databaseCache));
+    }
 
-            Optional<String> player = missions.getString("player");
+    public static void deserializePlayerSettings(DatabaseBridge databaseBridge, DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
+        databaseBridge.loadAllObjects("players_settings", playerSettingsRow ->
+                deserializePlayerSettings(playerSettingsRow, databaseCache));
+    }
 
-            if (!player.isPresent()) {
-                Log.warn("Cannot load player mission of null player, skipping...");
-                return;
-            }
+    public static void deserializePlayerSettings(DatabaseBridge databaseBridge, UUID playerUUID,
+                                                 DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
+        databaseBridge.loadObject("players_settings", createFilter(playerUUID),
+                playerSettingsRow -> deserializePlayerSettings(playerSettingsRow, databaseCache));
+    }
+
+    public static void deserializePersistentDataContainer(DatabaseBridge databaseBridge, DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
+        databaseBridge.loadAllObjects("players_custom_data", customDataRow ->
+                deserializePersistentDataContainer(customDataRow, databaseCache));
+    }
+
+    public static void deserializePersistentDataContainer(DatabaseBridge databaseBridge, UUID playerUUID,
+                                                          DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
+        databaseBridge.loadObject("players_custom_data", createFilter(playerUUID),
+                customDataRow -> deserializePersistentDataContainer(customDataRow, databaseCache));
+    }
 
-            UUID uuid = UUID.fromString(player.get());
-            SuperiorPlayer.Builder builder = databaseCache.computeIfAbsentInfo(uuid, SuperiorPlayer::newBuilder);
+    private static void deserializeMission(Map<String, Object> missionsRow, DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
+        DatabaseResult missions = new DatabaseResult(missionsRow);
 
-            Optional<String> name = missions.getString("name");
+        Optional<String> player = missions.getString("player");
 
-            if (!name.isPresent()) {
-                Log.warn("Cannot load player mission of null mission for ", uuid, ", skipping...");
-                return;
-            }
+        if (!player.isPresent()) {
+            Log.warn("Cannot load player mission of null player, skipping...");
+            return;
+        }
 
-            Optional<Integer> finishCount = missions.getInt("finish_count");
+        UUID uuid = UUID.fromString(player.get());
+        SuperiorPlayer.Builder builder = databaseCache.computeIfAbsentInfo(uuid, SuperiorPlayer::newBuilder);
 
-            if (!finishCount.isPresent()) {
-                Log.warn("Cannot load player mission of invalid finish count for ", uuid, ", skipping...");
-                return;
-            }
+        Optional<String> name = missions.getString("name");
 
-            Mission<?> mission = plugin.getMissions().getMission(name.get());
+        if (!name.isPresent()) {
+            Log.warn("Cannot load player mission of null mission for ", uuid, ", skipping...");
+            return;
+        }
 
-            if (mission != null)
-                builder.setCompletedMission(mission, finishCount.get());
-        });
+        Optional<Integer> finishCount = missions.getInt("finish_count");
+
+        if (!finishCount.isPresent()) {
+            Log.warn("Cannot load player mission of invalid finish count for ", uuid, ", skipping...");
+            return;
+        }
+
+        Mission<?> mission = plugin.getMissions().getMission(name.get());
+
+        if (mission != null)
+            builder.setCompletedMission(mission, finishCount.get());
     }
 
-    public static void deserializePlayerSettings(DatabaseBridge databaseBridge, DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
-        databaseBridge.loadAllObjects("players_settings", playerSettingsRow -> {
-            DatabaseResult playerSettings = new DatabaseResult(playerSettingsRow);
-
-            Optional<String> player = playerSettings.getString("player");
-
-            if (!player.isPresent()) {
-                Log.warn("&cCannot load player settings of null player, skipping...");
-                return;
-            }
-
-            UUID uuid = UUID.fromString(player.get());
-            SuperiorPlayer.Builder builder = databaseCache.computeIfAbsentInfo(uuid, SuperiorPlayer::newBuilder);
-            playerSettings.getBoolean("toggled_panel").ifPresent(builder::setToggledPanel);
-            playerSettings.getBoolean("island_fly").ifPresent(builder::setIslandFly);
-            playerSettings.getEnum("border_color", BorderColor.class).ifPresent(builder::setBorderColor);
-            playerSettings.getString("language").map(PlayerLocales::getLocale).ifPresent(builder::setLocale);
-            playerSettings.getBoolean("toggled_border").ifPresent(builder::setWorldBorderEnabled);
-        });
+    private static void deserializePlayerSettings(Map<String, Object> playerSettingsRow, DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
+        DatabaseResult playerSettings = new DatabaseResult(playerSettingsRow);
+
+        Optional<String> player = playerSettings.getString("player");
+
+        if (!player.isPresent()) {
+            Log.warn("&cCannot load player settings of null player, skipping...");
+            return;
+        }
+
+        UUID uuid = UUID.fromString(player.get());
+        SuperiorPlayer.Builder builder = databaseCache.computeIfAbsentInfo(uuid, SuperiorPlayer::newBuilder);
+        playerSettings.getBoolean("toggled_panel").ifPresent(builder::setToggledPanel);
+        playerSettings.getBoolean("island_fly").ifPresent(builder::setIslandFly);
+        playerSettings.getEnum("border_color", BorderColor.class).ifPresent(builder::setBorderColor);
+        playerSettings.getString("language").map(PlayerLocales::getLocale).ifPresent(builder::setLocale);
+        playerSettings.getBoolean("toggled_border").ifPresent(builder::setWorldBorderEnabled);
     }
 
-    public static void deserializePersistentDataContainer(DatabaseBridge databaseBridge, DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
-        databaseBridge.loadAllObjects("players_custom_data", customDataRow -> {
-            DatabaseResult customData = new DatabaseResult(customDataRow);
+    private static void deserializePersistentDataContainer(Map<String, Object> customDataRow, DatabaseCache<SuperiorPlayer.Builder> databaseCache) {
+        DatabaseResult customData = new DatabaseResult(customDataRow);
 
-            Optional<UUID> uuid = customData.getUUID("player");
-            if (!uuid.isPresent()) {
-                Log.warn("&cCannot load custom data for null players, skipping...");
-                return;
-            }
+        Optional<UUID> uuid = customData.getUUID("player");
+        if (!uuid.isPresent()) {
+            Log.warn("&cCannot load custom data for null players, skipping...");
+            return;
+        }
 
-            byte[] persistentData = customData.getBlob("data").orElse(new byte[0]);
+        byte[] persistentData = customData.getBlob("data").orElse(new byte[0]);
 
-            if (persistentData.length == 0)
-                return;
+        if (persistentData.length == 0)
+            return;
+
+        SuperiorPlayer.Builder builder = databaseCache.computeIfAbsentInfo(uuid.get(), SuperiorPlayer::newBuilder);
+        builder.setPersistentData(persistentData);
+    }
 
-            SuperiorPlayer.Builder builder = databaseCache.computeIfAbsentInfo(uuid.get(), SuperiorPlayer::newBuilder);
-            builder.setPersistentData(persistentData);
-        });
+    private static DatabaseFilter createFilter(UUID playerUUID) {
+        return DatabaseFilter.fromFilter("player", playerUUID.toString());
     }
 
 }
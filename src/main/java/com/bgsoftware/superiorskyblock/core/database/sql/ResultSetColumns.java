@@ -0,0 +1,58 @@
+package com.bgsoftware.superiorskyblock.core.database.sql;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The columns of a result set, resolved once for all of its rows.
+ * Column lookups by name are resolved to their index without going through the driver.
+ */
+public class ResultSetColumns {
+
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+
+    private ResultSetColumns(String[] names) {
+        this.names = names;
+        this.indexes = new HashMap<>(names.length * 4);
+        for (int i = 0; i < names.length; ++i) {
+            this.indexes.put(names[i], i);
+            // Column lookups of result sets are case-insensitive.
+            this.indexes.putIfAbsent(names[i].toLowerCase(Locale.ENGLISH), i);
+        }
+    }
+
+    public static ResultSetColumns of(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        String[] names = new String[metaData.getColumnCount()];
+        for (int i = 0; i < names.length; ++i)
+            names[i] = metaData.getColumnLabel(i + 1);
+        return new ResultSetColumns(names);
+    }
+
+    public int size() {
+        return this.names.length;
+    }
+
+    public String getName(int index) {
+        return this.names[index];
+    }
+
+    /**
+     * Get the index of a column.
+     *
+     * @param name The name of the column.
+     * @return The index of the column, starting from 0, or -1 if there is no such column.
+     */
+    public int indexOf(String name) {
+        Integer index = this.indexes.get(name);
+        if (index == null)
+            index = this.indexes.get(name.toLowerCase(Locale.ENGLISH));
+        return index == null ? -1 : index;
+    }
+
+}
@@ -12,6 +12,8 @@ import java.util.Set;
 public class ResultSetMapBridge implements Map<String, Object> {
 
     private final ResultSet resultSet;
+    @Nullable
+    private ResultSetColumns columns;
 
     public ResultSetMapBridge(ResultSet resultSet) {
         this.resultSet = resultSet;
@@ -94,9 +96,32 @@ public class ResultSetMapBridge implements Map<String, Object> {
         throw new UnsupportedOperationException("This operation is not supported on this map.");
     }
 
+    /**
+     * Copy the values of the current row, so they can be accessed after the result set moves on.
+     */
+    public Map<String, Object> copy() throws SQLException {
+        ResultSetColumns columns = getColumns();
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = resultSet.getObject(i + 1);
+        return new ResultSetRow(columns, values);
+    }
+
     private <T> T get(String key) throws SQLException {
+        int index = getColumns().indexOf(key);
+
+        if (index < 0)
+            throw new SQLException("no such column: '" + key + "'");
+
         // noinspection all
-        return (T) resultSet.getObject(key);
+        return (T) resultSet.getObject(index + 1);
+    }
+
+    private ResultSetColumns getColumns() throws SQLException {
+        // The columns are resolved once, as the bridge is reused for all the rows of the result set.
+        if (this.columns == null)
+            this.columns = ResultSetColumns.of(this.resultSet);
+        return this.columns;
     }
 
     private <T> T getSafe(String key) {
@@ -0,0 +1,75 @@
+package com.bgsoftware.superiorskyblock.core.database.sql;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A copy of the values of a row in a result set.
+ * The columns are shared between all the rows of the result set, and the values are stored by their index.
+ */
+public class ResultSetRow extends AbstractMap<String, Object> {
+
+    private final ResultSetColumns columns;
+    private final Object[] values;
+
+    ResultSetRow(ResultSetColumns columns, Object[] values) {
+        this.columns = columns;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && this.columns.indexOf(key.toString()) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key == null)
+            return null;
+
+        int index = this.columns.indexOf(key.toString());
+        return index < 0 ? null : this.values[index];
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.index < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+                        int index = this.index++;
+                        return new SimpleImmutableEntry<>(columns.getName(index), values[index]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+}
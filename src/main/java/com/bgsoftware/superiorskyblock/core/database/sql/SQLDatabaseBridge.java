@@ -7,18 +7,35 @@ import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.core.Mutable;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.QueryResult;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 
+import javax.annotation.Nullable;
 import java.sql.ResultSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public class SQLDatabaseBridge implements DatabaseBridge {
 
+    @Nullable
+    private final Object orderingKey;
     private DatabaseBridgeMode databaseBridgeMode = DatabaseBridgeMode.IDLE;
     private StatementHolder batchStatementHolder;
 
     public SQLDatabaseBridge() {
+        this(null);
+    }
 
+    /**
+     * Create a database bridge for an object.
+     * All the statements of the bridge are executed in order by the database thread of the object.
+     *
+     * @param orderingKey The key of the object, usually the uuid of the island or the player.
+     *                    If null, the key of each statement is taken from its data.
+     */
+    public SQLDatabaseBridge(@Nullable Object orderingKey) {
+        this.orderingKey = orderingKey;
     }
 
     private static String getColumnFilter(DatabaseFilter filter) {
@@ -35,12 +52,28 @@ public class SQLDatabaseBridge implements DatabaseBridge {
         return columnIdentifier.toString();
     }
 
+    @Nullable
+    private Object getOrderingKey(@Nullable DatabaseFilter filter) {
+        if (this.orderingKey != null)
+            return this.orderingKey;
+
+        // The first filter is usually the uuid of the island or the player that the data belongs to.
+        if (filter != null) {
+            Iterator<Pair<String, Object>> filters = filter.getFilters().iterator();
+            if (filters.hasNext())
+                return filters.next().getValue() + "";
+        }
+
+        return null;
+    }
+
     @Override
     public void loadAllObjects(String table, Consumer<Map<String, Object>> resultConsumer) {
         SQLHelper.select(table, "", new QueryResult<ResultSet>().onSuccess(resultSet -> {
+            ResultSetMapBridge row = new ResultSetMapBridge(resultSet);
             while (resultSet.next()) {
                 try {
-                    resultConsumer.accept(new ResultSetMapBridge(resultSet));
+                    resultConsumer.accept(row);
                 } catch (Exception error) {
                     Log.entering("ENTER", table);
                     Log.error(error, "An unexpected error occurred while loading data from database:");
@@ -52,9 +85,10 @@ public class SQLDatabaseBridge implements DatabaseBridge {
     @Override
     public void batchOperations(boolean batchOperations) {
         if (batchOperations) {
-            batchStatementHolder = new StatementHolder("");
+            batchStatementHolder = new StatementHolder("").setOrderingKey(this.orderingKey);
         } else if (batchStatementHolder != null) {
-            batchStatementHolder.executeBatch(true);
+            if (batchStatementHolder.hasBatches() && !WriteBehindQueue.enqueue(null, batchStatementHolder))
+                batchStatementHolder.executeBatch(true);
             batchStatementHolder = null;
         }
     }
@@ -81,11 +115,16 @@ public class SQLDatabaseBridge implements DatabaseBridge {
             statementHolder.setObject(column.getValue());
         }
 
+        StringBuilder coalesceKey = new StringBuilder(query);
+
         if (filter != null) {
-            filter.forEach((column, value) -> statementHolder.setObject(value + ""));
+            filter.forEach((column, value) -> {
+                statementHolder.setObject(value + "");
+                coalesceKey.append('\0').append(value);
+            });
         }
 
-        executeStatementHolder(statementHolder);
+        executeStatementHolder(statementHolder, coalesceKey.toString(), getOrderingKey(filter));
     }
 
     @Override
@@ -112,7 +151,9 @@ public class SQLDatabaseBridge implements DatabaseBridge {
             statementHolder.setObject(column.getValue());
         }
 
-        executeStatementHolder(statementHolder);
+        // The first column is usually the uuid of the island or the player that the data belongs to.
+        executeStatementHolder(statementHolder, null, this.orderingKey != null ? this.orderingKey :
+                columns.length == 0 ? null : columns[0].getValue() + "");
     }
 
     @Override
@@ -128,11 +169,38 @@ public class SQLDatabaseBridge implements DatabaseBridge {
             filter.forEach((column, value) -> statementHolder.setObject(value + ""));
         }
 
-        executeStatementHolder(statementHolder);
+        executeStatementHolder(statementHolder, null, getOrderingKey(filter));
     }
 
     @Override
     public void loadObject(String table, DatabaseFilter filter, Consumer<Map<String, Object>> resultConsumer) {
+        Object orderingKey = getOrderingKey(filter);
+
+        // Pending writes of the object must be executed before it is loaded, otherwise the loaded data may be
+        // outdated. Therefore, the object is flushed and loaded as a single task by the database thread that
+        // executes its writes. Database threads never wait for each other, so they load the object by themselves.
+        if (!WriteBehindQueue.isEnabled() || BukkitExecutor.isDataThread()) {
+            loadObjectNow(orderingKey, table, filter, resultConsumer);
+            return;
+        }
+
+        CompletableFuture<Void> loadResult = new CompletableFuture<>();
+
+        BukkitExecutor.data(orderingKey, () -> {
+            try {
+                loadObjectNow(orderingKey, table, filter, resultConsumer);
+            } finally {
+                loadResult.complete(null);
+            }
+        });
+
+        loadResult.join();
+    }
+
+    private void loadObjectNow(@Nullable Object orderingKey, String table, DatabaseFilter filter,
+                               Consumer<Map<String, Object>> resultConsumer) {
+        WriteBehindQueue.flush(orderingKey);
+
         Mutable<String> columnFilter = new Mutable<>(getColumnFilter(filter));
 
         filter.forEach((column, value) -> {
@@ -141,9 +209,10 @@ public class SQLDatabaseBridge implements DatabaseBridge {
         });
 
         SQLHelper.select(table, columnFilter.getValue(), new QueryResult<ResultSet>().onSuccess(resultSet -> {
+            ResultSetMapBridge row = new ResultSetMapBridge(resultSet);
             while (resultSet.next()) {
                 try {
-                    resultConsumer.accept(new ResultSetMapBridge(resultSet));
+                    resultConsumer.accept(row);
                 } catch (Exception error) {
                     Log.entering("ENTER", table, columnFilter);
                     Log.error(error, "An unexpected error occurred while loading data from database:");
@@ -171,12 +240,20 @@ public class SQLDatabaseBridge implements DatabaseBridge {
         }
     }
 
-    private void executeStatementHolder(StatementHolder statementHolder) {
+    private void executeStatementHolder(StatementHolder statementHolder, @Nullable String coalesceKey,
+                                        @Nullable Object orderingKey) {
         if (batchStatementHolder == statementHolder) {
+            // The batch is executed by the database thread of its first statement.
+            if (statementHolder.getOrderingKey() == null)
+                statementHolder.setOrderingKey(orderingKey);
             statementHolder.addBatch();
-        } else {
-            statementHolder.execute(true);
+            return;
         }
+
+        statementHolder.setOrderingKey(orderingKey);
+
+        if (!WriteBehindQueue.enqueue(coalesceKey, statementHolder))
+            statementHolder.execute(true);
     }
 
 }
@@ -2,7 +2,9 @@ package com.bgsoftware.superiorskyblock.core.database.sql;
 
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.objects.Pair;
+import com.bgsoftware.superiorskyblock.core.Mutable;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.QueryResult;
+import com.bgsoftware.superiorskyblock.core.database.sql.session.RemoteSQLSession;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.SQLSession;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.impl.MariaDBSession;
 import com.bgsoftware.superiorskyblock.core.database.sql.session.impl.MySQLSession;
@@ -10,9 +12,12 @@ import com.bgsoftware.superiorskyblock.core.database.sql.session.impl.SQLiteSess
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 
 public class SQLHelper {
 
+    private static final ThreadLocal<SQLSession> readSession = new ThreadLocal<>();
+
     private static SQLSession globalSession = null;
 
     private SQLHelper() {
@@ -23,6 +28,10 @@ public class SQLHelper {
         return globalSession != null;
     }
 
+    public static boolean isRemoteSession() {
+        return globalSession instanceof RemoteSQLSession;
+    }
+
     public static void waitForConnection() {
         if (isReady())
             globalSession.waitForConnection();
@@ -50,14 +59,81 @@ public class SQLHelper {
         return false;
     }
 
+    /**
+     * Run the reads of the current thread on a separate connection to the database.
+     * Remote sessions already take a connection from their pool for every query, so they are used as-is.
+     *
+     * @param plugin   The plugin instance.
+     * @param runnable The reads to run.
+     */
+    public static void runWithReadConnection(SuperiorSkyblockPlugin plugin, Runnable runnable) {
+        if (!isReady() || isRemoteSession() || readSession.get() != null) {
+            runnable.run();
+            return;
+        }
+
+        SQLSession session = createSession(plugin, false);
+
+        if (!session.createConnection()) {
+            runnable.run();
+            return;
+        }
+
+        readSession.set(session);
+
+        try {
+            runnable.run();
+        } finally {
+            readSession.remove();
+            session.closeConnection();
+        }
+    }
+
     public static void createTable(String tableName, Pair<String, String>... columns) {
         if (isReady())
             globalSession.createTable(tableName, columns, QueryResult.EMPTY_VOID_QUERY_RESULT);
     }
 
     public static void createIndex(String indexName, String tableName, String... columns) {
+        createIndex(indexName, tableName, true, columns);
+    }
+
+    public static void createIndex(String indexName, String tableName, boolean unique, String... columns) {
         if (isReady())
-            globalSession.createIndex(indexName, tableName, columns, QueryResult.EMPTY_VOID_QUERY_RESULT);
+            globalSession.createIndex(indexName, tableName, columns, unique, QueryResult.EMPTY_VOID_QUERY_RESULT);
+    }
+
+    /**
+     * Add a column to a table, if the table does not have it already.
+     *
+     * @return Whether the column was added.
+     */
+    public static boolean addColumn(String tableName, String columnName, String type) {
+        if (!isReady() || hasColumn(tableName, columnName))
+            return false;
+
+        globalSession.addColumn(tableName, columnName, type, QueryResult.EMPTY_VOID_QUERY_RESULT);
+        return true;
+    }
+
+    public static boolean hasColumn(String tableName, String columnName) {
+        if (!isReady())
+            return false;
+
+        Mutable<Boolean> hasColumn = new Mutable<>(false);
+
+        globalSession.customQuery("SELECT * FROM {prefix}" + tableName + " LIMIT 0;",
+                new QueryResult<PreparedStatement>().onSuccess(preparedStatement -> {
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        ResultSetMetaData metaData = resultSet.getMetaData();
+                        for (int column = 1; column <= metaData.getColumnCount() && !hasColumn.getValue(); ++column) {
+                            if (metaData.getColumnName(column).equalsIgnoreCase(columnName))
+                                hasColumn.setValue(true);
+                        }
+                    }
+                }).onFail(QueryResult.PRINT_ERROR));
+
+        return hasColumn.getValue();
     }
 
     public static void modifyColumnType(String tableName, String columnName, String newType) {
@@ -71,8 +147,10 @@ public class SQLHelper {
     }
 
     public static void select(String tableName, String filters, QueryResult<ResultSet> queryResult) {
-        if (isReady())
-            globalSession.select(tableName, filters, queryResult);
+        if (isReady()) {
+            SQLSession session = readSession.get();
+            (session == null ? globalSession : session).select(tableName, filters, queryResult);
+        }
     }
 
     public static void setJournalMode(String jounralMode, QueryResult<ResultSet> queryResult) {
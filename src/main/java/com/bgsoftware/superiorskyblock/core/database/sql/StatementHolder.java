@@ -8,6 +8,7 @@ import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.core.logging.StackTrace;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 
+import javax.annotation.Nullable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -23,6 +24,8 @@ public class StatementHolder {
 
     private final List<Object> values = new LinkedList<>();
     private String query;
+    @Nullable
+    private Object orderingKey;
 
     public StatementHolder(String statement) {
         setQuery(statement);
@@ -32,6 +35,34 @@ public class StatementHolder {
         this.query = query;
     }
 
+    /**
+     * Set the key of the data this statement modifies.
+     * Statements with the same key are executed in the order they were made.
+     *
+     * @param orderingKey The key of the statement, usually the uuid of the island or the player.
+     */
+    public StatementHolder setOrderingKey(@Nullable Object orderingKey) {
+        this.orderingKey = orderingKey;
+        return this;
+    }
+
+    @Nullable
+    Object getOrderingKey() {
+        return this.orderingKey;
+    }
+
+    String getQuery() {
+        return this.query;
+    }
+
+    List<Object> getValues() {
+        return this.values;
+    }
+
+    boolean hasBatches() {
+        return !this.batches.isEmpty();
+    }
+
     public void addBatch() {
         this.batches.add(new LinkedList<>(this.values));
         this.values.clear();
@@ -97,9 +128,9 @@ public class StatementHolder {
         if (Text.isBlank(query) || !SQLHelper.isReady())
             return;
 
-        if (async && !BukkitExecutor.isDataThread()) {
+        if (async && !BukkitExecutor.isDataThread(orderingKey)) {
             StackTrace stackTrace = new StackTrace();
-            BukkitExecutor.data(() -> {
+            BukkitExecutor.data(orderingKey, () -> {
                 try {
                     Log.attachStackTrace(stackTrace);
                     executeQuery(false, queryResult);
@@ -0,0 +1,235 @@
+package com.bgsoftware.superiorskyblock.core.database.sql;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.core.logging.Debug;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import org.bukkit.scheduler.BukkitTask;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue of pending write statements that are flushed to the database periodically.
+ * Statements that are queued with the same coalesce key replace each other, so only the last one is executed.
+ * When flushing, consecutive statements with the same query are executed together as a single batch.
+ */
+public class WriteBehindQueue {
+
+    private static final Map<Object, StatementHolder> pendingStatements = new LinkedHashMap<>();
+
+    private static volatile boolean enabled = false;
+    private static int maxPendingStatements = 0;
+    private static boolean flushRequested = false;
+    private static BukkitTask flushTask;
+
+    private static long coalescedStatements = 0;
+    private static long flushesCount = 0;
+    private static long totalFlushTime = 0;
+    private static long lastFlushTime = 0;
+
+    private WriteBehindQueue() {
+
+    }
+
+    public static void start(SuperiorSkyblockPlugin plugin) {
+        long interval = plugin.getSettings().getDatabase().getWriteBehindInterval();
+
+        if (interval <= 0)
+            return;
+
+        maxPendingStatements = plugin.getSettings().getDatabase().getWriteBehindMaxPending();
+        enabled = true;
+
+        flushTask = BukkitExecutor.asyncTimer(() -> {
+            if (enabled)
+                flush(true);
+        }, interval);
+    }
+
+    public static void stop() {
+        if (!enabled)
+            return;
+
+        enabled = false;
+
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+
+        // Statements that were not flushed yet must be written before the connection is closed.
+        flush();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Add a statement to the queue.
+     *
+     * @param coalesceKey     The key of the statement. A pending statement with the same key will be
+     *                        replaced by this one. If null, the statement will never be replaced.
+     * @param statementHolder The statement to queue.
+     * @return Whether the statement was queued. If false, the statement should be executed directly.
+     */
+    public static boolean enqueue(@Nullable String coalesceKey, StatementHolder statementHolder) {
+        if (!enabled)
+            return false;
+
+        boolean requestFlush;
+
+        synchronized (pendingStatements) {
+            if (coalesceKey == null) {
+                pendingStatements.put(new Object(), statementHolder);
+            } else {
+                // Removing the old statement first, so the new statement will be placed last in the queue.
+                if (pendingStatements.remove(coalesceKey) != null)
+                    ++coalescedStatements;
+                pendingStatements.put(coalesceKey, statementHolder);
+            }
+
+            requestFlush = !flushRequested && maxPendingStatements > 0 &&
+                    pendingStatements.size() >= maxPendingStatements;
+
+            if (requestFlush)
+                flushRequested = true;
+        }
+
+        if (requestFlush)
+            flush(true);
+
+        return true;
+    }
+
+    public static void flush() {
+        flush(false);
+    }
+
+    /**
+     * Execute the pending statements that are executed by the database thread of the given key.
+     * The statements are executed on the calling thread, which should be the database thread of the key,
+     * so they are still executed in order with the other statements of the key.
+     *
+     * @param orderingKey The key of the statements, usually the uuid of the island or the player.
+     */
+    public static void flush(@Nullable Object orderingKey) {
+        int threadIndex = BukkitExecutor.getDataThreadIndex(orderingKey);
+        List<StatementHolder> statements = new ArrayList<>();
+
+        synchronized (pendingStatements) {
+            Iterator<StatementHolder> iterator = pendingStatements.values().iterator();
+            while (iterator.hasNext()) {
+                StatementHolder statementHolder = iterator.next();
+                if (BukkitExecutor.getDataThreadIndex(statementHolder.getOrderingKey()) == threadIndex) {
+                    statements.add(statementHolder);
+                    iterator.remove();
+                }
+            }
+        }
+
+        if (!statements.isEmpty())
+            executeStatements(statements);
+    }
+
+    private static void flush(boolean async) {
+        List<StatementHolder> statements;
+
+        synchronized (pendingStatements) {
+            flushRequested = false;
+
+            if (pendingStatements.isEmpty())
+                return;
+
+            statements = new ArrayList<>(pendingStatements.values());
+            pendingStatements.clear();
+        }
+
+        // Statements are split between the database threads by their ordering keys.
+        // Therefore, statements of the same island or player are still executed in order.
+        Map<Integer, List<StatementHolder>> statementsByThread = new LinkedHashMap<>();
+
+        for (StatementHolder statementHolder : statements) {
+            statementsByThread.computeIfAbsent(BukkitExecutor.getDataThreadIndex(statementHolder.getOrderingKey()),
+                    threadIndex -> new ArrayList<>()).add(statementHolder);
+        }
+
+        for (List<StatementHolder> threadStatements : statementsByThread.values()) {
+            if (async) {
+                BukkitExecutor.data(threadStatements.get(0).getOrderingKey(), () -> executeStatements(threadStatements));
+            } else {
+                executeStatements(threadStatements);
+            }
+        }
+    }
+
+    private static void executeStatements(List<StatementHolder> statements) {
+        long startTime = System.nanoTime();
+
+        StatementHolder currentBatch = null;
+
+        for (StatementHolder statementHolder : statements) {
+            if (currentBatch != null && (statementHolder.hasBatches() ||
+                    !currentBatch.getQuery().equals(statementHolder.getQuery()))) {
+                currentBatch.executeBatch(false);
+                currentBatch = null;
+            }
+
+            if (statementHolder.hasBatches()) {
+                // Statements that were already batched are executed as they are.
+                statementHolder.executeBatch(false);
+                continue;
+            }
+
+            if (currentBatch == null)
+                currentBatch = new StatementHolder(statementHolder.getQuery());
+
+            statementHolder.getValues().forEach(currentBatch::setObject);
+            currentBatch.addBatch();
+        }
+
+        if (currentBatch != null)
+            currentBatch.executeBatch(false);
+
+        long flushTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        synchronized (pendingStatements) {
+            lastFlushTime = flushTime;
+            totalFlushTime += flushTime;
+            ++flushesCount;
+        }
+
+        Log.debug(Debug.DATABASE_QUERY, "Flushed", statements.size(), "statements in", flushTime, "ms");
+    }
+
+    public static int getPendingStatements() {
+        synchronized (pendingStatements) {
+            return pendingStatements.size();
+        }
+    }
+
+    public static long getCoalescedStatements() {
+        synchronized (pendingStatements) {
+            return coalescedStatements;
+        }
+    }
+
+    public static long getLastFlushTime() {
+        synchronized (pendingStatements) {
+            return lastFlushTime;
+        }
+    }
+
+    public static long getAverageFlushTime() {
+        synchronized (pendingStatements) {
+            return flushesCount == 0 ? 0 : totalFlushTime / flushesCount;
+        }
+    }
+
+}
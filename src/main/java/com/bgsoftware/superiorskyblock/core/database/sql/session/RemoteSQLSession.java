@@ -74,7 +74,7 @@ public abstract class RemoteSQLSession implements SQLSession {
     }
 
     @Override
-    public void createIndex(String indexName, String tableName, String[] columns, QueryResult<Void> queryResult) {
+    public void createIndex(String indexName, String tableName, String[] columns, boolean unique, QueryResult<Void> queryResult) {
         StringBuilder columnsSection = new StringBuilder();
         for (String column : columns) {
             columnsSection.append(",").append(column);
@@ -82,10 +82,17 @@ public abstract class RemoteSQLSession implements SQLSession {
 
         String prefix = plugin.getSettings().getDatabase().getPrefix();
 
-        executeUpdate(String.format("CREATE UNIQUE INDEX %s ON %s%s (%s);",
+        executeUpdate(String.format("CREATE %sINDEX %s ON %s%s (%s);", unique ? "UNIQUE " : "",
                 indexName, prefix, tableName, columnsSection.substring(1)), queryResult);
     }
 
+    @Override
+    public void addColumn(String tableName, String columnName, String type, QueryResult<Void> queryResult) {
+        String prefix = plugin.getSettings().getDatabase().getPrefix();
+        executeUpdate(String.format("ALTER TABLE %s%s ADD COLUMN %s %s;",
+                prefix, tableName, columnName, type), queryResult);
+    }
+
     @Override
     public void modifyColumnType(String tableName, String columnName, String newType, QueryResult<Void> queryResult) {
         String prefix = plugin.getSettings().getDatabase().getPrefix();
@@ -16,6 +16,7 @@ import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.concurrent.CompletableFuture;
 
 public class SQLiteSession implements SQLSession {
@@ -116,16 +117,22 @@ public class SQLiteSession implements SQLSession {
     }
 
     @Override
-    public void createIndex(String indexName, String tableName, String[] columns, QueryResult<Void> queryResult) {
+    public void createIndex(String indexName, String tableName, String[] columns, boolean unique, QueryResult<Void> queryResult) {
         StringBuilder columnsSection = new StringBuilder();
         for (String column : columns) {
             columnsSection.append(",").append(column);
         }
 
-        executeUpdate(String.format("CREATE UNIQUE INDEX %s ON %s (%s);",
+        executeUpdate(String.format("CREATE %sINDEX %s ON %s (%s);", unique ? "UNIQUE " : "",
                 indexName, tableName, columnsSection.substring(1)), queryResult);
     }
 
+    @Override
+    public void addColumn(String tableName, String columnName, String type, QueryResult<Void> queryResult) {
+        executeUpdate(String.format("ALTER TABLE %s ADD COLUMN %s %s;",
+                tableName, columnName, type), queryResult);
+    }
+
     @Override
     public void modifyColumnType(String tableName, String columnName, String newType, QueryResult<Void> queryResult) {
         executeUpdate(String.format("ALTER TABLE %s MODIFY COLUMN %s %s;",
@@ -168,6 +175,29 @@ public class SQLiteSession implements SQLSession {
         }
     }
 
+    /**
+     * Copy the database into another file.
+     * The copy is done with the online backup API of SQLite, so it is consistent even while the database is used.
+     *
+     * @param targetFile  The file to copy the database into.
+     * @param queryResult The result of the backup.
+     */
+    public void backup(File targetFile, QueryResult<Void> queryResult) {
+        Preconditions.checkNotNull(this.conn, "Session was not initialized.");
+
+        String query = String.format("backup to \"%s\"", targetFile.getAbsolutePath().replace("\\", "/"));
+
+        Log.debug(Debug.DATABASE_QUERY, query);
+
+        // The backup command is handled by the driver itself, and is only supported by regular statements.
+        try (Statement statement = this.conn.createStatement()) {
+            statement.executeUpdate(query);
+            queryResult.complete(null);
+        } catch (SQLException error) {
+            queryResult.fail(error);
+        }
+    }
+
     private void executeUpdate(String statement, QueryResult<Void> queryResult) {
         Preconditions.checkNotNull(this.conn, "Session was not initialized.");
 
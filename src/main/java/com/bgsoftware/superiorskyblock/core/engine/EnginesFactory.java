@@ -5,28 +5,46 @@ import com.bgsoftware.superiorskyblock.api.scripts.IScriptEngine;
 
 public class EnginesFactory {
 
-    private static IScriptEngine defaultEngine;
+    private static volatile IScriptEngine nashornEngine;
 
     private EnginesFactory() {
 
     }
 
     public static IScriptEngine createDefaultEngine() {
-        if (defaultEngine == null) {
-            try {
-                ReflectMethod<IScriptEngine> nashornEngineGetInstance = new ReflectMethod<>(
-                        "com.bgsoftware.superiorskyblock.core.engine.OpenJdkNashornEngine",
-                        "getInstance",
-                        new Class[0]
-                );
-                Class.forName("org.openjdk.nashorn.api.scripting.NashornScriptEngineFactory");
-                defaultEngine = nashornEngineGetInstance.invoke(null);
-            } catch (Throwable error) {
-                defaultEngine = NashornEngine.getInstance();
+        return NativeEngine.getInstance();
+    }
+
+    public static IScriptEngine createNashornEngine() {
+        IScriptEngine nashornEngine = EnginesFactory.nashornEngine;
+
+        if (nashornEngine == null) {
+            synchronized (EnginesFactory.class) {
+                nashornEngine = EnginesFactory.nashornEngine;
+                if (nashornEngine == null) {
+                    nashornEngine = loadNashornEngine();
+                    // Missing engines are not kept, so an engine that is installed later is still found.
+                    if (nashornEngine != NashornEngine.getInstance() || NashornEngine.getInstance().isAvailable())
+                        EnginesFactory.nashornEngine = nashornEngine;
+                }
             }
         }
 
-        return defaultEngine;
+        return nashornEngine;
+    }
+
+    private static IScriptEngine loadNashornEngine() {
+        try {
+            ReflectMethod<IScriptEngine> nashornEngineGetInstance = new ReflectMethod<>(
+                    "com.bgsoftware.superiorskyblock.core.engine.OpenJdkNashornEngine",
+                    "getInstance",
+                    new Class[0]
+            );
+            Class.forName("org.openjdk.nashorn.api.scripting.NashornScriptEngineFactory");
+            return nashornEngineGetInstance.invoke(null);
+        } catch (Throwable error) {
+            return NashornEngine.getInstance();
+        }
     }
 
 }
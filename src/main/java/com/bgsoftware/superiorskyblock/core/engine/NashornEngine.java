@@ -20,14 +20,26 @@ public class NashornEngine implements IScriptEngine {
         return instance;
     }
 
+    public boolean isAvailable() {
+        return engine != null;
+    }
+
     @Override
     public Object eval(String stringToEvaluate) throws ScriptException {
+        checkEngine();
         return engine.eval(stringToEvaluate);
     }
 
     @Override
     public Object eval(String stringToEvaluate, Bindings bindings) throws ScriptException {
+        checkEngine();
         return engine.eval(stringToEvaluate, bindings);
     }
 
+    private void checkEngine() throws ScriptException {
+        // Newer versions of java do not include the nashorn engine.
+        if (!isAvailable())
+            throw new ScriptException("Nashorn engine is not available.");
+    }
+
 }
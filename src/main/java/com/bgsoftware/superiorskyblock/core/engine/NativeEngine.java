@@ -0,0 +1,75 @@
+package com.bgsoftware.superiorskyblock.core.engine;
+
+import com.bgsoftware.superiorskyblock.api.scripts.IScriptEngine;
+import com.bgsoftware.superiorskyblock.core.engine.expression.Expression;
+import com.bgsoftware.superiorskyblock.core.engine.expression.ExpressionParser;
+import com.bgsoftware.superiorskyblock.core.engine.expression.ExpressionValues;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import javax.annotation.Nullable;
+import javax.script.Bindings;
+import javax.script.ScriptException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Script engine that compiles expressions natively, without depending on a JavaScript engine.
+ * Compiled expressions are cached by their text, so evaluating the same expression again does not parse it.
+ * Scripts that cannot be compiled natively are delegated to the nashorn engine, if one is available.
+ */
+public class NativeEngine implements IScriptEngine {
+
+    private static final NativeEngine instance = new NativeEngine();
+
+    private static final int MAXIMUM_CACHED_EXPRESSIONS = 1000;
+
+    // Scripts that cannot be compiled natively are cached as empty expressions, so they are not parsed again.
+    private final Cache<String, Optional<Expression>> compiledExpressions = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_EXPRESSIONS)
+            .build();
+
+    private NativeEngine() {
+
+    }
+
+    public static NativeEngine getInstance() {
+        return instance;
+    }
+
+    @Override
+    public Object eval(String stringToEvaluate) throws ScriptException {
+        Expression expression = compile(stringToEvaluate);
+
+        if (expression == null)
+            return EnginesFactory.createNashornEngine().eval(stringToEvaluate);
+
+        return ExpressionValues.toResult(expression.evaluate(null));
+    }
+
+    @Override
+    public Object eval(String stringToEvaluate, Bindings bindings) throws ScriptException {
+        Expression expression = compile(stringToEvaluate);
+
+        if (expression == null)
+            return EnginesFactory.createNashornEngine().eval(stringToEvaluate, bindings);
+
+        return ExpressionValues.toResult(expression.evaluate(bindings));
+    }
+
+    @Nullable
+    private Expression compile(String stringToEvaluate) {
+        try {
+            return compiledExpressions.get(stringToEvaluate, () -> {
+                try {
+                    return Optional.of(ExpressionParser.compile(stringToEvaluate));
+                } catch (ScriptException error) {
+                    return Optional.<Expression>empty();
+                }
+            }).orElse(null);
+        } catch (ExecutionException error) {
+            return null;
+        }
+    }
+
+}
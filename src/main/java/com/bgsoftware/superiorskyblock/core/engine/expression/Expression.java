@@ -0,0 +1,18 @@
+package com.bgsoftware.superiorskyblock.core.engine.expression;
+
+import javax.annotation.Nullable;
+import javax.script.Bindings;
+import javax.script.ScriptException;
+
+public interface Expression {
+
+    /**
+     * Evaluate the expression.
+     *
+     * @param bindings The variables of the expression, if exist.
+     * @return The result of the expression: a {@link Double}, a {@link String} or a {@link Boolean}.
+     * @throws ScriptException If a variable of the expression is not defined.
+     */
+    Object evaluate(@Nullable Bindings bindings) throws ScriptException;
+
+}
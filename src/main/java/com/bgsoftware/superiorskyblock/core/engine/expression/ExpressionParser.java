@@ -0,0 +1,488 @@
+package com.bgsoftware.superiorskyblock.core.engine.expression;
+
+import com.google.common.collect.ImmutableMap;
+
+import javax.script.ScriptException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Compiles arithmetic and boolean expressions into reusable {@link Expression} objects.
+ * The supported syntax is a subset of JavaScript: number, string and boolean literals, variables,
+ * arithmetic, comparison and logical operators, the conditional operator and the functions of Math.
+ */
+public class ExpressionParser {
+
+    private static final Map<String, DoubleUnaryOperator> MATH_UNARY_FUNCTIONS =
+            new ImmutableMap.Builder<String, DoubleUnaryOperator>()
+                    .put("abs", Math::abs)
+                    .put("acos", Math::acos)
+                    .put("asin", Math::asin)
+                    .put("atan", Math::atan)
+                    .put("cbrt", Math::cbrt)
+                    .put("ceil", Math::ceil)
+                    .put("cos", Math::cos)
+                    .put("exp", Math::exp)
+                    .put("floor", Math::floor)
+                    .put("log", Math::log)
+                    .put("round", value -> Math.floor(value + 0.5))
+                    .put("sin", Math::sin)
+                    .put("sqrt", Math::sqrt)
+                    .put("tan", Math::tan)
+                    .build();
+
+    private static final Map<String, DoubleBinaryOperator> MATH_BINARY_FUNCTIONS =
+            new ImmutableMap.Builder<String, DoubleBinaryOperator>()
+                    .put("atan2", Math::atan2)
+                    .put("pow", Math::pow)
+                    .build();
+
+    private static final Map<String, Double> MATH_CONSTANTS = new ImmutableMap.Builder<String, Double>()
+            .put("E", Math.E)
+            .put("LN2", Math.log(2))
+            .put("LN10", Math.log(10))
+            .put("PI", Math.PI)
+            .put("SQRT2", Math.sqrt(2))
+            .build();
+
+    private final String expression;
+    private int position = 0;
+
+    private ExpressionParser(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Compile an expression.
+     *
+     * @param expression The expression to compile.
+     * @return The compiled expression.
+     * @throws ScriptException If the expression cannot be compiled.
+     */
+    public static Expression compile(String expression) throws ScriptException {
+        ExpressionParser parser = new ExpressionParser(expression);
+
+        Expression result = parser.parseConditional();
+
+        // Allowing a semicolon at the end of the expression.
+        parser.consume(";");
+
+        parser.skipWhitespaces();
+
+        if (parser.position != expression.length())
+            throw parser.error("Unexpected character '" + expression.charAt(parser.position) + "'");
+
+        return result;
+    }
+
+    private Expression parseConditional() throws ScriptException {
+        Expression condition = parseOr();
+
+        if (!consume("?"))
+            return condition;
+
+        Expression whenTrue = parseConditional();
+
+        if (!consume(":"))
+            throw error("Expected ':'");
+
+        Expression whenFalse = parseConditional();
+
+        return bindings -> ExpressionValues.toBoolean(condition.evaluate(bindings)) ?
+                whenTrue.evaluate(bindings) : whenFalse.evaluate(bindings);
+    }
+
+    private Expression parseOr() throws ScriptException {
+        Expression result = parseAnd();
+
+        while (consume("||")) {
+            Expression first = result;
+            Expression second = parseAnd();
+            result = bindings -> {
+                Object firstValue = first.evaluate(bindings);
+                return ExpressionValues.toBoolean(firstValue) ? firstValue : second.evaluate(bindings);
+            };
+        }
+
+        return result;
+    }
+
+    private Expression parseAnd() throws ScriptException {
+        Expression result = parseEquality();
+
+        while (consume("&&")) {
+            Expression first = result;
+            Expression second = parseEquality();
+            result = bindings -> {
+                Object firstValue = first.evaluate(bindings);
+                return !ExpressionValues.toBoolean(firstValue) ? firstValue : second.evaluate(bindings);
+            };
+        }
+
+        return result;
+    }
+
+    private Expression parseEquality() throws ScriptException {
+        Expression result = parseRelational();
+
+        while (true) {
+            Expression first = result;
+
+            if (consume("===")) {
+                Expression second = parseRelational();
+                result = bindings -> ExpressionValues.strictEquals(first.evaluate(bindings), second.evaluate(bindings));
+            } else if (consume("!==")) {
+                Expression second = parseRelational();
+                result = bindings -> !ExpressionValues.strictEquals(first.evaluate(bindings), second.evaluate(bindings));
+            } else if (consume("==")) {
+                Expression second = parseRelational();
+                result = bindings -> ExpressionValues.looseEquals(first.evaluate(bindings), second.evaluate(bindings));
+            } else if (consume("!=")) {
+                Expression second = parseRelational();
+                result = bindings -> !ExpressionValues.looseEquals(first.evaluate(bindings), second.evaluate(bindings));
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Expression parseRelational() throws ScriptException {
+        Expression result = parseAdditive();
+
+        while (true) {
+            Expression first = result;
+
+            if (consume("<=")) {
+                Expression second = parseAdditive();
+                result = bindings -> {
+                    int compare = ExpressionValues.compare(first.evaluate(bindings), second.evaluate(bindings));
+                    return compare != Integer.MIN_VALUE && compare <= 0;
+                };
+            } else if (consume(">=")) {
+                Expression second = parseAdditive();
+                result = bindings -> ExpressionValues.compare(first.evaluate(bindings), second.evaluate(bindings)) >= 0;
+            } else if (consume("<")) {
+                Expression second = parseAdditive();
+                result = bindings -> {
+                    int compare = ExpressionValues.compare(first.evaluate(bindings), second.evaluate(bindings));
+                    return compare != Integer.MIN_VALUE && compare < 0;
+                };
+            } else if (consume(">")) {
+                Expression second = parseAdditive();
+                result = bindings -> ExpressionValues.compare(first.evaluate(bindings), second.evaluate(bindings)) > 0;
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Expression parseAdditive() throws ScriptException {
+        Expression result = parseMultiplicative();
+
+        while (true) {
+            Expression first = result;
+
+            if (consume("+")) {
+                Expression second = parseMultiplicative();
+                result = bindings -> ExpressionValues.add(first.evaluate(bindings), second.evaluate(bindings));
+            } else if (consume("-")) {
+                Expression second = parseMultiplicative();
+                result = bindings -> ExpressionValues.toNumber(first.evaluate(bindings)) -
+                        ExpressionValues.toNumber(second.evaluate(bindings));
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Expression parseMultiplicative() throws ScriptException {
+        Expression result = parseUnary();
+
+        while (true) {
+            Expression first = result;
+
+            if (consume("*")) {
+                Expression second = parseUnary();
+                result = bindings -> ExpressionValues.toNumber(first.evaluate(bindings)) *
+                        ExpressionValues.toNumber(second.evaluate(bindings));
+            } else if (consume("/")) {
+                Expression second = parseUnary();
+                result = bindings -> ExpressionValues.toNumber(first.evaluate(bindings)) /
+                        ExpressionValues.toNumber(second.evaluate(bindings));
+            } else if (consume("%")) {
+                Expression second = parseUnary();
+                result = bindings -> ExpressionValues.toNumber(first.evaluate(bindings)) %
+                        ExpressionValues.toNumber(second.evaluate(bindings));
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Expression parseUnary() throws ScriptException {
+        if (consume("-")) {
+            Expression operand = parseUnary();
+            return bindings -> -ExpressionValues.toNumber(operand.evaluate(bindings));
+        } else if (consume("+")) {
+            Expression operand = parseUnary();
+            return bindings -> ExpressionValues.toNumber(operand.evaluate(bindings));
+        } else if (consume("!")) {
+            Expression operand = parseUnary();
+            return bindings -> !ExpressionValues.toBoolean(operand.evaluate(bindings));
+        }
+
+        return parsePrimary();
+    }
+
+    private Expression parsePrimary() throws ScriptException {
+        skipWhitespaces();
+
+        if (position >= expression.length())
+            throw error("Unexpected end of expression");
+
+        char ch = expression.charAt(position);
+
+        if (ch == '(') {
+            ++position;
+            Expression result = parseConditional();
+            if (!consume(")"))
+                throw error("Expected ')'");
+            return result;
+        } else if (ch == '\'' || ch == '"') {
+            String value = parseString(ch);
+            return bindings -> value;
+        } else if (Character.isDigit(ch) || ch == '.') {
+            Double value = parseNumber();
+            return bindings -> value;
+        } else if (Character.isJavaIdentifierStart(ch)) {
+            return parseIdentifier();
+        }
+
+        throw error("Unexpected character '" + ch + "'");
+    }
+
+    private Expression parseIdentifier() throws ScriptException {
+        String identifier = readIdentifier();
+
+        switch (identifier) {
+            case "true":
+                return bindings -> Boolean.TRUE;
+            case "false":
+                return bindings -> Boolean.FALSE;
+            case "NaN": {
+                Double value = Double.NaN;
+                return bindings -> value;
+            }
+            case "Infinity": {
+                Double value = Double.POSITIVE_INFINITY;
+                return bindings -> value;
+            }
+            case "Math":
+                return parseMathMember();
+        }
+
+        skipWhitespaces();
+
+        if (position < expression.length() && (expression.charAt(position) == '.' || expression.charAt(position) == '('))
+            throw error("Unsupported member access or function call of '" + identifier + "'");
+
+        return bindings -> {
+            if (bindings == null || !bindings.containsKey(identifier))
+                throw new ScriptException("ReferenceError: \"" + identifier + "\" is not defined");
+
+            return ExpressionValues.fromJava(bindings.get(identifier));
+        };
+    }
+
+    private Expression parseMathMember() throws ScriptException {
+        if (!consume("."))
+            throw error("Expected '.' after Math");
+
+        skipWhitespaces();
+
+        String memberName = readIdentifier();
+
+        Double constant = MATH_CONSTANTS.get(memberName);
+        if (constant != null)
+            return bindings -> constant;
+
+        List<Expression> arguments = parseArguments();
+
+        DoubleUnaryOperator unaryFunction = MATH_UNARY_FUNCTIONS.get(memberName);
+        if (unaryFunction != null && !arguments.isEmpty()) {
+            Expression argument = arguments.get(0);
+            return bindings -> unaryFunction.applyAsDouble(ExpressionValues.toNumber(argument.evaluate(bindings)));
+        }
+
+        DoubleBinaryOperator binaryFunction = MATH_BINARY_FUNCTIONS.get(memberName);
+        if (binaryFunction != null && arguments.size() >= 2) {
+            Expression first = arguments.get(0);
+            Expression second = arguments.get(1);
+            return bindings -> binaryFunction.applyAsDouble(ExpressionValues.toNumber(first.evaluate(bindings)),
+                    ExpressionValues.toNumber(second.evaluate(bindings)));
+        }
+
+        switch (memberName) {
+            case "min":
+            case "max": {
+                boolean isMin = memberName.equals("min");
+                return bindings -> {
+                    double result = isMin ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+                    for (Expression argument : arguments) {
+                        double value = ExpressionValues.toNumber(argument.evaluate(bindings));
+                        if (Double.isNaN(value))
+                            return Double.NaN;
+                        result = isMin ? Math.min(result, value) : Math.max(result, value);
+                    }
+                    return result;
+                };
+            }
+            case "random":
+                return bindings -> ThreadLocalRandom.current().nextDouble();
+        }
+
+        throw error("Unsupported function Math." + memberName);
+    }
+
+    private List<Expression> parseArguments() throws ScriptException {
+        if (!consume("("))
+            throw error("Expected '('");
+
+        List<Expression> arguments = new ArrayList<>();
+
+        if (consume(")"))
+            return arguments;
+
+        do {
+            arguments.add(parseConditional());
+        } while (consume(","));
+
+        if (!consume(")"))
+            throw error("Expected ')'");
+
+        return arguments;
+    }
+
+    private String readIdentifier() throws ScriptException {
+        int start = position;
+
+        if (position >= expression.length() || !Character.isJavaIdentifierStart(expression.charAt(position)))
+            throw error("Expected identifier");
+
+        while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)))
+            ++position;
+
+        return expression.substring(start, position);
+    }
+
+    private String parseString(char quote) throws ScriptException {
+        StringBuilder value = new StringBuilder();
+
+        ++position;
+
+        while (position < expression.length()) {
+            char ch = expression.charAt(position++);
+
+            if (ch == quote)
+                return value.toString();
+
+            if (ch == '\\' && position < expression.length()) {
+                char escaped = expression.charAt(position++);
+                switch (escaped) {
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    default:
+                        value.append(escaped);
+                        break;
+                }
+            } else {
+                value.append(ch);
+            }
+        }
+
+        throw error("Unterminated string");
+    }
+
+    private Double parseNumber() throws ScriptException {
+        int start = position;
+
+        while (position < expression.length() && Character.isDigit(expression.charAt(position)))
+            ++position;
+
+        if (position < expression.length() && expression.charAt(position) == '.') {
+            ++position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position)))
+                ++position;
+        }
+
+        if (position < expression.length() && (expression.charAt(position) == 'e' || expression.charAt(position) == 'E')) {
+            ++position;
+            if (position < expression.length() && (expression.charAt(position) == '+' || expression.charAt(position) == '-'))
+                ++position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position)))
+                ++position;
+        }
+
+        // Numbers cannot be followed directly by identifiers, such as hex numbers or type suffixes.
+        if (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)))
+            throw error("Invalid number");
+
+        try {
+            return Double.parseDouble(expression.substring(start, position));
+        } catch (NumberFormatException error) {
+            throw error("Invalid number");
+        }
+    }
+
+    private boolean consume(String token) {
+        skipWhitespaces();
+
+        if (!expression.startsWith(token, position))
+            return false;
+
+        // Making sure single-character operators are not part of longer operators.
+        int end = position + token.length();
+        if (end < expression.length()) {
+            char nextChar = expression.charAt(end);
+            switch (token) {
+                case "!":
+                case "<":
+                case ">":
+                case "==":
+                case "!=":
+                    if (nextChar == '=')
+                        return false;
+                    break;
+                case "+":
+                case "-":
+                    if (nextChar == token.charAt(0))
+                        return false;
+                    break;
+            }
+        }
+
+        position = end;
+        return true;
+    }
+
+    private void skipWhitespaces() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position)))
+            ++position;
+    }
+
+    private ScriptException error(String message) {
+        return new ScriptException(message, null, -1, position);
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.bgsoftware.superiorskyblock.core.engine.expression;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+
+/**
+ * Conversions between the values of expressions, following the rules of JavaScript.
+ */
+public class ExpressionValues {
+
+    private ExpressionValues() {
+
+    }
+
+    public static Object fromJava(@Nullable Object value) {
+        if (value == null || value instanceof Double || value instanceof String || value instanceof Boolean)
+            return value;
+        else if (value instanceof Number)
+            return ((Number) value).doubleValue();
+        else if (value instanceof Character)
+            return value + "";
+        else
+            return value.toString();
+    }
+
+    public static double toNumber(@Nullable Object value) {
+        if (value instanceof Double)
+            return (Double) value;
+        else if (value instanceof Boolean)
+            return (Boolean) value ? 1 : 0;
+        else if (value == null)
+            return 0;
+
+        String str = value.toString().trim();
+
+        if (str.isEmpty())
+            return 0;
+
+        switch (str) {
+            case "Infinity":
+            case "+Infinity":
+                return Double.POSITIVE_INFINITY;
+            case "-Infinity":
+                return Double.NEGATIVE_INFINITY;
+        }
+
+        // Java accepts some formats that JavaScript does not, such as type suffixes.
+        char lastChar = str.charAt(str.length() - 1);
+        if (lastChar != '.' && !Character.isDigit(lastChar))
+            return Double.NaN;
+
+        try {
+            return Double.parseDouble(str);
+        } catch (NumberFormatException error) {
+            return Double.NaN;
+        }
+    }
+
+    public static boolean toBoolean(@Nullable Object value) {
+        if (value instanceof Boolean)
+            return (Boolean) value;
+        else if (value instanceof Double)
+            return (Double) value != 0 && !Double.isNaN((Double) value);
+        else if (value instanceof String)
+            return !((String) value).isEmpty();
+        else
+            return value != null;
+    }
+
+    public static String toString(@Nullable Object value) {
+        if (value instanceof Double)
+            return numberToString((Double) value);
+        else
+            return String.valueOf(value);
+    }
+
+    public static Object add(Object first, Object second) {
+        if (first instanceof String || second instanceof String)
+            return toString(first) + toString(second);
+
+        return toNumber(first) + toNumber(second);
+    }
+
+    public static int compare(Object first, Object second) {
+        if (first instanceof String && second instanceof String)
+            return ((String) first).compareTo((String) second);
+
+        double firstNumber = toNumber(first);
+        double secondNumber = toNumber(second);
+
+        // Comparisons with NaN are always false, which is represented by an unordered result.
+        if (Double.isNaN(firstNumber) || Double.isNaN(secondNumber))
+            return Integer.MIN_VALUE;
+
+        return Double.compare(firstNumber == 0 ? 0 : firstNumber, secondNumber == 0 ? 0 : secondNumber);
+    }
+
+    public static boolean strictEquals(@Nullable Object first, @Nullable Object second) {
+        if (first instanceof Double && second instanceof Double)
+            return ((Double) first).doubleValue() == (Double) second;
+
+        return first == null ? second == null : first.equals(second);
+    }
+
+    public static boolean looseEquals(@Nullable Object first, @Nullable Object second) {
+        if (first == null || second == null)
+            return first == second;
+
+        if (first.getClass() == second.getClass())
+            return strictEquals(first, second);
+
+        if (first instanceof Boolean)
+            return looseEquals(toNumber(first), second);
+
+        if (second instanceof Boolean)
+            return looseEquals(first, toNumber(second));
+
+        // One of the values is a number, and the other is a string.
+        return toNumber(first) == toNumber(second);
+    }
+
+    /**
+     * Convert a result of an expression to the type the script engine would return.
+     * Whole numbers are returned as integers when possible.
+     */
+    public static Object toResult(@Nullable Object value) {
+        if (value instanceof Double) {
+            double number = (Double) value;
+            if (number == (int) number && !(number == 0 && 1 / number < 0))
+                return (int) number;
+        }
+
+        return value;
+    }
+
+    private static String numberToString(double number) {
+        if (Double.isNaN(number))
+            return "NaN";
+        else if (Double.isInfinite(number))
+            return number > 0 ? "Infinity" : "-Infinity";
+        else if (number == (long) number && Math.abs(number) < 1e21)
+            return String.valueOf((long) number);
+        else if (Math.abs(number) >= 1e-6 && Math.abs(number) < 1e21)
+            return BigDecimal.valueOf(number).stripTrailingZeros().toPlainString();
+        else
+            return String.valueOf(number);
+    }
+
+}
@@ -35,6 +35,7 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
 
@@ -43,11 +44,18 @@ import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class EventsBus {
 
+    private final Map<String, HandlerList> eventsHandlers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> elidedEvents = new ConcurrentHashMap<>();
+
     private final SuperiorSkyblockPlugin plugin;
 
     public EventsBus(SuperiorSkyblockPlugin plugin) {
@@ -234,7 +242,7 @@ public class EventsBus {
     }
 
     public void callIslandChunkResetEvent(Island island, ChunkPosition chunkPosition) {
-        if (!plugin.getSettings().getDisabledEvents().contains("islandchunkresetevent")) {
+        if (shouldCallEvent("islandchunkresetevent")) {
             callEvent(new IslandChunkResetEvent(island, chunkPosition.getWorld(), chunkPosition.getX(), chunkPosition.getZ()));
         }
     }
@@ -325,7 +333,7 @@ public class EventsBus {
     }
 
     public boolean callIslandEnterEvent(SuperiorPlayer superiorPlayer, Island island, IslandEnterEvent.EnterCause enterCause) {
-        if (plugin.getSettings().getDisabledEvents().contains("islandenterevent"))
+        if (!shouldCallEvent("islandenterevent"))
             return true;
 
         IslandEnterEvent islandEnterEvent = callEvent(new IslandEnterEvent(superiorPlayer, island, enterCause));
@@ -344,7 +352,7 @@ public class EventsBus {
     }
 
     public boolean callIslandEnterProtectedEvent(SuperiorPlayer superiorPlayer, Island island, IslandEnterEvent.EnterCause enterCause) {
-        if (plugin.getSettings().getDisabledEvents().contains("islandenterprotectedevent"))
+        if (!shouldCallEvent("islandenterprotectedevent"))
             return true;
 
         IslandEnterProtectedEvent islandEnterProtectedEvent = callEvent(new IslandEnterProtectedEvent(superiorPlayer, island, enterCause));
@@ -473,13 +481,13 @@ public class EventsBus {
     }
 
     public void callIslandRestrictMoveEvent(SuperiorPlayer superiorPlayer, IslandRestrictMoveEvent.RestrictReason restrictReason) {
-        if (!plugin.getSettings().getDisabledEvents().contains("islandrestrictmoveevent")) {
+        if (shouldCallEvent("islandrestrictmoveevent")) {
             callEvent(new IslandRestrictMoveEvent(superiorPlayer, restrictReason));
         }
     }
 
     public void callIslandSchematicPasteEvent(Island island, String name, Location location) {
-        if (!plugin.getSettings().getDisabledEvents().contains("islandschematicpasteevent")) {
+        if (shouldCallEvent("islandschematicpasteevent")) {
             callEvent(new IslandSchematicPasteEvent(island, name, location));
         }
     }
@@ -540,13 +548,13 @@ public class EventsBus {
     }
 
     public void callIslandWorthCalculatedEvent(Island island, SuperiorPlayer asker, BigDecimal islandLevel, BigDecimal islandWorth) {
-        if (!plugin.getSettings().getDisabledEvents().contains("islandworthcalculatedevent")) {
+        if (shouldCallEvent("islandworthcalculatedevent")) {
             callEvent(new IslandWorthCalculatedEvent(island, asker, islandLevel, islandWorth));
         }
     }
 
     public void callIslandWorthUpdateEvent(Island island, BigDecimal oldWorth, BigDecimal oldLevel, BigDecimal newWorth, BigDecimal newLevel) {
-        if (!plugin.getSettings().getDisabledEvents().contains("islandworthupdateevent")) {
+        if (shouldCallEvent("islandworthupdateevent")) {
             callEvent(new IslandWorthUpdateEvent(island, oldWorth, oldLevel, newWorth, newLevel));
         }
     }
@@ -576,7 +584,7 @@ public class EventsBus {
     }
 
     public void callPlayerChangeNameEvent(SuperiorPlayer superiorPlayer, String newName) {
-        if (!plugin.getSettings().getDisabledEvents().contains("playerchangenameevent")) {
+        if (shouldCallEvent("playerchangenameevent")) {
             callEvent(new PlayerChangeNameEvent(superiorPlayer, newName));
         }
     }
@@ -596,7 +604,7 @@ public class EventsBus {
     }
 
     public void callPlayerReplaceEvent(SuperiorPlayer oldPlayer, SuperiorPlayer newPlayer) {
-        if (!plugin.getSettings().getDisabledEvents().contains("playerreplaceevent")) {
+        if (shouldCallEvent("playerreplaceevent")) {
             callEvent(new PlayerReplaceEvent(oldPlayer, newPlayer));
         }
     }
@@ -652,12 +660,13 @@ public class EventsBus {
 
     private <T, E extends Event & Cancellable> EventResult<T> callEvent(Supplier<E> eventSupplier, String eventName,
                                                                         @Nullable T def, Function<E, T> getResultFunction) {
-        if (plugin.getSettings().getDisabledEvents().contains(eventName))
+        if (!shouldCallEvent(eventName))
             return EventResult.of(false, def);
 
         Log.debug(Debug.FIRE_EVENT, eventName);
 
         E event = eventSupplier.get();
+        trackHandlers(eventName, event);
 
         Bukkit.getPluginManager().callEvent(event);
 
@@ -671,12 +680,13 @@ public class EventsBus {
     }
 
     private <E extends Event & Cancellable> boolean callEvent(Supplier<E> eventSupplier, String eventName) {
-        if (plugin.getSettings().getDisabledEvents().contains(eventName))
+        if (!shouldCallEvent(eventName))
             return true;
 
         Log.debug(Debug.FIRE_EVENT, eventName);
 
         E event = eventSupplier.get();
+        trackHandlers(eventName, event);
 
         Bukkit.getPluginManager().callEvent(event);
 
@@ -685,12 +695,51 @@ public class EventsBus {
         return !event.isCancelled();
     }
 
-    private static <T extends Event> T callEvent(T event) {
+    private <T extends Event> T callEvent(T event) {
         Log.debug(Debug.FIRE_EVENT, event.getEventName());
+        trackHandlers(event.getEventName().toLowerCase(Locale.ENGLISH), event);
         Bukkit.getPluginManager().callEvent(event);
         return event;
     }
 
+    /**
+     * Check whether an event should be called.
+     * Events are not called if they are disabled, or if there are no listeners that listen to them.
+     * The handlers of an event are known only after it was called once; until then, the event is always called.
+     */
+    private boolean shouldCallEvent(String eventName) {
+        if (plugin.getSettings().getDisabledEvents().contains(eventName))
+            return false;
+
+        // HandlerList re-bakes its listeners whenever listeners are registered or unregistered, therefore
+        // reading them here is cheap and always reflects plugins that were enabled or disabled since.
+        HandlerList handlerList = this.eventsHandlers.get(eventName);
+        if (handlerList == null || handlerList.getRegisteredListeners().length > 0)
+            return true;
+
+        LongAdder elidedCounter = this.elidedEvents.computeIfAbsent(eventName, e -> new LongAdder());
+        elidedCounter.increment();
+
+        if (Log.isDebugged(Debug.FIRE_EVENT))
+            Log.debugResult(Debug.FIRE_EVENT, eventName + " has no listeners, skipped times:", elidedCounter.sum());
+
+        return false;
+    }
+
+    private void trackHandlers(String eventName, Event event) {
+        if (!this.eventsHandlers.containsKey(eventName))
+            this.eventsHandlers.put(eventName, event.getHandlers());
+    }
+
+    /**
+     * Get the amount of times events were not called because there were no listeners for them.
+     */
+    public Map<String, Long> getElidedEvents() {
+        Map<String, Long> elidedEvents = new TreeMap<>();
+        this.elidedEvents.forEach((eventName, counter) -> elidedEvents.put(eventName, counter.sum()));
+        return Collections.unmodifiableMap(elidedEvents);
+    }
+
     @Nullable
     private SuperiorPlayer getSuperiorPlayer(CommandSender commandSender) {
         return commandSender instanceof Player ? plugin.getPlayers().getSuperiorPlayer(commandSender) : null;
@@ -143,7 +143,11 @@ public class FactoriesManagerImpl implements FactoriesManager {
     }
 
     public SuperiorPlayer createPlayer(SuperiorPlayerBuilderImpl builder) {
-        return playersFactory.createPlayer(new SSuperiorPlayer(builder));
+        return createPlayer(new SSuperiorPlayer(builder));
+    }
+
+    public SuperiorPlayer createPlayer(SSuperiorPlayer superiorPlayer) {
+        return playersFactory.createPlayer(superiorPlayer);
     }
 
     @Override
@@ -230,11 +234,13 @@ public class FactoriesManagerImpl implements FactoriesManager {
     }
 
     public DatabaseBridge createDatabaseBridge(Island island) {
-        return databaseBridgeFactory.createIslandsDatabaseBridge(island, new SQLDatabaseBridge());
+        return databaseBridgeFactory.createIslandsDatabaseBridge(island,
+                new SQLDatabaseBridge(island == null ? null : island.getUniqueId().toString()));
     }
 
     public DatabaseBridge createDatabaseBridge(SuperiorPlayer superiorPlayer) {
-        return databaseBridgeFactory.createPlayersDatabaseBridge(superiorPlayer, new SQLDatabaseBridge());
+        return databaseBridgeFactory.createPlayersDatabaseBridge(superiorPlayer,
+                new SQLDatabaseBridge(superiorPlayer == null ? null : superiorPlayer.getUniqueId().toString()));
     }
 
     public DatabaseBridge createDatabaseBridge(GridManager gridManager) {
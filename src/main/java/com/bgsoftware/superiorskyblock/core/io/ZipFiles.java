@@ -3,6 +3,7 @@ package com.bgsoftware.superiorskyblock.core.io;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.function.UnaryOperator;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -13,11 +14,23 @@ public class ZipFiles {
     }
 
     public static void zipFolder(File input, File output) throws IOException {
+        zipFolder(input, output, UnaryOperator.identity());
+    }
+
+    /**
+     * Zip a folder, while replacing the contents of some of its files.
+     *
+     * @param input       The folder to zip.
+     * @param output      The zip file.
+     * @param filesMapper Maps files of the folder to the files their contents should be taken from.
+     *                    If null is returned, the file is not added to the zip.
+     */
+    public static void zipFolder(File input, File output, UnaryOperator<File> filesMapper) throws IOException {
         if (!input.isDirectory())
             throw new IOException("Input file must be a directory.");
 
         try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(output.toPath()))) {
-            zipFolderInternal(input, "", outputStream);
+            zipFolderInternal(input, "", outputStream, filesMapper);
         }
     }
 
@@ -30,7 +43,8 @@ public class ZipFiles {
         }
     }
 
-    private static void zipFolderInternal(File input, String parent, ZipOutputStream outputStream) throws IOException {
+    private static void zipFolderInternal(File input, String parent, ZipOutputStream outputStream,
+                                          UnaryOperator<File> filesMapper) throws IOException {
         // Add the folder as an entry
         String folderPath = parent + input.getName() + File.separator;
         ZipEntry zipEntry = new ZipEntry(folderPath);
@@ -39,9 +53,11 @@ public class ZipFiles {
 
         for (File innerFile : input.listFiles()) {
             if (innerFile.isDirectory()) {
-                zipFolderInternal(innerFile, folderPath, outputStream);
+                zipFolderInternal(innerFile, folderPath, outputStream, filesMapper);
             } else {
-                zipFileInternal(innerFile, folderPath + innerFile.getName(), outputStream);
+                File contentFile = filesMapper.apply(innerFile);
+                if (contentFile != null)
+                    zipFileInternal(contentFile, folderPath + innerFile.getName(), outputStream);
             }
         }
     }
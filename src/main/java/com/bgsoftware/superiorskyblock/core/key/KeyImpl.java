@@ -14,23 +14,35 @@ import org.bukkit.entity.EntityType;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Locale;
 import java.util.regex.Pattern;
 
 public class KeyImpl implements Key {
 
-    private static final Pattern LEGACY_PATTERN = Pattern.compile("LEGACY_");
-    private static final Pattern KEY_SPLITTER_PATTERN = Pattern.compile("[:;]");
+    static final int UNINTERNED_ID = -1;
+
+    private static final String LEGACY_PREFIX = "LEGACY_";
+    private static final Pattern LEGACY_PATTERN = Pattern.compile(LEGACY_PREFIX);
 
     private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
 
     private final String globalKey;
     private final String subKey;
-    private boolean apiKey = false;
+    private final String key;
+    private final int id;
+    private final int globalId;
+    private final boolean apiKey;
+
+    KeyImpl(String globalKey, String subKey, String key, int id, int globalId) {
+        this(globalKey, subKey, key, id, globalId, false);
+    }
 
-    private KeyImpl(String globalKey, String subKey) {
-        this.globalKey = globalKey.toUpperCase(Locale.ENGLISH);
-        this.subKey = subKey.toUpperCase(Locale.ENGLISH);
+    private KeyImpl(String globalKey, String subKey, String key, int id, int globalId, boolean apiKey) {
+        this.globalKey = globalKey;
+        this.subKey = subKey;
+        this.key = key;
+        this.id = id;
+        this.globalId = globalId;
+        this.apiKey = apiKey;
     }
 
     public static Key of(EntityType entityType) {
@@ -42,20 +54,42 @@ public class KeyImpl implements Key {
     }
 
     public static Key of(Block block) {
-        return of(block.getState());
+        Material blockType = block.getType();
+
+        // Spawners are the only blocks that their key depends on their state.
+        if (blockType == Materials.SPAWNER.toBukkitType())
+            return of(block.getState());
+
+        // Resolving the key from the type and data of the block, without taking a snapshot of its state.
+        //noinspection deprecation
+        byte blockData = block.getData();
+        KeyImpl rawBlockKey = KeysManagerImpl.internKey(blockType, blockData);
+
+        if (!plugin.getBlockValues().hasCustomKeyParser(rawBlockKey))
+            return rawBlockKey;
+
+        Key blockKey = of(rawBlockKey, new ItemStack(blockType, 1, blockData));
+
+        return of(blockKey.getGlobalKey(), blockKey.getSubKey(), block.getLocation());
     }
 
     public static Key of(BlockState blockState) {
         if (blockState instanceof CreatureSpawner) {
             CreatureSpawner creatureSpawner = (CreatureSpawner) blockState;
-            return of(Materials.SPAWNER.toBukkitType() + "", creatureSpawner.getSpawnedType() + "", blockState.getLocation());
+            return of(Materials.SPAWNER.toBukkitType().name(), String.valueOf(creatureSpawner.getSpawnedType()),
+                    blockState.getLocation());
         }
 
         //noinspection deprecation
-        Key rawBlockKey = of(blockState.getType(), blockState.getRawData());
+        byte blockData = blockState.getRawData();
+        KeyImpl rawBlockKey = KeysManagerImpl.internKey(blockState.getType(), blockData);
 
+        if (!plugin.getBlockValues().hasCustomKeyParser(rawBlockKey))
+            return rawBlockKey;
 
-        return of(rawBlockKey.getGlobalKey(), rawBlockKey.getSubKey(), blockState.getLocation());
+        Key blockKey = of(rawBlockKey, new ItemStack(blockState.getType(), 1, blockData));
+
+        return of(blockKey.getGlobalKey(), blockKey.getSubKey(), blockState.getLocation());
     }
 
     public static Key of(ItemStack itemStack) {
@@ -64,20 +98,38 @@ public class KeyImpl implements Key {
     }
 
     public static Key of(Material material, short data) {
-        return of(of(material + "", data + ""), new ItemStack(material, 1, data));
+        KeyImpl rawKey = KeysManagerImpl.internKey(material, data);
+        // The item is only needed by custom key parsers, so it's not created if there is no parser for the key.
+        return plugin.getBlockValues().hasCustomKeyParser(rawKey) ? of(rawKey, new ItemStack(material, 1, data)) : rawKey;
     }
 
     public static Key of(String globalKey, String subKey) {
-        return new KeyImpl(LEGACY_PATTERN.matcher(globalKey).replaceAll(""), subKey);
+        if (globalKey.contains(LEGACY_PREFIX))
+            globalKey = LEGACY_PATTERN.matcher(globalKey).replaceAll("");
+
+        return KeysManagerImpl.internKey(globalKey, subKey);
     }
 
     public static Key of(String key) {
-        String[] sections = KEY_SPLITTER_PATTERN.split(key);
-        return new KeyImpl(sections[0], sections.length == 2 ? sections[1] : "");
+        // Trailing separators are ignored, and keys with more than two sections are not valid, and therefore
+        // only their global key is used.
+        int endIndex = key.length();
+        while (endIndex > 0 && isSeparator(key.charAt(endIndex - 1)))
+            --endIndex;
+
+        int separatorIndex = indexOfSeparator(key, 0, endIndex);
+
+        if (separatorIndex == -1)
+            return KeysManagerImpl.internKey(key.substring(0, endIndex), "");
+
+        int nextSeparatorIndex = indexOfSeparator(key, separatorIndex + 1, endIndex);
+
+        return KeysManagerImpl.internKey(key.substring(0, separatorIndex),
+                nextSeparatorIndex == -1 ? key.substring(separatorIndex + 1, endIndex) : "");
     }
 
     public static Key of(Material material, short data, Location location) {
-        return of(material + "", data + "", location);
+        return of(KeysManagerImpl.internKey(material, data), location);
     }
 
     public static Key of(String globalKey, String subKey, Location location) {
@@ -96,6 +148,19 @@ public class KeyImpl implements Key {
         return plugin.getBlockValues().convertKey(key, entity);
     }
 
+    private static int indexOfSeparator(String key, int fromIndex, int endIndex) {
+        for (int i = fromIndex; i < endIndex; ++i) {
+            if (isSeparator(key.charAt(i)))
+                return i;
+        }
+
+        return -1;
+    }
+
+    private static boolean isSeparator(char ch) {
+        return ch == ':' || ch == ';';
+    }
+
     @Override
     public String getGlobalKey() {
         return globalKey;
@@ -106,9 +171,28 @@ public class KeyImpl implements Key {
         return subKey;
     }
 
+    public int getId() {
+        return id;
+    }
+
+    public int getGlobalId() {
+        return globalId;
+    }
+
+    public Key getGlobalKeyInstance() {
+        return globalId == UNINTERNED_ID ? of(globalKey, "") : KeysManagerImpl.getKeyById(globalId);
+    }
+
+    public boolean isInterned() {
+        return id != UNINTERNED_ID;
+    }
+
+    /**
+     * Get a copy of this key that is marked as a key that was created by the API.
+     * Interned keys are shared, and therefore they are never marked themselves.
+     */
     public Key markAPIKey() {
-        this.apiKey = true;
-        return this;
+        return new KeyImpl(globalKey, subKey, key, id, globalId, true);
     }
 
     public boolean isAPIKey() {
@@ -117,18 +201,27 @@ public class KeyImpl implements Key {
 
     @Override
     public int compareTo(@NotNull Key o) {
-        return toString().compareTo(o.toString());
+        return this.id != UNINTERNED_ID && o instanceof KeyImpl && ((KeyImpl) o).id == this.id ? 0 :
+                this.key.compareTo(o.toString());
     }
 
     @Override
     @SuppressWarnings("all")
     public boolean equals(Object obj) {
-        return obj instanceof Key && toString().equals(obj.toString());
+        if (obj instanceof KeyImpl && this.id != UNINTERNED_ID && ((KeyImpl) obj).id != UNINTERNED_ID)
+            return ((KeyImpl) obj).id == this.id;
+
+        return obj instanceof Key && this.key.equals(obj.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.key.hashCode();
     }
 
     @Override
     public String toString() {
-        return subKey.isEmpty() ? globalKey : globalKey + ":" + subKey;
+        return this.key;
     }
 
 }
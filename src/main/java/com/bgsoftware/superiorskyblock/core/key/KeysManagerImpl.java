@@ -14,13 +14,26 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.inventory.ItemStack;
 
+import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 public class KeysManagerImpl extends Manager implements KeysManager {
 
+    private static final int MAX_INTERNED_KEYS = 65536;
+    private static final int MATERIAL_DATA_VALUES = 16;
+
+    private static final Map<String, Map<String, KeyImpl>> INTERNED_KEYS = new ConcurrentHashMap<>();
+    private static final KeyImpl[][] MATERIAL_KEYS = new KeyImpl[Material.values().length][];
+    private static volatile KeyImpl[] keysById = new KeyImpl[256];
+    private static int keysCount = 0;
+    private static int aliasesCount = 0;
+
     public KeysManagerImpl(SuperiorSkyblockPlugin plugin) {
         super(plugin);
     }
@@ -99,4 +112,100 @@ public class KeysManagerImpl extends Manager implements KeysManager {
         return map instanceof KeyMap ? (KeyMap<V>) map : KeyMapImpl.create(mapCreator, map);
     }
 
+    /**
+     * Get the canonical instance of a key, registering it if it wasn't seen before.
+     * Every distinct key is given a dense int id, which is used by {@link KeyImpl} for comparisons
+     * and by {@link PrimitiveKeyMapImpl} for lookups without hashing strings.
+     * Keys are looked up by the parts they were requested with, so keys that were already seen are
+     * returned without building any string. Once {@link #MAX_INTERNED_KEYS} keys were registered, new keys
+     * are not registered anymore and are created without an id.
+     */
+    static KeyImpl internKey(String globalKey, String subKey) {
+        KeyImpl internedKey = getInternedKey(globalKey, subKey);
+        return internedKey != null ? internedKey : registerKey(globalKey, subKey);
+    }
+
+    /**
+     * Get the canonical instance of a key of a material and data.
+     * Keys of materials with data values between 0 and 15 are kept in a table indexed by the material,
+     * so they are returned without any lookup of strings.
+     */
+    static KeyImpl internKey(Material material, short data) {
+        if (data < 0 || data >= MATERIAL_DATA_VALUES)
+            return internKey(material.name(), String.valueOf(data));
+
+        KeyImpl[] materialKeys = MATERIAL_KEYS[material.ordinal()];
+
+        if (materialKeys == null)
+            materialKeys = MATERIAL_KEYS[material.ordinal()] = new KeyImpl[MATERIAL_DATA_VALUES];
+
+        KeyImpl internedKey = materialKeys[data];
+
+        if (internedKey == null)
+            internedKey = materialKeys[data] = internKey(material.name(), String.valueOf(data));
+
+        return internedKey;
+    }
+
+    static KeyImpl getKeyById(int id) {
+        return keysById[id];
+    }
+
+    @Nullable
+    private static KeyImpl getInternedKey(String globalKey, String subKey) {
+        Map<String, KeyImpl> subKeys = INTERNED_KEYS.get(globalKey);
+        return subKeys == null ? null : subKeys.get(subKey);
+    }
+
+    private static KeyImpl registerKey(String globalKey, String subKey) {
+        synchronized (INTERNED_KEYS) {
+            KeyImpl internedKey = getInternedKey(globalKey, subKey);
+
+            if (internedKey != null)
+                return internedKey;
+
+            String canonicalGlobalKey = globalKey.toUpperCase(Locale.ENGLISH);
+            String canonicalSubKey = subKey.toUpperCase(Locale.ENGLISH);
+
+            internedKey = getInternedKey(canonicalGlobalKey, canonicalSubKey);
+
+            if (internedKey == null) {
+                KeyImpl globalKeyInstance = canonicalSubKey.isEmpty() ? null : registerKey(canonicalGlobalKey, "");
+                String key = canonicalSubKey.isEmpty() ? canonicalGlobalKey : canonicalGlobalKey + ":" + canonicalSubKey;
+
+                if (keysCount >= MAX_INTERNED_KEYS) {
+                    return new KeyImpl(canonicalGlobalKey, canonicalSubKey, key, KeyImpl.UNINTERNED_ID,
+                            globalKeyInstance == null ? KeyImpl.UNINTERNED_ID : globalKeyInstance.getId());
+                }
+
+                int id = keysCount++;
+
+                internedKey = new KeyImpl(canonicalGlobalKey, canonicalSubKey, key, id,
+                        globalKeyInstance == null ? id : globalKeyInstance.getGlobalId());
+
+                KeyImpl[] keysById = KeysManagerImpl.keysById;
+                if (id >= keysById.length) {
+                    keysById = Arrays.copyOf(keysById, keysById.length * 2);
+                }
+                keysById[id] = internedKey;
+                KeysManagerImpl.keysById = keysById;
+
+                putInternedKey(canonicalGlobalKey, canonicalSubKey, internedKey);
+            }
+
+            // The key is also registered by the parts it was requested with, so next lookups of them are direct.
+            if ((!globalKey.equals(canonicalGlobalKey) || !subKey.equals(canonicalSubKey)) &&
+                    aliasesCount < MAX_INTERNED_KEYS) {
+                ++aliasesCount;
+                putInternedKey(globalKey, subKey, internedKey);
+            }
+
+            return internedKey;
+        }
+    }
+
+    private static void putInternedKey(String globalKey, String subKey, KeyImpl internedKey) {
+        INTERNED_KEYS.computeIfAbsent(globalKey, k -> new ConcurrentHashMap<>()).put(subKey, internedKey);
+    }
+
 }
@@ -0,0 +1,515 @@
+package com.bgsoftware.superiorskyblock.core.key;
+
+import com.bgsoftware.superiorskyblock.api.key.Key;
+import com.bgsoftware.superiorskyblock.api.key.KeyMap;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * {@link KeyMap} implementation that is backed by an open-addressing table of the interned ids of the keys.
+ * Lookups, including the fallback to the global key, never hash or allocate strings. Keys that were not
+ * interned are kept in a regular map by their string form.
+ * The map is not thread-safe; maps that are accessed by several threads should be created with
+ * {@link #createConcurrent()}, which synchronizes all operations on the map.
+ */
+public class PrimitiveKeyMapImpl<V> extends AbstractMap<Key, V> implements KeyMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int EMPTY_KEY = -1;
+
+    private int[] keys;
+    private Object[] values;
+    private int size = 0;
+    private Map<String, V> uninternedValues;
+
+    private Set<Entry<Key, V>> entrySet;
+    private Map<Key, V> rawMap;
+
+    public static <V> PrimitiveKeyMapImpl<V> create() {
+        return new PrimitiveKeyMapImpl<>();
+    }
+
+    public static <V> PrimitiveKeyMapImpl<V> create(Map<Key, V> keys) {
+        PrimitiveKeyMapImpl<V> keyMap = new PrimitiveKeyMapImpl<>();
+        keyMap.putAll(keys);
+        return keyMap;
+    }
+
+    public static <V> PrimitiveKeyMapImpl<V> createConcurrent() {
+        return new Concurrent<>();
+    }
+
+    private PrimitiveKeyMapImpl() {
+        this.keys = createKeysArray(DEFAULT_CAPACITY);
+        this.values = new Object[DEFAULT_CAPACITY];
+    }
+
+    @Override
+    public int size() {
+        return this.size + (this.uninternedValues == null ? 0 : this.uninternedValues.size());
+    }
+
+    @Override
+    public boolean containsKey(Object o) {
+        return get(o) != null;
+    }
+
+    @Override
+    public V get(Object obj) {
+        KeyImpl key = toKeyImpl(obj);
+
+        if (key == null)
+            return null;
+
+        V returnValue = getValue(key);
+
+        if (returnValue != null || key.getSubKey().isEmpty())
+            return returnValue;
+
+        return key.getGlobalId() == KeyImpl.UNINTERNED_ID ? getUninternedValue(key.getGlobalKey()) :
+                getValue(key.getGlobalId());
+    }
+
+    @Override
+    public V put(Key key, V value) {
+        Preconditions.checkNotNull(key, "key parameter cannot be null.");
+
+        if (value == null)
+            return remove(key);
+
+        KeyImpl keyImpl = toKeyImpl(key);
+
+        if (!keyImpl.isInterned()) {
+            if (this.uninternedValues == null)
+                this.uninternedValues = new HashMap<>();
+            return this.uninternedValues.put(keyImpl.toString(), value);
+        }
+
+        int id = keyImpl.getId();
+        int slot = findSlot(id);
+
+        if (this.keys[slot] == id) {
+            V oldValue = (V) this.values[slot];
+            this.values[slot] = value;
+            return oldValue;
+        }
+
+        this.keys[slot] = id;
+        this.values[slot] = value;
+
+        if (++this.size * 2 > this.keys.length)
+            resize(this.keys.length * 2);
+
+        return null;
+    }
+
+    @Override
+    public V remove(Object obj) {
+        KeyImpl key = toKeyImpl(obj);
+
+        if (key == null)
+            return null;
+
+        if (!key.isInterned())
+            return this.uninternedValues == null ? null : this.uninternedValues.remove(key.toString());
+
+        return removeValue(key.getId());
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.keys, EMPTY_KEY);
+        Arrays.fill(this.values, null);
+        this.size = 0;
+        this.uninternedValues = null;
+    }
+
+    @Override
+    @NotNull
+    public Set<Entry<Key, V>> entrySet() {
+        return entrySet == null ? (entrySet = new EntrySet()) : entrySet;
+    }
+
+    @Override
+    public Key getKey(Key key) {
+        return getKey(key, null);
+    }
+
+    @Override
+    public Key getKey(Key original, Key def) {
+        KeyImpl key = toKeyImpl(original);
+
+        if (getValue(key) != null)
+            return original;
+
+        if (!key.getSubKey().isEmpty()) {
+            Key globalKey = key.getGlobalKeyInstance();
+            if (getValue((KeyImpl) globalKey) != null)
+                return globalKey;
+        }
+
+        return def;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<Key> predicate) {
+        List<Key> keysToRemove = new LinkedList<>();
+
+        for (int id : this.keys) {
+            if (id != EMPTY_KEY) {
+                Key key = KeysManagerImpl.getKeyById(id);
+                if (predicate.test(key))
+                    keysToRemove.add(key);
+            }
+        }
+
+        if (this.uninternedValues != null) {
+            for (String key : this.uninternedValues.keySet()) {
+                Key uninternedKey = KeyImpl.of(key);
+                if (predicate.test(uninternedKey))
+                    keysToRemove.add(uninternedKey);
+            }
+        }
+
+        keysToRemove.forEach(this::remove);
+
+        return !keysToRemove.isEmpty();
+    }
+
+    @Override
+    public V getRaw(Key key, V defaultValue) {
+        V returnValue = getValue(toKeyImpl(key));
+        return returnValue == null ? defaultValue : returnValue;
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Get a live view of this map, which looks up keys without falling back to their global keys.
+     * Changes to the view are written through to this map.
+     */
+    @Override
+    public Map<Key, V> asMap() {
+        return rawMap == null ? (rawMap = new RawMap()) : rawMap;
+    }
+
+    private V getValue(KeyImpl key) {
+        return key.isInterned() ? getValue(key.getId()) : getUninternedValue(key.toString());
+    }
+
+    private V getValue(int id) {
+        int slot = findSlot(id);
+        return this.keys[slot] == id ? (V) this.values[slot] : null;
+    }
+
+    private V getUninternedValue(String key) {
+        return this.uninternedValues == null ? null : this.uninternedValues.get(key);
+    }
+
+    private V removeValue(int id) {
+        int slot = findSlot(id);
+
+        if (this.keys[slot] != id)
+            return null;
+
+        V oldValue = (V) this.values[slot];
+        shiftKeys(slot);
+        --this.size;
+
+        return oldValue;
+    }
+
+    private int findSlot(int id) {
+        int mask = this.keys.length - 1;
+        int slot = mix(id) & mask;
+
+        while (this.keys[slot] != EMPTY_KEY && this.keys[slot] != id)
+            slot = (slot + 1) & mask;
+
+        return slot;
+    }
+
+    private void shiftKeys(int position) {
+        // Removing an entry from a linear-probing table requires moving back entries
+        // that were displaced by it, so lookups will not stop on the new empty slot.
+        int mask = this.keys.length - 1;
+        int last;
+        int id;
+
+        while (true) {
+            position = ((last = position) + 1) & mask;
+
+            while (true) {
+                if ((id = this.keys[position]) == EMPTY_KEY) {
+                    this.keys[last] = EMPTY_KEY;
+                    this.values[last] = null;
+                    return;
+                }
+
+                int slot = mix(id) & mask;
+
+                if (last <= position ? last >= slot || slot > position : last >= slot && slot > position)
+                    break;
+
+                position = (position + 1) & mask;
+            }
+
+            this.keys[last] = id;
+            this.values[last] = this.values[position];
+        }
+    }
+
+    private void resize(int newCapacity) {
+        int[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+
+        this.keys = createKeysArray(newCapacity);
+        this.values = new Object[newCapacity];
+
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = findSlot(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    List<Entry<Key, V>> snapshotEntries() {
+        List<Entry<Key, V>> entries = new LinkedList<>();
+
+        for (int i = 0; i < this.keys.length; ++i) {
+            if (this.keys[i] != EMPTY_KEY)
+                entries.add(new KeyEntry(KeysManagerImpl.getKeyById(this.keys[i]), (V) this.values[i]));
+        }
+
+        if (this.uninternedValues != null)
+            this.uninternedValues.forEach((key, value) -> entries.add(new KeyEntry(KeyImpl.of(key), value)));
+
+        return entries;
+    }
+
+    private static int[] createKeysArray(int capacity) {
+        int[] keys = new int[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        return keys;
+    }
+
+    private static int mix(int id) {
+        int hash = id * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static KeyImpl toKeyImpl(Object obj) {
+        if (obj instanceof KeyImpl)
+            return (KeyImpl) obj;
+        else if (obj instanceof Key)
+            return (KeyImpl) KeyImpl.of(((Key) obj).getGlobalKey(), ((Key) obj).getSubKey());
+        else if (obj instanceof String)
+            return (KeyImpl) KeyImpl.of((String) obj);
+        else
+            return null;
+    }
+
+    private static final class Concurrent<V> extends PrimitiveKeyMapImpl<V> {
+
+        @Override
+        public synchronized int size() {
+            return super.size();
+        }
+
+        @Override
+        public synchronized V get(Object obj) {
+            return super.get(obj);
+        }
+
+        @Override
+        public synchronized V put(Key key, V value) {
+            return super.put(key, value);
+        }
+
+        @Override
+        public synchronized V remove(Object obj) {
+            return super.remove(obj);
+        }
+
+        @Override
+        public synchronized void clear() {
+            super.clear();
+        }
+
+        @Override
+        public synchronized Key getKey(Key original, Key def) {
+            return super.getKey(original, def);
+        }
+
+        @Override
+        public synchronized boolean removeIf(Predicate<Key> predicate) {
+            return super.removeIf(predicate);
+        }
+
+        @Override
+        public synchronized V getRaw(Key key, V defaultValue) {
+            return super.getRaw(key, defaultValue);
+        }
+
+        @Override
+        synchronized List<Entry<Key, V>> snapshotEntries() {
+            return super.snapshotEntries();
+        }
+
+    }
+
+    private class EntrySet extends AbstractSet<Entry<Key, V>> {
+
+        @Override
+        public int size() {
+            return PrimitiveKeyMapImpl.this.size();
+        }
+
+        @Override
+        public void clear() {
+            PrimitiveKeyMapImpl.this.clear();
+        }
+
+        @Override
+        @NotNull
+        public Iterator<Entry<Key, V>> iterator() {
+            return new EntryIterator();
+        }
+
+    }
+
+    private class EntryIterator implements Iterator<Entry<Key, V>> {
+
+        // Iterating over a snapshot of the entries, so removing entries during the iteration,
+        // which moves other entries in the table, will not break the iteration.
+        private final Iterator<Entry<Key, V>> entries = snapshotEntries().iterator();
+        private Entry<Key, V> lastEntry;
+
+        @Override
+        public boolean hasNext() {
+            return entries.hasNext();
+        }
+
+        @Override
+        public Entry<Key, V> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            return lastEntry = entries.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastEntry == null)
+                throw new IllegalStateException();
+
+            PrimitiveKeyMapImpl.this.remove(lastEntry.getKey());
+            lastEntry = null;
+        }
+
+    }
+
+    private class RawMap extends AbstractMap<Key, V> {
+
+        @Override
+        public int size() {
+            return PrimitiveKeyMapImpl.this.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public V get(Object obj) {
+            KeyImpl key = toKeyImpl(obj);
+            return key == null ? null : PrimitiveKeyMapImpl.this.getRaw(key, null);
+        }
+
+        @Override
+        public V put(Key key, V value) {
+            return PrimitiveKeyMapImpl.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return PrimitiveKeyMapImpl.this.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            PrimitiveKeyMapImpl.this.clear();
+        }
+
+        @Override
+        @NotNull
+        public Set<Entry<Key, V>> entrySet() {
+            return PrimitiveKeyMapImpl.this.entrySet();
+        }
+
+    }
+
+    private class KeyEntry implements Entry<Key, V> {
+
+        private final Key key;
+        private V value;
+
+        KeyEntry(Key key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public Key getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = this.value;
+            PrimitiveKeyMapImpl.this.put(this.key, value);
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry))
+                return false;
+
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) obj;
+            return key.equals(entry.getKey()) && value.equals(entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+
+    }
+
+}
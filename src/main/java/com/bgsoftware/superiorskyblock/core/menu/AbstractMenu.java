@@ -62,7 +62,8 @@ public abstract class AbstractMenu<V extends AbstractMenuView<V, A>, A extends V
                 res.completeExceptionally(error);
             } else {
                 BukkitExecutor.sync(() -> {
-                    view.setInventory(inventory);
+                    if (!view.updateInventory(inventory))
+                        view.setInventory(inventory);
                     res.complete(view);
                 });
             }
@@ -1,12 +1,15 @@
 package com.bgsoftware.superiorskyblock.core.menu;
 
 import com.bgsoftware.superiorskyblock.api.menu.PagedMenu;
+import com.bgsoftware.superiorskyblock.api.menu.button.MenuTemplateButton;
 import com.bgsoftware.superiorskyblock.api.menu.button.MenuViewButton;
 import com.bgsoftware.superiorskyblock.api.menu.button.PagedMenuTemplateButton;
 import com.bgsoftware.superiorskyblock.api.menu.button.PagedMenuViewButton;
 import com.bgsoftware.superiorskyblock.api.menu.layout.MenuLayout;
 import com.bgsoftware.superiorskyblock.api.menu.layout.PagedMenuLayout;
 import com.bgsoftware.superiorskyblock.api.menu.view.ViewArgs;
+import com.bgsoftware.superiorskyblock.core.menu.button.AbstractMenuTemplateButton;
+import com.bgsoftware.superiorskyblock.core.menu.layout.PagedMenuLayoutImpl;
 import com.bgsoftware.superiorskyblock.core.menu.view.AbstractPagedMenuView;
 import com.google.common.base.Preconditions;
 import org.bukkit.event.inventory.InventoryClickEvent;
@@ -58,4 +61,31 @@ public abstract class AbstractPagedMenu<V extends AbstractPagedMenuView<V, A, E>
         return true;
     }
 
+    protected void invalidateSharedPages(Object sharedPagesKey) {
+        MenuLayout<V> menuLayout = getLayout();
+        if (menuLayout instanceof PagedMenuLayoutImpl)
+            ((PagedMenuLayoutImpl<V, E>) menuLayout).invalidateSharedPages(sharedPagesKey);
+    }
+
+    protected void invalidateSharedPages() {
+        MenuLayout<V> menuLayout = getLayout();
+        if (menuLayout instanceof PagedMenuLayoutImpl)
+            ((PagedMenuLayoutImpl<V, E>) menuLayout).invalidateSharedPages();
+    }
+
+    /**
+     * Check whether the items of the paged objects contain placeholders, which are parsed for the viewer.
+     */
+    protected boolean hasPagedObjectsPlaceholders() {
+        for (MenuTemplateButton<V> templateButton : getLayout().getButtons()) {
+            if (templateButton instanceof PagedMenuTemplateButton && templateButton instanceof AbstractMenuTemplateButton) {
+                TemplateItem buttonItem = ((AbstractMenuTemplateButton<V>) templateButton).getButtonTemplateItem();
+                if (buttonItem != null && buttonItem.hasPlaceholders())
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
 }
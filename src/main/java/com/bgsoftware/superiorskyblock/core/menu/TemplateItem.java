@@ -4,6 +4,7 @@ import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.itemstack.ItemBuilder;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 
 public class TemplateItem {
 
@@ -31,6 +32,18 @@ public class TemplateItem {
         return getBuilder().build(superiorPlayer);
     }
 
+    public boolean hasPlaceholders() {
+        ItemMeta itemMeta = this.itemBuilder.getItemMeta();
+
+        if (itemMeta == null)
+            return false;
+
+        if (itemMeta.hasDisplayName() && itemMeta.getDisplayName().indexOf('%') != -1)
+            return true;
+
+        return itemMeta.hasLore() && itemMeta.getLore().stream().anyMatch(line -> line.indexOf('%') != -1);
+    }
+
     public TemplateItem copy() {
         return new TemplateItem(this.itemBuilder.copy());
     }
@@ -16,8 +16,10 @@ import com.bgsoftware.superiorskyblock.core.menu.button.impl.GlobalWarpsPagedObj
 import com.bgsoftware.superiorskyblock.core.menu.converter.MenuConverter;
 import com.bgsoftware.superiorskyblock.core.menu.layout.AbstractMenuLayout;
 import com.bgsoftware.superiorskyblock.core.menu.view.AbstractPagedMenuView;
+import com.bgsoftware.superiorskyblock.core.menu.view.SharedPagesMenuView;
 import com.bgsoftware.superiorskyblock.core.menu.view.args.EmptyViewArgs;
 import com.bgsoftware.superiorskyblock.island.top.SortingComparators;
+import com.bgsoftware.superiorskyblock.island.top.SortingTypes;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 
@@ -31,10 +33,12 @@ import java.util.function.Predicate;
 public class MenuGlobalWarps extends AbstractPagedMenu<MenuGlobalWarps.View, EmptyViewArgs, Island> {
 
     private final boolean visitorWarps;
+    private final boolean sharedPages;
 
     private MenuGlobalWarps(MenuParseResult<View> parseResult, boolean visitorWarps) {
         super(MenuIdentifiers.MENU_GLOBAL_WARPS, parseResult, false);
         this.visitorWarps = visitorWarps;
+        this.sharedPages = !hasPagedObjectsPlaceholders();
     }
 
     public boolean isVisitorWarps() {
@@ -47,6 +51,12 @@ public class MenuGlobalWarps extends AbstractPagedMenu<MenuGlobalWarps.View, Emp
         return new View(superiorPlayer, previousMenuView, this);
     }
 
+    @Override
+    public void refreshViews() {
+        invalidateSharedPages();
+        super.refreshViews();
+    }
+
     @Nullable
     public static MenuGlobalWarps createInstance() {
         MenuParseResult<View> menuParseResult = MenuParserImpl.getInstance().loadMenu("global-warps.yml",
@@ -75,7 +85,7 @@ public class MenuGlobalWarps extends AbstractPagedMenu<MenuGlobalWarps.View, Emp
         return new MenuGlobalWarps(menuParseResult, visitorWarps);
     }
 
-    public class View extends AbstractPagedMenuView<MenuGlobalWarps.View, EmptyViewArgs, Island> {
+    public class View extends AbstractPagedMenuView<MenuGlobalWarps.View, EmptyViewArgs, Island> implements SharedPagesMenuView {
 
         View(SuperiorPlayer inventoryViewer, @Nullable MenuView<?, ?> previousMenuView,
              Menu<View, EmptyViewArgs> menu) {
@@ -90,6 +100,12 @@ public class MenuGlobalWarps extends AbstractPagedMenu<MenuGlobalWarps.View, Emp
                     .build(plugin.getGrid().getIslands());
         }
 
+        @Override
+        public Object getSharedPagesKey() {
+            // All views show the islands sorted by their worth.
+            return sharedPages ? SortingTypes.BY_WORTH : null;
+        }
+
         private final Predicate<Island> ISLANDS_FILTER = island -> {
             if (visitorWarps)
                 return island.getVisitorsLocation(null /* unused */) != null;
@@ -15,6 +15,7 @@ import com.bgsoftware.superiorskyblock.core.menu.button.impl.RatingsPagedObjectB
 import com.bgsoftware.superiorskyblock.core.menu.converter.MenuConverter;
 import com.bgsoftware.superiorskyblock.core.menu.layout.AbstractMenuLayout;
 import com.bgsoftware.superiorskyblock.core.menu.view.AbstractPagedMenuView;
+import com.bgsoftware.superiorskyblock.core.menu.view.SharedPagesMenuView;
 import com.bgsoftware.superiorskyblock.core.menu.view.args.IslandViewArgs;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -24,6 +25,7 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -32,8 +34,11 @@ public class MenuIslandRatings extends AbstractPagedMenu<MenuIslandRatings.View,
     private static final Function<Map.Entry<UUID, Rating>, RatingInfo> RATING_INFO_MAPPER =
             entry -> new RatingInfo(entry.getKey(), entry.getValue());
 
+    private final boolean sharedPages;
+
     private MenuIslandRatings(MenuParseResult<View> parseResult) {
         super(MenuIdentifiers.MENU_ISLAND_RATINGS, parseResult, false);
+        this.sharedPages = !hasPagedObjectsPlaceholders();
     }
 
     @Override
@@ -43,6 +48,7 @@ public class MenuIslandRatings extends AbstractPagedMenu<MenuIslandRatings.View,
     }
 
     public void refreshViews(Island island) {
+        invalidateSharedPages(island);
         refreshViews(view -> view.island.equals(island));
     }
 
@@ -53,7 +59,7 @@ public class MenuIslandRatings extends AbstractPagedMenu<MenuIslandRatings.View,
         return menuParseResult == null ? null : new MenuIslandRatings(menuParseResult);
     }
 
-    public static class View extends AbstractPagedMenuView<MenuIslandRatings.View, IslandViewArgs, MenuIslandRatings.RatingInfo> {
+    public static class View extends AbstractPagedMenuView<MenuIslandRatings.View, IslandViewArgs, MenuIslandRatings.RatingInfo> implements SharedPagesMenuView {
 
         private final Island island;
 
@@ -69,6 +75,11 @@ public class MenuIslandRatings extends AbstractPagedMenu<MenuIslandRatings.View,
                     .build(island.getRatings().entrySet(), RATING_INFO_MAPPER);
         }
 
+        @Override
+        public Object getSharedPagesKey() {
+            return ((MenuIslandRatings) getMenu()).sharedPages ? island : null;
+        }
+
     }
 
     public static class RatingInfo {
@@ -89,6 +100,19 @@ public class MenuIslandRatings extends AbstractPagedMenu<MenuIslandRatings.View,
             return rating;
         }
 
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            RatingInfo that = (RatingInfo) o;
+            return playerUUID.equals(that.playerUUID) && rating == that.rating;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(playerUUID, rating);
+        }
+
     }
 
     private static boolean convertOldGUI(SuperiorSkyblockPlugin plugin, YamlConfiguration newMenu) {
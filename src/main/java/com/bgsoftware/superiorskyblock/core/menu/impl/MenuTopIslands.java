@@ -20,6 +20,7 @@ import com.bgsoftware.superiorskyblock.core.menu.button.impl.TopIslandsSelfIslan
 import com.bgsoftware.superiorskyblock.core.menu.converter.MenuConverter;
 import com.bgsoftware.superiorskyblock.core.menu.layout.AbstractMenuLayout;
 import com.bgsoftware.superiorskyblock.core.menu.view.AbstractPagedMenuView;
+import com.bgsoftware.superiorskyblock.core.menu.view.SharedPagesMenuView;
 import com.bgsoftware.superiorskyblock.island.top.SortingTypes;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -67,6 +68,7 @@ public class MenuTopIslands extends AbstractPagedMenu<MenuTopIslands.View, MenuT
     }
 
     public void refreshViews(SortingType sortingType) {
+        invalidateSharedPages(sortingType);
         refreshViews(view -> view.sortingType.equals(sortingType));
     }
 
@@ -165,7 +167,7 @@ public class MenuTopIslands extends AbstractPagedMenu<MenuTopIslands.View, MenuT
 
     }
 
-    public static class View extends AbstractPagedMenuView<View, Args, Island> {
+    public static class View extends AbstractPagedMenuView<View, Args, Island> implements SharedPagesMenuView {
 
         private final Set<SortingType> alreadySorted = new HashSet<>();
         private SortingType sortingType;
@@ -191,6 +193,11 @@ public class MenuTopIslands extends AbstractPagedMenu<MenuTopIslands.View, MenuT
             return plugin.getGrid().getIslands(sortingType);
         }
 
+        @Override
+        public Object getSharedPagesKey() {
+            return sortingType;
+        }
+
     }
 
     private static boolean convertOldGUI(SuperiorSkyblockPlugin plugin, YamlConfiguration newMenu) {
@@ -65,13 +65,18 @@ public abstract class AbstractMenuLayout<V extends MenuView<V, ?>> implements Me
     public final Inventory buildInventory(V menuView) {
         PlaceholdersService placeholdersService = plugin.getServices().getPlaceholdersService();
 
+        AbstractMenuView<?, ?> abstractMenuView = menuView instanceof AbstractMenuView ? (AbstractMenuView<?, ?>) menuView : null;
+
         String title = placeholdersService.parsePlaceholders(menuView.getInventoryViewer().asOfflinePlayer(),
-                menuView instanceof AbstractMenuView ? ((AbstractMenuView<?, ?>) menuView).replaceTitle(this.title) : this.title);
+                abstractMenuView != null ? abstractMenuView.replaceTitle(this.title) : this.title);
 
         Inventory inventory = createInventory(menuView, title);
 
         populateInventory(inventory, menuView);
 
+        if (abstractMenuView != null)
+            abstractMenuView.setBuiltTitle(title);
+
         return inventory;
     }
 
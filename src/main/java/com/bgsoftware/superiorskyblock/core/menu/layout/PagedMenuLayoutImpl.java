@@ -12,15 +12,32 @@ import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.core.menu.button.impl.CurrentPageButton;
 import com.bgsoftware.superiorskyblock.core.menu.button.impl.NextPageButton;
 import com.bgsoftware.superiorskyblock.core.menu.button.impl.PreviousPageButton;
+import com.bgsoftware.superiorskyblock.core.menu.view.SharedPagesMenuView;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.Arrays;
 import java.util.List;
-
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Items of paged objects of views that implement {@link SharedPagesMenuView} are rendered once and shared
+ * between all the views with the same pages key, page and locale. Views that show a different object in a slot,
+ * and all other buttons of the menu, are rendered for each view separately.
+ * Shared items are rendered again when their pages are invalidated, or after a short time, so changes that the
+ * menu is not notified about are still shown.
+ */
 public class PagedMenuLayoutImpl<V extends MenuView<V, ?>, E> extends AbstractMenuLayout<V> implements PagedMenuLayout<V> {
 
+    private static final long RENDERED_ITEM_EXPIRATION_TIME = TimeUnit.SECONDS.toNanos(1);
+    private static final int MAX_RENDERED_ITEMS = 1024;
+
+    private final Map<RenderedItemKey, RenderedItem> renderedItems = new ConcurrentHashMap<>();
     private final int objectsPerPageCount;
 
     private PagedMenuLayoutImpl(String title, InventoryType inventoryType, MenuTemplateButton<V>[] buttons) {
@@ -45,28 +62,40 @@ public class PagedMenuLayoutImpl<V extends MenuView<V, ?>, E> extends AbstractMe
         List<E> pagedObjects = pagedMenuView.getPagedObjects();
         int pagedObjectSlot = 0;
 
+        Object sharedPagesKey = menuView instanceof SharedPagesMenuView ?
+                ((SharedPagesMenuView) menuView).getSharedPagesKey() : null;
+
         // Set all regular buttons in the menu
         for (int slot = 0; slot < this.buttons.length; ++slot) {
             MenuViewButton<V> button = this.buttons[slot].createViewButton(menuView);
+            RenderedItemKey renderedItemKey = null;
+            E pagedObject = null;
 
             if (button instanceof PagedMenuViewButton) {
                 PagedMenuViewButton<V, E> pagedMenuButton = (PagedMenuViewButton<V, E>) button;
                 int objectIndex = pagedObjectSlot + (this.objectsPerPageCount * (currentPage - 1));
 
+                if (sharedPagesKey != null) {
+                    renderedItemKey = new RenderedItemKey(sharedPagesKey, currentPage, pagedObjectSlot,
+                            menuView.getInventoryViewer().getUserLocale());
+                }
+
                 ++pagedObjectSlot;
 
                 if (objectIndex >= pagedObjects.size()) {
                     inventory.setItem(slot, ((PagedMenuTemplateButton<V, E>) pagedMenuButton.getTemplate()).getNullItem());
                     continue;
                 } else {
-                    pagedMenuButton.updateObject(pagedObjects.get(objectIndex));
+                    pagedObject = pagedObjects.get(objectIndex);
+                    pagedMenuButton.updateObject(pagedObject);
                 }
             }
 
             ItemStack buttonItem;
 
             try {
-                buttonItem = button.createViewItem();
+                buttonItem = renderedItemKey == null || pagedObject == null ? button.createViewItem() :
+                        createSharedViewItem(button, renderedItemKey, pagedObject);
             } catch (Exception error) {
                 Log.entering("ENTER", slot);
                 Log.error(error, "An unexpected error occurred while setting up menu:");
@@ -94,6 +123,45 @@ public class PagedMenuLayoutImpl<V extends MenuView<V, ?>, E> extends AbstractMe
         }
     }
 
+    /**
+     * Invalidate the shared items of all pages with the given key.
+     */
+    public void invalidateSharedPages(Object sharedPagesKey) {
+        this.renderedItems.keySet().removeIf(renderedItemKey -> renderedItemKey.sharedPagesKey.equals(sharedPagesKey));
+    }
+
+    /**
+     * Invalidate the shared items of all pages.
+     */
+    public void invalidateSharedPages() {
+        this.renderedItems.clear();
+    }
+
+    private ItemStack createSharedViewItem(MenuViewButton<V> button, RenderedItemKey renderedItemKey, E pagedObject) {
+        if (this.renderedItems.size() >= MAX_RENDERED_ITEMS)
+            this.renderedItems.values().removeIf(RenderedItem::isExpired);
+
+        RenderedItem renderedItem = this.renderedItems.get(renderedItemKey);
+
+        if (renderedItem != null && !renderedItem.isExpired()) {
+            // The view shows a different object in this slot than the other views, so it's rendered for the view only.
+            return renderedItem.pagedObject.equals(pagedObject) ? renderedItem.item : button.createViewItem();
+        }
+
+        // The item is rendered outside the map, so rendering it does not block access to other items.
+        // Views that render the same slot at the same time may all render it, and the first render is shared.
+        ItemStack item = button.createViewItem();
+        RenderedItem newRenderedItem = new RenderedItem(pagedObject, item);
+
+        if (renderedItem == null) {
+            this.renderedItems.putIfAbsent(renderedItemKey, newRenderedItem);
+        } else {
+            this.renderedItems.replace(renderedItemKey, renderedItem, newRenderedItem);
+        }
+
+        return item;
+    }
+
     public static <V extends PagedMenuView<V, ?, E>, E> Builder<V, E> newBuilder() {
         return new Builder<>();
     }
@@ -133,4 +201,52 @@ public class PagedMenuLayoutImpl<V extends MenuView<V, ?>, E> extends AbstractMe
 
     }
 
+    private static final class RenderedItemKey {
+
+        private final Object sharedPagesKey;
+        private final int page;
+        private final int pagedObjectSlot;
+        private final Locale locale;
+
+        RenderedItemKey(Object sharedPagesKey, int page, int pagedObjectSlot, Locale locale) {
+            this.sharedPagesKey = sharedPagesKey;
+            this.page = page;
+            this.pagedObjectSlot = pagedObjectSlot;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            RenderedItemKey that = (RenderedItemKey) o;
+            return page == that.page && pagedObjectSlot == that.pagedObjectSlot &&
+                    sharedPagesKey.equals(that.sharedPagesKey) && Objects.equals(locale, that.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sharedPagesKey, page, pagedObjectSlot, locale);
+        }
+
+    }
+
+    private static final class RenderedItem {
+
+        private final Object pagedObject;
+        private final ItemStack item;
+        private final long expirationTime;
+
+        RenderedItem(Object pagedObject, ItemStack item) {
+            this.pagedObject = pagedObject;
+            this.item = item;
+            this.expirationTime = System.nanoTime() + RENDERED_ITEM_EXPIRATION_TIME;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - this.expirationTime >= 0;
+        }
+
+    }
+
 }
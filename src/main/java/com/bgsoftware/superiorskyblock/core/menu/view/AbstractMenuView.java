@@ -18,42 +18,86 @@ import com.bgsoftware.superiorskyblock.core.messages.Message;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
-
+import java.util.Objects;
+
+/**
+ * Views are refreshed by rendering the menu again and comparing the new render against the items that were
+ * last rendered into the view. If the player still has the view open with the same title and size, only the
+ * slots that were changed are updated in the open inventory, without opening it again.
+ * Refresh requests of a view are merged, so a view is rendered at most once per tick.
+ */
 public abstract class AbstractMenuView<V extends MenuView<V, A>, A extends ViewArgs> extends BaseMenuView<V, A> {
 
     private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
 
     private Inventory inventory;
+    private ItemStack[] renderedContents;
+    private String renderedTitle;
+    private volatile String builtTitle;
 
     private boolean closeButton = false;
     private boolean nextMove = false;
     private boolean closed = false;
+    // The refresh state is only accessed from the main thread.
     private boolean refreshing = false;
+    private boolean refreshScheduled = false;
+    private boolean refreshAgain = false;
 
     protected AbstractMenuView(SuperiorPlayer inventoryViewer, @Nullable MenuView<?, ?> previousMenuView, Menu<V, A> menu) {
         super(inventoryViewer, menu, previousMenuView);
     }
 
     @Override
-    @SuppressWarnings({"rawtypes", "unchecked"})
     public void refreshView() {
-        if (refreshing)
+        // The refresh state of the view is only accessed from the main thread, while views may be refreshed
+        // from async callbacks.
+        BukkitExecutor.ensureMain(this::scheduleRefresh);
+    }
+
+    private void scheduleRefresh() {
+        if (refreshScheduled)
             return;
 
+        refreshScheduled = true;
+        BukkitExecutor.sync(this::refreshViewInternal);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void refreshViewInternal() {
+        refreshScheduled = false;
+
+        if (refreshing) {
+            // The view is rendered again once the current render is done.
+            refreshAgain = true;
+            return;
+        }
+
         refreshing = true;
         previousMove = false;
 
-        ((AbstractMenu) menu).refreshView(this).whenComplete((view, error) -> {
-            if (error != null) {
-                ((Throwable) error).printStackTrace();
-            } else {
-                refreshing = false;
-                previousMove = true;
-            }
-        });
+        ((AbstractMenu) menu).refreshView(this).whenComplete((view, error) ->
+                BukkitExecutor.ensureMain(() -> onRefreshComplete((Throwable) error)));
+    }
+
+    private void onRefreshComplete(@Nullable Throwable error) {
+        refreshing = false;
+
+        if (error != null) {
+            // Failed renders are not retried, so views can be refreshed again later.
+            refreshAgain = false;
+            Log.error(error, "An unexpected error occurred while refreshing menu view:");
+            return;
+        }
+
+        previousMove = true;
+        if (refreshAgain) {
+            refreshAgain = false;
+            scheduleRefresh();
+        }
     }
 
     @Override
@@ -72,10 +116,47 @@ public abstract class AbstractMenuView<V extends MenuView<V, A>, A extends ViewA
     public void setInventory(Inventory inventory) {
         if (closed || this.inventory != inventory) {
             this.inventory = inventory;
+            this.renderedContents = inventory == null ? null : inventory.getContents();
+            this.renderedTitle = this.builtTitle;
             this.openView();
         }
     }
 
+    /**
+     * Update the open inventory of the view with the items of a new render of it.
+     * Only slots that were changed since the last render are updated.
+     *
+     * @param inventory The new render of the view.
+     * @return Whether the open inventory was updated.
+     * If false, the new render should be opened instead.
+     */
+    public boolean updateInventory(Inventory inventory) {
+        if (closed || this.inventory == null || this.renderedContents == null ||
+                !Objects.equals(this.renderedTitle, this.builtTitle) ||
+                this.inventory.getSize() != inventory.getSize() || this.inventory.getType() != inventory.getType())
+            return false;
+
+        Player player = inventoryViewer.asPlayer();
+
+        if (player == null || player.getOpenInventory().getTopInventory().getHolder() != this)
+            return false;
+
+        ItemStack[] contents = inventory.getContents();
+
+        for (int slot = 0; slot < contents.length; ++slot) {
+            if (!Objects.equals(this.renderedContents[slot], contents[slot]))
+                this.inventory.setItem(slot, contents[slot]);
+        }
+
+        this.renderedContents = contents;
+
+        return true;
+    }
+
+    public void setBuiltTitle(String title) {
+        this.builtTitle = title;
+    }
+
     public boolean isRefreshing() {
         return refreshing;
     }
@@ -0,0 +1,18 @@
+package com.bgsoftware.superiorskyblock.core.menu.view;
+
+import javax.annotation.Nullable;
+
+/**
+ * Views of paged menus which show the same paged objects to all of their viewers.
+ * The rendered items of the paged objects are shared between all the views of the menu that have the same
+ * key, page and locale. Other buttons of the menu are still rendered for each view.
+ */
+public interface SharedPagesMenuView {
+
+    /**
+     * Get the key of the pages shown by this view, or null if the pages of this view cannot be shared.
+     */
+    @Nullable
+    Object getSharedPagesKey();
+
+}
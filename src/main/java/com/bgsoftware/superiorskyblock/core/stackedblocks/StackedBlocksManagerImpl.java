@@ -17,18 +17,23 @@ import com.bgsoftware.superiorskyblock.core.logging.Debug;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.core.serialization.Serializers;
 import com.bgsoftware.superiorskyblock.core.stackedblocks.container.StackedBlocksContainer;
+import com.bgsoftware.superiorskyblock.core.stackedblocks.container.StackedBlocksLoader;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.google.common.base.Preconditions;
+import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public class StackedBlocksManagerImpl extends Manager implements StackedBlocksManager {
@@ -47,19 +52,29 @@ public class StackedBlocksManagerImpl extends Manager implements StackedBlocksMa
 
         Log.info("Starting to load stacked blocks...");
 
-        AtomicBoolean updateBlockKeys = new AtomicBoolean(false);
-
-        databaseBridge.loadAllObjects("stacked_blocks", _resultSet -> {
-            DatabaseResult resultSet = new DatabaseResult(_resultSet);
-            loadStackedBlock(resultSet);
-            Optional<String> item = resultSet.getString("block_type");
-            if (!item.isPresent() || item.get().isEmpty())
-                updateBlockKeys.set(true);
+        this.stackedBlocksContainer.setLoader(new StackedBlocksLoader() {
+            @Override
+            public CompletableFuture<List<StackedBlock>> loadStackedBlocks(String worldName, int chunkX, int chunkZ) {
+                return loadChunkStackedBlocks(worldName, chunkX, chunkZ);
+            }
+
+            @Override
+            public void saveLoadedChanges(List<StackedBlock> savedStackedBlocks, List<StackedBlock> deletedStackedBlocks) {
+                savedStackedBlocks.forEach(stackedBlock -> StackedBlocksDatabaseBridge.saveStackedBlock(
+                        StackedBlocksManagerImpl.this, stackedBlock));
+                deletedStackedBlocks.forEach(stackedBlock -> StackedBlocksDatabaseBridge.deleteStackedBlock(
+                        StackedBlocksManagerImpl.this, stackedBlock));
+            }
         });
 
-        if (updateBlockKeys.get()) {
-            BukkitExecutor.sync(this::updateStackedBlockKeys);
-        }
+        // Stacked blocks are loaded when their chunks are loaded.
+        // Chunks that were loaded before the plugin was enabled will not call ChunkLoadEvent.
+        BukkitExecutor.sync(() -> {
+            for (World world : Bukkit.getWorlds()) {
+                for (Chunk chunk : world.getLoadedChunks())
+                    loadChunk(chunk);
+            }
+        });
 
         Log.info("Finished stacked blocks!");
     }
@@ -104,6 +119,9 @@ public class StackedBlocksManagerImpl extends Manager implements StackedBlocksMa
         Log.debug(Debug.SET_BLOCK_AMOUNT, location, blockKey, amount);
 
         StackedBlock stackedBlock = this.stackedBlocksContainer.createStackedBlock(location);
+        // Changes to blocks of chunks that are loaded from the database are saved once they are merged
+        // with the stored blocks.
+        boolean loadingChunk = this.stackedBlocksContainer.isLoading(location);
 
         boolean succeed = true;
 
@@ -118,11 +136,13 @@ public class StackedBlocksManagerImpl extends Manager implements StackedBlocksMa
             stackedBlock.setAmount(amount);
             // Must be called with delay in order to fix issue #632
             BukkitExecutor.sync(() -> stackedBlock.updateName(plugin), 2L);
-            StackedBlocksDatabaseBridge.saveStackedBlock(this, stackedBlock);
+            if (!loadingChunk)
+                StackedBlocksDatabaseBridge.saveStackedBlock(this, stackedBlock);
         } else {
             stackedBlock.removeHologram();
             this.stackedBlocksContainer.removeStackedBlock(location);
-            StackedBlocksDatabaseBridge.deleteStackedBlock(this, stackedBlock);
+            if (!loadingChunk)
+                StackedBlocksDatabaseBridge.deleteStackedBlock(this, stackedBlock);
         }
 
         return succeed;
@@ -138,7 +158,9 @@ public class StackedBlocksManagerImpl extends Manager implements StackedBlocksMa
 
         if (oldStackedBlock != null) {
             oldStackedBlock.removeHologram();
-            StackedBlocksDatabaseBridge.deleteStackedBlock(this, oldStackedBlock);
+            // Stored blocks of chunks that are loaded from the database are deleted once the load is completed.
+            if (!this.stackedBlocksContainer.isLoading(location))
+                StackedBlocksDatabaseBridge.deleteStackedBlock(this, oldStackedBlock);
         }
 
         return oldStackedBlock == null ? 1 : oldStackedBlock.getAmount();
@@ -161,16 +183,14 @@ public class StackedBlocksManagerImpl extends Manager implements StackedBlocksMa
 
         Map<Location, Integer> removedStackedBlocks = new LinkedHashMap<>();
 
-        try {
-            databaseBridge.batchOperations(true);
-            this.stackedBlocksContainer.removeStackedBlocks(chunkPosition, stackedBlock -> {
-                removedStackedBlocks.put(stackedBlock.getLocation(), stackedBlock.getAmount());
-                stackedBlock.removeHologram();
-                StackedBlocksDatabaseBridge.deleteStackedBlock(this, stackedBlock);
-            });
-        } finally {
-            databaseBridge.batchOperations(false);
-        }
+        this.stackedBlocksContainer.removeStackedBlocks(chunkPosition, stackedBlock -> {
+            removedStackedBlocks.put(stackedBlock.getLocation(), stackedBlock.getAmount());
+            stackedBlock.removeHologram();
+        });
+
+        // The chunk may have stored blocks even if none were removed, as its blocks may not be loaded.
+        StackedBlocksDatabaseBridge.deleteStackedBlocks(this, StackedBlocksDatabaseBridge.getChunkKey(
+                chunkPosition.getWorldName(), chunkPosition.getX(), chunkPosition.getZ()));
 
         return Collections.unmodifiableMap(removedStackedBlocks);
     }
@@ -253,13 +273,37 @@ public class StackedBlocksManagerImpl extends Manager implements StackedBlocksMa
         this.stackedBlocksContainer.forEach(chunkPosition, consumer);
     }
 
-    public void saveStackedBlocks() {
-        StackedBlocksDatabaseBridge.deleteStackedBlocks(this);
+    public void loadChunk(Chunk chunk) {
+        this.stackedBlocksContainer.loadChunk(ChunkPosition.of(chunk)).whenComplete((result, error) ->
+                BukkitExecutor.ensureMain(() -> {
+                    if (chunk.isLoaded())
+                        updateStackedBlockHolograms(chunk);
+                }));
+    }
+
+    /**
+     * Load the stacked blocks of a chunk, whether the chunk is loaded or not.
+     * The stacked blocks of chunks that are not loaded are not kept in memory.
+     *
+     * @param chunkPosition The position of the chunk.
+     */
+    public CompletableFuture<List<StackedBlock>> loadStackedBlocks(ChunkPosition chunkPosition) {
+        return this.stackedBlocksContainer.loadStackedBlocks(chunkPosition);
+    }
 
+    public void unloadChunk(Chunk chunk) {
+        this.stackedBlocksContainer.unloadChunk(ChunkPosition.of(chunk), StackedBlock::removeHologram);
+    }
+
+    public void saveStackedBlocks() {
+        // Only stacked blocks of loaded chunks are kept in memory; all changes to stacked blocks are saved
+        // when they are made, so the stacked blocks of other chunks are already up to date in the database.
         try {
             databaseBridge.batchOperations(true);
             this.stackedBlocksContainer.forEach(stackedBlock -> {
-                if (stackedBlock.getAmount() > 1) {
+                // Blocks of chunks that are loaded from the database are not merged with their stored blocks yet.
+                if (stackedBlock.getAmount() > 1 && stackedBlock.getBlockKey() != null &&
+                        !this.stackedBlocksContainer.isLoading(stackedBlock.getLocation())) {
                     StackedBlocksDatabaseBridge.saveStackedBlock(this, stackedBlock);
                 }
             });
@@ -268,37 +312,65 @@ public class StackedBlocksManagerImpl extends Manager implements StackedBlocksMa
         }
     }
 
-    private void loadStackedBlock(DatabaseResult resultSet) {
+    private CompletableFuture<List<StackedBlock>> loadChunkStackedBlocks(String worldName, int chunkX, int chunkZ) {
+        String chunkKey = StackedBlocksDatabaseBridge.getChunkKey(worldName, chunkX, chunkZ);
+        CompletableFuture<List<StackedBlock>> result = new CompletableFuture<>();
+
+        Runnable loadTask = () -> {
+            List<StackedBlock> stackedBlocks = new LinkedList<>();
+            try {
+                StackedBlocksDatabaseBridge.loadStackedBlocks(this, chunkKey, _resultSet -> {
+                    StackedBlock stackedBlock = loadStackedBlock(new DatabaseResult(_resultSet));
+                    if (stackedBlock != null)
+                        stackedBlocks.add(stackedBlock);
+                });
+            } catch (Throwable error) {
+                Log.error(error, "An unexpected error occurred while loading stacked blocks of chunk ", chunkKey, ":");
+            }
+            result.complete(stackedBlocks);
+        };
+
+        // Loading is done on the same data thread as the writes of the chunk, so all pending writes are
+        // executed before the chunk is loaded.
+        if (BukkitExecutor.isDataThread(chunkKey)) {
+            loadTask.run();
+        } else {
+            BukkitExecutor.data(chunkKey, loadTask);
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private StackedBlock loadStackedBlock(DatabaseResult resultSet) {
         Optional<Location> location = resultSet.getString("location").map(Serializers.LOCATION_SPACED_SERIALIZER::deserialize);
         if (!location.isPresent()) {
             Log.warn("Cannot load stacked block from null location, skipping...");
-            return;
+            return null;
         }
 
         if (location.get().getWorld() == null) {
             Log.warn("Cannot load stacked block with invalid world ",
                     LazyWorldLocation.getWorldName(location.get()), ", skipping...");
-            return;
+            return null;
         }
 
         Optional<Integer> amount = resultSet.getInt("amount");
         if (!amount.isPresent()) {
             Log.warn("Cannot load stacked block from null amount, skipping...");
-            return;
+            return null;
         }
 
         Optional<String> item = resultSet.getString("block_type");
 
+        // Stacked blocks without keys get their keys when their holograms are updated.
         Key blockKey = !item.isPresent() || item.get().isEmpty() ? null : KeyImpl.of(item.get());
 
-        StackedBlock stackedBlock = this.stackedBlocksContainer.createStackedBlock(location.get());
+        StackedBlock stackedBlock = new StackedBlock(location.get());
         stackedBlock.setAmount(amount.get());
         stackedBlock.setBlockKey(blockKey);
-    }
 
-    private void updateStackedBlockKeys() {
-        this.stackedBlocksContainer.forEach(stackedBlock ->
-                stackedBlock.setBlockKey(KeyImpl.of(stackedBlock.getLocation().getBlock())));
+        return stackedBlock;
     }
 
     private void initializeDatabaseBridge() {
@@ -1,61 +1,340 @@
 package com.bgsoftware.superiorskyblock.core.stackedblocks.container;
 
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
-import com.bgsoftware.superiorskyblock.core.LocationKey;
+import com.bgsoftware.superiorskyblock.core.LazyWorldLocation;
+import com.bgsoftware.superiorskyblock.core.collections.LongObjectMap;
 import com.bgsoftware.superiorskyblock.core.stackedblocks.StackedBlock;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import org.bukkit.Location;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
+/**
+ * Stacked blocks are stored per chunk, and are loaded from the database when their chunks are loaded.
+ * Chunks that are loaded in their world are kept in memory until they are unloaded, while other chunks
+ * are released right after they are accessed.
+ * The stacked blocks of a chunk are considered absent until the chunk is loaded from the database; accessing
+ * them never waits for the database.
+ * Blocks that are changed while their chunk is loaded are created as new blocks, and are merged with their stored
+ * blocks once the load is completed: their amounts are added to the stored amounts, and stored blocks that were
+ * removed are deleted. The merge is done on the main thread, same as changes to stacked blocks.
+ * The blocks of each chunk are kept in a primitive map, keyed by their packed position inside the chunk.
+ */
 public class DefaultStackedBlocksContainer implements StackedBlocksContainer {
 
-    private final Map<ChunkPosition, Map<LocationKey, StackedBlock>> stackedBlocks = new HashMap<>();
+    private final Map<String, LongObjectMap<ChunkStackedBlocks>> stackedBlocks = new HashMap<>();
+
+    private StackedBlocksLoader loader = new StackedBlocksLoader() {
+        @Override
+        public CompletableFuture<List<StackedBlock>> loadStackedBlocks(String worldName, int chunkX, int chunkZ) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        @Override
+        public void saveLoadedChanges(List<StackedBlock> savedStackedBlocks, List<StackedBlock> deletedStackedBlocks) {
+            // Do nothing.
+        }
+    };
+
+    @Override
+    public void setLoader(StackedBlocksLoader loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> loadChunk(ChunkPosition chunkPosition) {
+        ChunkStackedBlocks chunkStackedBlocks = getOrCreateChunk(chunkPosition.getWorldName(),
+                chunkPosition.getX(), chunkPosition.getZ());
+        chunkStackedBlocks.resident = true;
+        return chunkStackedBlocks.loaded ? CompletableFuture.completedFuture(null) : chunkStackedBlocks.pendingLoad;
+    }
+
+    @Override
+    public CompletableFuture<List<StackedBlock>> loadStackedBlocks(ChunkPosition chunkPosition) {
+        CompletableFuture<Void> pendingLoad;
+
+        synchronized (this) {
+            ChunkStackedBlocks chunkStackedBlocks = getChunk(chunkPosition.getWorldName(), chunkPosition.getX(), chunkPosition.getZ());
+
+            if (chunkStackedBlocks == null) {
+                // The chunk is not loaded, therefore its stacked blocks are loaded without keeping them.
+                return this.loader.loadStackedBlocks(chunkPosition.getWorldName(), chunkPosition.getX(), chunkPosition.getZ());
+            }
+
+            if (chunkStackedBlocks.pendingLoad == null)
+                return CompletableFuture.completedFuture(copyBlocks(chunkStackedBlocks.blocks));
+
+            pendingLoad = chunkStackedBlocks.pendingLoad;
+        }
+
+        return pendingLoad.thenApply(v -> {
+            synchronized (this) {
+                ChunkStackedBlocks chunkStackedBlocks = getChunk(chunkPosition.getWorldName(), chunkPosition.getX(), chunkPosition.getZ());
+                return chunkStackedBlocks == null ? Collections.<StackedBlock>emptyList() : copyBlocks(chunkStackedBlocks.blocks);
+            }
+        });
+    }
+
+    @Override
+    public void unloadChunk(ChunkPosition chunkPosition, Consumer<StackedBlock> consumer) {
+        List<StackedBlock> unloadedStackedBlocks;
+
+        synchronized (this) {
+            ChunkStackedBlocks chunkStackedBlocks = getChunk(chunkPosition.getWorldName(), chunkPosition.getX(), chunkPosition.getZ());
+
+            if (chunkStackedBlocks == null)
+                return;
+
+            chunkStackedBlocks.resident = false;
+            unloadedStackedBlocks = copyBlocks(chunkStackedBlocks.blocks);
+            releaseIfNotResident(chunkStackedBlocks);
+        }
+
+        unloadedStackedBlocks.forEach(consumer);
+    }
 
     @Nullable
     @Override
     public StackedBlock getStackedBlock(Location location) {
-        ChunkPosition chunkPosition = ChunkPosition.of(location);
-        Map<LocationKey, StackedBlock> chunkStackedBlocks = this.stackedBlocks.get(chunkPosition);
-        return chunkStackedBlocks == null ? null : chunkStackedBlocks.get(new LocationKey(location));
+        long blockKey = getBlockKey(location);
+        return accessChunk(LazyWorldLocation.getWorldName(location), location.getBlockX() >> 4,
+                location.getBlockZ() >> 4, false, chunkStackedBlocks -> chunkStackedBlocks.blocks.get(blockKey), null);
     }
 
     @Override
     public StackedBlock createStackedBlock(Location location) {
-        ChunkPosition chunkPosition = ChunkPosition.of(location);
-        return this.stackedBlocks.computeIfAbsent(chunkPosition, c -> new HashMap<>())
-                .computeIfAbsent(new LocationKey(location), l -> new StackedBlock(location.clone()));
+        long blockKey = getBlockKey(location);
+        return accessChunk(LazyWorldLocation.getWorldName(location), location.getBlockX() >> 4,
+                location.getBlockZ() >> 4, true, chunkStackedBlocks -> {
+                    StackedBlock stackedBlock = chunkStackedBlocks.blocks.get(blockKey);
+                    if (stackedBlock == null) {
+                        stackedBlock = new StackedBlock(location.clone());
+                        chunkStackedBlocks.blocks.put(blockKey, stackedBlock);
+                        // The block is merged with its stored block once the chunk is loaded.
+                        if (chunkStackedBlocks.pendingLoad != null)
+                            chunkStackedBlocks.createdWhileLoading.put(blockKey, stackedBlock);
+                    }
+                    return stackedBlock;
+                }, null);
     }
 
     @Override
     public StackedBlock removeStackedBlock(Location location) {
-        ChunkPosition chunkPosition = ChunkPosition.of(location);
-        Map<LocationKey, StackedBlock> chunkStackedBlocks = this.stackedBlocks.get(chunkPosition);
-        StackedBlock removedStackedBlock = chunkStackedBlocks == null ? null : chunkStackedBlocks.remove(new LocationKey(location));
-        if (chunkStackedBlocks != null && chunkStackedBlocks.isEmpty())
-            this.stackedBlocks.remove(chunkPosition);
-        return removedStackedBlock;
+        long blockKey = getBlockKey(location);
+        // The block may be stored in the database even if its chunk is not loaded, therefore the chunk is
+        // loaded so its stored block is deleted.
+        return accessChunk(LazyWorldLocation.getWorldName(location), location.getBlockX() >> 4,
+                location.getBlockZ() >> 4, true, chunkStackedBlocks -> {
+                    StackedBlock stackedBlock = chunkStackedBlocks.blocks.get(blockKey);
+                    if (stackedBlock != null)
+                        chunkStackedBlocks.blocks.remove(blockKey, stackedBlock);
+                    // Blocks that are loaded after they were removed must not be added back.
+                    if (chunkStackedBlocks.pendingLoad != null) {
+                        chunkStackedBlocks.createdWhileLoading.remove(blockKey, stackedBlock);
+                        chunkStackedBlocks.removedWhileLoading.put(blockKey, Boolean.TRUE);
+                    }
+                    return stackedBlock;
+                }, null);
+    }
+
+    @Override
+    public synchronized boolean isLoading(Location location) {
+        ChunkStackedBlocks chunkStackedBlocks = getChunk(LazyWorldLocation.getWorldName(location),
+                location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        return chunkStackedBlocks != null && chunkStackedBlocks.pendingLoad != null;
     }
 
     @Override
     public void forEach(ChunkPosition chunkPosition, Consumer<StackedBlock> consumer) {
-        Map<LocationKey, StackedBlock> chunkStackedBlocks = this.stackedBlocks.get(chunkPosition);
-        if (chunkStackedBlocks != null)
-            chunkStackedBlocks.values().forEach(consumer);
+        List<StackedBlock> chunkStackedBlocks = accessChunk(chunkPosition.getWorldName(), chunkPosition.getX(),
+                chunkPosition.getZ(), false, _chunkStackedBlocks -> copyBlocks(_chunkStackedBlocks.blocks),
+                Collections.emptyList());
+        chunkStackedBlocks.forEach(consumer);
     }
 
     @Override
     public void forEach(Consumer<StackedBlock> consumer) {
-        this.stackedBlocks.values().forEach(chunkStackedBlocks -> chunkStackedBlocks.values().forEach(consumer));
+        List<StackedBlock> loadedStackedBlocks = new LinkedList<>();
+
+        synchronized (this) {
+            for (LongObjectMap<ChunkStackedBlocks> worldChunks : this.stackedBlocks.values())
+                worldChunks.forEach(chunkStackedBlocks -> chunkStackedBlocks.blocks.forEach(loadedStackedBlocks::add));
+        }
+
+        loadedStackedBlocks.forEach(consumer);
     }
 
     @Override
     public void removeStackedBlocks(ChunkPosition chunkPosition, Consumer<StackedBlock> consumer) {
-        Map<LocationKey, StackedBlock> chunkStackedBlocks = this.stackedBlocks.remove(chunkPosition);
-        if (chunkStackedBlocks != null)
-            chunkStackedBlocks.values().forEach(consumer);
+        List<StackedBlock> removedStackedBlocks = accessChunk(chunkPosition.getWorldName(), chunkPosition.getX(),
+                chunkPosition.getZ(), false, chunkStackedBlocks -> {
+                    List<StackedBlock> stackedBlocks = copyBlocks(chunkStackedBlocks.blocks);
+                    chunkStackedBlocks.blocks.clear();
+                    // Blocks that are loaded after the chunk was cleared must not be added back.
+                    if (chunkStackedBlocks.pendingLoad != null) {
+                        chunkStackedBlocks.createdWhileLoading.clear();
+                        chunkStackedBlocks.removedWhileLoading.clear();
+                        chunkStackedBlocks.clearedWhileLoading = true;
+                    }
+                    return stackedBlocks;
+                }, Collections.emptyList());
+        removedStackedBlocks.forEach(consumer);
+    }
+
+    private synchronized <R> R accessChunk(String worldName, int chunkX, int chunkZ, boolean create,
+                                           Function<ChunkStackedBlocks, R> action, R defaultValue) {
+        ChunkStackedBlocks chunkStackedBlocks = getChunk(worldName, chunkX, chunkZ);
+
+        if (chunkStackedBlocks == null) {
+            if (!create)
+                return defaultValue;
+
+            // The chunk is not loaded, therefore it is kept only until its changes are merged with its
+            // stored blocks, and then released.
+            chunkStackedBlocks = getOrCreateChunk(worldName, chunkX, chunkZ);
+        }
+
+        R result = action.apply(chunkStackedBlocks);
+        releaseIfNotResident(chunkStackedBlocks);
+        return result;
+    }
+
+    private ChunkStackedBlocks getOrCreateChunk(String worldName, int chunkX, int chunkZ) {
+        ChunkStackedBlocks chunkStackedBlocks = getChunk(worldName, chunkX, chunkZ);
+
+        if (chunkStackedBlocks == null) {
+            chunkStackedBlocks = new ChunkStackedBlocks(worldName, chunkX, chunkZ);
+            this.stackedBlocks.computeIfAbsent(worldName, w -> new LongObjectMap<>())
+                    .put(getChunkKey(chunkX, chunkZ), chunkStackedBlocks);
+            startLoad(chunkStackedBlocks);
+        }
+
+        return chunkStackedBlocks;
+    }
+
+    private void startLoad(ChunkStackedBlocks chunkStackedBlocks) {
+        CompletableFuture<Void> pendingLoad = chunkStackedBlocks.pendingLoad = new CompletableFuture<>();
+        CompletableFuture<List<StackedBlock>> loadResult;
+
+        try {
+            loadResult = this.loader.loadStackedBlocks(chunkStackedBlocks.worldName, chunkStackedBlocks.x, chunkStackedBlocks.z);
+        } catch (Throwable error) {
+            loadResult = new CompletableFuture<>();
+            loadResult.completeExceptionally(error);
+        }
+
+        loadResult.whenComplete((loadedStackedBlocks, error) -> BukkitExecutor.ensureMain(() -> {
+            List<StackedBlock> savedStackedBlocks = new LinkedList<>();
+            List<StackedBlock> deletedStackedBlocks = new LinkedList<>();
+
+            synchronized (this) {
+                mergeLoadedBlocks(chunkStackedBlocks, loadedStackedBlocks == null ? Collections.emptyList() :
+                        loadedStackedBlocks, savedStackedBlocks, deletedStackedBlocks);
+
+                chunkStackedBlocks.pendingLoad = null;
+                chunkStackedBlocks.loaded = true;
+                chunkStackedBlocks.clearedWhileLoading = false;
+                chunkStackedBlocks.createdWhileLoading.clear();
+                chunkStackedBlocks.removedWhileLoading.clear();
+
+                // The chunk may have been unloaded while it was loaded from the database.
+                releaseIfNotResident(chunkStackedBlocks);
+            }
+
+            if (!savedStackedBlocks.isEmpty() || !deletedStackedBlocks.isEmpty())
+                this.loader.saveLoadedChanges(savedStackedBlocks, deletedStackedBlocks);
+
+            pendingLoad.complete(null);
+        }));
+    }
+
+    private static void mergeLoadedBlocks(ChunkStackedBlocks chunkStackedBlocks, List<StackedBlock> loadedStackedBlocks,
+                                          List<StackedBlock> savedStackedBlocks, List<StackedBlock> deletedStackedBlocks) {
+        // The stored blocks of a cleared chunk were already deleted.
+        if (!chunkStackedBlocks.clearedWhileLoading) {
+            for (StackedBlock loadedStackedBlock : loadedStackedBlocks) {
+                long blockKey = getBlockKey(loadedStackedBlock.getLocation());
+                StackedBlock stackedBlock = chunkStackedBlocks.blocks.get(blockKey);
+
+                if (chunkStackedBlocks.removedWhileLoading.get(blockKey) != null) {
+                    // Blocks that were created again after they were removed replace their stored blocks.
+                    if (stackedBlock == null)
+                        deletedStackedBlocks.add(loadedStackedBlock);
+                } else if (stackedBlock == null) {
+                    chunkStackedBlocks.blocks.put(blockKey, loadedStackedBlock);
+                } else if (stackedBlock.getBlockKey() == null || stackedBlock.getBlockKey().equals(loadedStackedBlock.getBlockKey())) {
+                    // The block was changed from an amount of 1, as its stored block was not known.
+                    stackedBlock.setBlockKey(loadedStackedBlock.getBlockKey());
+                    stackedBlock.setAmount(loadedStackedBlock.getAmount() + stackedBlock.getAmount() - 1);
+                }
+            }
+        }
+
+        chunkStackedBlocks.createdWhileLoading.forEach(stackedBlock -> {
+            if (stackedBlock.getAmount() > 1 && stackedBlock.getBlockKey() != null)
+                savedStackedBlocks.add(stackedBlock);
+        });
+    }
+
+    private void releaseIfNotResident(ChunkStackedBlocks chunkStackedBlocks) {
+        if (chunkStackedBlocks.resident || chunkStackedBlocks.pendingLoad != null)
+            return;
+
+        LongObjectMap<ChunkStackedBlocks> worldChunks = this.stackedBlocks.get(chunkStackedBlocks.worldName);
+        if (worldChunks != null)
+            worldChunks.remove(getChunkKey(chunkStackedBlocks.x, chunkStackedBlocks.z), chunkStackedBlocks);
+    }
+
+    @Nullable
+    private ChunkStackedBlocks getChunk(String worldName, int chunkX, int chunkZ) {
+        LongObjectMap<ChunkStackedBlocks> worldChunks = this.stackedBlocks.get(worldName);
+        return worldChunks == null ? null : worldChunks.get(getChunkKey(chunkX, chunkZ));
+    }
+
+    private static List<StackedBlock> copyBlocks(LongObjectMap<StackedBlock> blocks) {
+        List<StackedBlock> stackedBlocks = new ArrayList<>(blocks.size());
+        blocks.forEach(stackedBlocks::add);
+        return stackedBlocks;
+    }
+
+    private static long getChunkKey(int chunkX, int chunkZ) {
+        return (long) chunkX & 0xFFFFFFFFL | ((long) chunkZ & 0xFFFFFFFFL) << 32;
+    }
+
+    private static long getBlockKey(Location location) {
+        return ((long) location.getBlockY() << 8) | ((location.getBlockX() & 15) << 4) | (location.getBlockZ() & 15);
+    }
+
+    private static final class ChunkStackedBlocks {
+
+        private final String worldName;
+        private final int x;
+        private final int z;
+        private final LongObjectMap<StackedBlock> blocks = new LongObjectMap<>();
+        private final LongObjectMap<StackedBlock> createdWhileLoading = new LongObjectMap<>();
+        private final LongObjectMap<Boolean> removedWhileLoading = new LongObjectMap<>();
+
+        @Nullable
+        private CompletableFuture<Void> pendingLoad;
+        private boolean loaded;
+        private boolean resident;
+        private boolean clearedWhileLoading;
+
+        ChunkStackedBlocks(String worldName, int x, int z) {
+            this.worldName = worldName;
+            this.x = x;
+            this.z = z;
+        }
+
     }
 
 }
@@ -5,10 +5,20 @@ import com.bgsoftware.superiorskyblock.core.stackedblocks.StackedBlock;
 import org.bukkit.Location;
 
 import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public interface StackedBlocksContainer {
 
+    void setLoader(StackedBlocksLoader loader);
+
+    CompletableFuture<Void> loadChunk(ChunkPosition chunkPosition);
+
+    CompletableFuture<List<StackedBlock>> loadStackedBlocks(ChunkPosition chunkPosition);
+
+    void unloadChunk(ChunkPosition chunkPosition, Consumer<StackedBlock> consumer);
+
     @Nullable
     StackedBlock getStackedBlock(Location location);
 
@@ -16,6 +26,12 @@ public interface StackedBlocksContainer {
 
     StackedBlock removeStackedBlock(Location location);
 
+    /**
+     * Check whether the chunk of a location is loaded from the database.
+     * Changes to stacked blocks of such chunks are merged with the stored blocks once the load is completed.
+     */
+    boolean isLoading(Location location);
+
     void forEach(ChunkPosition chunkPosition, Consumer<StackedBlock> consumer);
 
     void forEach(Consumer<StackedBlock> consumer);
@@ -0,0 +1,21 @@
+package com.bgsoftware.superiorskyblock.core.stackedblocks.container;
+
+import com.bgsoftware.superiorskyblock.core.stackedblocks.StackedBlock;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface StackedBlocksLoader {
+
+    CompletableFuture<List<StackedBlock>> loadStackedBlocks(String worldName, int chunkX, int chunkZ);
+
+    /**
+     * Save the changes that were made to stacked blocks of a chunk while it was loaded from the database.
+     * These changes are not saved when they are made, as the stored blocks of the chunk are not known yet.
+     *
+     * @param savedStackedBlocks   Blocks that were created or changed, merged with their stored blocks.
+     * @param deletedStackedBlocks Stored blocks that were removed.
+     */
+    void saveLoadedChanges(List<StackedBlock> savedStackedBlocks, List<StackedBlock> deletedStackedBlocks);
+
+}
@@ -6,17 +6,29 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.bukkit.Bukkit;
 import org.bukkit.scheduler.BukkitTask;
 
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class BukkitExecutor {
 
+    private static final String DATABASE_THREAD_NAME = "SuperiorSkyblock Database Thread";
+    private static final ThreadLocal<Integer> databaseThreadIndex = new ThreadLocal<>();
+    private static final int CHUNK_WORKERS_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final int MAX_PENDING_CHUNK_TASKS = CHUNK_WORKERS_COUNT * 2;
+    private static final long CHUNK_TASKS_TIMEOUT = 60;
+
     private static SuperiorSkyblockPlugin plugin;
-    private static ExecutorService databaseExecutor;
+    private static ExecutorService[] databaseExecutors;
+    private static ExecutorService chunkWorkersExecutor;
     private static boolean shutdown = false;
     private static boolean syncDatabaseCalls = false;
     private static boolean syncBukkitCalls = false;
@@ -27,7 +39,30 @@ public class BukkitExecutor {
 
     public static void init(SuperiorSkyblockPlugin plugin) {
         BukkitExecutor.plugin = plugin;
-        databaseExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("SuperiorSkyblock Database Thread").build());
+        databaseExecutors = new ExecutorService[]{createDatabaseExecutor(0)};
+        chunkWorkersExecutor = Executors.newFixedThreadPool(CHUNK_WORKERS_COUNT, new ThreadFactoryBuilder()
+                .setNameFormat("SuperiorSkyblock Chunk Worker #%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Set the amount of database threads.
+     * Tasks are distributed between the threads by their keys, so tasks with the same key are executed in order.
+     * The amount of threads can only be increased, and should be set before any data is saved.
+     *
+     * @param threadsCount The amount of threads to use.
+     */
+    public static void setDatabaseThreads(int threadsCount) {
+        if (threadsCount <= databaseExecutors.length)
+            return;
+
+        ExecutorService[] executors = Arrays.copyOf(databaseExecutors, threadsCount);
+
+        for (int i = databaseExecutors.length; i < threadsCount; ++i)
+            executors[i] = createDatabaseExecutor(i);
+
+        databaseExecutors = executors;
     }
 
     public static void ensureMain(Runnable runnable) {
@@ -58,18 +93,35 @@ public class BukkitExecutor {
     }
 
     public static void data(Runnable runnable) {
+        data(null, runnable);
+    }
+
+    public static void data(@Nullable Object key, Runnable runnable) {
         if (ensureNotShudown())
             return;
 
         if (syncDatabaseCalls) {
             runnable.run();
         } else {
-            databaseExecutor.execute(runnable);
+            databaseExecutors[getDataThreadIndex(key)].execute(runnable);
         }
     }
 
     public static boolean isDataThread() {
-        return syncDatabaseCalls || Thread.currentThread().getName().equals("SuperiorSkyblock Database Thread");
+        return syncDatabaseCalls || databaseThreadIndex.get() != null;
+    }
+
+    public static boolean isDataThread(@Nullable Object key) {
+        if (syncDatabaseCalls)
+            return true;
+
+        Integer threadIndex = databaseThreadIndex.get();
+        return threadIndex != null && threadIndex == getDataThreadIndex(key);
+    }
+
+    public static int getDataThreadIndex(@Nullable Object key) {
+        int threadsCount = databaseExecutors.length;
+        return key == null || threadsCount == 1 ? 0 : Math.floorMod(key.hashCode(), threadsCount);
     }
 
     public static void async(Runnable runnable) {
@@ -94,11 +146,11 @@ public class BukkitExecutor {
         }
     }
 
-    public static void asyncTimer(Runnable runnable, long delay) {
+    public static BukkitTask asyncTimer(Runnable runnable, long delay) {
         if (ensureNotShudown())
-            return;
+            return null;
 
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, runnable, delay, delay);
+        return Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, runnable, delay, delay);
     }
 
     public static void timer(Runnable runnable, long delay) {
@@ -108,6 +160,50 @@ public class BukkitExecutor {
         Bukkit.getScheduler().runTaskTimer(plugin, runnable, delay, delay);
     }
 
+    /**
+     * Run an action on chunks in parallel, using the chunk workers.
+     * Only a limited amount of chunks is submitted to the workers at once, and the method returns
+     * only after the action ran on all the chunks, or after waiting for them for too long.
+     * Therefore, it should not be called from the main thread.
+     * The action may be called from multiple threads at the same time.
+     *
+     * @param chunks The chunks to run the action on.
+     * @param action The action to run.
+     */
+    public static <E> void parallelChunks(Collection<E> chunks, Consumer<E> action) {
+        if (syncBukkitCalls || shutdown || chunks.size() <= 1) {
+            chunks.forEach(action);
+            return;
+        }
+
+        Semaphore pendingTasks = new Semaphore(MAX_PENDING_CHUNK_TASKS);
+
+        for (E chunk : chunks) {
+            pendingTasks.acquireUninterruptibly();
+            try {
+                chunkWorkersExecutor.execute(() -> {
+                    try {
+                        action.accept(chunk);
+                    } finally {
+                        pendingTasks.release();
+                    }
+                });
+            } catch (RejectedExecutionException error) {
+                // The workers were shut down, therefore the action is run on the current thread instead.
+                pendingTasks.release();
+                action.accept(chunk);
+            }
+        }
+
+        // Waiting for all the submitted tasks to finish.
+        try {
+            if (!pendingTasks.tryAcquire(MAX_PENDING_CHUNK_TASKS, CHUNK_TASKS_TIMEOUT, TimeUnit.SECONDS))
+                Log.warn("Timed out while waiting for chunk tasks to finish.");
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public static NestedTask<Void> createTask() {
         return new NestedTask<Void>().complete();
     }
@@ -119,9 +215,12 @@ public class BukkitExecutor {
 
     public static void close() {
         try {
-            shutdown = true;
             Log.info("Shutting down database executor");
             shutdownAndAwaitTermination();
+            chunkWorkersExecutor.shutdownNow();
+            // Tasks that were submitted while the executors were terminating must not be rejected,
+            // therefore the executor is marked as shut down only after all the tasks were executed.
+            shutdown = true;
         } catch (Exception error) {
             Log.error(error, "An unexpected error occurred while shutting down database executor:");
         }
@@ -136,8 +235,26 @@ public class BukkitExecutor {
         return false;
     }
 
+    private static ExecutorService createDatabaseExecutor(int threadIndex) {
+        String threadName = threadIndex == 0 ? DATABASE_THREAD_NAME : DATABASE_THREAD_NAME + " #" + threadIndex;
+        return Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat(threadName)
+                .setThreadFactory(runnable -> new Thread(() -> {
+                    databaseThreadIndex.set(threadIndex);
+                    runnable.run();
+                }))
+                .build());
+    }
+
     private static void shutdownAndAwaitTermination() {
-        databaseExecutor.shutdown(); // Disable new tasks from being submitted
+        for (ExecutorService databaseExecutor : databaseExecutors)
+            databaseExecutor.shutdown(); // Disable new tasks from being submitted
+
+        for (ExecutorService databaseExecutor : databaseExecutors)
+            shutdownAndAwaitTermination(databaseExecutor);
+    }
+
+    private static void shutdownAndAwaitTermination(ExecutorService databaseExecutor) {
         try {
             // Wait a while for existing tasks to terminate
             if (!databaseExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
@@ -10,21 +10,27 @@ import com.bgsoftware.superiorskyblock.core.Manager;
 import com.bgsoftware.superiorskyblock.core.key.KeyImpl;
 import com.bgsoftware.superiorskyblock.core.key.KeyMapImpl;
 import com.bgsoftware.superiorskyblock.core.key.KeySetImpl;
+import com.bgsoftware.superiorskyblock.core.key.PrimitiveKeyMapImpl;
 import com.bgsoftware.superiorskyblock.core.logging.Debug;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.core.values.container.BlockValuesContainer;
+import com.bgsoftware.superiorskyblock.island.algorithm.DefaultIslandBlocksTrackerAlgorithm;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
 
 import javax.annotation.Nullable;
 import javax.script.Bindings;
 import javax.script.ScriptException;
 import javax.script.SimpleBindings;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 public class BlockValuesManagerImpl extends Manager implements BlockValuesManager {
@@ -50,7 +56,7 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
         CACHED_BIG_DECIMALS = mapBuilder.build();
     }
 
-    private static final Bindings bindings = createBindings();
+    private static final String WORTH_VARIABLE = "worth";
 
     private static final KeyMap<CustomKeyParser> customKeyParsers = KeyMapImpl.createHashMap();
     private static final KeySet valuesMenuBlocks = KeySetImpl.createHashSet();
@@ -61,6 +67,13 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
     private final BlockValuesContainer customBlockWorthValues;
     private final BlockValuesContainer customBlockLevels;
 
+    private final KeyMap<ResolvedBlockValue> resolvedValues = PrimitiveKeyMapImpl.createConcurrent();
+    private volatile int resolvedValuesVersion = 0;
+    private BukkitTask pricesRefreshTask;
+
+    private String levelFormula;
+    private String levelFormulaExpression;
+
     public BlockValuesManagerImpl(SuperiorSkyblockPlugin plugin,
                                   BlockValuesContainer blockWorthValuesContainer,
                                   BlockValuesContainer blockLevelsContainer,
@@ -73,9 +86,10 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
         this.customBlockLevels = customBlockLevelsContainer;
     }
 
-    private static Bindings createBindings() {
+    private static Bindings createBindings(BigDecimal value) {
         SimpleBindings bindings = new SimpleBindings();
         bindings.put("Math", Math.class);
+        bindings.put(WORTH_VARIABLE, value.doubleValue());
         return bindings;
     }
 
@@ -86,7 +100,10 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
 
         this.blockWorthValues.loadDefaultValues(plugin);
         this.blockLevels.loadDefaultValues(plugin);
+        invalidateResolvedValues();
         plugin.getProviders().addPricesLoadCallback(this::convertValuesToLevels);
+
+        startPricesRefreshTask();
     }
 
     @Override
@@ -95,6 +112,64 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
 
         Log.debug(Debug.GET_WORTH, key);
 
+        BigDecimal worth = getResolvedValue(key).worth;
+
+        Log.debugResult(Debug.GET_WORTH, "Return Resolved Worth", worth);
+
+        return worth;
+    }
+
+    @Override
+    public BigDecimal getBlockLevel(Key key) {
+        Preconditions.checkNotNull(key, "key parameter cannot be null.");
+
+        Log.debug(Debug.GET_LEVEL, key);
+
+        BigDecimal level = getResolvedValue(key).level;
+
+        Log.debugResult(Debug.GET_LEVEL, "Return Resolved Level", level);
+
+        return level;
+    }
+
+    @Override
+    public Key getBlockKey(Key key) {
+        Preconditions.checkNotNull(key, "key parameter cannot be null.");
+
+        // API keys are resolved differently from other keys with the same id, and therefore are not cached.
+        if (((KeyImpl) key).isAPIKey())
+            return getValuesKey(key);
+
+        return getResolvedValue(key).valueKey;
+    }
+
+    private ResolvedBlockValue getResolvedValue(Key key) {
+        ResolvedBlockValue resolvedValue = resolvedValues.getRaw(key, null);
+
+        if (resolvedValue == null) {
+            int version = resolvedValuesVersion;
+
+            resolvedValue = resolveBlockValue(key);
+
+            synchronized (resolvedValues) {
+                // Values that were resolved before the table was invalidated may be outdated.
+                if (version == resolvedValuesVersion)
+                    resolvedValues.put(key, resolvedValue);
+            }
+        }
+
+        return resolvedValue;
+    }
+
+    private ResolvedBlockValue resolveBlockValue(Key key) {
+        BigDecimal worth = resolveBlockWorth(key);
+        BigDecimal level = resolveBlockLevel(key, worth);
+        boolean valuesMenu = valuesMenuBlocks.contains(key);
+        Key valueKey = resolveBlockKey(key, valuesMenu);
+        return new ResolvedBlockValue(worth, level, valueKey, valuesMenu);
+    }
+
+    private BigDecimal resolveBlockWorth(Key key) {
         BigDecimal customBlockValue = customBlockWorthValues.getBlockValue(key);
         if (customBlockValue != null) {
             Log.debugResult(Debug.GET_WORTH, "Return Custom Block Worth", customBlockValue);
@@ -130,12 +205,7 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
         return BigDecimal.ZERO;
     }
 
-    @Override
-    public BigDecimal getBlockLevel(Key key) {
-        Preconditions.checkNotNull(key, "key parameter cannot be null.");
-
-        Log.debug(Debug.GET_LEVEL, key);
-
+    private BigDecimal resolveBlockLevel(Key key, BigDecimal worth) {
         BigDecimal customBlockLevel = customBlockLevels.getBlockValue(key);
         if (customBlockLevel != null) {
             Log.debugResult(Debug.GET_LEVEL, "Return Custom Block Level", customBlockLevel);
@@ -145,7 +215,7 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
         BigDecimal level = blockLevels.getBlockValue(key);
 
         if (level == null) {
-            level = convertValueToLevel(getBlockWorth(key));
+            level = convertValueToLevel(worth);
             blockLevels.setBlockValue(key, level);
             Log.debugResult(Debug.GET_LEVEL, "Return Converted From Worth", level);
         } else {
@@ -155,11 +225,8 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
         return level;
     }
 
-    @Override
-    public Key getBlockKey(Key key) {
-        Preconditions.checkNotNull(key, "key parameter cannot be null.");
-
-        if (((KeyImpl) key).isAPIKey() || isValuesMenu(key)) {
+    private Key resolveBlockKey(Key key, boolean valuesMenu) {
+        if (valuesMenu) {
             return getValuesKey(key);
         } else if (customBlockKeys.contains(key)) {
             return customBlockKeys.getKey(key);
@@ -183,12 +250,17 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
     @Override
     public void registerCustomKey(Key key, @Nullable BigDecimal worthValue, @Nullable BigDecimal levelValue) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
+        boolean changed = false;
         if (worthValue != null && !customBlockWorthValues.hasBlockValue(key)) {
             customBlockWorthValues.setBlockValue(key, worthValue);
+            changed = true;
         }
         if (levelValue != null && !customBlockLevels.hasBlockValue(key)) {
             customBlockLevels.setBlockValue(key, levelValue);
+            changed = true;
         }
+        if (changed)
+            invalidateResolvedValues();
     }
 
     @Override
@@ -201,11 +273,12 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
     }
 
     public void registerMenuValueBlocks(KeySet blocks) {
-        valuesMenuBlocks.addAll(blocks);
+        if (valuesMenuBlocks.addAll(blocks))
+            invalidateResolvedValues();
     }
 
     public boolean isValuesMenu(Key key) {
-        return valuesMenuBlocks.contains(key);
+        return getResolvedValue(key).valuesMenu;
     }
 
     public Key getValuesKey(Key key) {
@@ -213,11 +286,17 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
     }
 
     public void addCustomBlockKey(Key key) {
-        customBlockKeys.add(key);
+        if (customBlockKeys.add(key))
+            invalidateResolvedValues();
     }
 
     public void addCustomBlockKeys(Collection<Key> blocks) {
-        customBlockKeys.addAll(blocks);
+        if (customBlockKeys.addAll(blocks))
+            invalidateResolvedValues();
+    }
+
+    public boolean hasCustomKeyParser(Key key) {
+        return customKeyParsers.containsKey(key);
     }
 
     public Key convertKey(Key original, Location location) {
@@ -269,8 +348,7 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
         }
 
         try {
-            Object evaluated = plugin.getScriptEngine().eval(plugin.getSettings().getIslandLevelFormula()
-                    .replace("{}", value.toString()), bindings);
+            Object evaluated = plugin.getScriptEngine().eval(getLevelFormulaExpression(), createBindings(value));
 
             // Checking for division by 0
             if (evaluated.equals(Double.POSITIVE_INFINITY) || evaluated.equals(Double.NEGATIVE_INFINITY))
@@ -284,16 +362,91 @@ public class BlockValuesManagerImpl extends Manager implements BlockValuesManage
         }
     }
 
+    private String getLevelFormulaExpression() {
+        String levelFormula = plugin.getSettings().getIslandLevelFormula();
+
+        // The worth value is passed as a variable, so the expression stays the same for all values
+        // and the script engine can reuse its compiled form.
+        if (!levelFormula.equals(this.levelFormula)) {
+            this.levelFormulaExpression = levelFormula.replace("{}", WORTH_VARIABLE);
+            this.levelFormula = levelFormula;
+        }
+
+        return this.levelFormulaExpression;
+    }
+
     private void convertValuesToLevels() {
         blockWorthValues.forEach((blockKey, blockCount) -> {
             if (!blockLevels.hasBlockValue(blockKey)) {
                 blockLevels.setBlockValue(blockKey, convertValueToLevel(blockCount));
             }
         });
+
+        // Prices are ready at this point, so values that were resolved without them must be resolved again.
+        invalidateResolvedValues();
+    }
+
+    private void invalidateResolvedValues() {
+        synchronized (resolvedValues) {
+            ++resolvedValuesVersion;
+            resolvedValues.clear();
+        }
+
+        DefaultIslandBlocksTrackerAlgorithm.invalidateCachedKeys();
+    }
+
+    private void startPricesRefreshTask() {
+        if (pricesRefreshTask != null) {
+            pricesRefreshTask.cancel();
+            pricesRefreshTask = null;
+        }
+
+        long refreshInterval = plugin.getSettings().getSyncWorthInterval();
+
+        if (plugin.getSettings().getSyncWorth() == SyncWorthStatus.NONE || refreshInterval <= 0)
+            return;
+
+        pricesRefreshTask = BukkitExecutor.asyncTimer(this::refreshPrices, refreshInterval);
+    }
+
+    private void refreshPrices() {
+        List<Key> resolvedKeys;
+
+        synchronized (resolvedValues) {
+            resolvedKeys = new ArrayList<>(resolvedValues.keySet());
+        }
+
+        // Resolving the values again in the background, so block events will not query the prices provider.
+        for (Key key : resolvedKeys) {
+            int version = resolvedValuesVersion;
+            ResolvedBlockValue resolvedValue = resolveBlockValue(key);
+            synchronized (resolvedValues) {
+                if (version == resolvedValuesVersion)
+                    resolvedValues.put(key, resolvedValue);
+            }
+        }
+
+        DefaultIslandBlocksTrackerAlgorithm.invalidateCachedKeys();
     }
 
     private static BigDecimal fastBigDecimalFromString(String value) {
         return CACHED_BIG_DECIMALS.getOrDefault(value, new BigDecimal(value));
     }
 
+    private static class ResolvedBlockValue {
+
+        private final BigDecimal worth;
+        private final BigDecimal level;
+        private final Key valueKey;
+        private final boolean valuesMenu;
+
+        ResolvedBlockValue(BigDecimal worth, BigDecimal level, Key valueKey, boolean valuesMenu) {
+            this.worth = worth;
+            this.level = level;
+            this.valueKey = valueKey;
+            this.valuesMenu = valuesMenu;
+        }
+
+    }
+
 }
@@ -0,0 +1,9 @@
+package com.bgsoftware.superiorskyblock.external.permissions;
+
+import com.bgsoftware.superiorskyblock.api.hooks.PermissionsProvider;
+
+/**
+ * Permissions providers that invalidate the permissions of players whenever they are changed.
+ */
+public interface PermissionsProvider_NotifyChanges extends PermissionsProvider {
+}
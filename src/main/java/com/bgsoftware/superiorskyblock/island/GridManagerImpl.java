@@ -35,6 +35,7 @@ import com.bgsoftware.superiorskyblock.island.builder.IslandBuilderImpl;
 import com.bgsoftware.superiorskyblock.island.preview.IslandPreviews;
 import com.bgsoftware.superiorskyblock.island.preview.SIslandPreview;
 import com.bgsoftware.superiorskyblock.island.purge.IslandsPurger;
+import com.bgsoftware.superiorskyblock.player.PlayerIslandPresence;
 import com.bgsoftware.superiorskyblock.player.chat.PlayerChat;
 import com.bgsoftware.superiorskyblock.world.schematic.BaseSchematic;
 import com.google.common.base.Preconditions;
@@ -75,7 +76,7 @@ public class GridManagerImpl extends Manager implements GridManager {
     private DatabaseBridge databaseBridge;
     private IslandCreationAlgorithm islandCreationAlgorithm;
 
-    private Island spawnIsland;
+    private SpawnIsland spawnIsland;
     private SBlockPosition lastIsland;
 
     private BigDecimal totalWorth = BigDecimal.ZERO;
@@ -117,6 +118,7 @@ public class GridManagerImpl extends Manager implements GridManager {
     public void updateSpawn() {
         try {
             this.spawnIsland = new SpawnIsland();
+            PlayerIslandPresence.invalidateAll();
         } catch (ManagerLoadException error) {
             ManagerLoadException.handle(error);
         }
@@ -404,6 +406,7 @@ public class GridManagerImpl extends Manager implements GridManager {
         });
 
         this.islandsContainer.removeIsland(island);
+        PlayerIslandPresence.invalidateAll();
 
         // Delete island from database
         if (pluginDisable) {
@@ -465,27 +468,38 @@ public class GridManagerImpl extends Manager implements GridManager {
         return this.islandsContainer.getIslandAt(location);
     }
 
+    @Override
+    public Island getIslandAt(World world, int blockX, int blockZ) {
+        if (world == null)
+            return null;
+
+        if (spawnIsland != null && spawnIsland.isInsideBlock(world, blockX, blockZ))
+            return spawnIsland;
+
+        return this.islandsContainer.getIslandAt(world, blockX, blockZ);
+    }
+
     @Override
     public Island getIslandAt(Chunk chunk) {
         if (chunk == null)
             return null;
 
+        World world = chunk.getWorld();
+        int minX = chunk.getX() << 4;
+        int minZ = chunk.getZ() << 4;
+
         Island island;
 
-        Location corner = chunk.getBlock(0, 100, 0).getLocation();
-        if ((island = getIslandAt(corner)) != null)
+        if ((island = getIslandAt(world, minX, minZ)) != null)
             return island;
 
-        corner = chunk.getBlock(15, 100, 0).getLocation();
-        if ((island = getIslandAt(corner)) != null)
+        if ((island = getIslandAt(world, minX + 15, minZ)) != null)
             return island;
 
-        corner = chunk.getBlock(0, 100, 15).getLocation();
-        if ((island = getIslandAt(corner)) != null)
+        if ((island = getIslandAt(world, minX, minZ + 15)) != null)
             return island;
 
-        corner = chunk.getBlock(15, 100, 15).getLocation();
-        if ((island = getIslandAt(corner)) != null)
+        if ((island = getIslandAt(world, minX + 15, minZ + 15)) != null)
             return island;
 
         return null;
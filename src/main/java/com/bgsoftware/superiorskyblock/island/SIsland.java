@@ -30,6 +30,7 @@ import com.bgsoftware.superiorskyblock.api.world.WorldInfo;
 import com.bgsoftware.superiorskyblock.api.wrappers.BlockPosition;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
+import com.bgsoftware.superiorskyblock.core.DecimalAccumulator;
 import com.bgsoftware.superiorskyblock.core.IslandArea;
 import com.bgsoftware.superiorskyblock.core.LazyWorldLocation;
 import com.bgsoftware.superiorskyblock.core.LocationKey;
@@ -49,11 +50,14 @@ import com.bgsoftware.superiorskyblock.core.profiler.ProfileType;
 import com.bgsoftware.superiorskyblock.core.profiler.Profiler;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.core.threads.Synchronized;
+import com.bgsoftware.superiorskyblock.island.algorithm.DefaultIslandBlocksTrackerAlgorithm;
 import com.bgsoftware.superiorskyblock.island.builder.IslandBuilderImpl;
 import com.bgsoftware.superiorskyblock.island.chunk.DirtyChunksContainer;
 import com.bgsoftware.superiorskyblock.island.container.value.SyncedValue;
 import com.bgsoftware.superiorskyblock.island.container.value.Value;
 import com.bgsoftware.superiorskyblock.island.flag.IslandFlags;
+import com.bgsoftware.superiorskyblock.island.generator.GeneratorTable;
+import com.bgsoftware.superiorskyblock.island.privilege.EffectivePrivileges;
 import com.bgsoftware.superiorskyblock.island.privilege.IslandPrivileges;
 import com.bgsoftware.superiorskyblock.island.privilege.PlayerPrivilegeNode;
 import com.bgsoftware.superiorskyblock.island.privilege.PrivilegeNodeAbstract;
@@ -68,6 +72,8 @@ import com.bgsoftware.superiorskyblock.mission.MissionData;
 import com.bgsoftware.superiorskyblock.module.BuiltinModules;
 import com.bgsoftware.superiorskyblock.module.upgrades.type.UpgradeTypeCropGrowth;
 import com.bgsoftware.superiorskyblock.module.upgrades.type.UpgradeTypeIslandEffects;
+import com.bgsoftware.superiorskyblock.player.PlayerIslandPresence;
+import com.bgsoftware.superiorskyblock.player.SSuperiorPlayer;
 import com.bgsoftware.superiorskyblock.world.WorldBlocks;
 import com.bgsoftware.superiorskyblock.world.chunk.ChunkLoadReason;
 import com.bgsoftware.superiorskyblock.world.chunk.ChunksProvider;
@@ -157,6 +163,7 @@ public class SIsland implements Island {
     private final Synchronized<Value<BigDecimal>> bankLimit = Synchronized.of(Value.syncedFixed(SYNCED_BANK_LIMIT_VALUE));
     private final Map<PlayerRole, Value<Integer>> roleLimits = new ConcurrentHashMap<>();
     private final Synchronized<EnumMap<World.Environment, KeyMap<Value<Integer>>>> cobbleGeneratorValues = Synchronized.of(new EnumMap<>(World.Environment.class));
+    private volatile GeneratorTable[] generatorTables = new GeneratorTable[World.Environment.values().length];
     private final Map<PotionEffectType, Value<Integer>> islandEffects = new ConcurrentHashMap<>();
     private final KeyMap<Value<Integer>> blockLimits = KeyMapImpl.createConcurrentHashMap();
     private final KeyMap<Value<Integer>> entityLimits = KeyMapImpl.createConcurrentHashMap();
@@ -170,6 +177,7 @@ public class SIsland implements Island {
     private final Set<SuperiorPlayer> coopPlayers = Sets.newConcurrentHashSet();
     private final Set<SuperiorPlayer> invitedPlayers = Sets.newConcurrentHashSet();
     private final Map<SuperiorPlayer, PlayerPrivilegeNode> playerPermissions = new ConcurrentHashMap<>();
+    private final Map<SuperiorPlayer, EffectivePrivileges> effectivePrivileges = new ConcurrentHashMap<>();
     private final Map<UUID, Rating> ratings = new ConcurrentHashMap<>();
     /*
      * Island Warps
@@ -185,8 +193,8 @@ public class SIsland implements Island {
     private final Map<IslandPrivilege, PlayerRole> rolePermissions = new ConcurrentHashMap<>();
     private final Map<IslandFlag, Byte> islandFlags = new ConcurrentHashMap<>();
     private final Map<String, Integer> upgrades = new ConcurrentHashMap<>();
-    private final AtomicReference<BigDecimal> islandWorth = new AtomicReference<>(BigDecimal.ZERO);
-    private final AtomicReference<BigDecimal> islandLevel = new AtomicReference<>(BigDecimal.ZERO);
+    private final DecimalAccumulator islandWorth = new DecimalAccumulator();
+    private final DecimalAccumulator islandLevel = new DecimalAccumulator();
     private final AtomicReference<BigDecimal> bonusWorth = new AtomicReference<>(BigDecimal.ZERO);
     private final AtomicReference<BigDecimal> bonusLevel = new AtomicReference<>(BigDecimal.ZERO);
     private final Map<Mission<?>, Integer> completedMissions = new ConcurrentHashMap<>();
@@ -251,7 +259,9 @@ public class SIsland implements Island {
             members.forEach(member -> member.setIsland(this));
         });
         this.bannedPlayers.addAll(builder.bannedPlayers);
+        this.bannedPlayers.forEach(SIsland::markIslandRelated);
         this.playerPermissions.putAll(builder.playerPermissions);
+        this.playerPermissions.keySet().forEach(SIsland::markIslandRelated);
         this.playerPermissions.values().forEach(permissionNode -> permissionNode.setIsland(this));
         this.rolePermissions.putAll(builder.rolePermissions);
         this.upgrades.putAll(builder.upgrades);
@@ -260,7 +270,10 @@ public class SIsland implements Island {
         this.completedMissions.putAll(builder.completedMissions);
         this.islandFlags.putAll(builder.islandFlags);
         this.cobbleGeneratorValues.write(cobbleGeneratorValues -> cobbleGeneratorValues.putAll(builder.cobbleGeneratorValues));
-        this.uniqueVisitors.write(uniqueVisitors -> uniqueVisitors.addAll(builder.uniqueVisitors));
+        this.uniqueVisitors.write(uniqueVisitors -> {
+            uniqueVisitors.addAll(builder.uniqueVisitors);
+            uniqueVisitors.forEach(uniqueVisitor -> markIslandRelated(uniqueVisitor.getSuperiorPlayer()));
+        });
         this.entityLimits.putAll(builder.entityLimits);
         this.islandEffects.putAll(builder.islandEffects);
         IslandChest[] islandChests = new IslandChest[builder.islandChests.size()];
@@ -355,6 +368,13 @@ public class SIsland implements Island {
         }
     }
 
+    private static void markIslandRelated(SuperiorPlayer superiorPlayer) {
+        // Players that are wrapped by other plugins cannot be marked, but as they are still referenced by the
+        // island, they are brought back by the players container instead of being loaded again.
+        if (superiorPlayer instanceof SSuperiorPlayer)
+            ((SSuperiorPlayer) superiorPlayer).setIslandRelated();
+    }
+
     private static boolean adjustLocationToCenterOfBlock(Location location) {
         boolean changed = false;
 
@@ -472,6 +492,7 @@ public class SIsland implements Island {
         Log.debug(Debug.INVITE_MEMBER, owner.getName(), superiorPlayer.getName());
 
         invitedPlayers.add(superiorPlayer);
+        markIslandRelated(superiorPlayer);
         superiorPlayer.addInvite(this);
 
         //Revoke the invite after 5 minutes
@@ -558,6 +579,8 @@ public class SIsland implements Island {
 
         superiorPlayer.setIsland(null);
 
+        removeEffectivePrivileges(superiorPlayer);
+
         superiorPlayer.runIfOnline(player -> {
             MenuView<?, ?> openedView = superiorPlayer.getOpenedView();
 
@@ -601,6 +624,7 @@ public class SIsland implements Island {
         Log.debug(Debug.BAN_PLAYER, owner.getName(), superiorPlayer.getName(), whom);
 
         boolean bannedPlayer = bannedPlayers.add(superiorPlayer);
+        markIslandRelated(superiorPlayer);
 
         // This player is already banned.
         if (!bannedPlayer)
@@ -644,6 +668,7 @@ public class SIsland implements Island {
         Log.debug(Debug.ADD_COOP, owner.getName(), superiorPlayer.getName());
 
         boolean coopPlayer = coopPlayers.add(superiorPlayer);
+        markIslandRelated(superiorPlayer);
 
         if (coopPlayer)
             plugin.getMenus().refreshCoops(this);
@@ -661,6 +686,8 @@ public class SIsland implements Island {
         if (!uncoopPlayer)
             return;
 
+        removeEffectivePrivileges(superiorPlayer);
+
         Location location = superiorPlayer.getLocation();
 
         if (isLocked() && location != null && isInside(location)) {
@@ -730,6 +757,9 @@ public class SIsland implements Island {
                 return playersInside.remove(superiorPlayer);
         });
 
+        if (!inside)
+            removeEffectivePrivileges(superiorPlayer);
+
         // The players inside the player weren't changed.
         if (!changePlayers)
             return;
@@ -749,6 +779,7 @@ public class SIsland implements Island {
                 updateVisitor = true;
             } else {
                 updateVisitor = uniqueVisitors.writeAndGet(uniqueVisitors -> uniqueVisitors.add(new UniqueVisitor(superiorPlayer, visitTime)));
+                markIslandRelated(superiorPlayer);
             }
 
             if (updateVisitor) {
@@ -1088,6 +1119,17 @@ public class SIsland implements Island {
         return islandArea.intercepts(chunkX, chunkZ);
     }
 
+    public boolean isInsideBlock(World world, int blockX, int blockZ) {
+        if (!plugin.getGrid().isIslandsWorld(world))
+            return false;
+
+        int islandDistance = (int) Math.round(plugin.getSettings().getMaxIslandSize() *
+                (plugin.getSettings().isBuildOutsideIsland() ? 1.5 : 1D));
+
+        return blockX >= this.center.getX() - islandDistance && blockX <= this.center.getX() + islandDistance &&
+                blockZ >= this.center.getZ() - islandDistance && blockZ <= this.center.getZ() + islandDistance;
+    }
+
     private boolean isChunkInside(int chunkX, int chunkZ) {
         int islandDistance = (int) Math.round(plugin.getSettings().getMaxIslandSize() *
                 (plugin.getSettings().isBuildOutsideIsland() ? 1.5 : 1D));
@@ -1211,10 +1253,28 @@ public class SIsland implements Island {
         Preconditions.checkNotNull(superiorPlayer, "superiorPlayer parameter cannot be null.");
         Preconditions.checkNotNull(islandPrivilege, "islandPrivilege parameter cannot be null.");
 
-        PermissionNode playerNode = getPermissionNode(superiorPlayer);
-        return superiorPlayer.hasBypassModeEnabled() || superiorPlayer.hasPermissionWithoutOP("superior.admin.bypass.*") ||
-                superiorPlayer.hasPermissionWithoutOP("superior.admin.bypass." + islandPrivilege.getName()) ||
-                (playerNode != null && playerNode.hasPermission(islandPrivilege));
+        PlayerRole playerRole = isMember(superiorPlayer) ? superiorPlayer.getPlayerRole() :
+                isCoop(superiorPlayer) ? SPlayerRole.coopRole() : SPlayerRole.guestRole();
+        int permissionsRevision = superiorPlayer instanceof SSuperiorPlayer ?
+                ((SSuperiorPlayer) superiorPlayer).getPermissionsRevision() : 0;
+
+        EffectivePrivileges privileges = this.effectivePrivileges.get(superiorPlayer);
+
+        if (privileges == null || !privileges.isValid(playerRole, permissionsRevision)) {
+            privileges = new EffectivePrivileges(superiorPlayer, playerRole,
+                    getPermissionNode(superiorPlayer), permissionsRevision);
+            this.effectivePrivileges.put(superiorPlayer, privileges);
+        }
+
+        return privileges.hasPrivilege(islandPrivilege);
+    }
+
+    /**
+     * Remove the resolved privileges of a player, so they are not kept after the player is not related
+     * to the island anymore.
+     */
+    public void removeEffectivePrivileges(SuperiorPlayer superiorPlayer) {
+        this.effectivePrivileges.remove(superiorPlayer);
     }
 
     @Override
@@ -1243,6 +1303,8 @@ public class SIsland implements Island {
         if (oldRole == playerRole)
             return;
 
+        this.effectivePrivileges.clear();
+
         if (islandPrivilege == IslandPrivileges.FLY) {
             getAllPlayersInside().forEach(this::updateIslandFly);
         } else if (islandPrivilege == IslandPrivileges.VILLAGER_TRADING) {
@@ -1260,6 +1322,7 @@ public class SIsland implements Island {
             return;
 
         rolePermissions.clear();
+        effectivePrivileges.clear();
 
         getAllPlayersInside().forEach(superiorPlayer -> {
             updateIslandFly(superiorPlayer);
@@ -1281,8 +1344,10 @@ public class SIsland implements Island {
 
         PlayerPrivilegeNode privilegeNode = playerPermissions.computeIfAbsent(superiorPlayer,
                 s -> new PlayerPrivilegeNode(superiorPlayer, this));
+        markIslandRelated(superiorPlayer);
 
         privilegeNode.setPermission(islandPrivilege, value);
+        effectivePrivileges.remove(superiorPlayer);
 
         if (superiorPlayer.isOnline() && isInside(superiorPlayer.getLocation())) {
             if (islandPrivilege == IslandPrivileges.FLY) {
@@ -1308,6 +1373,8 @@ public class SIsland implements Island {
         if (oldPrivilegeNode == null)
             return;
 
+        effectivePrivileges.remove(superiorPlayer);
+
         if (superiorPlayer.isOnline()) {
             updateIslandFly(superiorPlayer);
             IslandUtils.updateTradingMenus(this, superiorPlayer);
@@ -1321,7 +1388,8 @@ public class SIsland implements Island {
     @Override
     public PrivilegeNodeAbstract getPermissionNode(SuperiorPlayer superiorPlayer) {
         Preconditions.checkNotNull(superiorPlayer, "superiorPlayer parameter cannot be null.");
-        return playerPermissions.getOrDefault(superiorPlayer, new PlayerPrivilegeNode(superiorPlayer, this));
+        PlayerPrivilegeNode privilegeNode = playerPermissions.get(superiorPlayer);
+        return privilegeNode == null ? new PlayerPrivilegeNode(superiorPlayer, this) : privilegeNode;
     }
 
     @Override
@@ -1501,6 +1569,9 @@ public class SIsland implements Island {
         replaceVisitor(originalPlayer, newPlayer);
         replaceBannedPlayer(originalPlayer, newPlayer);
         replacePermissions(originalPlayer, newPlayer);
+
+        if (newPlayer != null)
+            markIslandRelated(newPlayer);
     }
 
     @Override
@@ -1579,6 +1650,9 @@ public class SIsland implements Island {
 
         this.islandSize.set(islandSize);
 
+        // The protected area of the island was changed.
+        PlayerIslandPresence.invalidateAll();
+
         if (cropGrowthEnabled) {
             // Now, we want to update the tile entities again
             getLoadedChunks(true, false).forEach(chunk ->
@@ -2011,49 +2085,24 @@ public class SIsland implements Island {
         if (!trackedBlock)
             return;
 
-        BigInteger newTotalBlocksCount = this.currentTotalBlockCounts.updateAndGet(count -> count.add(amount));
-
         BigDecimal oldWorth = getWorth();
         BigDecimal oldLevel = getIslandLevel();
 
-        BigDecimal blockValue = plugin.getBlockValues().getBlockWorth(key);
-        BigDecimal blockLevel = plugin.getBlockValues().getBlockLevel(key);
+        updateBlockCounts(key, amount);
 
-        if (blockValue.compareTo(BigDecimal.ZERO) != 0) {
-            islandWorth.updateAndGet(islandWorth -> islandWorth.add(blockValue.multiply(new BigDecimal(amount))));
-            if (save)
-                plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_WORTH, this);
-        }
-
-        if (blockLevel.compareTo(BigDecimal.ZERO) != 0) {
-            islandLevel.updateAndGet(islandLevel -> islandLevel.add(blockLevel.multiply(new BigDecimal(amount))));
-            if (save)
-                plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_LEVEL, this);
-        }
+        notifyBlockCountsChange(oldWorth, oldLevel);
 
         if (updateLastTimeStatus)
             updateLastTime();
 
         if (save)
-            saveBlockCounts(newTotalBlocksCount, oldWorth, oldLevel);
+            saveBlockCounts(this.currentTotalBlockCounts.get(), oldWorth, oldLevel);
     }
 
     @Override
     public void handleBlocksPlace(Map<Key, Integer> blocks) {
         Preconditions.checkNotNull(blocks, "blocks parameter cannot be null.");
-
-        if (blocks.isEmpty())
-            return;
-
-        BigDecimal oldWorth = getWorth();
-        BigDecimal oldLevel = getIslandLevel();
-
-        blocks.forEach((blockKey, amount) ->
-                handleBlockPlace(blockKey, BigInteger.valueOf(amount), false, false));
-
-        saveBlockCounts(this.currentTotalBlockCounts.get(), oldWorth, oldLevel);
-
-        updateLastTime();
+        handleBlocksChange(blocks, Collections.emptyMap(), true);
     }
 
     @Override
@@ -2096,29 +2145,66 @@ public class SIsland implements Island {
         if (!untrackedBlocks)
             return;
 
-        BigInteger newTotalBlocksCount = this.currentTotalBlockCounts.updateAndGet(count -> count.subtract(amount));
-
         BigDecimal oldWorth = getWorth(), oldLevel = getIslandLevel();
 
-        BigDecimal blockValue = plugin.getBlockValues().getBlockWorth(key);
-        BigDecimal blockLevel = plugin.getBlockValues().getBlockLevel(key);
+        updateBlockCounts(key, amount.negate());
+
+        notifyBlockCountsChange(oldWorth, oldLevel);
+
+        updateLastTime();
+
+        if (save)
+            saveBlockCounts(this.currentTotalBlockCounts.get(), oldWorth, oldLevel);
+    }
+
+    @Override
+    public void handleBlocksBreak(Map<Key, Integer> blocks) {
+        Preconditions.checkNotNull(blocks, "blocks parameter cannot be null.");
+        handleBlocksChange(Collections.emptyMap(), blocks, true);
+    }
+
+    /**
+     * Handle placed and broken blocks of the island together.
+     * The rankings of the island are notified once for all the blocks, and the block counts are saved once
+     * if {@code save} is true.
+     */
+    public void handleBlocksChange(Map<Key, Integer> placedBlocks, Map<Key, Integer> brokenBlocks, boolean save) {
+        Preconditions.checkNotNull(placedBlocks, "placedBlocks parameter cannot be null.");
+        Preconditions.checkNotNull(brokenBlocks, "brokenBlocks parameter cannot be null.");
+
+        if (placedBlocks.isEmpty() && brokenBlocks.isEmpty())
+            return;
+
+        BigDecimal oldWorth = getWorth();
+        BigDecimal oldLevel = getIslandLevel();
 
-        if (blockValue.compareTo(BigDecimal.ZERO) != 0) {
-            this.islandWorth.updateAndGet(islandWorth -> islandWorth.subtract(blockValue.multiply(new BigDecimal(amount))));
-            if (save)
-                plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_WORTH, this);
+        boolean updatedBlockCounts = false;
+
+        for (Map.Entry<Key, Integer> entry : placedBlocks.entrySet()) {
+            BigInteger amount = BigInteger.valueOf(entry.getValue());
+            if (this.blocksTracker.trackBlock(entry.getKey(), amount)) {
+                updateBlockCounts(entry.getKey(), amount);
+                updatedBlockCounts = true;
+            }
         }
 
-        if (blockLevel.compareTo(BigDecimal.ZERO) != 0) {
-            this.islandLevel.updateAndGet(islandLevel -> islandLevel.subtract(blockLevel.multiply(new BigDecimal(amount))));
-            if (save)
-                plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_LEVEL, this);
+        for (Map.Entry<Key, Integer> entry : brokenBlocks.entrySet()) {
+            BigInteger amount = BigInteger.valueOf(entry.getValue());
+            if (this.blocksTracker.untrackBlock(entry.getKey(), amount)) {
+                updateBlockCounts(entry.getKey(), amount.negate());
+                updatedBlockCounts = true;
+            }
         }
 
+        if (!updatedBlockCounts)
+            return;
+
+        notifyBlockCountsChange(oldWorth, oldLevel);
+
         updateLastTime();
 
         if (save)
-            saveBlockCounts(newTotalBlocksCount, oldWorth, oldLevel);
+            saveBlockCounts(this.currentTotalBlockCounts.get(), oldWorth, oldLevel);
     }
 
     @Override
@@ -2467,6 +2553,7 @@ public class SIsland implements Island {
             return;
 
         blockLimits.clear();
+        DefaultIslandBlocksTrackerAlgorithm.invalidateCachedKeys();
         IslandsDatabaseBridge.clearBlockLimits(this);
     }
 
@@ -2483,6 +2570,9 @@ public class SIsland implements Island {
         if (limit == Value.getRaw(oldLimit, -1))
             return;
 
+        if (oldLimit == null)
+            DefaultIslandBlocksTrackerAlgorithm.invalidateCachedKeys();
+
         plugin.getBlockValues().addCustomBlockKey(key);
         IslandsDatabaseBridge.saveBlockLimit(this, key, limit);
     }
@@ -2498,6 +2588,7 @@ public class SIsland implements Island {
         if (oldBlockLimit == null)
             return;
 
+        DefaultIslandBlocksTrackerAlgorithm.invalidateCachedKeys();
         IslandsDatabaseBridge.removeBlockLimit(this, key);
     }
 
@@ -3295,6 +3386,7 @@ public class SIsland implements Island {
         } else if (percentage == 100) {
             KeyMap<Value<Integer>> cobbleGeneratorValuesOriginal = KeyMapImpl.createConcurrentHashMap(worldGeneratorRates);
             worldGeneratorRates.clear();
+            invalidateGeneratorTables();
 
             int generatorRate = 1;
 
@@ -3303,6 +3395,7 @@ public class SIsland implements Island {
                 if (eventResult.isCancelled()) {
                     // Restore the original values
                     worldGeneratorRates.putAll(cobbleGeneratorValuesOriginal);
+                    invalidateGeneratorTables();
                     return false;
                 }
                 generatorRate = eventResult.getResult();
@@ -3325,6 +3418,7 @@ public class SIsland implements Island {
                         entry.setValue(Value.fixed(newAmount));
                     }
                 });
+                invalidateGeneratorTables();
                 amount *= 10;
             }
 
@@ -3370,6 +3464,8 @@ public class SIsland implements Island {
 
         Value<Integer> oldGeneratorRate = worldGeneratorRates.put(key, Value.fixed(amount));
 
+        invalidateGeneratorTables();
+
         if (amount == Value.getRaw(oldGeneratorRate, -1))
             return;
 
@@ -3402,6 +3498,8 @@ public class SIsland implements Island {
             IslandsDatabaseBridge.removeGeneratorRate(this, environment, key);
             worldGeneratorRates.remove(key);
         }
+
+        invalidateGeneratorTables();
     }
 
     /*
@@ -3476,6 +3574,7 @@ public class SIsland implements Island {
                 cobbleGeneratorValues -> cobbleGeneratorValues.get(environment));
         if (worldGeneratorRates != null && !worldGeneratorRates.isEmpty()) {
             worldGeneratorRates.clear();
+            invalidateGeneratorTables();
             IslandsDatabaseBridge.clearGeneratorRates(this, environment);
         }
     }
@@ -3496,33 +3595,18 @@ public class SIsland implements Island {
 
         Log.debug(Debug.GENERATE_BLOCK, owner.getName(), location, environment, optimizeCobblestone);
 
-        int totalGeneratorAmounts = getGeneratorTotalAmount(environment);
+        GeneratorTable generatorTable = getGeneratorTable(environment);
 
-        if (totalGeneratorAmounts == 0) {
+        if (generatorTable.isEmpty()) {
             Log.debugResult(Debug.GENERATE_BLOCK, "Return No Generator Rates", "null");
             return null;
         }
 
-        Map<String, Integer> generatorAmounts = getGeneratorAmounts(environment);
-
-        String newState = "COBBLESTONE";
-
-        if (totalGeneratorAmounts == 1) {
-            newState = generatorAmounts.keySet().iterator().next();
-        } else {
-            int generatedIndex = ThreadLocalRandom.current().nextInt(totalGeneratorAmounts);
-            int currentIndex = 0;
-            for (Map.Entry<String, Integer> entry : generatorAmounts.entrySet()) {
-                currentIndex += entry.getValue();
-                if (generatedIndex < currentIndex) {
-                    newState = entry.getKey();
-                    break;
-                }
-            }
-        }
+        int generatedIndex = generatorTable.roll(ThreadLocalRandom.current());
+        Key newState = generatorTable.getBlock(generatedIndex);
 
         EventResult<EventsBus.GenerateBlockResult> eventResult = plugin.getEventsBus().callIslandGenerateBlockEvent(
-                this, location, KeyImpl.of(newState));
+                this, location, newState);
 
         if (eventResult.isCancelled()) {
             Log.debugResult(Debug.GENERATE_BLOCK, "Return Event Cancelled", "null");
@@ -3543,7 +3627,9 @@ public class SIsland implements Island {
         if (eventResult.getResult().isPlaceBlock()) {
             int combinedId;
 
-            try {
+            if (generatedBlock == newState) {
+                combinedId = generatorTable.getCombinedId(generatedIndex);
+            } else try {
                 Material generateBlockType = Material.valueOf(generatedBlock.getGlobalKey());
                 byte blockData = generatedBlock.getSubKey().isEmpty() ? 0 : Byte.parseByte(generatedBlock.getSubKey());
                 combinedId = plugin.getNMSAlgorithms().getCombinedId(generateBlockType, blockData);
@@ -3816,6 +3902,7 @@ public class SIsland implements Island {
     }
 
     private void replacePermissions(SuperiorPlayer originalPlayer, @Nullable SuperiorPlayer newPlayer) {
+        effectivePrivileges.remove(originalPlayer);
         PlayerPrivilegeNode playerPermissionNode = playerPermissions.remove(originalPlayer);
         if (playerPermissionNode != null) {
             Log.debugResult(Debug.REPLACE_PLAYER, "Action", "Replace Permissions");
@@ -3824,6 +3911,20 @@ public class SIsland implements Island {
         }
     }
 
+    private void updateBlockCounts(Key key, BigInteger delta) {
+        this.currentTotalBlockCounts.updateAndGet(count -> count.add(delta));
+        this.islandWorth.add(plugin.getBlockValues().getBlockWorth(key), delta);
+        this.islandLevel.add(plugin.getBlockValues().getBlockLevel(key), delta);
+    }
+
+    private void notifyBlockCountsChange(BigDecimal oldWorth, BigDecimal oldLevel) {
+        if (oldWorth.compareTo(getWorth()) != 0)
+            plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_WORTH, this);
+
+        if (oldLevel.compareTo(getIslandLevel()) != 0)
+            plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_LEVEL, this);
+    }
+
     private void saveBlockCounts(BigInteger currentTotalBlocksCount, BigDecimal oldWorth, BigDecimal oldLevel) {
         BigDecimal newWorth = getWorth();
         BigDecimal newLevel = getIslandLevel();
@@ -4079,9 +4180,12 @@ public class SIsland implements Island {
                 }
             }
         });
+        invalidateGeneratorTables();
 
-        if (getIslandSize() == plugin.getSettings().getDefaultValues().getIslandSize())
+        if (getIslandSize() == plugin.getSettings().getDefaultValues().getIslandSize()) {
             this.islandSize.set(DefaultUpgradeLevel.getInstance().getBorderSizeUpgradeValue());
+            PlayerIslandPresence.invalidateAll();
+        }
 
         if (getWarpsLimit() == plugin.getSettings().getDefaultValues().getWarpsLimit())
             this.warpsLimit.set(DefaultUpgradeLevel.getInstance().getWarpsLimitUpgradeValue());
@@ -4192,6 +4296,7 @@ public class SIsland implements Island {
                         .forEach(entry -> entry.setValue(Value.syncedFixed(-1)));
             });
         });
+        invalidateGeneratorTables();
 
         islandEffects.entrySet().stream()
                 .filter(entry -> overrideCustom || entry.getValue() instanceof SyncedValue)
@@ -4258,6 +4363,9 @@ public class SIsland implements Island {
                 blockLimits.put(entry.getKey(), entry.getValue());
         }
 
+        if (!upgradeLevel.getBlockLimitsUpgradeValue().isEmpty())
+            DefaultIslandBlocksTrackerAlgorithm.invalidateCachedKeys();
+
         for (Map.Entry<Key, Value<Integer>> entry : upgradeLevel.getEntityLimitsUpgradeValue().entrySet()) {
             Value<Integer> currentValue = entityLimits.getRaw(entry.getKey(), null);
             if (currentValue == null || ((overrideCustom || currentValue instanceof SyncedValue) && currentValue.get() < entry.getValue().get()))
@@ -4295,6 +4403,7 @@ public class SIsland implements Island {
                     }
                 }
             });
+            invalidateGeneratorTables();
         }
 
         boolean editedIslandEffects = false;
@@ -4318,6 +4427,31 @@ public class SIsland implements Island {
         }
     }
 
+    private GeneratorTable getGeneratorTable(World.Environment environment) {
+        GeneratorTable[] generatorTables = this.generatorTables;
+        GeneratorTable generatorTable = generatorTables[environment.ordinal()];
+
+        if (generatorTable == null) {
+            Map<Key, Integer> generatorAmounts = new HashMap<>();
+
+            KeyMap<Value<Integer>> worldGeneratorRates = this.cobbleGeneratorValues.readAndGet(
+                    cobbleGeneratorValues -> cobbleGeneratorValues.get(environment));
+
+            if (worldGeneratorRates != null)
+                worldGeneratorRates.forEach((blockKey, valueAmount) -> generatorAmounts.put(blockKey, valueAmount.get()));
+
+            generatorTable = GeneratorTable.compile(plugin, generatorAmounts);
+            // If the tables were invalidated in the meantime, the compiled table is stored in the old array.
+            generatorTables[environment.ordinal()] = generatorTable;
+        }
+
+        return generatorTable;
+    }
+
+    private void invalidateGeneratorTables() {
+        this.generatorTables = new GeneratorTable[World.Environment.values().length];
+    }
+
     private void updateIslandChests() {
         List<IslandChest> islandChestList = new ArrayList<>(Arrays.asList(this.islandChests.get()));
         boolean updatedChests = false;
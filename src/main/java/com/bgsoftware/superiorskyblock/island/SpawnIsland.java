@@ -503,6 +503,10 @@ public class SpawnIsland implements Island {
         return world.equals(this.spawnWorld) && isChunkInside(chunkX, chunkZ);
     }
 
+    public boolean isInsideBlock(World world, int blockX, int blockZ) {
+        return world.equals(this.spawnWorld) && this.islandArea.intercepts(blockX, blockZ);
+    }
+
     public boolean isChunkInside(int chunkX, int chunkZ) {
         IslandArea islandArea = this.islandArea.copy();
         islandArea.rshift(4);
@@ -940,6 +944,11 @@ public class SpawnIsland implements Island {
         // Do nothing.
     }
 
+    @Override
+    public void handleBlocksBreak(Map<Key, Integer> blocks) {
+        // Do nothing.
+    }
+
     @Override
     public boolean isChunkDirty(World world, int chunkX, int chunkZ) {
         Preconditions.checkNotNull(world, "world parameter cannot be null.");
@@ -6,10 +6,11 @@ import com.bgsoftware.superiorskyblock.api.island.algorithms.IslandBlocksTracker
 import com.bgsoftware.superiorskyblock.api.key.Key;
 import com.bgsoftware.superiorskyblock.api.key.KeyMap;
 import com.bgsoftware.superiorskyblock.core.key.KeyImpl;
-import com.bgsoftware.superiorskyblock.core.key.KeyMapImpl;
+import com.bgsoftware.superiorskyblock.core.key.PrimitiveKeyMapImpl;
 import com.bgsoftware.superiorskyblock.core.logging.Debug;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -20,7 +21,10 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
 
     private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
 
-    private final KeyMap<BigInteger> blockCounts = KeyMapImpl.createConcurrentHashMap();
+    private static volatile int cachedKeysVersion = 0;
+
+    private final KeyMap<BlockCounter> blockCounts = PrimitiveKeyMapImpl.createConcurrent();
+    private final KeyMap<TrackedKeys> cachedKeys = PrimitiveKeyMapImpl.createConcurrent();
 
     private final Island island;
     private boolean loadingDataMode = false;
@@ -29,12 +33,20 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
         this.island = island;
     }
 
+    /**
+     * Invalidate the cached value, limit and global keys of all the trackers.
+     * Should be called when block values or block limits are changed.
+     */
+    public static void invalidateCachedKeys() {
+        ++cachedKeysVersion;
+    }
+
     @Override
     public boolean trackBlock(Key key, BigInteger amount) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
         Preconditions.checkNotNull(amount, "amount parameter cannot be null.");
 
-        if (amount.compareTo(BigInteger.ZERO) == 0)
+        if (amount.signum() == 0)
             return false;
 
         BigDecimal blockValue = plugin.getBlockValues().getBlockWorth(key);
@@ -42,9 +54,9 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
 
         boolean increaseAmount = false;
 
-        if (blockValue.compareTo(BigDecimal.ZERO) != 0) {
+        if (blockValue.signum() != 0) {
             increaseAmount = true;
-        } else if (blockLevel.compareTo(BigDecimal.ZERO) != 0) {
+        } else if (blockLevel.signum() != 0) {
             increaseAmount = true;
         }
 
@@ -67,7 +79,7 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
         Preconditions.checkNotNull(amount, "amount parameter cannot be null.");
 
-        if (amount.compareTo(BigInteger.ZERO) == 0)
+        if (amount.signum() == 0)
             return false;
 
         BigDecimal blockValue = plugin.getBlockValues().getBlockWorth(key);
@@ -75,11 +87,11 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
 
         boolean decreaseAmount = false;
 
-        if (blockValue.compareTo(BigDecimal.ZERO) != 0) {
+        if (blockValue.signum() != 0) {
             decreaseAmount = true;
         }
 
-        if (blockLevel.compareTo(BigDecimal.ZERO) != 0) {
+        if (blockLevel.signum() != 0) {
             decreaseAmount = true;
         }
 
@@ -89,22 +101,20 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
         if (decreaseAmount || hasBlockLimit || valuesMenu) {
             Log.debug(Debug.BLOCK_BREAK, island.getOwner().getName(), key, amount);
 
-            Key valueKey = plugin.getBlockValues().getBlockKey(key);
-            removeCounts(valueKey, amount);
+            TrackedKeys trackedKeys = getTrackedKeys(key);
 
-            Key limitKey = island.getBlockLimitKey(valueKey);
-            Key globalKey = KeyImpl.of(valueKey.getGlobalKey());
-            boolean limitCount = false;
+            synchronized (blockCounts) {
+                removeCounts(trackedKeys.valueKey, amount);
 
-            if (!limitKey.equals(valueKey)) {
-                removeCounts(limitKey, amount);
-                limitCount = true;
-            }
+                boolean limitCount = false;
 
-            if (!globalKey.equals(valueKey) && (!limitCount || !globalKey.equals(limitKey)) &&
-                    (plugin.getBlockValues().getBlockWorth(globalKey).doubleValue() != 0 ||
-                            plugin.getBlockValues().getBlockLevel(globalKey).doubleValue() != 0)) {
-                removeCounts(globalKey, amount);
+                if (!trackedKeys.limitKey.equals(trackedKeys.valueKey)) {
+                    removeCounts(trackedKeys.limitKey, amount);
+                    limitCount = true;
+                }
+
+                if (shouldCountGlobalKey(trackedKeys, limitCount))
+                    removeCounts(trackedKeys.globalKey, amount);
             }
 
             return true;
@@ -116,18 +126,20 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
     @Override
     public BigInteger getBlockCount(Key key) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
-        return blockCounts.getOrDefault(key, BigInteger.ZERO);
+        BlockCounter blockCounter = blockCounts.get(key);
+        return blockCounter == null ? BigInteger.ZERO : blockCounter.get();
     }
 
     @Override
     public BigInteger getExactBlockCount(Key key) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
-        return blockCounts.getRaw(key, BigInteger.ZERO);
+        BlockCounter blockCounter = blockCounts.getRaw(key, null);
+        return blockCounter == null ? BigInteger.ZERO : blockCounter.get();
     }
 
     @Override
     public Map<Key, BigInteger> getBlockCounts() {
-        return Collections.unmodifiableMap(this.blockCounts);
+        return Collections.unmodifiableMap(Maps.transformValues(this.blockCounts, BlockCounter::get));
     }
 
     @Override
@@ -141,43 +153,150 @@ public class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTrackerA
     }
 
     private void addCounts(Key key, BigInteger amount) {
-        Key valueKey = plugin.getBlockValues().getBlockKey(key);
+        TrackedKeys trackedKeys = getTrackedKeys(key);
 
         Log.debug(Debug.BLOCK_COUNT_INCREASE, island.getOwner().getName(), key, amount);
 
-        BigInteger currentAmount = blockCounts.getRaw(valueKey, BigInteger.ZERO);
-        blockCounts.put(valueKey, currentAmount.add(amount));
+        synchronized (blockCounts) {
+            addCount(trackedKeys.valueKey, amount);
+
+            if (loadingDataMode)
+                return;
 
-        if (loadingDataMode)
-            return;
+            boolean limitCount = false;
 
-        Key limitKey = island.getBlockLimitKey(valueKey);
-        Key globalKey = KeyImpl.of(valueKey.getGlobalKey());
-        boolean limitCount = false;
+            if (!trackedKeys.limitKey.equals(trackedKeys.valueKey)) {
+                Log.debugResult(Debug.BLOCK_COUNT_INCREASE, "Limit Key", trackedKeys.limitKey);
+                addCount(trackedKeys.limitKey, amount);
+                limitCount = true;
+            }
 
-        if (!limitKey.equals(valueKey)) {
-            Log.debugResult(Debug.BLOCK_COUNT_INCREASE, "Limit Key", limitKey);
-            currentAmount = blockCounts.getRaw(limitKey, BigInteger.ZERO);
-            blockCounts.put(limitKey, currentAmount.add(amount));
-            limitCount = true;
+            if (shouldCountGlobalKey(trackedKeys, limitCount)) {
+                Log.debugResult(Debug.BLOCK_COUNT_INCREASE, "Global Key", trackedKeys.globalKey);
+                addCount(trackedKeys.globalKey, amount);
+            }
         }
+    }
+
+    private void addCount(Key key, BigInteger amount) {
+        BlockCounter blockCounter = blockCounts.getRaw(key, null);
 
-        if (!globalKey.equals(valueKey) && (!limitCount || !globalKey.equals(limitKey)) &&
-                (plugin.getBlockValues().getBlockWorth(globalKey).doubleValue() != 0 ||
-                        plugin.getBlockValues().getBlockLevel(globalKey).doubleValue() != 0)) {
-            Log.debugResult(Debug.BLOCK_COUNT_INCREASE, "Global Key", globalKey);
-            currentAmount = blockCounts.getRaw(globalKey, BigInteger.ZERO);
-            blockCounts.put(globalKey, currentAmount.add(amount));
+        if (blockCounter == null) {
+            blockCounter = new BlockCounter();
+            blockCounts.put(key, blockCounter);
         }
+
+        blockCounter.add(amount);
     }
 
     private void removeCounts(Key key, BigInteger amount) {
         Log.debug(Debug.BLOCK_COUNT_DECREASE, island.getOwner().getName(), key, amount);
-        BigInteger currentAmount = blockCounts.getRaw(key, BigInteger.ZERO);
-        if (currentAmount.compareTo(amount) <= 0)
+        BlockCounter blockCounter = blockCounts.getRaw(key, null);
+        if (blockCounter != null && !blockCounter.subtract(amount))
             blockCounts.remove(key);
-        else
-            blockCounts.put(key, currentAmount.subtract(amount));
+    }
+
+    private boolean shouldCountGlobalKey(TrackedKeys trackedKeys, boolean limitCount) {
+        return !trackedKeys.globalKey.equals(trackedKeys.valueKey) &&
+                (!limitCount || !trackedKeys.globalKey.equals(trackedKeys.limitKey)) &&
+                (plugin.getBlockValues().getBlockWorth(trackedKeys.globalKey).signum() != 0 ||
+                        plugin.getBlockValues().getBlockLevel(trackedKeys.globalKey).signum() != 0);
+    }
+
+    private TrackedKeys getTrackedKeys(Key key) {
+        // API keys are resolved differently from other keys with the same id, and therefore cannot be cached.
+        boolean canCache = !((KeyImpl) key).isAPIKey();
+        int version = cachedKeysVersion;
+
+        TrackedKeys trackedKeys = canCache ? cachedKeys.getRaw(key, null) : null;
+
+        if (trackedKeys == null || trackedKeys.version != version) {
+            Key valueKey = plugin.getBlockValues().getBlockKey(key);
+            trackedKeys = new TrackedKeys(valueKey, island.getBlockLimitKey(valueKey),
+                    ((KeyImpl) valueKey).getGlobalKeyInstance(), version);
+            if (canCache)
+                cachedKeys.put(key, trackedKeys);
+        }
+
+        return trackedKeys;
+    }
+
+    private static class TrackedKeys {
+
+        private final Key valueKey;
+        private final Key limitKey;
+        private final Key globalKey;
+        private final int version;
+
+        TrackedKeys(Key valueKey, Key limitKey, Key globalKey, int version) {
+            this.valueKey = valueKey;
+            this.limitKey = limitKey;
+            this.globalKey = globalKey;
+            this.version = version;
+        }
+
+    }
+
+    /**
+     * Block count that is kept as a primitive long, and promoted to a BigInteger only when it overflows.
+     */
+    private static class BlockCounter {
+
+        private long count = 0;
+        private BigInteger bigCount = null;
+
+        synchronized BigInteger get() {
+            return bigCount == null ? BigInteger.valueOf(count) : bigCount;
+        }
+
+        synchronized void add(BigInteger amount) {
+            if (bigCount == null && amount.bitLength() < Long.SIZE) {
+                long longAmount = amount.longValue();
+                long newCount = count + longAmount;
+                // Overflow happens only if both values have the same sign and the result has a different sign.
+                if (((count ^ newCount) & (longAmount ^ newCount)) >= 0) {
+                    count = newCount;
+                    return;
+                }
+            }
+
+            bigCount = get().add(amount);
+            normalize();
+        }
+
+        /**
+         * Subtract an amount from the counter.
+         *
+         * @return Whether there are still blocks counted after subtracting.
+         */
+        synchronized boolean subtract(BigInteger amount) {
+            if (bigCount == null && amount.signum() > 0 && amount.bitLength() < Long.SIZE) {
+                long longAmount = amount.longValue();
+                if (count <= longAmount)
+                    return false;
+                count -= longAmount;
+                return true;
+            }
+
+            BigInteger currentCount = get();
+
+            if (currentCount.compareTo(amount) <= 0)
+                return false;
+
+            bigCount = currentCount.subtract(amount);
+            normalize();
+
+            return true;
+        }
+
+        private void normalize() {
+            // Going back to the primitive counter when the count fits in a long again.
+            if (bigCount.bitLength() < Long.SIZE) {
+                count = bigCount.longValue();
+                bigCount = null;
+            }
+        }
+
     }
 
 }
@@ -12,11 +12,12 @@ import com.bgsoftware.superiorskyblock.core.Materials;
 import com.bgsoftware.superiorskyblock.core.collections.CompletableFutureList;
 import com.bgsoftware.superiorskyblock.core.key.ConstantKeys;
 import com.bgsoftware.superiorskyblock.core.key.KeyImpl;
-import com.bgsoftware.superiorskyblock.core.key.KeyMapImpl;
+import com.bgsoftware.superiorskyblock.core.key.PrimitiveKeyMapImpl;
 import com.bgsoftware.superiorskyblock.core.logging.Debug;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.core.profiler.ProfileType;
 import com.bgsoftware.superiorskyblock.core.profiler.Profiler;
+import com.bgsoftware.superiorskyblock.core.stackedblocks.StackedBlock;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.island.IslandUtils;
 import com.bgsoftware.superiorskyblock.world.chunk.ChunkLoadReason;
@@ -110,9 +111,10 @@ public class DefaultIslandCalculationAlgorithm implements IslandCalculationAlgor
                     blockCounts.addCounts(pair.getKey(), pair.getValue() - 1);
                 }
 
-                // Load built-in stacked blocks
-                plugin.getStackedBlocks().forEach(calculatedChunk.getPosition(), stackedBlock ->
-                        blockCounts.addCounts(stackedBlock.getBlockKey(), stackedBlock.getAmount() - 1));
+                // Load built-in stacked blocks. The chunk may not be loaded, therefore its stacked blocks
+                // may need to be loaded from the database first.
+                for (StackedBlock stackedBlock : plugin.getStackedBlocks().loadStackedBlocks(chunkPosition).join())
+                    blockCounts.addCounts(stackedBlock.getBlockKey(), stackedBlock.getAmount() - 1);
 
                 plugin.getProviders().releaseSnapshots(calculatedChunk.getPosition());
             }), result::completeExceptionally);
@@ -164,7 +166,7 @@ public class DefaultIslandCalculationAlgorithm implements IslandCalculationAlgor
 
     private static class BlockCountsTracker implements IslandCalculationResult {
 
-        private final KeyMap<BigInteger> blockCounts = KeyMapImpl.createConcurrentHashMap();
+        private final KeyMap<BigInteger> blockCounts = PrimitiveKeyMapImpl.create();
 
         @Override
         public Map<Key, BigInteger> getBlockCounts() {
@@ -19,6 +19,7 @@ import com.bgsoftware.superiorskyblock.island.bank.logs.CacheBankLogs;
 import com.bgsoftware.superiorskyblock.island.bank.logs.DatabaseBankLogs;
 import com.bgsoftware.superiorskyblock.island.bank.logs.IBankLogs;
 import com.bgsoftware.superiorskyblock.island.privilege.IslandPrivileges;
+import com.bgsoftware.superiorskyblock.island.top.SortingTypes;
 import com.bgsoftware.superiorskyblock.module.BuiltinModules;
 import com.google.common.base.Preconditions;
 import org.bukkit.Bukkit;
@@ -60,6 +61,7 @@ public class SIslandBank implements IslandBank {
     @Override
     public void setBalance(BigDecimal balance) {
         this.balance.set(balance.setScale(2, RoundingMode.HALF_DOWN));
+        notifyWorthChange();
 
         // Trying to give interest again if the last one failed.
         if (isGiveInterestFailed.get())
@@ -301,7 +303,14 @@ public class SIslandBank implements IslandBank {
 
     private void increaseBalance(BigDecimal amount) {
         this.balance.updateAndGet(bigDecimal -> bigDecimal.add(amount).setScale(3, RoundingMode.HALF_DOWN));
+        notifyWorthChange();
         IslandsDatabaseBridge.saveBankBalance(island);
     }
 
+    private void notifyWorthChange() {
+        // The balance of the bank is part of the worth of the island.
+        if (BuiltinModules.BANK.bankWorthRate > 0)
+            plugin.getGrid().getIslandsContainer().notifyChange(SortingTypes.BY_WORTH, island);
+    }
+
 }
@@ -6,96 +6,64 @@ import com.bgsoftware.superiorskyblock.api.island.SortingType;
 import com.bgsoftware.superiorskyblock.api.island.container.IslandsContainer;
 import com.bgsoftware.superiorskyblock.api.world.WorldInfo;
 import com.bgsoftware.superiorskyblock.api.wrappers.BlockPosition;
-import com.bgsoftware.superiorskyblock.core.IslandPosition;
+import com.bgsoftware.superiorskyblock.core.LazyWorldLocation;
 import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
 import com.bgsoftware.superiorskyblock.core.collections.EnumerateSet;
+import com.bgsoftware.superiorskyblock.core.collections.RankedSet;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.core.threads.Synchronized;
+import com.bgsoftware.superiorskyblock.island.SIsland;
+import com.bgsoftware.superiorskyblock.island.top.SortingTypes;
 import com.google.common.base.Preconditions;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 public class DefaultIslandsContainer implements IslandsContainer {
 
-    private final Map<IslandPosition, Island> islandsByPositions = new ConcurrentHashMap<>();
-    private final Map<UUID, Island> islandsByUUID = new ConcurrentHashMap<>();
+    private static final List<Consumer<Island>> CHANGE_LISTENERS = new CopyOnWriteArrayList<>();
 
-    private final Map<SortingType, Synchronized<List<Island>>> sortedIslands = new ConcurrentHashMap<>();
+    private final IslandsGridIndex islandsByPositions;
+    private final Map<UUID, Island> islandsByUUID = new ConcurrentHashMap<>();
 
+    private final Map<SortingType, Synchronized<RankedSet<Island>>> sortedIslands = new ConcurrentHashMap<>();
     private final EnumerateSet<SortingType> notifiedValues = new EnumerateSet<>(SortingType.values());
 
     private final SuperiorSkyblockPlugin plugin;
 
     public DefaultIslandsContainer(SuperiorSkyblockPlugin plugin) {
         this.plugin = plugin;
-
+        this.islandsByPositions = new IslandsGridIndex(getGridCellSize(), plugin.getProviders().hasCustomWorldsSupport());
     }
 
     @Override
     public void addIsland(Island island) {
-        BlockPosition center = island.getCenterPosition();
-        WorldInfo defaultWorld = plugin.getGrid().getIslandsWorldInfo(island, plugin.getSettings().getWorlds().getDefaultWorld());
-
-        Preconditions.checkNotNull(defaultWorld, "Default world information cannot be null!");
-
-        this.islandsByPositions.put(IslandPosition.of(defaultWorld.getName(), center.getX(), center.getZ()), island);
-
-        if (plugin.getProviders().hasCustomWorldsSupport()) {
-            // We don't know the logic of the custom worlds support, therefore we add a position
-            // for every possible world, so there won't be issues with detecting islands later.
-            if (plugin.getProviders().getWorldsProvider().isNormalEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.NORMAL,
-                        islandPosition -> this.islandsByPositions.put(islandPosition, island));
-            }
-            if (plugin.getProviders().getWorldsProvider().isNetherEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.NETHER,
-                        islandPosition -> this.islandsByPositions.put(islandPosition, island));
-            }
-            if (plugin.getProviders().getWorldsProvider().isEndEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.THE_END,
-                        islandPosition -> this.islandsByPositions.put(islandPosition, island));
-            }
-        }
+        ensureGridIndex();
+        addIslandPositions(island);
 
         this.islandsByUUID.put(island.getUniqueId(), island);
 
-        sortedIslands.values().forEach(sortedIslands -> {
-            sortedIslands.write(_sortedIslands -> _sortedIslands.add(island));
-        });
+        if (!island.isIgnored()) {
+            sortedIslands.values().forEach(sortedIslands -> {
+                sortedIslands.write(_sortedIslands -> _sortedIslands.add(island));
+            });
+        }
     }
 
     @Override
     public void removeIsland(Island island) {
+        ensureGridIndex();
         BlockPosition center = island.getCenterPosition();
-        WorldInfo defaultWorld = plugin.getGrid().getIslandsWorldInfo(island, plugin.getSettings().getWorlds().getDefaultWorld());
-
-        Preconditions.checkNotNull(defaultWorld, "Default world information cannot be null!");
-
-        this.islandsByPositions.remove(IslandPosition.of(defaultWorld.getName(), center.getX(), center.getZ()), island);
-
-        if (plugin.getProviders().hasCustomWorldsSupport()) {
-            if (plugin.getProviders().getWorldsProvider().isNormalEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.NORMAL,
-                        islandPosition -> this.islandsByPositions.remove(islandPosition, island));
-            }
-            if (plugin.getProviders().getWorldsProvider().isNetherEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.NETHER,
-                        islandPosition -> this.islandsByPositions.remove(islandPosition, island));
-            }
-            if (plugin.getProviders().getWorldsProvider().isEndEnabled()) {
-                runWithCustomWorld(defaultWorld, center, island, World.Environment.THE_END,
-                        islandPosition -> this.islandsByPositions.remove(islandPosition, island));
-            }
-        }
+        forEachIslandWorld(island, worldName ->
+                this.islandsByPositions.remove(worldName, center.getX(), center.getZ(), island));
 
         islandsByUUID.remove(island.getUniqueId());
 
@@ -135,10 +103,20 @@ public class DefaultIslandsContainer implements IslandsContainer {
     @Nullable
     @Override
     public Island getIslandAt(Location location) {
-        Island island = this.islandsByPositions.get(IslandPosition.of(location));
+        ensureGridIndex();
+        Island island = this.islandsByPositions.get(LazyWorldLocation.getWorldName(location),
+                location.getBlockX(), location.getBlockZ());
         return island == null || !island.isInside(location) ? null : island;
     }
 
+    @Nullable
+    @Override
+    public Island getIslandAt(World world, int blockX, int blockZ) {
+        ensureGridIndex();
+        Island island = this.islandsByPositions.get(world.getName(), blockX, blockZ);
+        return island == null || !isInside(island, world, blockX, blockZ) ? null : island;
+    }
+
     @Override
     public void sortIslands(SortingType sortingType, Runnable onFinish) {
         this.sortIslands(sortingType, false, onFinish);
@@ -148,9 +126,11 @@ public class DefaultIslandsContainer implements IslandsContainer {
     public void sortIslands(SortingType sortingType, boolean forceSort, Runnable onFinish) {
         ensureSortingType(sortingType);
 
-        Synchronized<List<Island>> sortedIslands = this.sortedIslands.get(sortingType);
-
-        if (!forceSort && (sortedIslands.readAndGet(List::size) <= 1 || !notifiedValues.remove(sortingType))) {
+        // Islands are re-positioned when changes are notified, therefore there is no need to sort them again
+        // unless a full sort was requested. Custom sorting types may not notify about all the changes of their
+        // values, therefore they are still sorted again when any change was notified.
+        if (!forceSort && (this.islandsByUUID.size() <= 1 || !notifiedValues.remove(sortingType) ||
+                isBuiltinSortingType(sortingType))) {
             if (onFinish != null)
                 onFinish.run();
             return;
@@ -166,13 +146,29 @@ public class DefaultIslandsContainer implements IslandsContainer {
     @Override
     public void notifyChange(SortingType sortingType, Island island) {
         notifiedValues.add(sortingType);
+
+        for (Consumer<Island> changeListener : CHANGE_LISTENERS)
+            changeListener.accept(island);
+
+        Synchronized<RankedSet<Island>> sortedIslands = this.sortedIslands.get(sortingType);
+
+        if (sortedIslands == null || !this.islandsByUUID.containsKey(island.getUniqueId()))
+            return;
+
+        sortedIslands.write(_sortedIslands -> {
+            if (island.isIgnored()) {
+                _sortedIslands.remove(island);
+            } else {
+                _sortedIslands.add(island);
+            }
+        });
     }
 
     @Override
     public List<Island> getSortedIslands(SortingType sortingType) {
         ensureSortingType(sortingType);
         return this.sortedIslands.get(sortingType).readAndGet(sortedIslands ->
-                new SequentialListBuilder<Island>().build(sortedIslands));
+                new SequentialListBuilder<Island>().build(sortedIslands.toList()));
     }
 
     @Override
@@ -186,27 +182,100 @@ public class DefaultIslandsContainer implements IslandsContainer {
         sortIslandsInternal(sortingType, null);
     }
 
+    /**
+     * Register a listener that is called when a sorting value of an island is changed.
+     * Some of the sorting values, such as the players inside the island, are never saved, therefore
+     * their changes are not reported by the database bridge.
+     * The listener is called from the thread the change was made in.
+     */
+    public static void registerChangeListener(Consumer<Island> changeListener) {
+        CHANGE_LISTENERS.add(changeListener);
+    }
+
+    private static boolean isBuiltinSortingType(SortingType sortingType) {
+        return sortingType == SortingTypes.BY_WORTH || sortingType == SortingTypes.BY_LEVEL ||
+                sortingType == SortingTypes.BY_RATING || sortingType == SortingTypes.BY_PLAYERS;
+    }
+
     private void ensureSortingType(SortingType sortingType) {
         Preconditions.checkState(sortedIslands.containsKey(sortingType), "The sorting-type " + sortingType + " doesn't exist in the database. Please contact author!");
     }
 
     private void sortIslandsInternal(SortingType sortingType, Runnable onFinish) {
-        List<Island> newIslandsList = new ArrayList<>(islandsByUUID.values());
-        newIslandsList.removeIf(Island::isIgnored);
+        RankedSet<Island> newSortedIslands = new RankedSet<>(sortingType);
 
-        newIslandsList.sort(sortingType);
+        for (Island island : islandsByUUID.values()) {
+            if (!island.isIgnored())
+                newSortedIslands.add(island);
+        }
 
-        this.sortedIslands.put(sortingType, Synchronized.of(newIslandsList));
+        Synchronized<RankedSet<Island>> sortedIslands = this.sortedIslands.get(sortingType);
+        if (sortedIslands == null) {
+            this.sortedIslands.put(sortingType, Synchronized.of(newSortedIslands));
+        } else {
+            sortedIslands.set(newSortedIslands);
+        }
 
         if (onFinish != null)
             onFinish.run();
     }
 
-    private void runWithCustomWorld(WorldInfo defaultWorld, BlockPosition center, Island island,
-                                    World.Environment environment, Consumer<IslandPosition> consumer) {
+    private void addIslandPositions(Island island) {
+        BlockPosition center = island.getCenterPosition();
+        forEachIslandWorld(island, worldName ->
+                this.islandsByPositions.put(worldName, center.getX(), center.getZ(), island));
+    }
+
+    private void forEachIslandWorld(Island island, Consumer<String> consumer) {
+        WorldInfo defaultWorld = plugin.getGrid().getIslandsWorldInfo(island, plugin.getSettings().getWorlds().getDefaultWorld());
+
+        Preconditions.checkNotNull(defaultWorld, "Default world information cannot be null!");
+
+        consumer.accept(defaultWorld.getName());
+
+        if (plugin.getProviders().hasCustomWorldsSupport()) {
+            // We don't know the logic of the custom worlds support, therefore we add a position
+            // for every possible world, so there won't be issues with detecting islands later.
+            if (plugin.getProviders().getWorldsProvider().isNormalEnabled())
+                runWithCustomWorld(defaultWorld, island, World.Environment.NORMAL, consumer);
+            if (plugin.getProviders().getWorldsProvider().isNetherEnabled())
+                runWithCustomWorld(defaultWorld, island, World.Environment.NETHER, consumer);
+            if (plugin.getProviders().getWorldsProvider().isEndEnabled())
+                runWithCustomWorld(defaultWorld, island, World.Environment.THE_END, consumer);
+        }
+    }
+
+    private void runWithCustomWorld(WorldInfo defaultWorld, Island island, World.Environment environment,
+                                    Consumer<String> consumer) {
         WorldInfo worldInfo = plugin.getGrid().getIslandsWorldInfo(island, environment);
         if (worldInfo != null && !worldInfo.equals(defaultWorld))
-            consumer.accept(IslandPosition.of(worldInfo.getName(), center.getX(), center.getZ()));
+            consumer.accept(worldInfo.getName());
+    }
+
+    private void ensureGridIndex() {
+        int cellSize = getGridCellSize();
+        boolean separateWorlds = plugin.getProviders().hasCustomWorldsSupport();
+
+        if (!this.islandsByPositions.isOutdated(cellSize, separateWorlds))
+            return;
+
+        // The max island size or the worlds provider were changed, therefore the cells of all islands must be
+        // calculated again.
+        synchronized (this.islandsByPositions) {
+            if (this.islandsByPositions.isOutdated(cellSize, separateWorlds)) {
+                this.islandsByPositions.reset(cellSize, separateWorlds);
+                this.islandsByUUID.values().forEach(this::addIslandPositions);
+            }
+        }
+    }
+
+    private static boolean isInside(Island island, World world, int blockX, int blockZ) {
+        return island instanceof SIsland ? ((SIsland) island).isInsideBlock(world, blockX, blockZ) :
+                island.isInside(new Location(world, blockX, 0, blockZ));
+    }
+
+    private int getGridCellSize() {
+        return plugin.getSettings().getMaxIslandSize() * 3;
     }
 
 }
@@ -0,0 +1,90 @@
+package com.bgsoftware.superiorskyblock.island.container;
+
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.core.collections.LongObjectMap;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Spatial index of islands by the grid cells they are placed in.
+ * Every island is placed in the center of a cell, and the cells are max-island-size * 3 blocks wide.
+ * Cells are stored in a primitive map for each world, keyed by the packed coordinates of the cell.
+ * When worlds are not separated, all islands are stored in the same map.
+ */
+class IslandsGridIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongObjectMap<Island> sharedCells = new LongObjectMap<>();
+    private final Map<String, LongObjectMap<Island>> worldsCells = new HashMap<>();
+
+    private volatile int cellSize;
+    private volatile boolean separateWorlds;
+
+    IslandsGridIndex(int cellSize, boolean separateWorlds) {
+        this.cellSize = cellSize;
+        this.separateWorlds = separateWorlds;
+    }
+
+    boolean isOutdated(int cellSize, boolean separateWorlds) {
+        return this.cellSize != cellSize || this.separateWorlds != separateWorlds;
+    }
+
+    void reset(int cellSize, boolean separateWorlds) {
+        lock.writeLock().lock();
+        try {
+            this.cellSize = cellSize;
+            this.separateWorlds = separateWorlds;
+            this.sharedCells.clear();
+            this.worldsCells.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void put(String worldName, int blockX, int blockZ, Island island) {
+        lock.writeLock().lock();
+        try {
+            LongObjectMap<Island> cells = this.separateWorlds ?
+                    this.worldsCells.computeIfAbsent(worldName, n -> new LongObjectMap<>()) : this.sharedCells;
+            cells.put(getCellKey(blockX, blockZ), island);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String worldName, int blockX, int blockZ, Island island) {
+        lock.writeLock().lock();
+        try {
+            LongObjectMap<Island> cells = this.separateWorlds ? this.worldsCells.get(worldName) : this.sharedCells;
+            if (cells != null)
+                cells.remove(getCellKey(blockX, blockZ), island);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Nullable
+    Island get(String worldName, int blockX, int blockZ) {
+        lock.readLock().lock();
+        try {
+            LongObjectMap<Island> cells = this.separateWorlds ? this.worldsCells.get(worldName) : this.sharedCells;
+            return cells == null ? null : cells.get(getCellKey(blockX, blockZ));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long getCellKey(int blockX, int blockZ) {
+        return ((long) getCell(blockX) << 32) | (getCell(blockZ) & 0xFFFFFFFFL);
+    }
+
+    private int getCell(int block) {
+        // Rounding to the nearest cell, so the island center is in the middle of its cell.
+        int cell = (Math.abs(block) + (this.cellSize / 2)) / this.cellSize;
+        return block < 0 ? -cell : cell;
+    }
+
+}
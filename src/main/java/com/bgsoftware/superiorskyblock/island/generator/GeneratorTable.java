@@ -0,0 +1,148 @@
+package com.bgsoftware.superiorskyblock.island.generator;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.key.Key;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import org.bukkit.Material;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compiled generator rates of an island in a specific environment.
+ * Blocks are rolled in constant time using the alias method: every block gets a bucket of the same size,
+ * which is filled by its own rate and the leftover of another block. A roll picks a random bucket, and
+ * then decides between the two blocks of that bucket.
+ * The rates are kept as integers, so the chances of the blocks are exactly as they were configured.
+ */
+public class GeneratorTable {
+
+    public static final GeneratorTable EMPTY = new GeneratorTable(new Key[0], new int[0], new int[0], new int[0], 0);
+
+    private final Key[] blocks;
+    private final int[] combinedIds;
+    private final int[] thresholds;
+    private final int[] aliases;
+    private final int totalAmount;
+
+    private GeneratorTable(Key[] blocks, int[] combinedIds, int[] thresholds, int[] aliases, int totalAmount) {
+        this.blocks = blocks;
+        this.combinedIds = combinedIds;
+        this.thresholds = thresholds;
+        this.aliases = aliases;
+        this.totalAmount = totalAmount;
+    }
+
+    public static GeneratorTable compile(SuperiorSkyblockPlugin plugin, Map<Key, Integer> generatorAmounts) {
+        List<Key> blocksList = new ArrayList<>(generatorAmounts.size());
+        List<Integer> amountsList = new ArrayList<>(generatorAmounts.size());
+        int totalAmount = 0;
+
+        for (Map.Entry<Key, Integer> entry : generatorAmounts.entrySet()) {
+            int amount = entry.getValue();
+            if (amount > 0) {
+                blocksList.add(entry.getKey());
+                amountsList.add(amount);
+                totalAmount += amount;
+            }
+        }
+
+        int size = blocksList.size();
+
+        if (size == 0 || totalAmount <= 0)
+            return EMPTY;
+
+        Key[] blocks = blocksList.toArray(new Key[0]);
+        int[] combinedIds = new int[size];
+        int[] thresholds = new int[size];
+        int[] aliases = new int[size];
+
+        for (int i = 0; i < size; ++i)
+            combinedIds[i] = getCombinedId(plugin, blocks[i]);
+
+        // Every bucket is totalAmount wide, and the amounts are scaled by the amount of buckets.
+        long[] scaledAmounts = new long[size];
+        int[] smallBuckets = new int[size];
+        int[] largeBuckets = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < size; ++i) {
+            scaledAmounts[i] = (long) amountsList.get(i) * size;
+            aliases[i] = i;
+            if (scaledAmounts[i] < totalAmount) {
+                smallBuckets[smallCount++] = i;
+            } else {
+                largeBuckets[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int small = smallBuckets[--smallCount];
+            int large = largeBuckets[--largeCount];
+
+            thresholds[small] = (int) scaledAmounts[small];
+            aliases[small] = large;
+
+            scaledAmounts[large] -= totalAmount - scaledAmounts[small];
+
+            if (scaledAmounts[large] < totalAmount) {
+                smallBuckets[smallCount++] = large;
+            } else {
+                largeBuckets[largeCount++] = large;
+            }
+        }
+
+        // The remaining buckets are full.
+        while (largeCount > 0)
+            thresholds[largeBuckets[--largeCount]] = totalAmount;
+        while (smallCount > 0)
+            thresholds[smallBuckets[--smallCount]] = totalAmount;
+
+        return new GeneratorTable(blocks, combinedIds, thresholds, aliases, totalAmount);
+    }
+
+    public boolean isEmpty() {
+        return this.blocks.length == 0;
+    }
+
+    public int getTotalAmount() {
+        return this.totalAmount;
+    }
+
+    /**
+     * Roll a block from the table.
+     *
+     * @param random The random to use.
+     * @return The index of the rolled block.
+     */
+    public int roll(Random random) {
+        if (this.blocks.length == 1)
+            return 0;
+
+        int bucket = random.nextInt(this.blocks.length);
+        return random.nextInt(this.totalAmount) < this.thresholds[bucket] ? bucket : this.aliases[bucket];
+    }
+
+    public Key getBlock(int index) {
+        return this.blocks[index];
+    }
+
+    public int getCombinedId(int index) {
+        return this.combinedIds[index];
+    }
+
+    private static int getCombinedId(SuperiorSkyblockPlugin plugin, Key block) {
+        try {
+            Material generateBlockType = Material.valueOf(block.getGlobalKey());
+            byte blockData = block.getSubKey().isEmpty() ? 0 : Byte.parseByte(block.getSubKey());
+            return plugin.getNMSAlgorithms().getCombinedId(generateBlockType, blockData);
+        } catch (IllegalArgumentException error) {
+            Log.error("Invalid block for generating block: ", block);
+            return plugin.getNMSAlgorithms().getCombinedId(Material.COBBLESTONE, (byte) 0);
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.bgsoftware.superiorskyblock.island.privilege;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.island.IslandPrivilege;
+import com.bgsoftware.superiorskyblock.api.island.PermissionNode;
+import com.bgsoftware.superiorskyblock.api.island.PlayerRole;
+import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
+import com.bgsoftware.superiorskyblock.external.permissions.PermissionsProvider_NotifyChanges;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The privileges a player has on an island, resolved from the permissions of the player's role, the custom
+ * permissions of the player and the bypass permissions of the player, and kept as bitsets of the ordinals
+ * of the privileges.
+ * Every privilege is resolved only when it is checked for the first time, so players that only trigger a few
+ * privileges do not resolve all of them.
+ * The privileges are resolved for a specific role of the player and a specific revision of the player's
+ * permissions, and must be resolved again once any of them changes. Unless the permissions provider notifies
+ * about changes in permissions of players, the resolved privileges also expire after a short time.
+ */
+public class EffectivePrivileges {
+
+    private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
+    private static final long EXPIRATION_TIME = TimeUnit.SECONDS.toNanos(1);
+
+    private final SuperiorPlayer superiorPlayer;
+    private final PermissionNode playerNode;
+    private final PlayerRole playerRole;
+    private final int permissionsRevision;
+    private final boolean expires;
+    private final long expirationTime;
+    private final int privilegesCount;
+    private final AtomicLongArray resolvedPrivileges;
+    private final AtomicLongArray grantedPrivileges;
+    private final boolean bypassAll;
+
+    public EffectivePrivileges(SuperiorPlayer superiorPlayer, PlayerRole playerRole,
+                               PermissionNode playerNode, int permissionsRevision) {
+        this.superiorPlayer = superiorPlayer;
+        this.playerNode = playerNode;
+        this.playerRole = playerRole;
+        this.permissionsRevision = permissionsRevision;
+        this.expires = !(plugin.getProviders().getPermissionsProvider() instanceof PermissionsProvider_NotifyChanges);
+        this.expirationTime = System.nanoTime() + EXPIRATION_TIME;
+
+        int privilegesCount = 0;
+        for (IslandPrivilege islandPrivilege : IslandPrivilege.values())
+            privilegesCount = Math.max(privilegesCount, islandPrivilege.ordinal() + 1);
+
+        this.privilegesCount = privilegesCount;
+        this.resolvedPrivileges = new AtomicLongArray((privilegesCount + 63) >> 6);
+        this.grantedPrivileges = new AtomicLongArray((privilegesCount + 63) >> 6);
+
+        this.bypassAll = superiorPlayer.hasBypassModeEnabled() ||
+                superiorPlayer.hasPermissionWithoutOP("superior.admin.bypass.*");
+    }
+
+    public boolean isValid(PlayerRole playerRole, int permissionsRevision) {
+        return this.playerRole == playerRole && this.permissionsRevision == permissionsRevision && !isExpired();
+    }
+
+    private boolean isExpired() {
+        return this.expires && System.nanoTime() - this.expirationTime >= 0;
+    }
+
+    public boolean hasPrivilege(IslandPrivilege islandPrivilege) {
+        int ordinal = islandPrivilege.ordinal();
+
+        // Privileges that were registered after the privileges were created are not kept.
+        if (ordinal >= this.privilegesCount)
+            return resolvePrivilege(islandPrivilege);
+
+        int index = ordinal >> 6;
+        long bit = 1L << ordinal;
+
+        if ((this.resolvedPrivileges.get(index) & bit) == 0) {
+            // The privilege is granted before it is marked as resolved, so other threads that see it
+            // as resolved also see whether it was granted.
+            if (resolvePrivilege(islandPrivilege))
+                this.grantedPrivileges.accumulateAndGet(index, bit, (bits, newBit) -> bits | newBit);
+            this.resolvedPrivileges.accumulateAndGet(index, bit, (bits, newBit) -> bits | newBit);
+        }
+
+        return (this.grantedPrivileges.get(index) & bit) != 0;
+    }
+
+    private boolean resolvePrivilege(IslandPrivilege islandPrivilege) {
+        return this.bypassAll || this.superiorPlayer.hasPermissionWithoutOP("superior.admin.bypass." + islandPrivilege.getName()) ||
+                this.playerNode.hasPermission(islandPrivilege);
+    }
+
+}
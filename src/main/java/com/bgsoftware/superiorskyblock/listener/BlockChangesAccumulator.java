@@ -0,0 +1,173 @@
+package com.bgsoftware.superiorskyblock.listener;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.api.key.Key;
+import com.bgsoftware.superiorskyblock.api.key.KeyMap;
+import com.bgsoftware.superiorskyblock.core.ChunkPosition;
+import com.bgsoftware.superiorskyblock.core.key.KeyImpl;
+import com.bgsoftware.superiorskyblock.core.key.KeyMapImpl;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import com.bgsoftware.superiorskyblock.island.SIsland;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects block changes of islands during a tick, and applies them once at the end of it.
+ * Changes of the same block are summed into a single signed delta, so blocks that are placed and broken
+ * many times during a tick, such as flowing liquids, update the island only once.
+ * Chunks are marked dirty and checked for being empty once per tick as well.
+ */
+class BlockChangesAccumulator {
+
+    private final SuperiorSkyblockPlugin plugin;
+
+    private Map<Island, IslandChanges> pendingChanges = new IdentityHashMap<>();
+    private boolean flushScheduled = false;
+
+    BlockChangesAccumulator(SuperiorSkyblockPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    void addBlockPlace(Island island, Key blockKey, int amount, boolean save) {
+        if (shouldTrackBlock(blockKey))
+            getChanges(island).addDelta(blockKey, amount, save);
+    }
+
+    void addBlockBreak(Island island, Key blockKey, int amount, boolean save) {
+        if (shouldTrackBlock(blockKey))
+            getChanges(island).addDelta(blockKey, -amount, save);
+    }
+
+    /**
+     * Add a break of a block that was broken together with other blocks.
+     * These blocks are counted even if spawner changes are not listened to.
+     */
+    void addMultiBlockBreak(Island island, Key blockKey, int amount, boolean save) {
+        getChanges(island).addDelta(blockKey, -amount, save);
+    }
+
+    /**
+     * Add a placement of a block that is not placed yet.
+     * The key of the block is resolved when the changes are applied.
+     */
+    void addPendingBlockPlace(Island island, Block block, boolean save) {
+        IslandChanges islandChanges = getChanges(island);
+        (save ? islandChanges.savedPendingBlocks : islandChanges.unsavedPendingBlocks).add(block);
+    }
+
+    void markChunkDirty(Island island, World world, int chunkX, int chunkZ) {
+        getChanges(island).dirtyChunks.add(ChunkPosition.of(world, chunkX, chunkZ));
+    }
+
+    void checkChunkEmpty(Island island, World world, int chunkX, int chunkZ) {
+        getChanges(island).possiblyEmptyChunks.add(ChunkPosition.of(world, chunkX, chunkZ));
+    }
+
+    private IslandChanges getChanges(Island island) {
+        if (!this.flushScheduled) {
+            this.flushScheduled = true;
+            BukkitExecutor.sync(this::flush);
+        }
+
+        return this.pendingChanges.computeIfAbsent(island, i -> new IslandChanges());
+    }
+
+    private void flush() {
+        Map<Island, IslandChanges> pendingChanges = this.pendingChanges;
+        this.pendingChanges = new IdentityHashMap<>();
+        this.flushScheduled = false;
+
+        pendingChanges.forEach((island, islandChanges) -> {
+            try {
+                islandChanges.apply(island);
+            } catch (Throwable error) {
+                Log.error(error, "An unexpected error occurred while applying block changes of island ",
+                        island.getUniqueId(), ":");
+            }
+        });
+    }
+
+    private boolean shouldTrackBlock(Key blockKey) {
+        return !blockKey.getGlobalKey().contains("SPAWNER") || plugin.getProviders().shouldListenToSpawnerChanges();
+    }
+
+    private class IslandChanges {
+
+        private final KeyMap<Integer> savedDeltas = KeyMapImpl.createHashMap();
+        private final KeyMap<Integer> unsavedDeltas = KeyMapImpl.createHashMap();
+        private final List<Block> savedPendingBlocks = new LinkedList<>();
+        private final List<Block> unsavedPendingBlocks = new LinkedList<>();
+        private final Set<ChunkPosition> dirtyChunks = new HashSet<>();
+        private final Set<ChunkPosition> possiblyEmptyChunks = new HashSet<>();
+
+        void addDelta(Key blockKey, int amount, boolean save) {
+            (save ? this.savedDeltas : this.unsavedDeltas).merge(blockKey, amount, Integer::sum);
+        }
+
+        void apply(Island island) {
+            this.savedPendingBlocks.forEach(block -> addPendingBlockDelta(block, true));
+            this.unsavedPendingBlocks.forEach(block -> addPendingBlockDelta(block, false));
+
+            applyDeltas(island, this.savedDeltas, true);
+            applyDeltas(island, this.unsavedDeltas, false);
+
+            for (ChunkPosition chunkPosition : this.dirtyChunks) {
+                World world = chunkPosition.getWorld();
+                if (world != null)
+                    island.markChunkDirty(world, chunkPosition.getX(), chunkPosition.getZ(), true);
+            }
+
+            for (ChunkPosition chunkPosition : this.possiblyEmptyChunks) {
+                World world = chunkPosition.getWorld();
+                if (world != null && world.isChunkLoaded(chunkPosition.getX(), chunkPosition.getZ()) &&
+                        plugin.getNMSChunks().isChunkEmpty(world.getChunkAt(chunkPosition.getX(), chunkPosition.getZ()))) {
+                    island.markChunkEmpty(world, chunkPosition.getX(), chunkPosition.getZ(), true);
+                }
+            }
+        }
+
+        private void applyDeltas(Island island, KeyMap<Integer> deltas, boolean save) {
+            if (deltas.isEmpty())
+                return;
+
+            KeyMap<Integer> placedBlocks = KeyMapImpl.createHashMap();
+            KeyMap<Integer> brokenBlocks = KeyMapImpl.createHashMap();
+
+            deltas.forEach((blockKey, amount) -> {
+                if (amount > 0) {
+                    placedBlocks.put(blockKey, amount);
+                } else if (amount < 0) {
+                    brokenBlocks.put(blockKey, -amount);
+                }
+            });
+
+            if (island instanceof SIsland) {
+                // Rankings are notified and block counts are saved once for all the changes.
+                ((SIsland) island).handleBlocksChange(placedBlocks, brokenBlocks, save);
+            } else if (save) {
+                island.handleBlocksPlace(placedBlocks);
+                island.handleBlocksBreak(brokenBlocks);
+            } else {
+                placedBlocks.forEach((blockKey, amount) -> island.handleBlockPlace(blockKey, amount, false));
+                brokenBlocks.forEach((blockKey, amount) -> island.handleBlockBreak(blockKey, amount, false));
+            }
+        }
+
+        private void addPendingBlockDelta(Block block, boolean save) {
+            Key blockKey = KeyImpl.of(block);
+            if (!blockKey.getGlobalKey().equals("AIR") && shouldTrackBlock(blockKey))
+                addDelta(blockKey, 1, save);
+        }
+
+    }
+
+}
@@ -71,9 +71,11 @@ public class BlockChangesListener implements Listener {
     };
 
     private final SuperiorSkyblockPlugin plugin;
+    private final BlockChangesAccumulator blockChangesAccumulator;
 
     public BlockChangesListener(SuperiorSkyblockPlugin plugin) {
         this.plugin = plugin;
+        this.blockChangesAccumulator = new BlockChangesAccumulator(plugin);
         this.registerSpongeListener();
         this.registerBlockDestroyListener();
     }
@@ -113,15 +115,23 @@ public class BlockChangesListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     private void onBlockGrow(BlockGrowEvent e) {
-        onBlockPlace(KeyImpl.of(e.getNewState()), e.getBlock().getLocation(), 1, null,
-                Flag.DIRTY_CHUNK, Flag.SAVE_BLOCK_COUNT);
+        Block block = e.getBlock();
+        Island island = plugin.getGrid().getIslandAt(block.getLocation());
+        if (island != null) {
+            blockChangesAccumulator.addBlockPlace(island, KeyImpl.of(e.getNewState()), 1, true);
+            blockChangesAccumulator.markChunkDirty(island, block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+        }
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     private void onBlockFrom(BlockFormEvent e) {
-        Location location = e.getNewState().getLocation();
-        // Do not save block counts
-        onBlockBreak(KeyImpl.of(e.getBlock()), location, 1, Flag.DIRTY_CHUNK);
+        Block block = e.getBlock();
+        Island island = plugin.getGrid().getIslandAt(block.getLocation());
+        if (island != null) {
+            // Do not save block counts
+            blockChangesAccumulator.addBlockBreak(island, KeyImpl.of(block), 1, false);
+            blockChangesAccumulator.checkChunkEmpty(island, block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+        }
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -325,27 +335,40 @@ public class BlockChangesListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     private void onBlockFromTo(BlockFromToEvent e) {
-        if (e.getToBlock().getType() != Material.AIR) {
-            // Do not save block counts
-            onBlockBreak(KeyImpl.of(e.getToBlock()), e.getToBlock().getLocation(), 1, Flag.DIRTY_CHUNK);
+        Block toBlock = e.getToBlock();
+        Island island = plugin.getGrid().getIslandAt(toBlock.getLocation());
+
+        if (island == null)
+            return;
+
+        // Do not save block counts
+        if (toBlock.getType() != Material.AIR) {
+            blockChangesAccumulator.addBlockBreak(island, KeyImpl.of(toBlock), 1, false);
+            blockChangesAccumulator.checkChunkEmpty(island, toBlock.getWorld(), toBlock.getX() >> 4, toBlock.getZ() >> 4);
         } else {
-            BukkitExecutor.sync(() -> {
-                // Do not save block counts
-                onBlockPlace(KeyImpl.of(e.getToBlock()), e.getToBlock().getLocation(), 1, null, Flag.DIRTY_CHUNK);
-            });
+            // The liquid flows into the block only after the event, therefore its key is resolved later.
+            blockChangesAccumulator.addPendingBlockPlace(island, toBlock, false);
+            blockChangesAccumulator.markChunkDirty(island, toBlock.getWorld(), toBlock.getX() >> 4, toBlock.getZ() >> 4);
         }
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     private void onEntityExplode(EntityExplodeEvent e) {
-        KeyMap<Integer> blockCounts = KeyMapImpl.createHashMap();
-        e.blockList().forEach(block -> {
-            Key blockKey = KeyImpl.of(block);
-            blockCounts.put(blockKey, blockCounts.getOrDefault(blockKey, 0) + 1);
-        });
-        if (e.getEntity() instanceof TNTPrimed)
-            blockCounts.put(ConstantKeys.TNT, blockCounts.getOrDefault(ConstantKeys.TNT, 0) + 1);
-        onMultiBlockBreak(blockCounts, e.getLocation(), Flag.DIRTY_CHUNK, Flag.SAVE_BLOCK_COUNT);
+        boolean tntExplosion = e.getEntity() instanceof TNTPrimed;
+
+        if (e.blockList().isEmpty() && !tntExplosion)
+            return;
+
+        Location location = e.getLocation();
+        Island island = plugin.getGrid().getIslandAt(location);
+
+        if (island == null)
+            return;
+
+        e.blockList().forEach(block -> blockChangesAccumulator.addMultiBlockBreak(island, KeyImpl.of(block), 1, true));
+        if (tntExplosion)
+            blockChangesAccumulator.addMultiBlockBreak(island, ConstantKeys.TNT, 1, true);
+        blockChangesAccumulator.markChunkDirty(island, location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -46,6 +46,7 @@ public class ChunksListener implements Listener {
     private void onChunkUnloadMonitor(ChunkUnloadEvent e) {
         // noinspection deprecation
         plugin.getWorldEventsManager().unloadChunk(e.getChunk());
+        plugin.getStackedBlocks().unloadChunk(e.getChunk());
     }
 
     @EventHandler
@@ -60,6 +61,9 @@ public class ChunksListener implements Listener {
             }
         }
 
+        // Stacked blocks are loaded from the database, and their holograms are updated once they are loaded.
+        plugin.getStackedBlocks().loadChunk(e.getChunk());
+
         // noinspection deprecation
         plugin.getWorldEventsManager().loadChunk(e.getChunk());
     }
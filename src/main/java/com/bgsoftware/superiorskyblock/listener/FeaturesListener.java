@@ -98,7 +98,7 @@ public class FeaturesListener implements Listener {
                 ProtectionListener.Flag.PREVENT_OUTSIDE_ISLANDS))
             return;
 
-        Island island = plugin.getGrid().getIslandAt(e.getClickedBlock().getLocation());
+        Island island = plugin.getGrid().getIslandAt(e.getClickedBlock().getWorld(), e.getClickedBlock().getX(), e.getClickedBlock().getZ());
 
         // Prevent outside island is set above.
         assert island != null;
@@ -22,7 +22,7 @@ public class IslandWorldEventsListener implements Listener {
         if (!plugin.getSettings().isDisableRedstoneOffline() && !plugin.getSettings().getAFKIntegrations().isDisableRedstone())
             return;
 
-        Island island = plugin.getGrid().getIslandAt(e.getBlock().getLocation());
+        Island island = plugin.getGrid().getIslandAt(e.getBlock().getWorld(), e.getBlock().getX(), e.getBlock().getZ());
 
         if (island == null || island.isSpawn())
             return;
@@ -8,6 +8,7 @@ import com.bgsoftware.superiorskyblock.api.events.IslandRestrictMoveEvent;
 import com.bgsoftware.superiorskyblock.api.events.IslandUncoopPlayerEvent;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.IslandChest;
+import com.bgsoftware.superiorskyblock.api.player.container.PlayersContainer;
 import com.bgsoftware.superiorskyblock.api.player.respawn.RespawnAction;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.Materials;
@@ -21,11 +22,14 @@ import com.bgsoftware.superiorskyblock.core.logging.Log;
 import com.bgsoftware.superiorskyblock.core.messages.Message;
 import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
 import com.bgsoftware.superiorskyblock.island.IslandUtils;
+import com.bgsoftware.superiorskyblock.island.SIsland;
 import com.bgsoftware.superiorskyblock.island.SIslandChest;
 import com.bgsoftware.superiorskyblock.island.flag.IslandFlags;
 import com.bgsoftware.superiorskyblock.island.privilege.IslandPrivileges;
 import com.bgsoftware.superiorskyblock.island.top.SortingTypes;
+import com.bgsoftware.superiorskyblock.player.PlayerIslandPresence;
 import com.bgsoftware.superiorskyblock.player.PlayerLocales;
+import com.bgsoftware.superiorskyblock.player.SSuperiorPlayer;
 import com.bgsoftware.superiorskyblock.player.SuperiorNPCPlayer;
 import com.bgsoftware.superiorskyblock.player.chat.PlayerChat;
 import com.bgsoftware.superiorskyblock.player.respawn.RespawnActions;
@@ -44,6 +48,7 @@ import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerGameModeChangeEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
@@ -81,13 +86,26 @@ public class PlayersListener implements Listener {
 
     /* PLAYER NOTIFIERS */
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onPlayerPreLogin(AsyncPlayerPreLoginEvent e) {
+        if (e.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED)
+            return;
+
+        // Players that were released from memory are loaded here, off the main thread, so they are not
+        // loaded from the database on the main thread when they join.
+        PlayersContainer playersContainer = plugin.getPlayers().getPlayersContainer();
+        playersContainer.getSuperiorPlayer(e.getUniqueId());
+        playersContainer.getSuperiorPlayer(e.getName());
+    }
+
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     private void onPlayerLogin(PlayerLoginEvent e) {
-        List<SuperiorPlayer> duplicatedPlayers = plugin.getPlayers().matchAllPlayers(superiorPlayer ->
-                superiorPlayer.getName().equalsIgnoreCase(e.getPlayer().getName()) &&
-                        !superiorPlayer.getUniqueId().equals(e.getPlayer().getUniqueId()));
+        // Players are indexed by their names, so there's no need to go over all the players.
+        SuperiorPlayer playerWithSameName = plugin.getPlayers().getPlayersContainer().getSuperiorPlayer(e.getPlayer().getName());
+
+        if (playerWithSameName != null && !playerWithSameName.getUniqueId().equals(e.getPlayer().getUniqueId())) {
+            List<SuperiorPlayer> duplicatedPlayers = Collections.singletonList(playerWithSameName);
 
-        if (!duplicatedPlayers.isEmpty()) {
             Log.info("Changing UUID of " + e.getPlayer().getName() + " to " + e.getPlayer().getUniqueId());
 
             SuperiorPlayer playerWithNewUUID = plugin.getPlayers().getSuperiorPlayer(e.getPlayer().getUniqueId(), false);
@@ -127,6 +145,10 @@ public class PlayersListener implements Listener {
         if (superiorPlayer instanceof SuperiorNPCPlayer)
             return;
 
+        // The permissions of the player were not available while they were offline.
+        if (superiorPlayer instanceof SSuperiorPlayer)
+            ((SSuperiorPlayer) superiorPlayer).invalidatePermissions();
+
         // Updating the name of the player.
         if (!superiorPlayer.getName().equals(e.getPlayer().getName())) {
             plugin.getEventsBus().callPlayerChangeNameEvent(superiorPlayer, e.getPlayer().getName());
@@ -197,6 +219,9 @@ public class PlayersListener implements Listener {
 
         // Removing coop status from other islands.
         for (Island _island : plugin.getGrid().getIslands()) {
+            if (_island instanceof SIsland)
+                ((SIsland) _island).removeEffectivePrivileges(superiorPlayer);
+
             if (_island.isCoop(superiorPlayer)) {
                 if (plugin.getEventsBus().callIslandUncoopPlayerEvent(_island, null, superiorPlayer, IslandUncoopPlayerEvent.UncoopReason.SERVER_LEAVE)) {
                     _island.removeCoop(superiorPlayer);
@@ -277,9 +302,6 @@ public class PlayersListener implements Listener {
             if (superiorPlayer instanceof SuperiorNPCPlayer)
                 return;
 
-            Island fromIsland = plugin.getGrid().getIslandAt(from);
-            Island toIsland = plugin.getGrid().getIslandAt(to);
-
             // Handle moving while in teleport warmup.
             BukkitTask teleportTask = superiorPlayer.getTeleportTask();
             if (teleportTask != null) {
@@ -291,17 +313,34 @@ public class PlayersListener implements Listener {
             // Handle moving while in island preview mode
             islandPreviewListener.get().onPlayerMove(superiorPlayer, to);
 
-            if (toIsland != null && preventPlayerEnterIsland(superiorPlayer, from, fromIsland, to, toIsland,
-                    IslandEnterEvent.EnterCause.PLAYER_MOVE)) {
-                e.setCancelled(true);
-                return;
-            } else if (fromIsland != null && preventPlayerLeaveIsland(superiorPlayer, from, fromIsland, to, toIsland,
-                    IslandLeaveEvent.LeaveCause.PLAYER_MOVE)) {
-                e.setCancelled(true);
-                return;
-            } else {
-                // Handle moving outside of islands
-                islandOutsideListener.get().onPlayerMove(superiorPlayer, to, fromIsland, toIsland);
+            PlayerIslandPresence islandPresence = superiorPlayer instanceof SSuperiorPlayer ?
+                    ((SSuperiorPlayer) superiorPlayer).getIslandPresence() : null;
+
+            // Moving inside the interior of the same island cannot enter or leave islands.
+            boolean movedInsideIsland = islandPresence != null && !superiorPlayer.isLeavingFlag() &&
+                    islandPresence.isInside(from) && islandPresence.isInside(to);
+
+            if (!movedInsideIsland) {
+                Island fromIsland = plugin.getGrid().getIslandAt(from);
+                Island toIsland = plugin.getGrid().getIslandAt(to);
+
+                if (toIsland != null && preventPlayerEnterIsland(superiorPlayer, from, fromIsland, to, toIsland,
+                        IslandEnterEvent.EnterCause.PLAYER_MOVE)) {
+                    e.setCancelled(true);
+                    invalidateIslandPresence(islandPresence);
+                    return;
+                } else if (fromIsland != null && preventPlayerLeaveIsland(superiorPlayer, from, fromIsland, to, toIsland,
+                        IslandLeaveEvent.LeaveCause.PLAYER_MOVE)) {
+                    e.setCancelled(true);
+                    invalidateIslandPresence(islandPresence);
+                    return;
+                } else {
+                    // Handle moving outside of islands
+                    islandOutsideListener.get().onPlayerMove(superiorPlayer, to, fromIsland, toIsland);
+                }
+
+                if (islandPresence != null)
+                    islandPresence.update(toIsland, to);
             }
         }
 
@@ -334,6 +373,9 @@ public class PlayersListener implements Listener {
         if (superiorPlayer == null || superiorPlayer instanceof SuperiorNPCPlayer)
             return;
 
+        if (superiorPlayer instanceof SSuperiorPlayer)
+            invalidateIslandPresence(((SSuperiorPlayer) superiorPlayer).getIslandPresence());
+
         Island fromIsland = plugin.getGrid().getIslandAt(e.getFrom());
         Island toIsland = plugin.getGrid().getIslandAt(e.getTo());
 
@@ -351,6 +393,12 @@ public class PlayersListener implements Listener {
         Island island = plugin.getGrid().getIslandAt(e.getPlayer().getLocation());
         SuperiorPlayer superiorPlayer = plugin.getPlayers().getSuperiorPlayer(e.getPlayer());
 
+        if (superiorPlayer instanceof SSuperiorPlayer) {
+            invalidateIslandPresence(((SSuperiorPlayer) superiorPlayer).getIslandPresence());
+            // Permissions may be different between worlds.
+            ((SSuperiorPlayer) superiorPlayer).invalidatePermissions();
+        }
+
         if (island != null && superiorPlayer.hasIslandFlyEnabled() && !e.getPlayer().getAllowFlight() &&
                 island.hasPermission(superiorPlayer, IslandPrivileges.FLY))
             BukkitExecutor.sync(() -> {
@@ -724,4 +772,9 @@ public class PlayersListener implements Listener {
 
     }
 
+    private static void invalidateIslandPresence(@Nullable PlayerIslandPresence islandPresence) {
+        if (islandPresence != null)
+            islandPresence.invalidate();
+    }
+
 }
@@ -275,7 +275,7 @@ public class ProtectionListener implements Listener {
     }
 
     public boolean preventBlockBreak(Block block, Player player, Flag... flags) {
-        Island island = plugin.getGrid().getIslandAt(block.getLocation());
+        Island island = plugin.getGrid().getIslandAt(block.getWorld(), block.getX(), block.getZ());
         SuperiorPlayer superiorPlayer = plugin.getPlayers().getSuperiorPlayer(player);
 
         EnumSet<Flag> flagsSet = flags.length == 0 ? EnumSet.noneOf(Flag.class) : EnumSet.copyOf(Arrays.asList(flags));
@@ -36,7 +36,7 @@ public class SignsListener implements Listener {
 
     @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
     private void onSignPlace(SignChangeEvent e) {
-        Island island = plugin.getGrid().getIslandAt(e.getBlock().getLocation());
+        Island island = plugin.getGrid().getIslandAt(e.getBlock().getWorld(), e.getBlock().getX(), e.getBlock().getZ());
         if (island != null) {
             SuperiorPlayer superiorPlayer = plugin.getPlayers().getSuperiorPlayer(e.getPlayer());
             String[] signLines = e.getLines();
@@ -340,7 +340,7 @@ public class StackedBlocksListener implements Listener {
         if (!plugin.getEventsBus().callBlockUnstackEvent(block, player, blockAmount, blockAmount - amount))
             return UnstackResult.CANCELLED;
 
-        Island island = plugin.getGrid().getIslandAt(block.getLocation());
+        Island island = plugin.getGrid().getIslandAt(block.getWorld(), block.getX(), block.getZ());
 
         int leftAmount;
         boolean stackedBlockSuccess = plugin.getStackedBlocks().setStackedBlock(block, (leftAmount = blockAmount - amount));
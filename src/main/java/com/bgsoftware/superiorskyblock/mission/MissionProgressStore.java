@@ -0,0 +1,173 @@
+package com.bgsoftware.superiorskyblock.mission;
+
+import com.bgsoftware.superiorskyblock.api.missions.Mission;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Persists the progress of a mission incrementally.
+ * The progress is kept in a snapshot file, which has the same format as the old data files, and in a log
+ * of records that were appended to it since. When saving, only the progress of players whose data was changed
+ * is appended to the log, and the log is compacted into the snapshot once it grows large enough.
+ * The progress of every player is expected to be kept under the uuid of the player.
+ */
+public class MissionProgressStore {
+
+    private static final byte RECORD_SET = 0;
+    private static final byte RECORD_REMOVE = 1;
+    private static final long MIN_COMPACT_LOG_SIZE = 64 * 1024;
+
+    private final File snapshotFile;
+    private final File logFile;
+
+    public MissionProgressStore(File dataFolder, String missionName) {
+        this.snapshotFile = new File(dataFolder, missionName + ".yml");
+        this.logFile = new File(dataFolder, missionName + ".log");
+    }
+
+    public void load(Mission<?> mission) {
+        YamlConfiguration data = readProgress();
+
+        if (!data.getKeys(false).isEmpty())
+            mission.loadProgress(data);
+
+        // The loaded progress is already saved.
+        mission.clearChangedData();
+    }
+
+    /**
+     * Append the changed progress of players to the log.
+     *
+     * @param changedProgress The progress of the players whose data was changed.
+     * @param changedPlayers  The players whose data was changed. Their previous progress is removed first, so
+     *                        progress that was cleared is removed as well.
+     */
+    public void save(ConfigurationSection changedProgress, Collection<UUID> changedPlayers) throws IOException {
+        if (changedPlayers.isEmpty())
+            return;
+
+        try (DataOutputStream logStream = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(this.logFile, true)))) {
+            for (UUID playerUUID : changedPlayers)
+                writeRecord(logStream, RECORD_REMOVE, playerUUID.toString(), "");
+
+            for (String path : changedProgress.getKeys(true)) {
+                Object value = changedProgress.get(path);
+                if (!(value instanceof ConfigurationSection))
+                    writeRecord(logStream, RECORD_SET, path, serializeValue(value));
+            }
+        }
+
+        if (this.logFile.length() >= Math.max(MIN_COMPACT_LOG_SIZE, this.snapshotFile.length()))
+            compact();
+    }
+
+    public void compact() throws IOException {
+        YamlConfiguration data = readProgress();
+
+        File tempFile = new File(this.snapshotFile.getParentFile(), this.snapshotFile.getName() + ".tmp");
+        data.save(tempFile);
+
+        // The log is deleted only after the snapshot is replaced. If the server crashes in between,
+        // the log is replayed on top of the new snapshot, which results in the same progress.
+        Files.move(tempFile.toPath(), this.snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        this.logFile.delete();
+    }
+
+    private YamlConfiguration readProgress() {
+        YamlConfiguration data = this.snapshotFile.exists() ?
+                YamlConfiguration.loadConfiguration(this.snapshotFile) : new YamlConfiguration();
+
+        if (this.logFile.exists())
+            replayLog(data);
+
+        return data;
+    }
+
+    private void replayLog(YamlConfiguration data) {
+        try (DataInputStream logStream = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(this.logFile)))) {
+            while (true) {
+                byte recordType;
+
+                try {
+                    recordType = logStream.readByte();
+                } catch (EOFException error) {
+                    break;
+                }
+
+                String path;
+                String value;
+
+                try {
+                    path = readString(logStream);
+                    value = readString(logStream);
+                } catch (EOFException error) {
+                    // The last record was not fully written, probably due to a crash.
+                    Log.warn("Found a partial record in ", this.logFile.getName(), ", skipping it...");
+                    break;
+                }
+
+                if (recordType == RECORD_REMOVE) {
+                    data.set(path, null);
+                } else {
+                    data.set(path, deserializeValue(value));
+                }
+            }
+        } catch (IOException | InvalidConfigurationException error) {
+            Log.error(error, "An unexpected error occurred while reading missions progress log ", this.logFile.getName(), ":");
+        }
+    }
+
+    private static String serializeValue(Object value) {
+        YamlConfiguration valueData = new YamlConfiguration();
+        valueData.set("value", value);
+        return valueData.saveToString();
+    }
+
+    private static Object deserializeValue(String value) throws InvalidConfigurationException {
+        YamlConfiguration valueData = new YamlConfiguration();
+        valueData.loadFromString(value);
+        return valueData.get("value");
+    }
+
+    private static void writeRecord(DataOutputStream logStream, byte recordType, String path, String value) throws IOException {
+        logStream.writeByte(recordType);
+        writeString(logStream, path);
+        writeString(logStream, value);
+    }
+
+    private static void writeString(DataOutputStream stream, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        stream.writeInt(bytes.length);
+        stream.write(bytes);
+    }
+
+    private static String readString(DataInputStream stream) throws IOException {
+        int length = stream.readInt();
+        if (length < 0)
+            throw new EOFException();
+        byte[] bytes = new byte[length];
+        stream.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
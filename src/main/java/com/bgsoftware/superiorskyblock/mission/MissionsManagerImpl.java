@@ -9,6 +9,7 @@ import com.bgsoftware.superiorskyblock.api.missions.MissionCategory;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.Either;
 import com.bgsoftware.superiorskyblock.core.Manager;
+import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
 import com.bgsoftware.superiorskyblock.core.events.EventResult;
 import com.bgsoftware.superiorskyblock.core.events.EventsBus;
 import com.bgsoftware.superiorskyblock.core.io.FileClassLoader;
@@ -36,7 +37,10 @@ import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 public class MissionsManagerImpl extends Manager implements MissionsManager {
@@ -44,6 +48,7 @@ public class MissionsManagerImpl extends Manager implements MissionsManager {
     private static final Object DATA_FOLDER_MUTEX = new Object();
 
     private final MissionsContainer missionsContainer;
+    private final Map<String, MissionProgressStore> progressStores = new ConcurrentHashMap<>();
 
     public MissionsManagerImpl(SuperiorSkyblockPlugin plugin, MissionsContainer missionsContainer) {
         super(plugin);
@@ -55,7 +60,7 @@ public class MissionsManagerImpl extends Manager implements MissionsManager {
         if (!BuiltinModules.MISSIONS.isEnabled())
             return;
 
-        BukkitExecutor.asyncTimer(this::saveMissionsData, 6000L); // Save missions data every 5 minutes
+        BukkitExecutor.timer(this::saveMissionsData, 6000L); // Save changed missions data every 5 minutes
     }
 
     @Override
@@ -305,6 +310,11 @@ public class MissionsManagerImpl extends Manager implements MissionsManager {
         }
     }
 
+    private MissionProgressStore getProgressStore(File dataFolder, Mission<?> mission) {
+        return this.progressStores.computeIfAbsent(mission.getName(), missionName ->
+                new MissionProgressStore(dataFolder, missionName));
+    }
+
     private boolean moveOldDataFolder(File newDataFolder) {
         File oldDataFolder = new File(BuiltinModules.MISSIONS.getModuleFolder(), "data");
 
@@ -333,29 +343,26 @@ public class MissionsManagerImpl extends Manager implements MissionsManager {
             dataFolder.mkdirs();
 
         for (Mission<?> mission : getAllMissions()) {
-            YamlConfiguration data = new YamlConfiguration();
+            // The changed progress is collected on the calling thread, which is usually the main thread that
+            // changes it, and only the files are written on another thread.
+            YamlConfiguration changedProgress = new YamlConfiguration();
+            List<UUID> changedPlayers = new SequentialListBuilder<UUID>()
+                    .build(mission.saveChangedProgress(changedProgress), SuperiorPlayer::getUniqueId);
 
-            try {
-                mission.saveProgress(data);
-            } catch (Throwable error) {
-                Log.error(error, "An unexpected error while saving mission data for ", mission.getName(), ":");
+            if (changedPlayers.isEmpty())
                 continue;
-            }
 
-            if (data.getKeys(true).isEmpty())
-                continue;
-
-            File dataFile = new File(dataFolder, mission.getName() + ".yml");
+            MissionProgressStore progressStore = getProgressStore(dataFolder, mission);
 
-            try {
-                if (!dataFile.exists())
-                    dataFile.createNewFile();
-                synchronized (DATA_FOLDER_MUTEX) {
-                    data.save(dataFile);
+            BukkitExecutor.data(mission.getName(), () -> {
+                try {
+                    synchronized (DATA_FOLDER_MUTEX) {
+                        progressStore.save(changedProgress, changedPlayers);
+                    }
+                } catch (Throwable error) {
+                    Log.error(error, "An unexpected error while saving mission data for ", mission.getName(), ":");
                 }
-            } catch (IOException error) {
-                Log.error(error, "An unexpected error occurred while saving missions data to file ", dataFile.getName(), ":");
-            }
+            });
         }
     }
 
@@ -380,35 +387,20 @@ public class MissionsManagerImpl extends Manager implements MissionsManager {
             return;
 
         for (Mission<?> mission : missionsList) {
-            File dataFile = new File(dataFolder, mission.getName() + ".yml");
-            if (dataFile.exists()) {
-                try {
-                    synchronized (DATA_FOLDER_MUTEX) {
-                        mission.loadProgress(YamlConfiguration.loadConfiguration(dataFile));
-                    }
-                } catch (Throwable error) {
-                    Log.error(error, "An unexpected error occurred while loading mission data for ", mission.getName(), ":");
+            try {
+                synchronized (DATA_FOLDER_MUTEX) {
+                    getProgressStore(dataFolder, mission).load(mission);
                 }
+            } catch (Throwable error) {
+                Log.error(error, "An unexpected error occurred while loading mission data for ", mission.getName(), ":");
             }
         }
     }
 
     public void convertPlayerData(SuperiorPlayer oldPlayer, SuperiorPlayer newPlayer) {
         getAllMissions().forEach(mission -> mission.transferData(oldPlayer, newPlayer));
-
-        File dataFolder = BuiltinModules.MISSIONS.getDataStoreFolder();
-
-        if (!dataFolder.exists())
-            return;
-
-        // Convert the data in the data files as well
-        BukkitExecutor.async(() -> {
-            for (File file : dataFolder.listFiles()) {
-                synchronized (DATA_FOLDER_MUTEX) {
-                    Files.replaceString(file, oldPlayer.getUniqueId() + "", newPlayer.getUniqueId() + "");
-                }
-            }
-        });
+        // Only the transferred entries are written, so there is no need to rewrite the data files.
+        saveMissionsData();
     }
 
     public void loadMissionCategory(MissionCategory missionCategory) {
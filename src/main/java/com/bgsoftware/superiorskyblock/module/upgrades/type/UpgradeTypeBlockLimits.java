@@ -178,7 +178,7 @@ public class UpgradeTypeBlockLimits implements IUpgradeType {
 
         @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
         public void onBlockGrow(BlockGrowEvent e) {
-            Island island = plugin.getGrid().getIslandAt(e.getBlock().getLocation());
+            Island island = plugin.getGrid().getIslandAt(e.getBlock().getWorld(), e.getBlock().getX(), e.getBlock().getZ());
 
             if (island == null)
                 return;
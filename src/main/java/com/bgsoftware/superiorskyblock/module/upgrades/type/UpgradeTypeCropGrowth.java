@@ -39,7 +39,7 @@ public class UpgradeTypeCropGrowth implements IUpgradeType {
         // Should potentially fix crop growth tile entities "disappearing"
         @EventHandler(priority = EventPriority.LOWEST)
         public void onBlockGrow(BlockGrowEvent e) {
-            Island island = plugin.getGrid().getIslandAt(e.getBlock().getLocation());
+            Island island = plugin.getGrid().getIslandAt(e.getBlock().getWorld(), e.getBlock().getX(), e.getBlock().getZ());
             if (island != null && island.isInsideRange(e.getBlock().getLocation()))
                 plugin.getNMSChunks().startTickingChunk(island, e.getBlock().getChunk(), false);
         }
@@ -1,6 +1,7 @@
 package com.bgsoftware.superiorskyblock.nms;
 
 import com.bgsoftware.superiorskyblock.api.key.Key;
+import com.bgsoftware.superiorskyblock.tag.CompoundTag;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.command.defaults.BukkitCommand;
@@ -26,6 +27,8 @@ public interface NMSAlgorithms {
 
     int getCombinedId(Material material, byte data);
 
+    int applyBlockStates(int combinedId, CompoundTag statesTag);
+
     int compareMaterials(Material o1, Material o2);
 
     Key getBlockKey(int combinedId);
@@ -20,6 +20,12 @@ public interface NMSChunks {
 
     void deleteChunks(Island island, List<ChunkPosition> chunkPositions, Runnable onFinish);
 
+    /**
+     * Count the blocks of the given chunks.
+     * Implementations may count blocks from the palettes of the chunk sections, resolving every distinct
+     * state into a key only once. States that depend on the location of the block, such as spawners and
+     * blocks with custom key parsers, must still be calculated block by block.
+     */
     CompletableFuture<List<CalculatedChunk>> calculateChunks(List<ChunkPosition> chunkPositions,
                                                              Map<ChunkPosition, CalculatedChunk> unloadedChunksCache);
 
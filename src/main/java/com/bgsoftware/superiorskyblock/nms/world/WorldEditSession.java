@@ -4,14 +4,13 @@ import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.core.ChunkPosition;
 import com.bgsoftware.superiorskyblock.tag.CompoundTag;
 import org.bukkit.Chunk;
-import org.bukkit.Location;
 
 import javax.annotation.Nullable;
 import java.util.List;
 
 public interface WorldEditSession {
 
-    void setBlock(Location location, int combinedId, @Nullable CompoundTag statesTag, @Nullable CompoundTag blockEntityData);
+    void setBlock(int x, int y, int z, int combinedId, @Nullable CompoundTag statesTag, @Nullable CompoundTag blockEntityData);
 
     List<ChunkPosition> getAffectedChunks();
 
@@ -0,0 +1,68 @@
+package com.bgsoftware.superiorskyblock.player;
+
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.api.wrappers.BlockPosition;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches the island a player is currently inside, and the interior of its protected area.
+ * While the player moves inside the interior, there is no need to look up the islands of the
+ * locations the player moves between, as entering and leaving checks can only pass.
+ * The interior is one block smaller than the protected area in every direction, so crossing
+ * the border of the island is always handled by the full enter and leave checks.
+ */
+public class PlayerIslandPresence {
+
+    private static volatile int globalVersion = 0;
+
+    @Nullable
+    private Island island;
+    @Nullable
+    private World world;
+    private int minX;
+    private int minZ;
+    private int maxX;
+    private int maxZ;
+    private int version;
+
+    /**
+     * Invalidate the presence cache of all players.
+     * Should be called when the bounds of islands change, or when islands are removed.
+     */
+    public static void invalidateAll() {
+        ++globalVersion;
+    }
+
+    public boolean isInside(Location location) {
+        return this.island != null && this.version == globalVersion && this.world == location.getWorld() &&
+                location.getBlockX() >= this.minX && location.getBlockX() <= this.maxX &&
+                location.getBlockZ() >= this.minZ && location.getBlockZ() <= this.maxZ;
+    }
+
+    public void update(@Nullable Island island, Location location) {
+        if (island == null) {
+            invalidate();
+            return;
+        }
+
+        BlockPosition minimum = island.getMinimumProtectedPosition();
+        BlockPosition maximum = island.getMaximumProtectedPosition();
+
+        this.island = island;
+        this.world = location.getWorld();
+        this.minX = minimum.getX() + 1;
+        this.minZ = minimum.getZ() + 1;
+        this.maxX = maximum.getX() - 1;
+        this.maxZ = maximum.getZ() - 1;
+        this.version = globalVersion;
+    }
+
+    public void invalidate() {
+        this.island = null;
+        this.world = null;
+    }
+
+}
@@ -11,6 +11,8 @@ import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
 import com.bgsoftware.superiorskyblock.core.database.bridge.PlayersDatabaseBridge;
 import com.bgsoftware.superiorskyblock.core.logging.Debug;
 import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import com.bgsoftware.superiorskyblock.player.container.DefaultPlayersContainer;
 import com.google.common.base.Preconditions;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
@@ -21,6 +23,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 @SuppressWarnings("WeakerAccess")
@@ -37,6 +40,22 @@ public class PlayersManagerImpl extends Manager implements PlayersManager {
         // Data is loaded by the database bridge.
         if (this.playersContainer == null)
             throw new RuntimeException("PlayersManager was not initialized correctly. Contact Ome_R regarding this!");
+
+        // Players that are not online and are not related to islands are released from memory once in a while.
+        if (this.playersContainer instanceof DefaultPlayersContainer)
+            BukkitExecutor.asyncTimer(this::releaseIdlePlayers, 1200L);
+    }
+
+    private void releaseIdlePlayers() {
+        long idlePlayersExpirationTime = plugin.getSettings().getIdlePlayersExpirationTime();
+
+        if (idlePlayersExpirationTime <= 0)
+            return;
+
+        // Players that are related to islands are referenced by them, and therefore are kept in memory.
+        ((DefaultPlayersContainer) this.playersContainer).releaseIdlePlayers(
+                TimeUnit.MINUTES.toMillis(idlePlayersExpirationTime), superiorPlayer ->
+                        superiorPlayer instanceof SSuperiorPlayer && ((SSuperiorPlayer) superiorPlayer).isIslandRelated());
     }
 
     @Override
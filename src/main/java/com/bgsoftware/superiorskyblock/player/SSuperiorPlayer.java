@@ -89,6 +89,11 @@ public class SSuperiorPlayer implements SuperiorPlayer {
 
     private BukkitTask teleportTask = null;
 
+    private volatile int permissionsRevision = 0;
+    private volatile boolean islandRelated = false;
+
+    private final PlayerIslandPresence islandPresence = new PlayerIslandPresence();
+
     public SSuperiorPlayer(SuperiorPlayerBuilderImpl builder) {
         this.uuid = builder.uuid;
         this.name = builder.name;
@@ -648,6 +653,7 @@ public class SSuperiorPlayer implements SuperiorPlayer {
     public void setBypassMode(boolean enabled) {
         Log.debug(Debug.SET_ADMIN_BYPASS, getName(), enabled);
         bypassModeEnabled = enabled;
+        invalidatePermissions();
     }
 
     @Override
@@ -795,6 +801,34 @@ public class SSuperiorPlayer implements SuperiorPlayer {
         this.teleportTask = teleportTask;
     }
 
+    public PlayerIslandPresence getIslandPresence() {
+        return islandPresence;
+    }
+
+    public int getPermissionsRevision() {
+        return permissionsRevision;
+    }
+
+    /**
+     * Invalidate the privileges of the player that were resolved from its permissions.
+     * Should be called whenever the permissions of the player are changed.
+     */
+    public void invalidatePermissions() {
+        ++permissionsRevision;
+    }
+
+    public boolean isIslandRelated() {
+        return islandRelated;
+    }
+
+    /**
+     * Mark the player as related to an island, for example as a banned player or a visitor of it.
+     * Such players are referenced by islands, and therefore are not released from memory.
+     */
+    public void setIslandRelated() {
+        this.islandRelated = true;
+    }
+
     @Override
     public boolean isImmunedToPortals() {
         return immuneToPortals;
@@ -810,6 +844,30 @@ public class SSuperiorPlayer implements SuperiorPlayer {
         this.immuneToPortals = immuneToTeleport;
     }
 
+    /**
+     * Load the data of a player that was created before its data was loaded from the database.
+     * Such players are not saved to the database until their data is loaded.
+     *
+     * @param builder The builder that holds the loaded data of the player.
+     */
+    public void loadData(SuperiorPlayerBuilderImpl builder) {
+        this.name = builder.name;
+        this.playerRole = builder.playerRole;
+        this.disbands = builder.disbands;
+        this.userLocale = builder.locale;
+        this.textureValue = builder.textureValue;
+        this.lastTimeStatus = builder.lastTimeUpdated;
+        this.toggledPanel = builder.toggledPanel;
+        this.islandFly = builder.islandFly;
+        this.borderColor = builder.borderColor;
+        this.worldBorderEnabled = builder.worldBorderEnabled;
+        this.completedMissions.putAll(builder.completedMissions);
+        if (builder.persistentData.length > 0)
+            getPersistentDataContainer().load(builder.persistentData);
+
+        databaseBridge.setDatabaseBridgeMode(DatabaseBridgeMode.SAVE_DATA);
+    }
+
     @Override
     public void merge(SuperiorPlayer otherPlayer) {
         Preconditions.checkNotNull(otherPlayer, "otherPlayer parameter cannot be null.");
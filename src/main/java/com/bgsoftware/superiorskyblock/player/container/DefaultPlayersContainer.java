@@ -1,60 +1,203 @@
 package com.bgsoftware.superiorskyblock.player.container;
 
+import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.api.player.container.PlayersContainer;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.core.SequentialListBuilder;
+import com.bgsoftware.superiorskyblock.core.database.bridge.PlayersDatabaseBridge;
+import com.bgsoftware.superiorskyblock.core.logging.Log;
+import com.bgsoftware.superiorskyblock.core.threads.BukkitExecutor;
+import org.bukkit.Bukkit;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
+/**
+ * Players are kept in two tiers: players that are online or related to islands are always kept in memory,
+ * while other players are released after they were not accessed for a while, and are loaded again from
+ * the database once they are accessed.
+ * Released players are still referenced weakly, so players that are still used somewhere, for example by
+ * an opened menu, are brought back instead of being loaded again as a second instance of the same player.
+ * Otherwise, they are returned right away while their data is loaded in the background, so the main thread
+ * never waits for the database. Other threads wait for the data of the players to be loaded.
+ * The names of all the known players are indexed, including players that are not kept in memory, so
+ * players can be looked up by their names without going over all the players.
+ * Only players that are kept in memory are returned by {@link #getAllPlayers()}.
+ */
 public class DefaultPlayersContainer implements PlayersContainer {
 
-    private final Map<UUID, SuperiorPlayer> players = new ConcurrentHashMap<>();
-    private final Map<String, SuperiorPlayer> playersByNames = new ConcurrentHashMap<>();
+    private final Map<UUID, LoadedPlayer> players = new ConcurrentHashMap<>();
+    private final Map<UUID, ReleasedPlayer> unloadedPlayers = new ConcurrentHashMap<>();
+    private final Map<String, UUID> playersByNames = new ConcurrentHashMap<>();
+
+    private PlayersLoader loader = (uuid, name) -> null;
+
+    public void setLoader(PlayersLoader loader) {
+        this.loader = loader;
+    }
 
     @Nullable
     @Override
     public SuperiorPlayer getSuperiorPlayer(String name) {
-        SuperiorPlayer superiorPlayer = this.playersByNames.get(name.toLowerCase(Locale.ENGLISH));
-
-        if (superiorPlayer == null) {
-            superiorPlayer = players.values().stream()
-                    .filter(player -> player.getName().equalsIgnoreCase(name))
-                    .findFirst().orElse(null);
-            if (superiorPlayer != null)
-                this.playersByNames.put(name.toLowerCase(Locale.ENGLISH), superiorPlayer);
-        }
-
-        return superiorPlayer;
+        UUID uuid = this.playersByNames.get(name.toLowerCase(Locale.ENGLISH));
+        return uuid == null ? null : getSuperiorPlayer(uuid);
     }
 
     @Nullable
     @Override
     public SuperiorPlayer getSuperiorPlayer(UUID uuid) {
-        return this.players.get(uuid);
+        LoadedPlayer loadedPlayer = this.players.get(uuid);
+
+        if (loadedPlayer == null) {
+            if (!this.unloadedPlayers.containsKey(uuid))
+                return null;
+
+            loadedPlayer = loadPlayer(uuid);
+
+            if (loadedPlayer == null)
+                return null;
+        }
+
+        loadedPlayer.lastAccessTime = System.currentTimeMillis();
+
+        // Only the main thread gets players before their data is loaded. Database threads do not wait either,
+        // as the data of the player may be loaded by the same thread.
+        CompletableFuture<Void> dataLoad = loadedPlayer.dataLoad;
+        if (dataLoad != null && !dataLoad.isDone() && !Bukkit.isPrimaryThread() && !BukkitExecutor.isDataThread())
+            dataLoad.join();
+
+        return loadedPlayer.superiorPlayer;
     }
 
     @Override
     public List<SuperiorPlayer> getAllPlayers() {
-        return new SequentialListBuilder<SuperiorPlayer>().build(this.players.values());
+        return new SequentialListBuilder<SuperiorPlayer>()
+                .build(this.players.values(), loadedPlayer -> loadedPlayer.superiorPlayer);
     }
 
     @Override
     public void addPlayer(SuperiorPlayer superiorPlayer) {
-        this.players.put(superiorPlayer.getUniqueId(), superiorPlayer);
+        addPlayer(superiorPlayer, null);
+    }
+
+    private void addPlayer(SuperiorPlayer superiorPlayer, @Nullable CompletableFuture<Void> dataLoad) {
+        UUID uuid = superiorPlayer.getUniqueId();
+        this.players.put(uuid, new LoadedPlayer(superiorPlayer, dataLoad));
+        this.unloadedPlayers.remove(uuid);
         String playerName = superiorPlayer.getName();
         if (!playerName.equals("null"))
-            this.playersByNames.put(playerName.toLowerCase(Locale.ENGLISH), superiorPlayer);
+            this.playersByNames.put(playerName.toLowerCase(Locale.ENGLISH), uuid);
     }
 
     @Override
     public void removePlayer(SuperiorPlayer superiorPlayer) {
-        this.players.remove(superiorPlayer.getUniqueId());
-        this.playersByNames.remove(superiorPlayer.getName().toLowerCase(Locale.ENGLISH));
+        UUID uuid = superiorPlayer.getUniqueId();
+        this.players.remove(uuid);
+        this.unloadedPlayers.remove(uuid);
+        this.playersByNames.remove(superiorPlayer.getName().toLowerCase(Locale.ENGLISH), uuid);
+    }
+
+    /**
+     * Release players that are not online, are not kept by {@code keepPlayer} and were not accessed for a while.
+     * Their names are still indexed, and they are loaded again from the database once they are accessed.
+     *
+     * @param idleTime   The time players must not be accessed for in order to be released, in milliseconds.
+     * @param keepPlayer Players that are still needed, such as players that are related to islands.
+     */
+    public void releaseIdlePlayers(long idleTime, Predicate<SuperiorPlayer> keepPlayer) {
+        long expirationTime = System.currentTimeMillis() - idleTime;
+
+        for (LoadedPlayer loadedPlayer : this.players.values()) {
+            SuperiorPlayer superiorPlayer = loadedPlayer.superiorPlayer;
+
+            if (loadedPlayer.lastAccessTime > expirationTime || !loadedPlayer.isDataLoaded() || superiorPlayer.isOnline() ||
+                    superiorPlayer.getIsland() != null || PlayersDatabaseBridge.isModified(superiorPlayer) ||
+                    keepPlayer.test(superiorPlayer))
+                continue;
+
+            // The player is marked as unloaded first, so it can always be found while it is released.
+            UUID uuid = superiorPlayer.getUniqueId();
+            this.unloadedPlayers.put(uuid, new ReleasedPlayer(superiorPlayer));
+            if (!this.players.remove(uuid, loadedPlayer))
+                this.unloadedPlayers.remove(uuid);
+        }
+    }
+
+    @Nullable
+    private synchronized LoadedPlayer loadPlayer(UUID uuid) {
+        // The player may have been loaded while waiting for the lock.
+        LoadedPlayer loadedPlayer = this.players.get(uuid);
+        if (loadedPlayer != null)
+            return loadedPlayer;
+
+        // The player is removed from the unloaded players first, so it's not loaded again while it is built.
+        ReleasedPlayer releasedPlayer = this.unloadedPlayers.remove(uuid);
+        if (releasedPlayer == null)
+            return null;
+
+        // The released player is still used somewhere, therefore it is kept instead of being loaded again.
+        SuperiorPlayer superiorPlayer = releasedPlayer.superiorPlayer.get();
+        CompletableFuture<Void> dataLoad = null;
+
+        if (superiorPlayer == null) {
+            try {
+                Pair<SuperiorPlayer, CompletableFuture<Void>> playerLoad = this.loader.loadPlayer(uuid, releasedPlayer.name);
+                if (playerLoad != null) {
+                    superiorPlayer = playerLoad.getKey();
+                    dataLoad = playerLoad.getValue();
+                }
+            } catch (Throwable error) {
+                this.unloadedPlayers.put(uuid, releasedPlayer);
+                Log.entering("ENTER", uuid);
+                Log.error(error, "An unexpected error occurred while loading player from database:");
+                return null;
+            }
+        }
+
+        if (superiorPlayer == null)
+            return null;
+
+        addPlayer(superiorPlayer, dataLoad);
+
+        return this.players.get(uuid);
+    }
+
+    private static final class LoadedPlayer {
+
+        private final SuperiorPlayer superiorPlayer;
+        @Nullable
+        private final CompletableFuture<Void> dataLoad;
+        private volatile long lastAccessTime = System.currentTimeMillis();
+
+        LoadedPlayer(SuperiorPlayer superiorPlayer, @Nullable CompletableFuture<Void> dataLoad) {
+            this.superiorPlayer = superiorPlayer;
+            this.dataLoad = dataLoad;
+        }
+
+        boolean isDataLoaded() {
+            return this.dataLoad == null || this.dataLoad.isDone();
+        }
+
+    }
+
+    private static final class ReleasedPlayer {
+
+        private final Reference<SuperiorPlayer> superiorPlayer;
+        private final String name;
+
+        ReleasedPlayer(SuperiorPlayer superiorPlayer) {
+            this.superiorPlayer = new WeakReference<>(superiorPlayer);
+            this.name = superiorPlayer.getName();
+        }
+
     }
 
 }
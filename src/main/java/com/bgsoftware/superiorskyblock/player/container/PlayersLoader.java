@@ -0,0 +1,24 @@
+package com.bgsoftware.superiorskyblock.player.container;
+
+import com.bgsoftware.superiorskyblock.api.objects.Pair;
+import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface PlayersLoader {
+
+    /**
+     * Load a player from the database.
+     * The player is returned right away and its data is loaded in the background. Until then, the player
+     * only holds its uuid and name, and it is not saved to the database.
+     *
+     * @param uuid The uuid of the player.
+     * @param name The last known name of the player.
+     * @return The player, and a future that is completed on the main thread once its data is loaded.
+     */
+    @Nullable
+    Pair<SuperiorPlayer, CompletableFuture<Void>> loadPlayer(UUID uuid, String name);
+
+}
@@ -5,17 +5,23 @@ import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.IslandFlag;
 import com.bgsoftware.superiorskyblock.api.island.IslandPrivilege;
 import com.bgsoftware.superiorskyblock.api.island.SortingType;
+import com.bgsoftware.superiorskyblock.api.key.Key;
 import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.api.service.placeholders.IslandPlaceholderParser;
 import com.bgsoftware.superiorskyblock.api.service.placeholders.PlaceholdersService;
 import com.bgsoftware.superiorskyblock.api.service.placeholders.PlayerPlaceholderParser;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
+import com.bgsoftware.superiorskyblock.core.database.bridge.IslandsDatabaseBridge;
+import com.bgsoftware.superiorskyblock.core.database.bridge.PlayersDatabaseBridge;
 import com.bgsoftware.superiorskyblock.core.formatting.Formatters;
 import com.bgsoftware.superiorskyblock.core.key.ConstantKeys;
 import com.bgsoftware.superiorskyblock.core.key.KeyImpl;
 import com.bgsoftware.superiorskyblock.external.placeholders.PlaceholdersProvider;
+import com.bgsoftware.superiorskyblock.island.container.DefaultIslandsContainer;
 import com.bgsoftware.superiorskyblock.island.privilege.IslandPrivileges;
 import com.bgsoftware.superiorskyblock.island.top.SortingTypes;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
@@ -28,9 +34,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -212,12 +222,25 @@ public class PlaceholdersServiceImpl implements PlaceholdersService {
                     .put(SortingTypes.BY_PLAYERS, targetIsland -> Formatters.NUMBER_FORMATTER.format(targetIsland.getAllPlayersInside().size()))
                     .build();
 
+    private static final int MAX_COMPILED_PLACEHOLDERS = 1024;
+
+    private static final PlaceholderHandler EMPTY_HANDLER = (island, superiorPlayer) -> Optional.empty();
+
     private final Map<String, IslandPlaceholderParser> CUSTOM_ISLAND_PARSERS = new HashMap<>();
     private final Map<String, PlayerPlaceholderParser> CUSTOM_PLAYER_PARSERS = new HashMap<>();
 
     private final List<PlaceholdersProvider> placeholdersProviders = new LinkedList<>();
 
+    private final Cache<String, CompiledPlaceholder> compiledPlaceholders = CacheBuilder.newBuilder()
+            .maximumSize(MAX_COMPILED_PLACEHOLDERS)
+            .build();
+    @Nullable
+    private volatile PlaceholdersCache placeholdersCache;
+
     public PlaceholdersServiceImpl() {
+        IslandsDatabaseBridge.registerChangeListener(this::invalidateCache);
+        PlayersDatabaseBridge.registerChangeListener(this::invalidateCache);
+        DefaultIslandsContainer.registerChangeListener(this::invalidateCache);
     }
 
     public void register(List<PlaceholdersProvider> placeholdersProviders) {
@@ -235,127 +258,219 @@ public class PlaceholdersServiceImpl implements PlaceholdersService {
         SuperiorPlayer superiorPlayer = offlinePlayer == null ? null :
                 plugin.getPlayers().getSuperiorPlayer(offlinePlayer.getUniqueId());
 
-        Optional<String> placeholderResult = Optional.empty();
+        CompiledPlaceholder compiledPlaceholder = compiledPlaceholders.getIfPresent(placeholder);
 
-        Matcher matcher;
+        if (compiledPlaceholder == null) {
+            compiledPlaceholder = compilePlaceholder(placeholder);
+            compiledPlaceholders.put(placeholder, compiledPlaceholder);
+        }
 
-        if (superiorPlayer != null) {
-            PlayerPlaceholderParser customPlayerParser = CUSTOM_PLAYER_PARSERS.get(placeholder);
-            if (customPlayerParser != null) {
-                placeholderResult = Optional.ofNullable(customPlayerParser.apply(superiorPlayer));
-            } else {
-                boolean isLocationPlaceholder = placeholder.startsWith("location_");
-                IslandPlaceholderParser customIslandParser = CUSTOM_ISLAND_PARSERS.get(
-                        isLocationPlaceholder ? placeholder.substring(9) : placeholder);
-                if (customIslandParser != null) {
-                    Island island = isLocationPlaceholder ? plugin.getGrid().getIslandAt(superiorPlayer.getLocation()) :
-                            superiorPlayer.getIsland();
-                    placeholderResult = Optional.ofNullable(customIslandParser.apply(island, superiorPlayer));
-                }
-            }
+        Island island = compiledPlaceholder.getIsland(superiorPlayer);
+
+        PlaceholdersCache placeholdersCache = getPlaceholdersCache();
+
+        if (superiorPlayer == null || placeholdersCache == null)
+            return parsePlaceholder(compiledPlaceholder, superiorPlayer, island, placeholder);
+
+        PlaceholderCacheKey cacheKey = new PlaceholderCacheKey(superiorPlayer.getUniqueId(),
+                island == null ? null : island.getUniqueId(), placeholder);
+        CachedPlaceholder cachedPlaceholder = placeholdersCache.cachedPlaceholders.getIfPresent(cacheKey);
+
+        if (cachedPlaceholder != null && placeholdersCache.isValid(cachedPlaceholder, superiorPlayer, island))
+            return cachedPlaceholder.result;
+
+        String result = parsePlaceholder(compiledPlaceholder, superiorPlayer, island, placeholder);
+        placeholdersCache.cachedPlaceholders.put(cacheKey, new CachedPlaceholder(result, System.currentTimeMillis()));
+
+        return result;
+    }
+
+    public void invalidateCache(Island island) {
+        PlaceholdersCache placeholdersCache = this.placeholdersCache;
+        if (placeholdersCache != null)
+            placeholdersCache.islandsLastChangeTime.put(island.getUniqueId(), System.currentTimeMillis());
+    }
+
+    public void invalidateCache(SuperiorPlayer superiorPlayer) {
+        PlaceholdersCache placeholdersCache = this.placeholdersCache;
+        if (placeholdersCache != null)
+            placeholdersCache.playersLastChangeTime.put(superiorPlayer.getUniqueId(), System.currentTimeMillis());
+    }
+
+    @Nullable
+    private PlaceholdersCache getPlaceholdersCache() {
+        long cacheTime = plugin.getSettings().getPlaceholdersCacheTime();
+
+        if (cacheTime <= 0) {
+            this.placeholdersCache = null;
+            return null;
         }
 
-        if (!placeholderResult.isPresent()) {
-            if ((matcher = PLAYER_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
-                String subPlaceholder = matcher.group(1).toLowerCase(Locale.ENGLISH);
-                placeholderResult = parsePlaceholdersForPlayer(superiorPlayer, subPlaceholder);
-            } else if ((matcher = ISLAND_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
-                String subPlaceholder = matcher.group(1).toLowerCase(Locale.ENGLISH);
-                Island island = superiorPlayer == null ? null : subPlaceholder.startsWith("location_") ?
-                        plugin.getGrid().getIslandAt(superiorPlayer.getLocation()) : superiorPlayer.getIsland();
-                placeholderResult = parsePlaceholdersForIsland(island, superiorPlayer,
-                        placeholder.replace("location_", ""),
-                        subPlaceholder.replace("location_", ""));
-            }
+        PlaceholdersCache placeholdersCache = this.placeholdersCache;
+
+        // The cache is created again when the cache time is changed, for example after reloading the settings.
+        if (placeholdersCache == null || placeholdersCache.cacheTime != cacheTime) {
+            placeholdersCache = new PlaceholdersCache(cacheTime);
+            this.placeholdersCache = placeholdersCache;
         }
 
-        return placeholderResult.orElse(plugin.getSettings().getDefaultPlaceholders()
-                .getOrDefault(placeholder, ""));
+        return placeholdersCache;
     }
 
     @Override
     public void registerPlaceholder(String placeholderName, PlayerPlaceholderParser placeholderFunction) {
         CUSTOM_PLAYER_PARSERS.put(placeholderName, placeholderFunction);
+        clearCompiledPlaceholders();
     }
 
     @Override
     public void registerPlaceholder(String placeholderName, IslandPlaceholderParser placeholderFunction) {
         CUSTOM_ISLAND_PARSERS.put(placeholderName, placeholderFunction);
+        clearCompiledPlaceholders();
+    }
+
+    private void clearCompiledPlaceholders() {
+        compiledPlaceholders.invalidateAll();
+        // Cached results may have been parsed by the old placeholders.
+        this.placeholdersCache = null;
+    }
+
+    private static String parsePlaceholder(CompiledPlaceholder compiledPlaceholder, @Nullable SuperiorPlayer superiorPlayer,
+                                           @Nullable Island island, String placeholder) {
+        return compiledPlaceholder.parse(superiorPlayer, island).orElse(plugin.getSettings().getDefaultPlaceholders()
+                .getOrDefault(placeholder, ""));
+    }
+
+    private CompiledPlaceholder compilePlaceholder(String placeholder) {
+        PlayerPlaceholderParser customPlayerParser = CUSTOM_PLAYER_PARSERS.get(placeholder);
+        IslandPlaceholderParser customIslandParser = null;
+        boolean isLocationPlaceholder = false;
+
+        if (customPlayerParser == null) {
+            isLocationPlaceholder = placeholder.startsWith("location_");
+            customIslandParser = CUSTOM_ISLAND_PARSERS.get(isLocationPlaceholder ? placeholder.substring(9) : placeholder);
+        }
+
+        Matcher matcher;
+        PlaceholderHandler placeholderHandler;
+
+        if ((matcher = PLAYER_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
+            String subPlaceholder = matcher.group(1).toLowerCase(Locale.ENGLISH);
+            placeholderHandler = compilePlayerPlaceholder(subPlaceholder);
+        } else if ((matcher = ISLAND_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
+            String subPlaceholder = matcher.group(1).toLowerCase(Locale.ENGLISH);
+            if (customIslandParser == null)
+                isLocationPlaceholder = subPlaceholder.startsWith("location_");
+            placeholderHandler = compileIslandPlaceholder(placeholder.replace("location_", ""),
+                    subPlaceholder.replace("location_", ""));
+        } else {
+            placeholderHandler = EMPTY_HANDLER;
+        }
+
+        return new CompiledPlaceholder(isLocationPlaceholder, customPlayerParser, customIslandParser, placeholderHandler);
     }
 
-    private static Optional<String> parsePlaceholdersForPlayer(@Nullable SuperiorPlayer superiorPlayer,
-                                                               String subPlaceholder) {
+    private static PlaceholderHandler compilePlayerPlaceholder(String subPlaceholder) {
+        PlayerPlaceholderParser placeholderParser = PLAYER_PARSES.get(subPlaceholder);
+
+        PlaceholderHandler placeholderHandler = placeholderParser == null ? EMPTY_HANDLER :
+                (island, superiorPlayer) -> Optional.ofNullable(placeholderParser.apply(superiorPlayer));
+
         Matcher matcher;
 
-        if (superiorPlayer != null) {
-            if ((matcher = MISSIONS_COMPLETED_PATTERN.matcher(subPlaceholder)).matches()) {
-                String categoryName = matcher.group(1);
-                return Optional.of(superiorPlayer.getCompletedMissions().stream().filter(mission ->
-                        mission.getMissionCategory().getName().equalsIgnoreCase(categoryName)).count() + "");
-            }
+        if ((matcher = MISSIONS_COMPLETED_PATTERN.matcher(subPlaceholder)).matches()) {
+            String categoryName = matcher.group(1);
+            return (island, superiorPlayer) -> superiorPlayer == null ? placeholderHandler.handle(island, null) :
+                    Optional.of(superiorPlayer.getCompletedMissions().stream().filter(mission ->
+                            mission.getMissionCategory().getName().equalsIgnoreCase(categoryName)).count() + "");
         }
 
-        return Optional.ofNullable(PLAYER_PARSES.get(subPlaceholder))
-                .map(placeholderParser -> placeholderParser.apply(superiorPlayer));
+        return placeholderHandler;
     }
 
-    private static Optional<String> parsePlaceholdersForIsland(@Nullable Island island,
-                                                               @Nullable SuperiorPlayer superiorPlayer,
-                                                               String placeholder, String subPlaceholder) {
+    private static PlaceholderHandler compileIslandPlaceholder(String placeholder, String subPlaceholder) {
+        PlaceholderHandler fallbackHandler = compileIslandFallbackPlaceholder(placeholder, subPlaceholder);
+
         Matcher matcher;
 
-        if (island != null) {
-            if ((matcher = PERMISSION_ROLE_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
-                return handlePermissionRolesPlaceholder(island, matcher.group(1));
-            }
+        if ((matcher = PERMISSION_ROLE_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
+            String privilegeName = matcher.group(1);
+            return (island, superiorPlayer) -> island == null ? fallbackHandler.handle(null, superiorPlayer) :
+                    handlePermissionRolesPlaceholder(island, privilegeName);
+        }
 
-            if (superiorPlayer != null) {
-                if ((matcher = PERMISSION_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
-                    return handlePermissionsPlaceholder(island, superiorPlayer, matcher.group(1));
-                } else if ((matcher = UPGRADE_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
-                    String upgradeName = matcher.group(1);
-                    return Optional.of(island.getUpgradeLevel(plugin.getUpgrades()
-                            .getUpgrade(upgradeName)).getLevel() + "");
-                } else if ((matcher = COUNT_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
-                    String keyName = matcher.group(1);
-                    return Optional.of(Formatters.NUMBER_FORMATTER.format(island
-                            .getBlockCountAsBigInteger(KeyImpl.of(keyName))));
-                } else if ((matcher = BLOCK_LIMIT_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
-                    String keyName = matcher.group(1);
-                    return Optional.of(island.getBlockLimit(KeyImpl.of(keyName)) + "");
-                } else if ((matcher = ENTITY_LIMIT_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
-                    String keyName = matcher.group(1);
-                    return Optional.of(island.getEntityLimit(KeyImpl.of(keyName)) + "");
-                } else if ((matcher = ENTITY_COUNT_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
-                    String keyName = matcher.group(1);
-                    return Optional.of(Formatters.NUMBER_FORMATTER.format(island.getEntitiesTracker().getEntityCount(KeyImpl.of(keyName))));
-                } else if ((matcher = MEMBER_PLACEHOLDER_PATTERN.matcher(subPlaceholder)).matches()) {
-                    return handleMembersPlaceholder(island, matcher.group(1));
-                } else if ((matcher = VISITOR_LAST_JOIN_PLACEHOLDER_PATTERN.matcher(subPlaceholder)).matches()) {
-                    String visitorName = matcher.group(1);
-                    return Optional.of(island.getUniqueVisitorsWithTimes().stream()
-                            .filter(uniqueVisitor -> uniqueVisitor.getKey().getName().equalsIgnoreCase(visitorName))
-                            .findFirst()
-                            .map(Pair::getValue).map(value -> Formatters.DATE_FORMATTER.format(new Date(value)))
-                            .orElse("Haven't Joined"));
-                } else if ((matcher = ISLAND_FLAG_PLACEHOLDER_PATTERN.matcher(subPlaceholder)).matches()) {
-                    return handleIslandFlagsPlaceholder(island, matcher.group(1));
-                }
-            }
+        PlaceholderHandler placeholderHandler = compileIslandValuePlaceholder(placeholder, subPlaceholder);
+
+        if (placeholderHandler == null)
+            return fallbackHandler;
+
+        // The island values placeholders require both an island and a player.
+        return (island, superiorPlayer) -> island == null || superiorPlayer == null ?
+                fallbackHandler.handle(island, superiorPlayer) : placeholderHandler.handle(island, superiorPlayer);
+    }
+
+    @Nullable
+    private static PlaceholderHandler compileIslandValuePlaceholder(String placeholder, String subPlaceholder) {
+        Matcher matcher;
+
+        if ((matcher = PERMISSION_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
+            String privilegeName = matcher.group(1);
+            return (island, superiorPlayer) -> handlePermissionsPlaceholder(island, superiorPlayer, privilegeName);
+        } else if ((matcher = UPGRADE_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
+            String upgradeName = matcher.group(1);
+            return (island, superiorPlayer) -> Optional.of(island.getUpgradeLevel(plugin.getUpgrades()
+                    .getUpgrade(upgradeName)).getLevel() + "");
+        } else if ((matcher = COUNT_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
+            Key key = KeyImpl.of(matcher.group(1));
+            return (island, superiorPlayer) -> Optional.of(Formatters.NUMBER_FORMATTER.format(island
+                    .getBlockCountAsBigInteger(key)));
+        } else if ((matcher = BLOCK_LIMIT_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
+            Key key = KeyImpl.of(matcher.group(1));
+            return (island, superiorPlayer) -> Optional.of(island.getBlockLimit(key) + "");
+        } else if ((matcher = ENTITY_LIMIT_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
+            Key key = KeyImpl.of(matcher.group(1));
+            return (island, superiorPlayer) -> Optional.of(island.getEntityLimit(key) + "");
+        } else if ((matcher = ENTITY_COUNT_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
+            Key key = KeyImpl.of(matcher.group(1));
+            return (island, superiorPlayer) -> Optional.of(Formatters.NUMBER_FORMATTER.format(
+                    island.getEntitiesTracker().getEntityCount(key)));
+        } else if ((matcher = MEMBER_PLACEHOLDER_PATTERN.matcher(subPlaceholder)).matches()) {
+            String memberIndex = matcher.group(1);
+            return (island, superiorPlayer) -> handleMembersPlaceholder(island, memberIndex);
+        } else if ((matcher = VISITOR_LAST_JOIN_PLACEHOLDER_PATTERN.matcher(subPlaceholder)).matches()) {
+            String visitorName = matcher.group(1);
+            return (island, superiorPlayer) -> Optional.of(island.getUniqueVisitorsWithTimes().stream()
+                    .filter(uniqueVisitor -> uniqueVisitor.getKey().getName().equalsIgnoreCase(visitorName))
+                    .findFirst()
+                    .map(Pair::getValue).map(value -> Formatters.DATE_FORMATTER.format(new Date(value)))
+                    .orElse("Haven't Joined"));
+        } else if ((matcher = ISLAND_FLAG_PLACEHOLDER_PATTERN.matcher(subPlaceholder)).matches()) {
+            String flagName = matcher.group(1);
+            return (island, superiorPlayer) -> handleIslandFlagsPlaceholder(island, flagName);
         }
 
-        if ((matcher = TOP_PLACEHOLDER_PATTERN.matcher(placeholder)).matches()) {
-            return handleTopIslandsPlaceholder(island, superiorPlayer, matcher.group(1));
-        } else {
+        return null;
+    }
+
+    private static PlaceholderHandler compileIslandFallbackPlaceholder(String placeholder, String subPlaceholder) {
+        Matcher matcher;
+
+        if ((matcher = TOP_PLACEHOLDER_PATTERN.matcher(placeholder)).matches())
+            return compileTopIslandsPlaceholder(matcher.group(1));
+
+        IslandPlaceholderParser placeholderParser = ISLAND_PARSES.get(subPlaceholder);
+
+        if (placeholderParser == null)
+            return EMPTY_HANDLER;
+
+        return (island, superiorPlayer) -> {
             try {
-                return Optional.ofNullable(ISLAND_PARSES.get(subPlaceholder))
-                        .map(placeholderParser -> placeholderParser.apply(island, superiorPlayer));
+                return Optional.ofNullable(placeholderParser.apply(island, superiorPlayer));
             } catch (NullPointerException ignored) {
                 // One of the island parses failed due to invalid island being sent.
+                return Optional.empty();
             }
-        }
-
-        return Optional.empty();
+        };
     }
 
     private static Optional<String> handlePermissionRolesPlaceholder(@NotNull Island island,
@@ -388,68 +503,85 @@ public class PlaceholdersServiceImpl implements PlaceholdersService {
         }
     }
 
-    private static Optional<String> handleTopIslandsPlaceholder(@Nullable Island island,
-                                                                @Nullable SuperiorPlayer superiorPlayer,
-                                                                String subPlaceholder) {
+    private static PlaceholderHandler compileTopIslandsPlaceholder(String subPlaceholder) {
         Matcher matcher;
-        SortingType sortingType;
+        Supplier<SortingType> sortingTypeSupplier;
+        String placeholderValue;
 
         if ((matcher = TOP_WORTH_PLACEHOLDER_PATTERN.matcher(subPlaceholder)).matches()) {
-            sortingType = SortingTypes.BY_WORTH;
+            sortingTypeSupplier = () -> SortingTypes.BY_WORTH;
+            placeholderValue = matcher.group(1);
         } else if ((matcher = TOP_LEVEL_PLACEHOLDER_PATTERN.matcher(subPlaceholder)).matches()) {
-            sortingType = SortingTypes.BY_LEVEL;
+            sortingTypeSupplier = () -> SortingTypes.BY_LEVEL;
+            placeholderValue = matcher.group(1);
         } else if ((matcher = TOP_RATING_PLACEHOLDER_PATTERN.matcher(subPlaceholder)).matches()) {
-            sortingType = SortingTypes.BY_RATING;
+            sortingTypeSupplier = () -> SortingTypes.BY_RATING;
+            placeholderValue = matcher.group(1);
         } else if ((matcher = TOP_PLAYERS_PLACEHOLDER_PATTERN.matcher(subPlaceholder)).matches()) {
-            sortingType = SortingTypes.BY_PLAYERS;
+            sortingTypeSupplier = () -> SortingTypes.BY_PLAYERS;
+            placeholderValue = matcher.group(1);
         } else {
+            // Custom sorting types may be registered after the placeholder was compiled.
             String sortingTypeName = subPlaceholder.split("_")[0];
-            sortingType = SortingType.getByName(sortingTypeName);
+            sortingTypeSupplier = () -> SortingType.getByName(sortingTypeName);
+            placeholderValue = subPlaceholder.length() > sortingTypeName.length() ?
+                    subPlaceholder.substring(sortingTypeName.length() + 1) : "";
         }
 
-        if (sortingType == null)
-            return Optional.empty();
-
-        String placeholderValue = matcher.group(1);
-
-        if (placeholderValue.equals("position"))
-            return island == null ? Optional.empty() : Optional.of((plugin.getGrid().getIslandPosition(island, sortingType) + 1) + "");
+        if (placeholderValue.equals("position")) {
+            return (island, superiorPlayer) -> {
+                SortingType sortingType = sortingTypeSupplier.get();
+                return sortingType == null || island == null ? Optional.empty() :
+                        Optional.of((plugin.getGrid().getIslandPosition(island, sortingType) + 1) + "");
+            };
+        }
 
-        Function<Island, String> getValueFunction;
+        TopIslandsValueFunction getValueFunction;
 
         if ((matcher = TOP_VALUE_FORMAT_PLACEHOLDER_PATTERN.matcher(placeholderValue)).matches()) {
-            getValueFunction = Optional.ofNullable(TOP_VALUE_FORMAT_FUNCTIONS.get(sortingType)).map(function ->
-                    (Function<Island, String>) targetIsland -> function.apply(targetIsland, superiorPlayer)).orElse(null);
+            getValueFunction = (sortingType, superiorPlayer) -> Optional.ofNullable(TOP_VALUE_FORMAT_FUNCTIONS.get(sortingType))
+                    .map(function -> (Function<Island, String>) targetIsland -> function.apply(targetIsland, superiorPlayer))
+                    .orElse(null);
         } else if ((matcher = TOP_VALUE_RAW_PLACEHOLDER_PATTERN.matcher(placeholderValue)).matches()) {
-            getValueFunction = TOP_VALUE_RAW_FUNCTIONS.get(sortingType);
+            getValueFunction = (sortingType, superiorPlayer) -> TOP_VALUE_RAW_FUNCTIONS.get(sortingType);
         } else if ((matcher = TOP_VALUE_PLACEHOLDER_PATTERN.matcher(placeholderValue)).matches()) {
-            getValueFunction = TOP_VALUE_FUNCTIONS.get(sortingType);
+            getValueFunction = (sortingType, superiorPlayer) -> TOP_VALUE_FUNCTIONS.get(sortingType);
         } else if ((matcher = TOP_LEADER_PLACEHOLDER_PATTERN.matcher(placeholderValue)).matches()) {
-            getValueFunction = targetIsland -> targetIsland.getOwner().getName();
+            getValueFunction = (sortingType, superiorPlayer) -> targetIsland -> targetIsland.getOwner().getName();
         } else if ((matcher = TOP_CUSTOM_PLACEHOLDER_PATTERN.matcher(placeholderValue)).matches()) {
             String customPlaceholder = matcher.group(2);
-            getValueFunction = targetIsland -> parsePlaceholdersForIsland(targetIsland, superiorPlayer,
-                    "superior_island_" + customPlaceholder,
-                    customPlaceholder).orElse(null);
+            PlaceholderHandler customPlaceholderHandler = compileIslandPlaceholder(
+                    "superior_island_" + customPlaceholder, customPlaceholder);
+            getValueFunction = (sortingType, superiorPlayer) -> targetIsland ->
+                    customPlaceholderHandler.handle(targetIsland, superiorPlayer).orElse(null);
         } else {
-            getValueFunction = targetIsland -> targetIsland.getName().isEmpty() ?
+            getValueFunction = (sortingType, superiorPlayer) -> targetIsland -> targetIsland.getName().isEmpty() ?
                     targetIsland.getOwner().getName() : targetIsland.getName();
         }
 
-        if (getValueFunction == null)
-            return Optional.empty();
-
         int targetPosition;
 
         try {
             targetPosition = Integer.parseInt(matcher.matches() ? matcher.group(1) : placeholderValue);
         } catch (NumberFormatException error) {
-            return Optional.empty();
+            return EMPTY_HANDLER;
         }
 
-        Island targetIsland = plugin.getGrid().getIsland(targetPosition - 1, sortingType);
+        return (island, superiorPlayer) -> {
+            SortingType sortingType = sortingTypeSupplier.get();
+
+            if (sortingType == null)
+                return Optional.empty();
+
+            Function<Island, String> valueFunction = getValueFunction.apply(sortingType, superiorPlayer);
 
-        return Optional.ofNullable(targetIsland).map(getValueFunction);
+            if (valueFunction == null)
+                return Optional.empty();
+
+            Island targetIsland = plugin.getGrid().getIsland(targetPosition - 1, sortingType);
+
+            return Optional.ofNullable(targetIsland).map(valueFunction);
+        };
     }
 
     private static Optional<String> handleMembersPlaceholder(@NotNull Island island, String placeholder) {
@@ -468,4 +600,136 @@ public class PlaceholdersServiceImpl implements PlaceholdersService {
         return Optional.of(members.get(targetMemberIndex).getName());
     }
 
+    private interface PlaceholderHandler {
+
+        Optional<String> handle(@Nullable Island island, @Nullable SuperiorPlayer superiorPlayer);
+
+    }
+
+    private interface TopIslandsValueFunction {
+
+        @Nullable
+        Function<Island, String> apply(SortingType sortingType, @Nullable SuperiorPlayer superiorPlayer);
+
+    }
+
+    private static class CompiledPlaceholder {
+
+        private final boolean isLocationPlaceholder;
+        @Nullable
+        private final PlayerPlaceholderParser customPlayerParser;
+        @Nullable
+        private final IslandPlaceholderParser customIslandParser;
+        private final PlaceholderHandler placeholderHandler;
+
+        CompiledPlaceholder(boolean isLocationPlaceholder, @Nullable PlayerPlaceholderParser customPlayerParser,
+                            @Nullable IslandPlaceholderParser customIslandParser, PlaceholderHandler placeholderHandler) {
+            this.isLocationPlaceholder = isLocationPlaceholder;
+            this.customPlayerParser = customPlayerParser;
+            this.customIslandParser = customIslandParser;
+            this.placeholderHandler = placeholderHandler;
+        }
+
+        @Nullable
+        Island getIsland(@Nullable SuperiorPlayer superiorPlayer) {
+            if (superiorPlayer == null)
+                return null;
+
+            return isLocationPlaceholder ? plugin.getGrid().getIslandAt(superiorPlayer.getLocation()) :
+                    superiorPlayer.getIsland();
+        }
+
+        Optional<String> parse(@Nullable SuperiorPlayer superiorPlayer, @Nullable Island island) {
+            Optional<String> placeholderResult = Optional.empty();
+
+            if (superiorPlayer != null) {
+                if (customPlayerParser != null) {
+                    placeholderResult = Optional.ofNullable(customPlayerParser.apply(superiorPlayer));
+                } else if (customIslandParser != null) {
+                    placeholderResult = Optional.ofNullable(customIslandParser.apply(island, superiorPlayer));
+                }
+            }
+
+            return placeholderResult.isPresent() ? placeholderResult : placeholderHandler.handle(island, superiorPlayer);
+        }
+
+    }
+
+    private static class PlaceholderCacheKey {
+
+        private final UUID playerUUID;
+        @Nullable
+        private final UUID islandUUID;
+        private final String placeholder;
+
+        PlaceholderCacheKey(UUID playerUUID, @Nullable UUID islandUUID, String placeholder) {
+            this.playerUUID = playerUUID;
+            this.islandUUID = islandUUID;
+            this.placeholder = placeholder;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PlaceholderCacheKey that = (PlaceholderCacheKey) o;
+            return playerUUID.equals(that.playerUUID) && Objects.equals(islandUUID, that.islandUUID) &&
+                    placeholder.equals(that.placeholder);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(playerUUID, islandUUID, placeholder);
+        }
+
+    }
+
+    private static class PlaceholdersCache {
+
+        private final long cacheTime;
+        private final Cache<PlaceholderCacheKey, CachedPlaceholder> cachedPlaceholders;
+        // Changes that are older than the cache time cannot invalidate any cached placeholder,
+        // therefore they are expired together with the cached placeholders.
+        private final Cache<UUID, Long> islandsLastChangeTime;
+        private final Cache<UUID, Long> playersLastChangeTime;
+
+        PlaceholdersCache(long cacheTime) {
+            this.cacheTime = cacheTime;
+            this.cachedPlaceholders = CacheBuilder.newBuilder()
+                    .expireAfterWrite(cacheTime, TimeUnit.MILLISECONDS)
+                    .build();
+            this.islandsLastChangeTime = CacheBuilder.newBuilder()
+                    .expireAfterWrite(cacheTime, TimeUnit.MILLISECONDS)
+                    .build();
+            this.playersLastChangeTime = CacheBuilder.newBuilder()
+                    .expireAfterWrite(cacheTime, TimeUnit.MILLISECONDS)
+                    .build();
+        }
+
+        boolean isValid(CachedPlaceholder cachedPlaceholder, SuperiorPlayer superiorPlayer, @Nullable Island island) {
+            if (island != null && isChangedAfter(islandsLastChangeTime, island.getUniqueId(), cachedPlaceholder.creationTime))
+                return false;
+
+            return !isChangedAfter(playersLastChangeTime, superiorPlayer.getUniqueId(), cachedPlaceholder.creationTime);
+        }
+
+        private static boolean isChangedAfter(Cache<UUID, Long> lastChangeTimes, UUID uuid, long time) {
+            Long lastChangeTime = lastChangeTimes.getIfPresent(uuid);
+            return lastChangeTime != null && lastChangeTime >= time;
+        }
+
+    }
+
+    private static class CachedPlaceholder {
+
+        private final String result;
+        private final long creationTime;
+
+        CachedPlaceholder(String result, long creationTime) {
+            this.result = result;
+            this.creationTime = creationTime;
+        }
+
+    }
+
 }
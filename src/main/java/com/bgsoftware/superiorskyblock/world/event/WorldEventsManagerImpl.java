@@ -109,8 +109,6 @@ public class WorldEventsManagerImpl implements WorldEventsManager {
 
         ChunkPosition chunkPosition = ChunkPosition.of(chunk);
         DefaultIslandCalculationAlgorithm.CACHED_CALCULATED_CHUNKS.remove(chunkPosition);
-
-        plugin.getStackedBlocks().updateStackedBlockHolograms(chunk);
     }
 
     @Override
@@ -120,8 +118,6 @@ public class WorldEventsManagerImpl implements WorldEventsManager {
         if (!plugin.getGrid().isIslandsWorld(chunk.getWorld()))
             return;
 
-        plugin.getStackedBlocks().removeStackedBlockHolograms(chunk);
-
         Island island = plugin.getGrid().getIslandAt(chunk);
 
         if (island == null)
@@ -72,8 +72,8 @@ public class SuperiorSchematic extends BaseSchematic implements Schematic {
             for (Tag<?> tag : blocksList) {
                 SchematicBlockData schematicBlock = SuperiorSchematicDeserializer.deserializeSchematicBlock((CompoundTag) tag);
                 if (schematicBlock != null && schematicBlock.getCombinedId() > 0) {
-                    schematicBlocks.add(schematicBlock);
                     readBlock(schematicBlock);
+                    schematicBlocks.add(applyBlockStates(schematicBlock));
                 }
             }
 
@@ -127,18 +127,34 @@ public class SuperiorSchematic extends BaseSchematic implements Schematic {
 
         List<Runnable> finishTasks = new LinkedList<>();
 
-        this.blocks.forEach(schematicBlockData -> {
-            Location blockLocation = schematicBlockData.getBlockOffset().applyToLocation(min.clone());
+        int minX = min.getBlockX();
+        int minY = min.getBlockY();
+        int minZ = min.getBlockZ();
+
+        for (SchematicBlockData schematicBlockData : this.blocks) {
+            BlockOffset blockOffset = schematicBlockData.getBlockOffset();
+            int blockX = minX + blockOffset.getOffsetX();
+            int blockY = minY + blockOffset.getOffsetY();
+            int blockZ = minZ + blockOffset.getOffsetZ();
+
+            // Only blocks with tile entities need to be handled per island.
+            if (schematicBlockData.getTileEntity() == null) {
+                worldEditSession.setBlock(blockX, blockY, blockZ, schematicBlockData.getCombinedId(),
+                        schematicBlockData.getStatesTag(), null);
+                continue;
+            }
+
+            Location blockLocation = new Location(min.getWorld(), blockX, blockY, blockZ);
             SchematicBlock schematicBlock = new SchematicBlock(blockLocation, schematicBlockData);
 
             schematicBlock.doPrePlace(island);
 
-            worldEditSession.setBlock(blockLocation, schematicBlock.getCombinedId(),
+            worldEditSession.setBlock(blockX, blockY, blockZ, schematicBlock.getCombinedId(),
                     schematicBlock.getStatesTag(), schematicBlock.getTileEntityData());
 
             if (schematicBlock.shouldPostPlace())
                 finishTasks.add(() -> schematicBlock.doPostPlace(island));
-        });
+        }
 
         List<ChunkPosition> affectedChunks = worldEditSession.getAffectedChunks();
         List<CompletableFuture<Chunk>> chunkFutures = new ArrayList<>(affectedChunks.size());
@@ -217,6 +233,19 @@ public class SuperiorSchematic extends BaseSchematic implements Schematic {
         return affectedChunks == null ? Collections.emptyList() : Collections.unmodifiableList(affectedChunks);
     }
 
+    private static SchematicBlockData applyBlockStates(SchematicBlockData block) {
+        CompoundTag statesTag = block.getStatesTag();
+
+        if (statesTag == null)
+            return block;
+
+        // Resolving the states once, so pasting the schematic doesn't need to look up the properties of every block.
+        int combinedId = plugin.getNMSAlgorithms().applyBlockStates(block.getCombinedId(), statesTag);
+
+        return new SchematicBlockData(combinedId, block.getBlockOffset(), block.getSkyLightLevel(),
+                block.getBlockLightLevel(), null, block.getTileEntity());
+    }
+
     private void readBlock(SchematicBlockData block) {
         Key key = plugin.getNMSAlgorithms().getBlockKey(block.getCombinedId());
         cachedCounts.put(key, cachedCounts.getRaw(key, 0) + 1);